@@ -22,6 +22,16 @@ public interface IDependencyManager {
      */
     CompiledDependency loadDependency(IDependency dependency) throws OpenLCompilationException;
 
+    /**
+     * Compiles the given dependencies before they are loaded one by one with {@link #loadDependency(IDependency)}. The
+     * implementations can compile the independent dependencies concurrently. The errors are not thrown by this method,
+     * they are thrown by {@link #loadDependency(IDependency)}.
+     *
+     * @param dependencies to be compiled.
+     */
+    default void preloadDependencies(Collection<IDependency> dependencies) {
+    }
+
     /**
      * Remove given dependency from cache.
      *
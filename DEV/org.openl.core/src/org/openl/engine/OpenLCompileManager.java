@@ -172,6 +172,7 @@ public class OpenLCompileManager {
         Set<CompiledDependency> compiledDependencies = new LinkedHashSet<>();
         if (CollectionUtils.isNotEmpty(dependencies)) {
             if (dependencyManager != null) {
+                dependencyManager.preloadDependencies(dependencies);
                 for (IDependency dependency : dependencies) {
                     try {
                         CompiledDependency loadedDependency = dependencyManager.loadDependency(dependency);
@@ -41,6 +41,7 @@ public class POJOByteCodeGenerator {
     private final Map<String, FieldDescription> parentFields;
     private final List<BeanByteCodeWriter> writers;
     private final boolean publicFields;
+    private final boolean hashCodeCaching;
 
     /**
      *
@@ -56,12 +57,40 @@ public class POJOByteCodeGenerator {
             boolean additionalConstructor,
             boolean equalsHashCodeToStringMethods,
             boolean publicFields) {
+        this(beanName,
+            beanFields,
+            parentType,
+            parentFields,
+            additionalConstructor,
+            equalsHashCodeToStringMethods,
+            publicFields,
+            false);
+    }
+
+    /**
+     *
+     * @param beanName name of the generated class, with namespace (e.g. <code>my.test.TestClass</code>)
+     * @param beanFields map of fields, field name as a key, and type as value.
+     * @param parentType parent type
+     * @param additionalConstructor true if required to generate constructor with parameter
+     * @param hashCodeCaching true if the calculated hashcode is cached in the bean, see {@link HashCodeWriter}. It is
+     *            applied to the beans with setters only.
+     */
+    public POJOByteCodeGenerator(String beanName,
+            Map<String, FieldDescription> beanFields,
+            TypeDescription parentType,
+            Map<String, FieldDescription> parentFields,
+            boolean additionalConstructor,
+            boolean equalsHashCodeToStringMethods,
+            boolean publicFields,
+            boolean hashCodeCaching) {
 
         this.fields = beanFields != null ? new LinkedHashMap<>(beanFields) : new LinkedHashMap<>();
         this.parentType = parentType;
         this.parentFields = parentFields != null ? new LinkedHashMap<>(parentFields) : new LinkedHashMap<>();
         this.beanNameWithPackage = beanName.replace('.', '/');
         this.publicFields = publicFields;
+        this.hashCodeCaching = hashCodeCaching && equalsHashCodeToStringMethods && !publicFields;
 
         Map<String, FieldDescription> allFields = new LinkedHashMap<>();
         allFields.putAll(this.parentFields);
@@ -81,12 +110,16 @@ public class POJOByteCodeGenerator {
 
         if (!publicFields) {
             writers.add(new GettersWriter(beanNameWithPackage, this.fields));
-            writers.add(new SettersWriter(beanNameWithPackage, this.fields));
+            writers.add(new SettersWriter(beanNameWithPackage,
+                parentType,
+                this.fields,
+                this.parentFields,
+                this.hashCodeCaching));
         }
         if (equalsHashCodeToStringMethods) {
             writers.add(new ToStringWriter(beanNameWithPackage, allFields));
             writers.add(new EqualsWriter(beanNameWithPackage, allFields));
-            writers.add(new HashCodeWriter(beanNameWithPackage, allFields));
+            writers.add(new HashCodeWriter(beanNameWithPackage, allFields, this.hashCodeCaching));
         }
     }
 
@@ -203,6 +236,13 @@ public class POJOByteCodeGenerator {
             }
             visitJAXBAnnotationsOnField(fieldVisitor, field.getKey(), field.getValue(), fieldTypeName);
         }
+        if (hashCodeCaching) {
+            classWriter.visitField(Opcodes.ACC_PROTECTED | Opcodes.ACC_TRANSIENT | Opcodes.ACC_SYNTHETIC,
+                HashCodeWriter.HASH_CODE_FIELD,
+                "I",
+                null,
+                null).visitEnd();
+        }
     }
 
     private void visitOpenLContextAnnotation(String fieldName, FieldVisitor fieldVisitor) {
@@ -36,21 +36,16 @@ public class EqualsWriter extends DefaultBeanByteCodeWriter {
         doCast(mv); // CastType other = (CastType) arg0;
 
         Label retFalse = new Label();
-        // comparing by fields
+        // comparing by fields, the primitive fields are compared at first because it is cheaper
         for (Map.Entry<String, FieldDescription> field : getBeanFields().entrySet()) {
-            String fieldName = field.getKey();
-            FieldDescription fd = field.getValue();
-            String typeDescriptor = fd.getTypeDescriptor();
-            String typeName = fd.getTypeName();
-
-            mv.visitVarInsn(Opcodes.ALOAD, 0); // this.fieldName
-            mv.visitFieldInsn(Opcodes.GETFIELD, getBeanNameWithPackage(), fieldName, typeDescriptor);
-
-            mv.visitVarInsn(Opcodes.ALOAD, 2); // other.fieldName
-            mv.visitFieldInsn(Opcodes.GETFIELD, getBeanNameWithPackage(), fieldName, typeDescriptor);
-
-            compareNE(mv, typeName, retFalse);
-            mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+            if (isPrimitive(field.getValue())) {
+                compareField(mv, field.getKey(), field.getValue(), retFalse);
+            }
+        }
+        for (Map.Entry<String, FieldDescription> field : getBeanFields().entrySet()) {
+            if (!isPrimitive(field.getValue())) {
+                compareField(mv, field.getKey(), field.getValue(), retFalse);
+            }
         }
 
         mv.visitInsn(Opcodes.ICONST_1);// true
@@ -64,6 +59,23 @@ public class EqualsWriter extends DefaultBeanByteCodeWriter {
         mv.visitMaxs(0, 0);
     }
 
+    private static boolean isPrimitive(FieldDescription fd) {
+        return fd.getTypeDescriptor().length() == 1;
+    }
+
+    private void compareField(MethodVisitor mv, String fieldName, FieldDescription fd, Label retFalse) {
+        String typeDescriptor = fd.getTypeDescriptor();
+
+        mv.visitVarInsn(Opcodes.ALOAD, 0); // this.fieldName
+        mv.visitFieldInsn(Opcodes.GETFIELD, getBeanNameWithPackage(), fieldName, typeDescriptor);
+
+        mv.visitVarInsn(Opcodes.ALOAD, 2); // other.fieldName
+        mv.visitFieldInsn(Opcodes.GETFIELD, getBeanNameWithPackage(), fieldName, typeDescriptor);
+
+        compareNE(mv, fd.getTypeName(), retFalse);
+        mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
+    }
+
     private void compareNE(MethodVisitor mv, String type, Label gotoIfNotEqual) {
         if ("double".equals(type)) {
             invoke(mv, "java/lang/Double", "compare", "(DD)I");
@@ -3,6 +3,7 @@ package org.openl.gen.writers;
 import java.util.Map;
 
 import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.openl.gen.FieldDescription;
@@ -17,17 +18,39 @@ import org.openl.gen.FieldDescription;
  * }
  * </pre>
  *
+ * If the caching is enabled, the calculated hashcode is stored in the {@link #HASH_CODE_FIELD} field, which is reset by
+ * the setters. It is intended for the beans which are not changed after they are used as keys, because changes of the
+ * values inside of the fields, like elements of arrays, are not tracked.
+ *
  * @author Yury Molchan
  */
 public class HashCodeWriter extends DefaultBeanByteCodeWriter {
 
+    /**
+     * The transient field of the cached hashcode.
+     */
+    public static final String HASH_CODE_FIELD = "$hashCode";
+
+    private final boolean cached;
+
     /**
      * @param beanNameWithPackage name of the class being generated with package, symbol '/' is used as separator<br>
      *            (e.g. <code>my/test/TestClass</code>)
      * @param allFields collection of fields for current class and parent`s ones.
      */
     public HashCodeWriter(String beanNameWithPackage, Map<String, FieldDescription> allFields) {
+        this(beanNameWithPackage, allFields, false);
+    }
+
+    /**
+     * @param beanNameWithPackage name of the class being generated with package, symbol '/' is used as separator<br>
+     *            (e.g. <code>my/test/TestClass</code>)
+     * @param allFields collection of fields for current class and parent`s ones.
+     * @param cached true if the calculated hashcode is stored in the {@link #HASH_CODE_FIELD} field
+     */
+    public HashCodeWriter(String beanNameWithPackage, Map<String, FieldDescription> allFields, boolean cached) {
         super(beanNameWithPackage, null, allFields);
+        this.cached = cached;
     }
 
     @Override
@@ -35,6 +58,10 @@ public class HashCodeWriter extends DefaultBeanByteCodeWriter {
         MethodVisitor mv;
         mv = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "hashCode", "()I", null, null);
 
+        if (cached) {
+            returnIfCalculated(mv);
+        }
+
         // hash = 5
         mv.visitInsn(Opcodes.ICONST_5);
 
@@ -59,10 +86,30 @@ public class HashCodeWriter extends DefaultBeanByteCodeWriter {
             // hash += c
             mv.visitInsn(Opcodes.IADD);
         }
+        if (cached) {
+            // this.$hashCode = hash
+            mv.visitInsn(Opcodes.DUP);
+            mv.visitVarInsn(Opcodes.ALOAD, 0);
+            mv.visitInsn(Opcodes.SWAP);
+            mv.visitFieldInsn(Opcodes.PUTFIELD, getBeanNameWithPackage(), HASH_CODE_FIELD, "I");
+        }
         mv.visitInsn(Opcodes.IRETURN);
         mv.visitMaxs(0, 0);
     }
 
+    private void returnIfCalculated(MethodVisitor mv) {
+        Label calculate = new Label();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitFieldInsn(Opcodes.GETFIELD, getBeanNameWithPackage(), HASH_CODE_FIELD, "I");
+        mv.visitVarInsn(Opcodes.ISTORE, 1);
+        mv.visitVarInsn(Opcodes.ILOAD, 1);
+        mv.visitJumpInsn(Opcodes.IFEQ, calculate); // $hashCode != 0
+        mv.visitVarInsn(Opcodes.ILOAD, 1);
+        mv.visitInsn(Opcodes.IRETURN);
+        mv.visitLabel(calculate);
+        mv.visitFrame(Opcodes.F_APPEND, 1, new Object[] { Opcodes.INTEGER }, 0, null);
+    }
+
     private void calculateHashCode(MethodVisitor mv, String type) {
         if ("double".equals(type)) {
             invoke(mv, "java/lang/Double", "hashCode", "(D)I");
@@ -1,5 +1,6 @@
 package org.openl.gen.writers;
 
+import java.util.Collections;
 import java.util.Map;
 
 import org.objectweb.asm.ClassWriter;
@@ -7,12 +8,30 @@ import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.openl.gen.FieldDescription;
+import org.openl.gen.TypeDescription;
 import org.openl.util.ClassUtils;
 
 public class SettersWriter extends DefaultBeanByteCodeWriter {
 
+    private final Map<String, FieldDescription> parentFields;
+    private final boolean resetHashCode;
+
     public SettersWriter(String beanNameWithPackage, Map<String, FieldDescription> allFields) {
-        super(beanNameWithPackage, null, allFields);
+        this(beanNameWithPackage, null, allFields, Collections.emptyMap(), false);
+    }
+
+    /**
+     * @param resetHashCode true if the setters reset the cached hashcode, see {@link HashCodeWriter#HASH_CODE_FIELD}.
+     *            In this case the setters of the parent fields are overridden to reset it too.
+     */
+    public SettersWriter(String beanNameWithPackage,
+            TypeDescription parentType,
+            Map<String, FieldDescription> allFields,
+            Map<String, FieldDescription> parentFields,
+            boolean resetHashCode) {
+        super(beanNameWithPackage, parentType, allFields);
+        this.parentFields = parentFields;
+        this.resetHashCode = resetHashCode;
     }
 
     @Override
@@ -20,6 +39,42 @@ public class SettersWriter extends DefaultBeanByteCodeWriter {
         for (Map.Entry<String, FieldDescription> field : getBeanFields().entrySet()) {
             generateSetter(classWriter, field.getKey(), field.getValue());
         }
+        if (resetHashCode) {
+            for (Map.Entry<String, FieldDescription> field : parentFields.entrySet()) {
+                generateParentSetter(classWriter, field.getKey(), field.getValue());
+            }
+        }
+    }
+
+    private void generateParentSetter(ClassWriter classWriter, String fieldName, FieldDescription fieldDescription) {
+        final String fieldType = fieldDescription.getTypeDescriptor();
+
+        String setterName = ClassUtils.setter(fieldName);
+        String methodDescriptor = "(" + fieldType + ")V";
+        MethodVisitor methodVisitor = classWriter
+            .visitMethod(Opcodes.ACC_PUBLIC, setterName, methodDescriptor, null, null);
+
+        // super.setFieldName(arg0)
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitVarInsn(getConstantForVarInsn(fieldDescription), 1);
+        methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL,
+            getParentType().getTypeName().replace('.', '/'),
+            setterName,
+            methodDescriptor,
+            false);
+        resetHashCode(methodVisitor);
+        methodVisitor.visitInsn(Opcodes.RETURN);
+        methodVisitor.visitMaxs(0, 0);
+    }
+
+    private void resetHashCode(MethodVisitor methodVisitor) {
+        // this.$hashCode = 0
+        methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+        methodVisitor.visitInsn(Opcodes.ICONST_0);
+        methodVisitor.visitFieldInsn(Opcodes.PUTFIELD,
+            getBeanNameWithPackage(),
+            HashCodeWriter.HASH_CODE_FIELD,
+            "I");
     }
 
     /**
@@ -44,6 +99,9 @@ public class SettersWriter extends DefaultBeanByteCodeWriter {
         methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
         methodVisitor.visitVarInsn(getConstantForVarInsn(fieldDescription), 1);
         methodVisitor.visitFieldInsn(Opcodes.PUTFIELD, getBeanNameWithPackage(), fieldName, fieldType);
+        if (resetHashCode) {
+            resetHashCode(methodVisitor);
+        }
         methodVisitor.visitInsn(Opcodes.RETURN);
 
         // Add variable name to DEBUG
@@ -21,6 +21,11 @@ public abstract class ExplanationNumberValue<T extends ExplanationNumberValue<T>
 
     private static final long serialVersionUID = -5461468496220613277L;
 
+    /**
+     * Is set for the threads which do not capture explanations. The explanations are captured if it is not set.
+     */
+    private static final ThreadLocal<Boolean> EXPLANATION_DISABLED = new ThreadLocal<>();
+
     /**
      * Explanator for current value.
      */
@@ -32,20 +37,51 @@ public abstract class ExplanationNumberValue<T extends ExplanationNumberValue<T>
     /** Formula constructor */
     public ExplanationNumberValue(T dv1, T dv2, Formulas operand) {
         /** initialize explanation for formula value */
-        this.explanation = new FormulaExplanationValue<>(dv1, dv2, operand);
+        if (isExplanationEnabled()) {
+            this.explanation = new FormulaExplanationValue<>(dv1, dv2, operand);
+        }
     }
 
     /** Function constructor */
     public ExplanationNumberValue(NumberOperations function, T[] params) {
         /** initialize explanation for function value */
-        this.explanation = new FunctionExplanationValue<>(function, params);
+        if (isExplanationEnabled()) {
+            this.explanation = new FunctionExplanationValue<>(function, params);
+        }
     }
 
     /** Casting constructor */
     @SuppressWarnings("unchecked")
     public ExplanationNumberValue(ExplanationNumberValue<?> previousValue, CastOperand operand) {
         /** initialize explanation for cast value */
-        this.explanation = new CastExplanationValue(previousValue, operand);
+        if (isExplanationEnabled()) {
+            this.explanation = new CastExplanationValue(previousValue, operand);
+        }
+    }
+
+    /**
+     * @return true if the results of the formulas, the functions and the casts capture their explanations in the
+     *         current thread.
+     */
+    public static boolean isExplanationEnabled() {
+        return EXPLANATION_DISABLED.get() == null;
+    }
+
+    /**
+     * Enables or disables capturing of the explanations in the current thread. If it is disabled, the results of the
+     * formulas, the functions and the casts keep neither the operands nor the operations, so they are created as plain
+     * values.
+     *
+     * @return the previous state for the current thread
+     */
+    public static boolean setExplanationEnabled(boolean enabled) {
+        boolean previous = isExplanationEnabled();
+        if (enabled) {
+            EXPLANATION_DISABLED.remove();
+        } else {
+            EXPLANATION_DISABLED.set(Boolean.TRUE);
+        }
+        return previous;
     }
 
     /**
@@ -4,22 +4,33 @@
 
 package org.openl.syntax.impl;
 
+import java.io.Reader;
+import java.util.function.BiConsumer;
+
 import org.openl.IOpenParser;
 import org.openl.source.IOpenSourceCodeModule;
 import org.openl.syntax.ISyntaxNode;
 import org.openl.syntax.code.IParsedCode;
 import org.openl.syntax.code.impl.ParsedCode;
+import org.openl.syntax.exception.SyntaxNodeException;
 import org.openl.syntax.grammar.IGrammar;
 import org.openl.syntax.grammar.IGrammarFactory;
 
 /**
  * Class provides default abstract implementation of parser based on {@link IGrammarFactory}.
+ * <p>
+ * Method bodies, method headers and types parsed without errors are cached by the source code, so the same code is
+ * parsed by the grammar only once.
  *
  * @author snshor
  *
  */
 public abstract class AParser implements IOpenParser {
 
+    private static final SyntaxNodeException[] NO_ERRORS = new SyntaxNodeException[0];
+
+    private final SyntaxTreeCache syntaxTreeCache = new SyntaxTreeCache();
+
     protected abstract IGrammarFactory getGrammarFactory();
 
     /**
@@ -27,12 +38,7 @@ public abstract class AParser implements IOpenParser {
      */
     @Override
     public IParsedCode parseAsMethodBody(IOpenSourceCodeModule source) {
-
-        IGrammar grammar = getGrammarFactory().getGrammar();
-        grammar.setModule(source);
-        grammar.parseAsMethod(source.getCharacterStream());
-
-        return makeParsedCode(grammar, source);
+        return parseCached(source, "method.body", IGrammar::parseAsMethod);
     }
 
     /**
@@ -40,12 +46,7 @@ public abstract class AParser implements IOpenParser {
      */
     @Override
     public IParsedCode parseAsMethodHeader(IOpenSourceCodeModule source) {
-
-        IGrammar grammar = getGrammarFactory().getGrammar();
-        grammar.setModule(source);
-        grammar.parseAsMethodHeader(source.getCharacterStream());
-
-        return makeParsedCode(grammar, source);
+        return parseCached(source, "method.header", IGrammar::parseAsMethodHeader);
     }
 
     /**
@@ -66,12 +67,27 @@ public abstract class AParser implements IOpenParser {
      */
     @Override
     public IParsedCode parseAsType(IOpenSourceCodeModule source) {
+        return parseCached(source, "type", IGrammar::parseAsType);
+    }
+
+    private IParsedCode parseCached(IOpenSourceCodeModule source,
+            String parseType,
+            BiConsumer<IGrammar, Reader> parser) {
+        String code = source.getCode();
+        ISyntaxNode cachedNode = syntaxTreeCache.get(parseType, code, source);
+        if (cachedNode != null) {
+            return new ParsedCode(cachedNode, source, NO_ERRORS, null);
+        }
 
         IGrammar grammar = getGrammarFactory().getGrammar();
         grammar.setModule(source);
-        grammar.parseAsType(source.getCharacterStream());
+        parser.accept(grammar, source.getCharacterStream());
 
-        return makeParsedCode(grammar, source);
+        ParsedCode parsedCode = makeParsedCode(grammar, source);
+        if (parsedCode.getErrors().length == 0) {
+            syntaxTreeCache.put(parseType, code, parsedCode.getTopNode());
+        }
+        return parsedCode;
     }
 
     /**
@@ -0,0 +1,145 @@
+package org.openl.syntax.impl;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openl.source.IOpenSourceCodeModule;
+import org.openl.syntax.ISyntaxNode;
+import org.openl.util.text.TextInterval;
+
+/**
+ * Cache of the syntax trees parsed without errors. The same expressions are repeated in many cells of the tables, so
+ * the parsing of them is done only once. The cache keeps a copy of the tree which is not linked to a source code
+ * module, and each call of {@link #get(String, String, IOpenSourceCodeModule)} returns a new copy linked to the given
+ * module. So the trees returned from the cache can be used in the same way as the trees created by the grammar.
+ * <p>
+ * Only the trees built from the nodes of {@link SyntaxTreeBuilder} are cached.
+ */
+final class SyntaxTreeCache {
+
+    /**
+     * Long expressions are rarely repeated, so they are not cached.
+     */
+    static final int MAX_CODE_LENGTH = 1024;
+
+    /**
+     * The cache is cleared when it reaches this size.
+     */
+    static final int MAX_SIZE = 10000;
+
+    private final Map<Key, ISyntaxNode> trees = new ConcurrentHashMap<>();
+
+    /**
+     * Returns a copy of the cached tree linked to the given module or {@code null} if the tree is not cached.
+     */
+    ISyntaxNode get(String parseType, String code, IOpenSourceCodeModule module) {
+        if (!isCacheable(code)) {
+            return null;
+        }
+        ISyntaxNode tree = trees.get(new Key(parseType, code));
+        return tree == null ? null : copy(tree, module);
+    }
+
+    /**
+     * Puts the copy of the tree to the cache if the tree consists of the known nodes only.
+     */
+    void put(String parseType, String code, ISyntaxNode tree) {
+        if (tree == null || !isCacheable(code)) {
+            return;
+        }
+        ISyntaxNode copy = copy(tree, null);
+        if (copy == null) {
+            return;
+        }
+        if (trees.size() >= MAX_SIZE) {
+            trees.clear();
+        }
+        trees.put(new Key(parseType, code), copy);
+    }
+
+    int size() {
+        return trees.size();
+    }
+
+    private static boolean isCacheable(String code) {
+        return code != null && code.length() <= MAX_CODE_LENGTH;
+    }
+
+    /**
+     * Copies the tree. The locations are shared, because they are not modified after parsing.
+     *
+     * @return the copy or {@code null} if the tree contains unknown nodes
+     */
+    private static ISyntaxNode copy(ISyntaxNode node, IOpenSourceCodeModule module) {
+        if (!(node instanceof ASyntaxNode)) {
+            return null;
+        }
+        Class<?> nodeClass = node.getClass();
+        ASyntaxNode syntaxNode = (ASyntaxNode) node;
+        if (nodeClass == IdentifierNode.class) {
+            return new IdentifierNode(node.getType(),
+                syntaxNode.getLocation(),
+                ((IdentifierNode) node).getIdentifier(),
+                module);
+        } else if (nodeClass == LiteralNode.class) {
+            return new LiteralNode(node.getType(), (TextInterval) syntaxNode.getLocation(), node.getText(), module);
+        } else if (nodeClass == EmptyNode.class) {
+            return new EmptyNode(node.getType(), (TextInterval) syntaxNode.getLocation(), module);
+        } else if (nodeClass == UnaryNode.class) {
+            ISyntaxNode left = copy(node.getChild(0), module);
+            return left == null ? null : new UnaryNode(node.getType(), syntaxNode.getLocation(), left, module);
+        } else if (nodeClass == BinaryNode.class) {
+            ISyntaxNode left = copy(node.getChild(0), module);
+            ISyntaxNode right = left == null ? null : copy(node.getChild(1), module);
+            if (right == null) {
+                return null;
+            }
+            return new BinaryNode(node.getType(), syntaxNode.getLocation(), left, right, module);
+        } else if (nodeClass == NaryNode.class || nodeClass == CompositeLiteralNode.class) {
+            ISyntaxNode[] nodes = ((NaryNode) node).getNodes();
+            ISyntaxNode[] children = new ISyntaxNode[nodes.length];
+            for (int i = 0; i < nodes.length; i++) {
+                // null children are created by the optional parts of the grammar
+                if (nodes[i] != null) {
+                    children[i] = copy(nodes[i], module);
+                    if (children[i] == null) {
+                        return null;
+                    }
+                }
+            }
+            if (nodeClass == NaryNode.class) {
+                return new NaryNode(node.getType(), syntaxNode.getLocation(), children, module);
+            }
+            return new CompositeLiteralNode(node.getType(), syntaxNode.getLocation(), children, module);
+        }
+        return null;
+    }
+
+    private static final class Key {
+        private final String parseType;
+        private final String code;
+
+        private Key(String parseType, String code) {
+            this.parseType = parseType;
+            this.code = code;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return parseType.equals(key.parseType) && code.equals(key.code);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(parseType, code);
+        }
+    }
+}
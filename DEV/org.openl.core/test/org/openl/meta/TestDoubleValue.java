@@ -1,11 +1,14 @@
 package org.openl.meta;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.math.BigDecimal;
 
 import org.junit.Test;
+import org.openl.meta.explanation.ExplanationNumberValue;
 
 public class TestDoubleValue {
     @Test
@@ -232,6 +235,27 @@ public class TestDoubleValue {
 
     }
 
+    @Test
+    public void testExplanationDisabled() {
+        DoubleValue v1 = new DoubleValue(2.5);
+        DoubleValue v2 = new DoubleValue(1.5);
+        assertTrue(DoubleValue.add(v1, v2).isFormula());
+        assertTrue(DoubleValue.max(v1, v2).isFunction());
+
+        assertTrue(ExplanationNumberValue.setExplanationEnabled(false));
+        try {
+            DoubleValue sum = DoubleValue.add(v1, v2);
+            assertEquals(4.0, sum.doubleValue(), 0.001);
+            assertFalse(sum.isFormula());
+            assertTrue(sum.isLeaf());
+            assertFalse(DoubleValue.max(v1, v2).isFunction());
+            assertFalse(IntValue.autocast(new IntValue(3), DoubleValue.ZERO).isCast());
+        } finally {
+            assertFalse(ExplanationNumberValue.setExplanationEnabled(true));
+        }
+        assertTrue(DoubleValue.add(v1, v2).isFormula());
+    }
+
     private DoubleValue wrap(double d) {
         return new DoubleValue(d);
     }
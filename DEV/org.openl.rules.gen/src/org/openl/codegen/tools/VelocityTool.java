@@ -62,6 +62,10 @@ public class VelocityTool {
         return builder.toString();
     }
 
+    public String formatConstantName(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+    }
+
     public static Class<?> getNumericPrimitive(Class<?> wrapperClass) {
         return NumberUtils.getNumericPrimitive(wrapperClass);
     }
@@ -0,0 +1,141 @@
+package org.openl.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread pool for the parallel parts of the compilation. The size of the pool is defined by the
+ * {@code openl.compilation.threads} system property, the number of the available processors by default.
+ * <p>
+ * The tasks are executed with the context class loader of the calling thread, because the compiled types are loaded
+ * with it.
+ */
+public final class CompilationPool {
+
+    private static final LongAdder EXECUTED_TASKS = new LongAdder();
+
+    private static volatile int parallelism = Math.max(1,
+        Integer.getInteger("openl.compilation.threads", Runtime.getRuntime().availableProcessors()));
+
+    private static volatile ForkJoinPool pool;
+
+    private CompilationPool() {
+    }
+
+    public static int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Replaces the pool with a pool of the given size. The tasks which are executed by the previous pool are completed
+     * by it. It is used by the tests to not depend on the number of the processors.
+     */
+    static synchronized void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive.");
+        }
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+        CompilationPool.parallelism = parallelism;
+    }
+
+    private static ForkJoinPool getPool() {
+        ForkJoinPool currentPool = pool;
+        if (currentPool == null) {
+            synchronized (CompilationPool.class) {
+                currentPool = pool;
+                if (currentPool == null) {
+                    currentPool = new ForkJoinPool(parallelism, p -> {
+                        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                        thread.setName("openl-compilation-" + thread.getPoolIndex());
+                        return thread;
+                    }, null, false);
+                    pool = currentPool;
+                }
+            }
+        }
+        return currentPool;
+    }
+
+    /**
+     * @return the number of the tasks executed by the pool
+     */
+    public static long getExecutedTaskCount() {
+        return EXECUTED_TASKS.sum();
+    }
+
+    /**
+     * Executes the tasks and waits for all of them.
+     *
+     * @return the results of the tasks in the order of the tasks
+     * @throws Exception the exception of the first failed task in the order of the tasks
+     */
+    public static <T> List<T> invokeAll(List<? extends Callable<T>> tasks) throws Exception {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        ForkJoinPool pool = getPool();
+        Thread currentThread = Thread.currentThread();
+        boolean inPool = currentThread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) currentThread)
+            .getPool() == pool;
+        List<CompilationTask<T>> submitted = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            CompilationTask<T> compilationTask = new CompilationTask<>(task, classLoader);
+            if (inPool) {
+                compilationTask.fork();
+            } else {
+                pool.execute(compilationTask);
+            }
+            submitted.add(compilationTask);
+        }
+        List<T> results = new ArrayList<>(tasks.size());
+        Throwable failure = null;
+        for (CompilationTask<T> task : submitted) {
+            task.join();
+            if (task.failure != null && failure == null) {
+                failure = task.failure;
+            }
+            results.add(task.result);
+        }
+        if (failure instanceof Exception) {
+            throw (Exception) failure;
+        } else if (failure != null) {
+            throw (Error) failure;
+        }
+        return results;
+    }
+
+    private static final class CompilationTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Callable<T> task;
+        private final transient ClassLoader classLoader;
+        private transient T result;
+        private transient Throwable failure;
+
+        private CompilationTask(Callable<T> task, ClassLoader classLoader) {
+            this.task = task;
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected void compute() {
+            Thread thread = Thread.currentThread();
+            ClassLoader oldClassLoader = thread.getContextClassLoader();
+            try {
+                thread.setContextClassLoader(classLoader);
+                result = task.call();
+            } catch (Exception | Error e) {
+                failure = e;
+            } finally {
+                thread.setContextClassLoader(oldClassLoader);
+                EXECUTED_TASKS.increment();
+            }
+        }
+    }
+}
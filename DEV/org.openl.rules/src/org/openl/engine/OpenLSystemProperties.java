@@ -3,6 +3,7 @@ package org.openl.engine;
 import java.util.Map;
 
 import org.openl.util.BooleanUtils;
+import org.openl.util.StringUtils;
 
 public class OpenLSystemProperties {
 
@@ -11,6 +12,16 @@ public class OpenLSystemProperties {
     public static final String DISPATCHING_MODE_PROPERTY = "dispatching.mode";
     public static final String DISPATCHING_MODE_JAVA = "java";
     public static final String DISPATCHING_MODE_DT = "dt";
+    public static final String DISPATCHING_MODE_INDEX = "index";
+    public static final String DATA_POPULATION_PARALLEL = "data.population.parallel";
+    public static final String SHEET_PARSING_PARALLEL = "sheet.parsing.parallel";
+    public static final String BINDING_PARALLEL = "binding.parallel";
+    public static final String DEPENDENCY_COMPILATION_PARALLEL = "dependency.compilation.parallel";
+    public static final String SHEET_SNAPSHOT_DIRECTORY = "sheet.snapshot.dir";
+    public static final String SHEET_CELLS_MAPPED = "sheet.cells.mapped";
+    public static final String DATATYPE_HASHCODE_CACHING = "datatype.hashcode.caching";
+    public static final String EXPLANATION_ENABLED = "explanation.enabled";
+    public static final String SPREADSHEET_RECALCULATION = "spreadsheet.recalculation";
 
     private OpenLSystemProperties() {
     }
@@ -20,11 +31,71 @@ public class OpenLSystemProperties {
         return DISPATCHING_MODE_DT.equalsIgnoreCase(dispatchingMode);
     }
 
+    public static boolean isIndexDispatchingMode(Map<String, Object> externalParameters) {
+        String dispatchingMode = getProperty(externalParameters, DISPATCHING_MODE_PROPERTY);
+        return DISPATCHING_MODE_INDEX.equalsIgnoreCase(dispatchingMode);
+    }
+
     public static boolean isDispatchingValidationEnabled(Map<String, Object> externalParameters) {
         String dispatchingValidation = getProperty(externalParameters, DISPATCHING_VALIDATION);
         return BooleanUtils.toBoolean(dispatchingValidation);
     }
 
+    public static boolean isParallelDataPopulation(Map<String, Object> externalParameters) {
+        String parallelDataPopulation = getProperty(externalParameters, DATA_POPULATION_PARALLEL);
+        return BooleanUtils.toBoolean(parallelDataPopulation);
+    }
+
+    public static boolean isParallelSheetParsing(Map<String, Object> externalParameters) {
+        String parallelSheetParsing = getProperty(externalParameters, SHEET_PARSING_PARALLEL);
+        return BooleanUtils.toBoolean(parallelSheetParsing);
+    }
+
+    public static boolean isParallelBinding(Map<String, Object> externalParameters) {
+        String parallelBinding = getProperty(externalParameters, BINDING_PARALLEL);
+        return BooleanUtils.toBoolean(parallelBinding);
+    }
+
+    public static boolean isParallelDependencyCompilation(Map<String, Object> externalParameters) {
+        String parallelDependencyCompilation = getProperty(externalParameters, DEPENDENCY_COMPILATION_PARALLEL);
+        return BooleanUtils.toBoolean(parallelDependencyCompilation);
+    }
+
+    /**
+     * @return the directory to store the snapshots of the parsed workbooks or {@code null} if the snapshots are not
+     *         used
+     */
+    public static String getSheetSnapshotDirectory(Map<String, Object> externalParameters) {
+        String snapshotDirectory = getProperty(externalParameters, SHEET_SNAPSHOT_DIRECTORY);
+        return StringUtils.isBlank(snapshotDirectory) ? null : snapshotDirectory.trim();
+    }
+
+    /**
+     * @return true if the parsed cells of the sheets are kept in memory-mapped files instead of heap
+     */
+    public static boolean isMappedSheetCells(Map<String, Object> externalParameters) {
+        String mappedSheetCells = getProperty(externalParameters, SHEET_CELLS_MAPPED);
+        return BooleanUtils.toBoolean(mappedSheetCells);
+    }
+
+    public static boolean isDatatypeHashCodeCaching(Map<String, Object> externalParameters) {
+        String hashCodeCaching = getProperty(externalParameters, DATATYPE_HASHCODE_CACHING);
+        return BooleanUtils.toBoolean(hashCodeCaching);
+    }
+
+    public static boolean isExplanationEnabled(Map<String, Object> externalParameters) {
+        String explanationEnabled = getProperty(externalParameters, EXPLANATION_ENABLED);
+        return BooleanUtils.toBoolean(explanationEnabled, true);
+    }
+
+    /**
+     * @return true if the spreadsheets can be recalculated for the changed arguments only
+     */
+    public static boolean isSpreadsheetRecalculation(Map<String, Object> externalParameters) {
+        String spreadsheetRecalculation = getProperty(externalParameters, SPREADSHEET_RECALCULATION);
+        return BooleanUtils.toBoolean(spreadsheetRecalculation);
+    }
+
     public static boolean isCustomSpreadsheetTypesSupported(Map<String, Object> externalParameters) {
         String customSpreadsheetType = getProperty(externalParameters, CUSTOM_SPREADSHEET_TYPE_PROPERTY);
         return BooleanUtils.toBoolean(customSpreadsheetType, true);
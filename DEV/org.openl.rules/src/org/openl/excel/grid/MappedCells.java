@@ -0,0 +1,156 @@
+package org.openl.excel.grid;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.openl.excel.parser.CellValueCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The parsed cells of a sheet stored in a temporary file which is mapped to memory. The file is deleted right after it
+ * is mapped, so the cells are kept out of the heap and are paged in by the operating system when they are read.
+ * <p>
+ * The file starts with the positions of the rows. Each row is the count of its cells and the positions of the cell
+ * values ({@code -1} for empty cells). The values are stored after the rows by {@link CellValueCodec}.
+ * <p>
+ * The tables are bound by reading their cells many times, so a row is decoded once and kept while there is enough
+ * memory. The decoded rows are softly referenced, so they are released under the memory pressure and decoded again if
+ * they are read later.
+ */
+final class MappedCells {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MappedCells.class);
+
+    private static final int NO_VALUE = -1;
+
+    private final ByteBuffer buffer;
+    private final int rowsCount;
+    private final AtomicReferenceArray<SoftReference<Object[]>> decodedRows;
+
+    private MappedCells(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.rowsCount = buffer.getInt(0);
+        this.decodedRows = new AtomicReferenceArray<>(rowsCount);
+    }
+
+    /**
+     * Writes the cells to a temporary file and maps it to memory.
+     *
+     * @param cells the parsed cells of a sheet
+     * @return the mapped cells
+     * @throws IOException if the cells cannot be written or mapped, for example if they need more than 2 GiB
+     */
+    static MappedCells map(Object[][] cells) throws IOException {
+        Path file = Files.createTempFile("openl-cells", ".tmp");
+        try {
+            write(cells, file);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                if (channel.size() > Integer.MAX_VALUE) {
+                    throw new IOException("The cells are too large to be mapped to memory.");
+                }
+                return new MappedCells(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            }
+        } finally {
+            try {
+                // The mapped buffer stays valid after the file is deleted
+                Files.delete(file);
+            } catch (IOException e) {
+                // Some file systems do not allow to delete mapped files
+                LOG.debug("The file '{}' will be deleted on exit.", file, e);
+                file.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    int getRowsCount() {
+        return rowsCount;
+    }
+
+    int getRowLength(int row) {
+        return buffer.getInt(buffer.getInt(4 + row * 4));
+    }
+
+    Object getValue(int row, int col) {
+        return getRow(row)[col];
+    }
+
+    /**
+     * The row can be decoded by several threads at the same time, the values are equal then, so any of them is kept.
+     */
+    private Object[] getRow(int row) {
+        SoftReference<Object[]> reference = decodedRows.get(row);
+        Object[] values = reference == null ? null : reference.get();
+        if (values == null) {
+            int rowPosition = buffer.getInt(4 + row * 4);
+            values = new Object[buffer.getInt(rowPosition)];
+            for (int col = 0; col < values.length; col++) {
+                int position = buffer.getInt(rowPosition + 4 + col * 4);
+                values[col] = position == NO_VALUE ? null : CellValueCodec.readValue(buffer, position);
+            }
+            decodedRows.set(row, new SoftReference<>(values));
+        }
+        return values;
+    }
+
+    /**
+     * The values are streamed to the file after the space reserved for the rows, and the rows are written when the
+     * positions of the values are known, so the values are not buffered in memory.
+     */
+    private static void write(Object[][] cells, Path file) throws IOException {
+        long indexSize = 4L + cells.length * 4L;
+        for (Object[] row : cells) {
+            indexSize += 4L + row.length * 4L;
+        }
+        if (indexSize > Integer.MAX_VALUE) {
+            throw new IOException("The cells are too large to be mapped to memory.");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.position(indexSize);
+            DataOutputStream values = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            long position = indexSize;
+            int[][] positions = new int[cells.length][];
+            for (int row = 0; row < cells.length; row++) {
+                positions[row] = new int[cells[row].length];
+                for (int col = 0; col < cells[row].length; col++) {
+                    Object value = cells[row][col];
+                    if (value == null) {
+                        positions[row][col] = NO_VALUE;
+                    } else {
+                        if (position > Integer.MAX_VALUE) {
+                            throw new IOException("The cells are too large to be mapped to memory.");
+                        }
+                        positions[row][col] = (int) position;
+                        position += CellValueCodec.writeValue(values, value);
+                    }
+                }
+            }
+            values.flush();
+
+            channel.position(0);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            out.writeInt(cells.length);
+            int rowPosition = 4 + cells.length * 4;
+            for (int[] row : positions) {
+                out.writeInt(rowPosition);
+                rowPosition += 4 + row.length * 4;
+            }
+            for (int[] row : positions) {
+                out.writeInt(row.length);
+                for (int valuePosition : row) {
+                    out.writeInt(valuePosition);
+                }
+            }
+            out.flush();
+        }
+    }
+}
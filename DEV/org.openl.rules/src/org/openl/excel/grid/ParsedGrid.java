@@ -1,5 +1,6 @@
 package org.openl.excel.grid;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -34,7 +35,8 @@ public class ParsedGrid extends AGrid {
     private final Logger log = LoggerFactory.getLogger(ParsedGrid.class);
 
     private final String workbookPath;
-    private final Object[][] cells;
+    private Object[][] cells;
+    private MappedCells mappedCells;
     private final String uri;
     private final XlsSheetSourceCodeModule sheetSource;
     private final SheetDescriptor sheetDescriptor;
@@ -45,13 +47,14 @@ public class ParsedGrid extends AGrid {
     private XlsSheetGridModel writableGrid;
 
     private transient IGridTable[] tables;
-    private transient TableStyles currentTableStyles;
+    private transient volatile TableStyles currentTableStyles;
 
     ParsedGrid(String workbookPath,
             XlsSheetSourceCodeModule sheetSource,
             SheetDescriptor sheet,
             Object[][] cells,
-            boolean use1904Windowing) {
+            boolean use1904Windowing,
+            boolean mapCells) {
         this.workbookPath = workbookPath;
         this.cells = cells;
         this.sheetSource = sheetSource;
@@ -61,6 +64,16 @@ public class ParsedGrid extends AGrid {
 
         findRegions();
 
+        if (mapCells) {
+            try {
+                mappedCells = MappedCells.map(cells);
+                // The cells are read from the mapped file from now on
+                this.cells = null;
+            } catch (IOException e) {
+                log.warn("Cannot map the cells of the sheet '{}' to memory. They are kept in heap.", sheet.getName(), e);
+            }
+        }
+
         sheetSource.getWorkbookSource().addListener(new WorkbookSaveListener());
     }
 
@@ -78,15 +91,15 @@ public class ParsedGrid extends AGrid {
     public int getMaxColumnIndex(int row) {
         int internalRow = row - getFirstRowNum();
 
-        if (cells.length <= internalRow) {
+        if (getRowsCount() <= internalRow) {
             return 0;
         }
-        return getFirstColNum() + cells[internalRow].length - 1;
+        return getFirstColNum() + getRowLength(internalRow) - 1;
     }
 
     @Override
     public int getMaxRowIndex() {
-        return getFirstRowNum() + cells.length - 1;
+        return getFirstRowNum() + getRowsCount() - 1;
     }
 
     @Override
@@ -159,13 +172,13 @@ public class ParsedGrid extends AGrid {
     }
 
     private CellRowCol findTopLeft(int internalRow, int internalCol) {
-        while (cells[internalRow][internalCol] == MergedCell.MERGE_WITH_LEFT) {
+        while (getInternalValue(internalRow, internalCol) == MergedCell.MERGE_WITH_LEFT) {
             if (internalCol == 0) {
                 break;
             }
             internalCol--;
         }
-        while (cells[internalRow][internalCol] == MergedCell.MERGE_WITH_UP) {
+        while (getInternalValue(internalRow, internalCol) == MergedCell.MERGE_WITH_UP) {
             if (internalRow == 0) {
                 break;
             }
@@ -177,30 +190,56 @@ public class ParsedGrid extends AGrid {
     private CellRowCol findBottomRight(int internalRow, int internalCol) {
         int endRow = internalRow;
         int endCol = internalCol;
-        while (endRow < cells.length - 1 && cells[endRow + 1][endCol] == MergedCell.MERGE_WITH_UP) {
+        while (getInternalValue(endRow + 1, endCol) == MergedCell.MERGE_WITH_UP) {
             endRow++;
         }
-        while (endCol < cells[endRow].length - 1 && cells[endRow][endCol + 1] == MergedCell.MERGE_WITH_LEFT) {
+        while (getInternalValue(endRow, endCol + 1) == MergedCell.MERGE_WITH_LEFT) {
             endCol++;
         }
 
         return new CellRowCol(endRow, endCol);
     }
 
+    /**
+     * The rows of the sparse sheets are trimmed to their last non-empty cells, so they can have different length.
+     */
+    private Object getInternalValue(int internalRow, int internalCol) {
+        if (!contains(internalRow, internalCol)) {
+            return null;
+        }
+        return cells == null ? mappedCells.getValue(internalRow, internalCol) : cells[internalRow][internalCol];
+    }
+
+    private boolean contains(int internalRow, int internalCol) {
+        return internalRow >= 0 && internalCol >= 0 && getRowsCount() > internalRow && getRowLength(
+            internalRow) > internalCol;
+    }
+
+    private int getRowsCount() {
+        return cells == null ? mappedCells.getRowsCount() : cells.length;
+    }
+
+    /**
+     * @return {@code true} if the cells are read from the file mapped to memory
+     */
+    boolean isMapped() {
+        return cells == null;
+    }
+
+    private int getRowLength(int internalRow) {
+        return cells == null ? mappedCells.getRowLength(internalRow) : cells[internalRow].length;
+    }
+
     /////////////////////////// Methods used in ParsedCell ///////////////////////////////////
 
     protected Object getCellValue(int row, int column) {
         int internalRow = row - getFirstRowNum();
         int internalCol = column - getFirstColNum();
 
-        if (internalRow < 0 || internalCol < 0 || cells.length <= internalRow || cells[internalRow].length <= internalCol) {
-            return null;
-        }
-
-        Object value = cells[internalRow][internalCol];
+        Object value = getInternalValue(internalRow, internalCol);
         if (value instanceof MergedCell) {
             CellRowCol topLeft = findTopLeft(internalRow, internalCol);
-            value = cells[topLeft.row][topLeft.col];
+            value = getInternalValue(topLeft.row, topLeft.col);
         }
         if (value instanceof ExtendedValue) {
             value = ((ExtendedValue) value).getValue();
@@ -213,11 +252,11 @@ public class ParsedGrid extends AGrid {
         int internalRow = row - getFirstRowNum();
         int internalCol = column - getFirstColNum();
 
-        if (internalRow < 0 || internalCol < 0 || cells.length <= internalRow || cells[internalRow].length <= internalCol) {
+        if (!contains(internalRow, internalCol)) {
             return null;
         }
 
-        Object value = cells[internalRow][internalCol];
+        Object value = getInternalValue(internalRow, internalCol);
         short indent = value instanceof AlignedValue ? ((AlignedValue) value).getIndent() : 0;
         return new IndentedStyle(indent, this, row, column);
     }
@@ -226,17 +265,20 @@ public class ParsedGrid extends AGrid {
         int internalRow = row - getFirstRowNum();
         int internalCol = column - getFirstColNum();
 
-        if (internalRow >= 0 && internalCol >= 0 && cells.length > internalRow && cells[internalRow].length > internalCol) {
+        if (contains(internalRow, internalCol)) {
             CellRowCol topLeft = findTopLeft(internalRow, internalCol);
             row -= internalRow - topLeft.row;
             column -= internalCol - topLeft.col;
         }
 
-        if (currentTableStyles == null || !IGridRegion.Tool.contains(currentTableStyles.getRegion(), column, row)) {
-            currentTableStyles = readTableStyles(row, column);
+        // The field is read once because the tables can be bound in parallel
+        TableStyles tableStyles = currentTableStyles;
+        if (tableStyles == null || !IGridRegion.Tool.contains(tableStyles.getRegion(), column, row)) {
+            tableStyles = readTableStyles(row, column);
+            currentTableStyles = tableStyles;
         }
 
-        return currentTableStyles;
+        return tableStyles;
     }
 
     private TableStyles readTableStyles(int row, int column) {
@@ -275,7 +317,17 @@ public class ParsedGrid extends AGrid {
     }
 
     protected Object[][] getCells() {
-        return cells;
+        if (cells != null) {
+            return cells;
+        }
+        Object[][] values = new Object[getRowsCount()][];
+        for (int row = 0; row < values.length; row++) {
+            values[row] = new Object[getRowLength(row)];
+            for (int col = 0; col < values[row].length; col++) {
+                values[row][col] = mappedCells.getValue(row, col);
+            }
+        }
+        return values;
     }
 
     private int getFirstRowNum() {
@@ -1,10 +1,17 @@
 package org.openl.excel.grid;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
 
+import org.openl.engine.CompilationPool;
+import org.openl.engine.OpenLSystemProperties;
+import org.openl.excel.parser.ExcelParseException;
 import org.openl.excel.parser.ExcelReader;
 import org.openl.excel.parser.ExcelReaderFactory;
 import org.openl.excel.parser.SheetDescriptor;
+import org.openl.excel.parser.sax.SAXReader;
+import org.openl.excel.parser.sax.SnapshotExcelReader;
 import org.openl.rules.lang.xls.*;
 import org.openl.rules.lang.xls.syntax.WorksheetSyntaxNode;
 import org.openl.rules.source.impl.VirtualSourceCodeModule;
@@ -39,23 +46,76 @@ public class SequentialXlsLoader extends XlsLoader {
             // Example of such case is AlgorithmTableSpecification.xls.
             path = null;
         }
-        try (ExcelReader excelReader = path == null ? factory.create(source.getByteStream()) : factory.create(path)) {
+        try (ExcelReader excelReader = createReader(factory, path, source)) {
             List<? extends SheetDescriptor> sheets = excelReader.getSheets();
             boolean use1904Windowing = excelReader.isUse1904Windowing();
+            boolean mapCells = OpenLSystemProperties.isMappedSheetCells(source.getParams());
 
             int nsheets = sheets.size();
             WorksheetSyntaxNode[] sheetNodes = new WorksheetSyntaxNode[nsheets];
 
+            boolean xlsx = excelReader instanceof SAXReader || excelReader instanceof SnapshotExcelReader;
+            if (nsheets > 1 && xlsx && OpenLSystemProperties
+                .isParallelSheetParsing(source.getParams()) && CompilationPool.getParallelism() > 1) {
+                // The sheets of xlsx files are separate entries, so they are parsed and split to the tables
+                // concurrently. The tables are processed in order of the sheets after that.
+                String workbookPath = path;
+                XlsSheetSourceCodeModule[] sheetSources = new XlsSheetSourceCodeModule[nsheets];
+                List<Callable<IGridTable[]>> tasks = new ArrayList<>(nsheets);
+                for (int i = 0; i < nsheets; i++) {
+                    final SheetDescriptor sheet = sheets.get(i);
+                    XlsSheetSourceCodeModule sheetSource = new SequentialXlsSheetSourceCodeModule(
+                        workbookSourceModule,
+                        sheet);
+                    sheetSources[i] = sheetSource;
+                    tasks.add(() -> {
+                        Object[][] cells = excelReader.getCells(sheet);
+                        return new ParsedGrid(workbookPath, sheetSource, sheet, cells, use1904Windowing, mapCells)
+                            .getTables();
+                    });
+                }
+                List<IGridTable[]> tables = parseSheets(tasks);
+                for (int i = 0; i < nsheets; i++) {
+                    sheetNodes[i] = createWorksheetSyntaxNode(tablePartProcessor, sheetSources[i], tables.get(i));
+                }
+                return sheetNodes;
+            }
+
             for (int i = 0; i < nsheets; i++) {
                 final SheetDescriptor sheet = sheets.get(i);
                 XlsSheetSourceCodeModule sheetSource = new SequentialXlsSheetSourceCodeModule(workbookSourceModule,
                     sheet);
                 Object[][] cells = excelReader.getCells(sheet);
-                IGridTable[] tables = new ParsedGrid(path, sheetSource, sheet, cells, use1904Windowing).getTables();
+                IGridTable[] tables = new ParsedGrid(path, sheetSource, sheet, cells, use1904Windowing, mapCells)
+                    .getTables();
                 sheetNodes[i] = createWorksheetSyntaxNode(tablePartProcessor, sheetSource, tables);
             }
 
             return sheetNodes;
         }
     }
+
+    private static ExcelReader createReader(ExcelReaderFactory factory, String path, IOpenSourceCodeModule source) {
+        if (path == null) {
+            return factory.create(source.getByteStream());
+        }
+        ExcelReader excelReader = factory.create(path);
+        String snapshotDirectory = OpenLSystemProperties.getSheetSnapshotDirectory(source.getParams());
+        if (snapshotDirectory != null && excelReader instanceof SAXReader) {
+            // The parsed xlsx workbooks are stored to the snapshots to avoid parsing of the same workbook again
+            excelReader.close();
+            return new SnapshotExcelReader(path, snapshotDirectory);
+        }
+        return excelReader;
+    }
+
+    private static List<IGridTable[]> parseSheets(List<Callable<IGridTable[]>> tasks) {
+        try {
+            return CompilationPool.invokeAll(tasks);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ExcelParseException(e);
+        }
+    }
 }
@@ -0,0 +1,178 @@
+package org.openl.excel.parser;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Binary format of the parsed cell values. The values are written with a type tag, the strings are written as UTF-8
+ * bytes with the length, because {@link DataOutput#writeUTF(String)} is limited to 65535 bytes. The format is used by
+ * the snapshots of the workbooks and by the cells mapped to memory.
+ */
+public final class CellValueCodec {
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte TRUE = 4;
+    private static final byte FALSE = 5;
+    private static final byte DATE = 6;
+    private static final byte ALIGNED = 7;
+    private static final byte MERGE_WITH_LEFT = 8;
+    private static final byte MERGE_WITH_UP = 9;
+
+    private CellValueCodec() {
+    }
+
+    /**
+     * @return the number of the written bytes
+     * @throws IOException if the type of the value is not supported
+     */
+    public static int writeValue(DataOutput out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+            return 1;
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            return 1 + writeString(out, (String) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) value);
+            return 5;
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+            return 9;
+        } else if (value instanceof Boolean) {
+            out.writeByte((Boolean) value ? TRUE : FALSE);
+            return 1;
+        } else if (value instanceof Date) {
+            out.writeByte(DATE);
+            out.writeLong(((Date) value).getTime());
+            return 9;
+        } else if (value instanceof AlignedValue) {
+            out.writeByte(ALIGNED);
+            out.writeShort(((AlignedValue) value).getIndent());
+            return 3 + writeValue(out, ((AlignedValue) value).getValue());
+        } else if (value == MergedCell.MERGE_WITH_LEFT) {
+            out.writeByte(MERGE_WITH_LEFT);
+            return 1;
+        } else if (value == MergedCell.MERGE_WITH_UP) {
+            out.writeByte(MERGE_WITH_UP);
+            return 1;
+        } else {
+            throw new IOException("Unsupported cell value type: " + value.getClass().getName());
+        }
+    }
+
+    /**
+     * Reads the value written by {@link #writeValue(DataOutput, Object)}.
+     *
+     * @param strings the read strings, the equal strings are shared as the SAX parser does for the shared strings
+     * @param maxLength the length of the strings is checked against it before the string is allocated
+     */
+    public static Object readValue(DataInput in, Map<String, String> strings, long maxLength) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                String value = readString(in, maxLength);
+                String existing = strings.putIfAbsent(value, value);
+                return existing == null ? value : existing;
+            case INTEGER:
+                return in.readInt();
+            case DOUBLE:
+                return in.readDouble();
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case DATE:
+                return new Date(in.readLong());
+            case ALIGNED:
+                short indent = in.readShort();
+                return new AlignedValue(readValue(in, strings, maxLength), indent);
+            case MERGE_WITH_LEFT:
+                return MergedCell.MERGE_WITH_LEFT;
+            case MERGE_WITH_UP:
+                return MergedCell.MERGE_WITH_UP;
+            default:
+                throw new IOException("Unsupported cell value type: " + type);
+        }
+    }
+
+    /**
+     * Reads the value written by {@link #writeValue(DataOutput, Object)} at the given position of the buffer. The
+     * position of the buffer is not changed, so the buffer can be read by several threads.
+     */
+    public static Object readValue(ByteBuffer buffer, int position) {
+        byte type = buffer.get(position);
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                byte[] bytes = new byte[buffer.getInt(position + 1)];
+                ByteBuffer view = buffer.duplicate();
+                view.position(position + 5);
+                view.get(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            case INTEGER:
+                return buffer.getInt(position + 1);
+            case DOUBLE:
+                return buffer.getDouble(position + 1);
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case DATE:
+                return new Date(buffer.getLong(position + 1));
+            case ALIGNED:
+                return new AlignedValue(readValue(buffer, position + 3), buffer.getShort(position + 1));
+            case MERGE_WITH_LEFT:
+                return MergedCell.MERGE_WITH_LEFT;
+            case MERGE_WITH_UP:
+                return MergedCell.MERGE_WITH_UP;
+            default:
+                throw new IllegalStateException("Unsupported cell value type: " + type);
+        }
+    }
+
+    /**
+     * Writes the string, {@code null} is written as the length {@code -1}.
+     *
+     * @return the number of the written bytes
+     */
+    public static int writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return 4;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+        return 4 + bytes.length;
+    }
+
+    /**
+     * @param maxLength the length of the string is checked against it before the string is allocated
+     * @throws IOException if the length is greater than the max length
+     */
+    public static String readString(DataInput in, long maxLength) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > maxLength) {
+            throw new IOException("Invalid string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
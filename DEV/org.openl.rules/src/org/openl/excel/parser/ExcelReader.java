@@ -11,7 +11,8 @@ public interface ExcelReader extends AutoCloseable {
     List<? extends SheetDescriptor> getSheets();
 
     /**
-     * Parse and get all cells from a given sheet
+     * Parse and get all cells from a given sheet. The rows of sparsely filled sheets can be shorter than the sheet
+     * width: the missing cells are empty.
      *
      * @param sheet sheet to parse
      * @return parsed objects with types as in Excel
@@ -14,6 +14,7 @@ import org.apache.poi.openxml4j.opc.*;
 import org.apache.poi.ss.util.CellAddress;
 import org.apache.poi.xssf.eventusermodel.XSSFReader;
 import org.apache.poi.xssf.model.CommentsTable;
+import org.apache.poi.xssf.model.SharedStringsTable;
 import org.apache.poi.xssf.usermodel.XSSFRelation;
 import org.openl.excel.parser.*;
 import org.openl.rules.table.IGridRegion;
@@ -33,6 +34,8 @@ public class SAXReader implements ExcelReader {
     private boolean use1904Windowing;
     private List<SAXSheetDescriptor> sheets;
     private MinimalStyleTable styleTable;
+    private SharedStringsTable sharedStringsTable;
+    private boolean sharedStringsLoaded;
 
     public SAXReader(String fileName) {
         this.fileName = fileName;
@@ -48,7 +51,7 @@ public class SAXReader implements ExcelReader {
     }
 
     @Override
-    public List<SAXSheetDescriptor> getSheets() {
+    public synchronized List<SAXSheetDescriptor> getSheets() {
         if (sheets == null) {
             try (OPCPackage pkg = OPCPackage.open(fileName, PackageAccess.READ)) {
 
@@ -73,6 +76,10 @@ public class SAXReader implements ExcelReader {
         return sheets;
     }
 
+    /**
+     * Parses the sheet. The sheets can be parsed concurrently: each sheet is read from its own package, and the shared
+     * strings and the styles are read once and shared by all sheets.
+     */
     @Override
     public Object[][] getCells(SheetDescriptor sheet) {
         SAXSheetDescriptor saxSheet = (SAXSheetDescriptor) sheet;
@@ -82,7 +89,7 @@ public class SAXReader implements ExcelReader {
             initializeNeededData(r, pkg);
 
             XMLReader parser = SAXHelper.newXMLReader();
-            SheetHandler handler = new SheetHandler(r.getSharedStringsTable(),
+            SheetHandler handler = new SheetHandler(getSharedStrings(r),
                 use1904Windowing,
                 styleTable,
                 parserDateUtil);
@@ -140,8 +147,10 @@ public class SAXReader implements ExcelReader {
     }
 
     @Override
-    public void close() {
+    public synchronized void close() {
         styleTable = null;
+        sharedStringsTable = null;
+        sharedStringsLoaded = false;
         sheets = null;
         use1904Windowing = false;
 
@@ -150,7 +159,7 @@ public class SAXReader implements ExcelReader {
         parserDateUtil.reset();
     }
 
-    private void initializeNeededData(XSSFReader r, OPCPackage pkg) {
+    private synchronized void initializeNeededData(XSSFReader r, OPCPackage pkg) {
         // Ensure that needed settings were read from workbook and styles files
         if (sheets == null) {
             getSheets();
@@ -161,6 +170,14 @@ public class SAXReader implements ExcelReader {
         }
     }
 
+    private synchronized SharedStringsTable getSharedStrings(XSSFReader r) throws IOException, InvalidFormatException {
+        if (!sharedStringsLoaded) {
+            sharedStringsTable = r.getSharedStringsTable();
+            sharedStringsLoaded = true;
+        }
+        return sharedStringsTable;
+    }
+
     private void parseStyles(XSSFReader r, OPCPackage pkg) {
         List<PackagePart> parts = pkg.getPartsByContentType(XSSFRelation.STYLES.getContentType());
         if (parts.isEmpty()) {
@@ -3,6 +3,7 @@ package org.openl.excel.parser.sax;
 import static org.apache.poi.xssf.usermodel.XSSFRelation.NS_SPREADSHEETML;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,6 +25,9 @@ import org.xml.sax.helpers.DefaultHandler;
 
 public class SheetHandler extends DefaultHandler {
     private static final int MAX_ESTIMATED_CELLS_COUNT = 10_000 * 256;
+    private static final int MIN_SPARSE_CELLS_COUNT = 256 * 256;
+    private static final int INITIAL_ROW_LENGTH = 16;
+    private static final Object[] EMPTY_ROW = new Object[0];
 
     private final Logger log = LoggerFactory.getLogger(SheetHandler.class);
 
@@ -33,7 +37,12 @@ public class SheetHandler extends DefaultHandler {
     private final MinimalStyleTable stylesTable;
 
     private final LruCache<Integer, String> lruCache = new LruCache<>(50);
+    /**
+     * The rows are allocated on demand and can be shorter than the sheet: the missing cells are empty.
+     */
     private Object[][] cells = new Object[0][];
+    private int columnCount;
+    private long filledCells;
 
     private CellAddress start = CellAddress.A1;
     private CellAddress effectiveStart = null;
@@ -240,30 +249,45 @@ public class SheetHandler extends DefaultHandler {
             col = 0;
         }
 
-        // According to specification "dimension" is optional and is not required. We must expand array if it's too
-        // small
-        int rowCount = cells.length;
-        int maxRows = Math.max(row + 1, rowCount + rowShift);
-
-        int columnCount = rowCount == 0 ? 0 : cells[0].length;
-        int maxCols = Math.max(col + 1, columnCount + colShift);
-
         if (rowShift > 0 || colShift > 0) {
             start = new CellAddress(start.getRow() - rowShift, start.getColumn() - colShift);
+            shiftCells(rowShift, colShift);
         }
 
-        if (maxRows > rowCount || maxCols > columnCount) {
-            // Increase the size in advance (1.5 times) to reduce too many array copy operations during parsing.
-            // In endDocument() the size will be reduced to effective size.
-            int newRows = maxRows > rowCount ? Math.max(maxRows, rowCount + (rowCount >> 1)) : maxRows;
-            int newCols = maxCols > columnCount ? Math.max(maxCols, columnCount + (columnCount >> 1)) : columnCount;
-            log.debug("Extend cells array. Current: {}:{}, new: {}:{}", rowCount, columnCount, newRows, newCols);
-            Object[][] copy = new Object[newRows][newCols];
-            arrayCopy(cells, copy, rowShift, colShift);
-            cells = copy;
+        Object[] cellsRow = row < cells.length ? cells[row] : null;
+        if (cellsRow == null || cellsRow.length <= col) {
+            if (parsedValue == null) {
+                // The cell is empty already
+                return;
+            }
+            // According to specification "dimension" is optional and is not required. We must expand array if it's
+            // too small. Increase the size in advance (1.5 times) to reduce too many array copy operations during
+            // parsing. In endDocument() the size will be reduced to effective size.
+            int rowCount = cells.length;
+            if (row >= rowCount) {
+                int newRows = Math.max(row + 1, rowCount + (rowCount >> 1));
+                log.debug("Extend cells array. Current rows: {}, new rows: {}", rowCount, newRows);
+                cells = Arrays.copyOf(cells, newRows);
+            }
+            // The rows are allocated on demand, so the empty rows of the sparse sheets do not consume memory.
+            int length = cellsRow == null ? INITIAL_ROW_LENGTH : cellsRow.length + (cellsRow.length >> 1);
+            if (col < columnCount) {
+                length = Math.min(length, columnCount);
+            }
+            length = Math.max(col + 1, length);
+            cellsRow = cellsRow == null ? new Object[length] : Arrays.copyOf(cellsRow, length);
+            cells[row] = cellsRow;
+            columnCount = Math.max(columnCount, col + 1);
         }
 
-        cells[row][col] = parsedValue;
+        if (cellsRow[col] == null) {
+            if (parsedValue != null) {
+                filledCells++;
+            }
+        } else if (parsedValue == null) {
+            filledCells--;
+        }
+        cellsRow[col] = parsedValue;
 
         if (parsedValue != null && !(parsedValue instanceof MergedCell)) {
             int curRow = row + start.getRow();
@@ -287,6 +311,14 @@ public class SheetHandler extends DefaultHandler {
         }
     }
 
+    private Object getCell(int row, int col) {
+        if (row < 0 || col < 0 || row >= cells.length) {
+            return null;
+        }
+        Object[] cellsRow = cells[row];
+        return cellsRow == null || cellsRow.length <= col ? null : cellsRow[col];
+    }
+
     private boolean isTextTag(String name) {
         return "v".equals(name) || "inlineStr".equals(name) || "t".equals(name) && isInlineStringOpen;
     }
@@ -300,12 +332,6 @@ public class SheetHandler extends DefaultHandler {
 
     @Override
     public void endDocument() {
-        int rowCount = cells.length;
-        if (rowCount == 0 || cells[0].length == 0) {
-            // No need to optimize cells[][] size
-            return;
-        }
-
         if (effectiveStart == null || effectiveEnd == null) {
             cells = new Object[0][];
             return;
@@ -314,7 +340,7 @@ public class SheetHandler extends DefaultHandler {
         for (CellRangeAddress mergedCell : mergedCells) {
             int r = mergedCell.getFirstRow() - start.getRow();
             int c = mergedCell.getFirstColumn() - start.getColumn();
-            if (r >= 0 && c >= 0 && cells[r][c] != null) {
+            if (getCell(r, c) != null) {
                 if (mergedCell.getLastRow() > effectiveEnd.getRow() || mergedCell.getLastColumn() > effectiveEnd
                     .getColumn()) {
                     int maxRow = Math.max(mergedCell.getLastRow(), effectiveEnd.getRow());
@@ -326,19 +352,39 @@ public class SheetHandler extends DefaultHandler {
 
         int rows = effectiveEnd.getRow() - effectiveStart.getRow() + 1;
         int cols = effectiveEnd.getColumn() - effectiveStart.getColumn() + 1;
-
-        int columnCount = cells[0].length;
-        if (rows < rowCount || cols < columnCount) {
-            log.debug("Optimize cells array. Current: {}:{}, new: {}:{}", rowCount, columnCount, rows, cols);
-            int fromRow = effectiveStart.getRow() - start.getRow();
-            int fromCol = effectiveStart.getColumn() - start.getColumn();
-            Object[][] copy = new Object[rows][cols];
-            for (int i = 0; i < copy.length; i++) {
-                System.arraycopy(cells[fromRow + i], fromCol, copy[i], 0, cols);
+        long size = (long) rows * cols;
+        // Small and densely filled sheets are kept as rectangular arrays. The rows of the other sheets are trimmed
+        // to their last non-empty cells.
+        boolean sparse = size > MIN_SPARSE_CELLS_COUNT && filledCells * 2 < size;
+        log.debug("Optimize cells array. Current: {}:{}, new: {}:{}, sparse: {}",
+            cells.length,
+            columnCount,
+            rows,
+            cols,
+            sparse);
+
+        int fromRow = effectiveStart.getRow() - start.getRow();
+        int fromCol = effectiveStart.getColumn() - start.getColumn();
+        Object[][] copy = new Object[rows][];
+        for (int i = 0; i < rows; i++) {
+            Object[] cellsRow = fromRow + i < cells.length ? cells[fromRow + i] : null;
+            int length = cellsRow == null ? 0 : Math.min(cellsRow.length - fromCol, cols);
+            if (sparse) {
+                while (length > 0 && cellsRow[fromCol + length - 1] == null) {
+                    length--;
+                }
+                copy[i] = length > 0 ? Arrays.copyOfRange(cellsRow, fromCol, fromCol + length) : EMPTY_ROW;
+            } else if (fromCol == 0 && length == cols && cellsRow.length == cols) {
+                copy[i] = cellsRow;
+            } else {
+                copy[i] = new Object[cols];
+                if (length > 0) {
+                    System.arraycopy(cellsRow, fromCol, copy[i], 0, length);
+                }
             }
-            cells = copy;
-            start = effectiveStart;
         }
+        cells = copy;
+        start = effectiveStart;
     }
 
     private void initializeCells(String dimension) {
@@ -346,7 +392,8 @@ public class SheetHandler extends DefaultHandler {
         start = new CellAddress(cellsRefs[0]);
         if (cellsRefs.length == 1) {
             log.debug("Array size: 1:1");
-            cells = new Object[1][1];
+            cells = new Object[1][];
+            columnCount = 1;
         } else {
             int startRow = start.getRow();
             int startColumn = start.getColumn();
@@ -362,14 +409,24 @@ public class SheetHandler extends DefaultHandler {
                 rows = Math.max(1, MAX_ESTIMATED_CELLS_COUNT / cols);
             }
             log.debug("Array size: {}:{}", rows, cols);
-            cells = new Object[rows][cols];
+            cells = new Object[rows][];
+            columnCount = cols;
         }
     }
 
-    private void arrayCopy(Object[][] from, Object[][] to, int toRow, int toCol) {
-        for (int i = 0; i < from.length; i++) {
-            System.arraycopy(from[i], 0, to[toRow + i], toCol, from[i].length);
+    private void shiftCells(int rowShift, int colShift) {
+        Object[][] copy = new Object[cells.length + rowShift][];
+        for (int i = 0; i < cells.length; i++) {
+            Object[] cellsRow = cells[i];
+            if (cellsRow != null && colShift > 0) {
+                Object[] shifted = new Object[cellsRow.length + colShift];
+                System.arraycopy(cellsRow, 0, shifted, colShift, cellsRow.length);
+                cellsRow = shifted;
+            }
+            copy[rowShift + i] = cellsRow;
         }
+        cells = copy;
+        columnCount += colShift;
     }
 
     public CellAddress getStart() {
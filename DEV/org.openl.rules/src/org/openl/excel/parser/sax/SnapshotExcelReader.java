@@ -0,0 +1,360 @@
+package org.openl.excel.parser.sax;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.openl.excel.parser.CellValueCodec;
+import org.openl.excel.parser.ExcelReader;
+import org.openl.excel.parser.SheetDescriptor;
+import org.openl.excel.parser.TableStyles;
+import org.openl.info.OpenLVersion;
+import org.openl.rules.table.IGridRegion;
+import org.openl.util.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the parsed cells of an xlsx workbook from the snapshot stored in the snapshot directory. The snapshot is a
+ * directory identified by the SHA-256 hash of the content of the workbook. It contains the list of the sheets and a
+ * file with the cells of every parsed sheet, and it is used only if it was written by the same OpenL version. Only the
+ * parsed cells are stored, the workbook is compiled as usual.
+ * <p>
+ * The workbook is hashed every time it is opened, because the modification time and the size of a changed file can be
+ * the same. The hash is remembered for the path of the workbook, so the snapshot of the previous content is deleted
+ * when the workbook is changed. The snapshots and the hashes which are not used for 30 days are deleted when the
+ * snapshot directory is used for the first time.
+ * <p>
+ * The cells of a sheet are read from the snapshot when the sheet is requested. If the sheet is absent in the snapshot
+ * or the snapshot cannot be read, the sheet is parsed by {@link SAXReader} and is written to the snapshot at once, so
+ * the parsed cells are not kept by the reader.
+ * <p>
+ * The styles of the tables are not stored in the snapshot, they are always read from the workbook.
+ */
+public final class SnapshotExcelReader implements ExcelReader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SnapshotExcelReader.class);
+
+    private static final int FORMAT_VERSION = 2;
+    private static final String SNAPSHOT_EXTENSION = ".snapshot";
+    private static final String KEY_EXTENSION = ".key";
+    private static final String WORKBOOK_FILE = "workbook";
+    private static final String SHEET_FILE_PREFIX = "sheet";
+    private static final String TEMP_FILE_PREFIX = "openl";
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final int MAX_AGE_DAYS = 30;
+
+    private static final Set<Path> CLEANED_DIRECTORIES = ConcurrentHashMap.newKeySet();
+
+
+    private final SAXReader reader;
+    private final String fileName;
+    private final Path snapshotDirectory;
+
+    private Path workbookSnapshot;
+    private List<SAXSheetDescriptor> sheets;
+    private boolean use1904Windowing;
+
+    public SnapshotExcelReader(String fileName, String snapshotDirectory) {
+        this.reader = new SAXReader(fileName);
+        this.fileName = fileName;
+        this.snapshotDirectory = Paths.get(snapshotDirectory);
+    }
+
+    @Override
+    public synchronized List<SAXSheetDescriptor> getSheets() {
+        if (sheets == null) {
+            try {
+                workbookSnapshot = getWorkbookSnapshot();
+                sheets = readWorkbook(workbookSnapshot.resolve(WORKBOOK_FILE));
+            } catch (IOException | RuntimeException | OutOfMemoryError e) {
+                LOG.warn("Failed to read the snapshot of the workbook '{}'.", fileName, e);
+            }
+            if (sheets == null) {
+                sheets = reader.getSheets();
+                use1904Windowing = reader.isUse1904Windowing();
+                if (workbookSnapshot != null) {
+                    write(workbookSnapshot.resolve(WORKBOOK_FILE), this::writeWorkbook);
+                }
+            }
+        }
+        return sheets;
+    }
+
+    /**
+     * The sheets can be read concurrently.
+     */
+    @Override
+    public Object[][] getCells(SheetDescriptor sheet) {
+        getSheets();
+        Path snapshot = workbookSnapshot;
+        if (snapshot == null) {
+            return reader.getCells(sheet);
+        }
+        SAXSheetDescriptor saxSheet = (SAXSheetDescriptor) sheet;
+        Path sheetFile = snapshot.resolve(SHEET_FILE_PREFIX + saxSheet.getIndex());
+        try {
+            Object[][] cells = readSheet(sheetFile, saxSheet);
+            if (cells != null) {
+                return cells;
+            }
+        } catch (IOException | RuntimeException | OutOfMemoryError e) {
+            LOG.warn("Failed to read the snapshot of the sheet '{}' of the workbook '{}'.",
+                sheet.getName(),
+                fileName,
+                e);
+        }
+        Object[][] cells = reader.getCells(sheet);
+        write(sheetFile, out -> writeSheet(out, saxSheet, cells));
+        return cells;
+    }
+
+    @Override
+    public boolean isUse1904Windowing() {
+        getSheets();
+        return use1904Windowing;
+    }
+
+    @Override
+    public TableStyles getTableStyles(SheetDescriptor sheet, IGridRegion tableRegion) {
+        return reader.getTableStyles(sheet, tableRegion);
+    }
+
+    @Override
+    public synchronized void close() {
+        sheets = null;
+        workbookSnapshot = null;
+        reader.close();
+    }
+
+    private static String getOpenLVersion() {
+        return OpenLVersion.getVersion() + "-" + OpenLVersion.getBuildNumber();
+    }
+
+    /**
+     * The key file of the workbook path contains the hash of the last read content of the workbook. If the hash is
+     * changed, the snapshot of the previous content is deleted. The used snapshot and key are touched, so they are not
+     * deleted as unused.
+     */
+    private Path getWorkbookSnapshot() throws IOException {
+        deleteUnusedSnapshots();
+        Path file = Paths.get(fileName).toAbsolutePath();
+        String hash;
+        try (InputStream is = Files.newInputStream(file)) {
+            hash = DigestUtils.sha256Hex(is);
+        }
+        Path keyFile = snapshotDirectory.resolve(DigestUtils.sha256Hex(file.toString()) + KEY_EXTENSION);
+        String previousHash = null;
+        if (Files.isRegularFile(keyFile)) {
+            previousHash = new String(Files.readAllBytes(keyFile), StandardCharsets.UTF_8);
+        }
+        if (hash.equals(previousHash)) {
+            touch(keyFile);
+        } else {
+            if (previousHash != null && HASH.matcher(previousHash).matches()) {
+                delete(snapshotDirectory.resolve(previousHash + SNAPSHOT_EXTENSION));
+            }
+            byte[] bytes = hash.getBytes(StandardCharsets.UTF_8);
+            write(keyFile, out -> out.write(bytes));
+        }
+        Path snapshot = snapshotDirectory.resolve(hash + SNAPSHOT_EXTENSION);
+        touch(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Deletes the snapshots, the keys and the temporary files which are not modified for 30 days.
+     * The directory is cleaned once per JVM.
+     */
+    private void deleteUnusedSnapshots() {
+        if (!Files.isDirectory(snapshotDirectory) || !CLEANED_DIRECTORIES.add(snapshotDirectory.toAbsolutePath())) {
+            return;
+        }
+        long oldestModified = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(MAX_AGE_DAYS);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(snapshotDirectory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                boolean snapshotFile = name.endsWith(SNAPSHOT_EXTENSION) || name.endsWith(KEY_EXTENSION) || name
+                    .startsWith(TEMP_FILE_PREFIX);
+                if (snapshotFile && Files.getLastModifiedTime(file).toMillis() < oldestModified) {
+                    delete(file);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Failed to delete the unused snapshots in the directory '{}'.", snapshotDirectory, e);
+        }
+    }
+
+    private static void touch(Path file) {
+        try {
+            if (Files.exists(file)) {
+                Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            }
+        } catch (IOException | RuntimeException e) {
+            LOG.debug("Failed to update the modification time of '{}'.", file, e);
+        }
+    }
+
+    /**
+     * The snapshot can be used by another reader at the same time. Such reader parses the sheets which cannot be read
+     * from the deleted snapshot.
+     */
+    private static void delete(Path file) {
+        FileUtils.deleteQuietly(file.toFile());
+        LOG.debug("The snapshot '{}' is deleted.", file);
+    }
+
+    private static boolean readVersion(DataInputStream in, long fileSize) throws IOException {
+        return in.readInt() == FORMAT_VERSION && getOpenLVersion().equals(CellValueCodec.readString(in, fileSize));
+    }
+
+    private static void writeVersion(DataOutputStream out) throws IOException {
+        out.writeInt(FORMAT_VERSION);
+        CellValueCodec.writeString(out, getOpenLVersion());
+    }
+
+    private List<SAXSheetDescriptor> readWorkbook(Path workbookFile) throws IOException {
+        if (!Files.isRegularFile(workbookFile)) {
+            return null;
+        }
+        long fileSize = Files.size(workbookFile);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(workbookFile)))) {
+            if (!readVersion(in, fileSize)) {
+                LOG.debug("The snapshot '{}' is written by another version.", workbookFile);
+                return null;
+            }
+            boolean snapshotUse1904Windowing = in.readBoolean();
+            int sheetsCount = readCount(in, fileSize);
+            List<SAXSheetDescriptor> snapshotSheets = new ArrayList<>(sheetsCount);
+            for (int i = 0; i < sheetsCount; i++) {
+                String name = CellValueCodec.readString(in, fileSize);
+                int index = in.readInt();
+                String relationId = CellValueCodec.readString(in, fileSize);
+                snapshotSheets.add(new SAXSheetDescriptor(name, index, relationId));
+            }
+            use1904Windowing = snapshotUse1904Windowing;
+            LOG.debug("The sheets of the workbook '{}' are read from the snapshot '{}'.", fileName, workbookFile);
+            return snapshotSheets;
+        }
+    }
+
+    private void writeWorkbook(DataOutputStream out) throws IOException {
+        writeVersion(out);
+        out.writeBoolean(use1904Windowing);
+        out.writeInt(sheets.size());
+        for (SAXSheetDescriptor sheet : sheets) {
+            CellValueCodec.writeString(out, sheet.getName());
+            out.writeInt(sheet.getIndex());
+            CellValueCodec.writeString(out, sheet.getRelationId());
+        }
+    }
+
+    private Object[][] readSheet(Path sheetFile, SAXSheetDescriptor sheet) throws IOException {
+        if (!Files.isRegularFile(sheetFile)) {
+            return null;
+        }
+        long fileSize = Files.size(sheetFile);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(sheetFile)))) {
+            if (!readVersion(in, fileSize)) {
+                LOG.debug("The snapshot '{}' is written by another version.", sheetFile);
+                return null;
+            }
+            int firstRowNum = in.readInt();
+            int firstColNum = in.readInt();
+            Object[][] cells = new Object[readCount(in, fileSize)][];
+            // The same strings are shared as the SAX parser does for the shared strings
+            Map<String, String> strings = new HashMap<>();
+            for (int row = 0; row < cells.length; row++) {
+                Object[] cellsRow = new Object[readCount(in, fileSize)];
+                for (int col = 0; col < cellsRow.length; col++) {
+                    cellsRow[col] = CellValueCodec.readValue(in, strings, fileSize);
+                }
+                cells[row] = cellsRow;
+            }
+            sheet.setFirstRowNum(firstRowNum);
+            sheet.setFirstColNum(firstColNum);
+            LOG.debug("The sheet '{}' of the workbook '{}' is read from the snapshot '{}'.",
+                sheet.getName(),
+                fileName,
+                sheetFile);
+            return cells;
+        }
+    }
+
+    private static void writeSheet(DataOutputStream out, SAXSheetDescriptor sheet, Object[][] cells) throws IOException {
+        writeVersion(out);
+        out.writeInt(sheet.getFirstRowNum());
+        out.writeInt(sheet.getFirstColNum());
+        out.writeInt(cells.length);
+        for (Object[] cellsRow : cells) {
+            out.writeInt(cellsRow.length);
+            for (Object value : cellsRow) {
+                CellValueCodec.writeValue(out, value);
+            }
+        }
+    }
+
+    /**
+     * Writes the file to a temporary file which is moved to the target atomically, so the readers never see a
+     * partially written file. Failures are logged, the workbook is parsed next time then.
+     */
+    private void write(Path target, SnapshotWriter writer) {
+        Path tempFile = null;
+        try {
+            Files.createDirectories(target.getParent());
+            tempFile = Files.createTempFile(target.getParent(), TEMP_FILE_PREFIX, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                writer.write(out);
+            }
+            try {
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            LOG.debug("The snapshot '{}' of the workbook '{}' is written.", target, fileName);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Failed to write the snapshot of the workbook '{}'.", fileName, e);
+            if (tempFile != null) {
+                FileUtils.deleteQuietly(tempFile.toFile());
+            }
+        }
+    }
+
+    /**
+     * Every counted element takes at least one byte, so a count which is greater than the size of the file means that
+     * the file is corrupted. It is checked before an array is allocated.
+     */
+    private static int readCount(DataInputStream in, long fileSize) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > fileSize) {
+            throw new IOException("Invalid count in the snapshot: " + count);
+        }
+        return count;
+    }
+
+    @FunctionalInterface
+    private interface SnapshotWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
@@ -1,13 +1,23 @@
 package org.openl.j;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import org.openl.grammar.bexgrammar.BExGrammar;
 import org.openl.grammar.bexgrammar.ParseException;
 import org.openl.grammar.bexgrammar.Token;
 import org.openl.grammar.bexgrammar.TokenMgrError;
+import org.openl.source.IOpenSourceCodeModule;
 import org.openl.syntax.exception.SyntaxNodeException;
+import org.openl.util.text.TextInterval;
 
 public class BExGrammarWithParsingHelp extends BExGrammar {
 
+    /**
+     * Words which are tokens of the grammar, so they cannot be parsed as identifiers.
+     */
+    private static final Set<String> KEYWORDS = getKeywords();
+
     private static String addEscapes(String str) {
         StringBuilder retval = new StringBuilder();
         char ch;
@@ -42,8 +52,135 @@ public class BExGrammarWithParsingHelp extends BExGrammar {
         return retval.toString();
     }
 
+    private static Set<String> getKeywords() {
+        Set<String> keywords = new HashSet<>();
+        for (String image : tokenImage) {
+            // Simple tokens are quoted, for example "while"
+            if (image.length() > 2 && image.charAt(0) == '"' && image.charAt(image.length() - 1) == '"') {
+                String word = image.substring(1, image.length() - 1);
+                if (isIdentifier(word)) {
+                    keywords.add(word);
+                }
+            }
+        }
+        // Alternatives of complex tokens
+        keywords.add("not");
+        keywords.add("or");
+        keywords.add("and");
+        return keywords;
+    }
+
+    private static boolean isIdentifier(String s) {
+        if (s.isEmpty() || !isLetter(s.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (!isLetter(c) && (c < '0' || c > '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetter(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c == '_';
+    }
+
+    private static boolean isInteger(String s) {
+        if (s.isEmpty() || s.charAt(0) == '0' && s.length() > 1) {
+            // Leading zero means an octal literal
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isString(String s) {
+        if (s.length() < 2 || s.charAt(0) != '"' || s.charAt(s.length() - 1) != '"') {
+            return false;
+        }
+        for (int i = 1; i < s.length() - 1; i++) {
+            char c = s.charAt(i);
+            // Control characters such as tabs change the position of the token end
+            if (c == '"' || c == '\\' || c < ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Defines the type of the node for the method body consisting of one simple token: an ASCII identifier, a decimal
+     * integer, a string without escapes, a boolean or null.
+     *
+     * @return the type of the node or {@code null} if the code is not a simple token
+     */
+    static String getSimpleNodeType(String code) {
+        switch (code) {
+            case "true":
+            case "false":
+                return "literal.bool";
+            case "null":
+                return "literal.null";
+        }
+        if (isInteger(code)) {
+            return "literal.integer";
+        } else if (isString(code)) {
+            return "literal.string";
+        } else if (isIdentifier(code) && !KEYWORDS.contains(code)) {
+            return "identifier";
+        }
+        return null;
+    }
+
+    /**
+     * Builds the syntax tree for the simple method bodies without running the generated parser. Such bodies are very
+     * common in the tables, and the tree is the same as the parser builds.
+     *
+     * @return {@code false} if the method body is not simple and must be parsed by the generated parser
+     */
+    private boolean parseSimpleMethodBody() {
+        IOpenSourceCodeModule module = syntaxBuilder.getModule();
+        String code = module == null ? null : module.getCode();
+        if (code == null) {
+            return false;
+        }
+        // Only spaces are allowed around the token, other whitespaces change the position of the token
+        int start = 0;
+        int end = code.length();
+        while (start < end && code.charAt(start) == ' ') {
+            start++;
+        }
+        while (end > start && code.charAt(end - 1) == ' ') {
+            end--;
+        }
+        String image = code.substring(start, end);
+        String type = getSimpleNodeType(image);
+        if (type == null) {
+            return false;
+        }
+        TextInterval location = new TextInterval(pos(1, start + 1), pos(1, end));
+        if ("identifier".equals(type)) {
+            syntaxBuilder.identifier(type, location, image);
+        } else {
+            syntaxBuilder.literal(type, location, image);
+        }
+        syntaxBuilder.nop("block.statement", null, 1);
+        syntaxBuilder.uop("block.top", null);
+        return true;
+    }
+
     @Override
     public void parseTopNode(String type) {
+        if ("method.body".equals(type) && parseSimpleMethodBody()) {
+            return;
+        }
         try {
             switch (type) {
                 case "method.body":
@@ -0,0 +1,96 @@
+package org.openl.rules.binding;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.openl.binding.IBindingContext;
+import org.openl.binding.impl.BindingContextDelegator;
+import org.openl.message.OpenLMessage;
+import org.openl.syntax.exception.SyntaxNodeException;
+
+/**
+ * Binding context for a part of the module which is bound in a separate thread. The errors and the messages are kept
+ * in this context and they are added to the delegate binding context by {@link #reportTo(IBindingContext)} after all
+ * parts are bound, so they are reported in the same order as if the parts are bound sequentially.
+ */
+public class DeferredMessagesBindingContext extends BindingContextDelegator {
+
+    private final Deque<List<SyntaxNodeException>> errorsStack = new ArrayDeque<>();
+    private final Deque<Collection<OpenLMessage>> messagesStack = new ArrayDeque<>();
+    private List<SyntaxNodeException> errors = new ArrayList<>();
+    private Collection<OpenLMessage> messages = new LinkedHashSet<>();
+
+    public DeferredMessagesBindingContext(IBindingContext delegate) {
+        super(delegate);
+    }
+
+    /**
+     * Adds the kept errors and messages to the binding context.
+     */
+    public void reportTo(IBindingContext bindingContext) {
+        for (SyntaxNodeException error : errors) {
+            bindingContext.addError(error);
+        }
+        bindingContext.addMessages(messages);
+    }
+
+    protected List<SyntaxNodeException> getDeferredErrors() {
+        return errors;
+    }
+
+    @Override
+    public void addError(SyntaxNodeException error) {
+        errors.add(error);
+    }
+
+    @Override
+    public SyntaxNodeException[] getErrors() {
+        return errors.toArray(SyntaxNodeException.EMPTY_ARRAY);
+    }
+
+    @Override
+    public void pushErrors() {
+        errorsStack.push(errors);
+        errors = new ArrayList<>();
+    }
+
+    @Override
+    public List<SyntaxNodeException> popErrors() {
+        List<SyntaxNodeException> tmp = errors;
+        errors = errorsStack.pop();
+        return tmp;
+    }
+
+    @Override
+    public void addMessage(OpenLMessage message) {
+        messages.add(message);
+    }
+
+    @Override
+    public void addMessages(Collection<OpenLMessage> messages) {
+        this.messages.addAll(messages);
+    }
+
+    @Override
+    public Collection<OpenLMessage> getMessages() {
+        return Collections.unmodifiableCollection(messages);
+    }
+
+    @Override
+    public void pushMessages() {
+        messagesStack.push(messages);
+        messages = new LinkedHashSet<>();
+    }
+
+    @Override
+    public Collection<OpenLMessage> popMessages() {
+        Collection<OpenLMessage> tmp = messages;
+        messages = messagesStack.pop();
+        return tmp;
+    }
+}
@@ -2,7 +2,8 @@ package org.openl.rules.calc;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -18,6 +19,7 @@ public class CastingCustomSpreadsheetResultField extends CustomSpreadsheetResult
 
     private List<Pair<IOpenClass, IOpenCast>> casts;
     private IOpenClass type;
+    private volatile Set<IOpenClass> fieldTypes;
     private final IOpenField field1;
     private final IOpenField field2;
 
@@ -65,32 +67,40 @@ public class CastingCustomSpreadsheetResultField extends CustomSpreadsheetResult
                     .getRulesModuleBindingContext(), field1.getType(), field2.getType());
                 this.type = castToWiderType.getWiderType();
             }
-            Set<IOpenField> resultFields = new HashSet<>();
-            extractAllTypes(this, resultFields);
-            Set<IOpenClass> types = new HashSet<>();
-            this.casts = new ArrayList<>();
-            for (IOpenField f : resultFields) {
-                if (!types.contains(f.getType())) {
-                    IOpenCast cast = getDeclaringClass().getModule()
-                        .getRulesModuleBindingContext()
-                        .getCast(f.getType(), this.type);
-                    types.add(f.getType());
-                    this.casts.add(Pair.of(f.getType(), cast));
+            Set<IOpenClass> types = getFieldTypes();
+            if (types.size() > 1) {
+                List<Pair<IOpenClass, IOpenCast>> casts = new ArrayList<>(types.size());
+                for (IOpenClass t : types) {
+                    IOpenCast cast = getDeclaringClass().getModule().getRulesModuleBindingContext().getCast(t, this.type);
+                    casts.add(Pair.of(t, cast));
                 }
+                this.casts = casts;
             }
-            if (types.size() == 1) {
-                this.casts = null;
-            }
         }
     }
 
-    private void extractAllTypes(IOpenField field, Set<IOpenField> resultFields) {
+    /**
+     * Returns distinct types of all not casting fields this field is combined from. The set is built once per field and
+     * reused by the fields which are combined from this one, so deep chains of dependent modules do not walk the whole
+     * tree of merged fields again for each level.
+     */
+    private Set<IOpenClass> getFieldTypes() {
+        Set<IOpenClass> types = this.fieldTypes;
+        if (types == null) {
+            types = new LinkedHashSet<>();
+            collectFieldTypes(field1, types);
+            collectFieldTypes(field2, types);
+            types = Collections.unmodifiableSet(types);
+            this.fieldTypes = types;
+        }
+        return types;
+    }
+
+    private static void collectFieldTypes(IOpenField field, Set<IOpenClass> types) {
         if (field instanceof CastingCustomSpreadsheetResultField) {
-            CastingCustomSpreadsheetResultField castingCustomSpreadsheetResultField = (CastingCustomSpreadsheetResultField) field;
-            extractAllTypes(castingCustomSpreadsheetResultField.field1, resultFields);
-            extractAllTypes(castingCustomSpreadsheetResultField.field2, resultFields);
+            types.addAll(((CastingCustomSpreadsheetResultField) field).getFieldTypes());
         } else {
-            resultFields.add(field);
+            types.add(field.getType());
         }
     }
 
@@ -92,6 +92,32 @@ public class CustomSpreadsheetResultOpenClass extends ADynamicClass implements M
             String[] columnTitles,
             XlsModuleOpenClass module,
             boolean detailedPlainModel) {
+        this(name,
+            rowNames,
+            columnNames,
+            rowNamesForResultModel,
+            columnNamesForResultModel,
+            rowTitles,
+            columnTitles,
+            module,
+            detailedPlainModel,
+            null);
+    }
+
+    /**
+     * @param fieldsCoordinates fields coordinates for the given row and column names. It is not modified, so it can be
+     *            shared between copies of the type in different modules. If {@code null}, then it is built.
+     */
+    private CustomSpreadsheetResultOpenClass(String name,
+            String[] rowNames,
+            String[] columnNames,
+            String[] rowNamesForResultModel,
+            String[] columnNamesForResultModel,
+            String[] rowTitles,
+            String[] columnTitles,
+            XlsModuleOpenClass module,
+            boolean detailedPlainModel,
+            Map<String, Point> fieldsCoordinates) {
         super(name, SpreadsheetResult.class);
         this.rowNames = Objects.requireNonNull(rowNames);
         this.columnNames = Objects.requireNonNull(columnNames);
@@ -111,7 +137,9 @@ public class CustomSpreadsheetResultOpenClass extends ADynamicClass implements M
         this.rowTitles = Objects.requireNonNull(rowTitles);
         this.columnTitles = Objects.requireNonNull(columnTitles);
 
-        this.fieldsCoordinates = SpreadsheetResult.buildFieldsCoordinates(this.columnNames, this.rowNames);
+        this.fieldsCoordinates = fieldsCoordinates != null ? fieldsCoordinates
+                                                          : Collections.unmodifiableMap(SpreadsheetResult
+                                                              .buildFieldsCoordinates(this.columnNames, this.rowNames));
         this.module = module;
         this.detailedPlainModel = detailedPlainModel;
     }
@@ -150,7 +178,10 @@ public class CustomSpreadsheetResultOpenClass extends ADynamicClass implements M
         return false;
     }
 
-    private Collection<IOpenClass> superClasses = null;
+    private static final class SuperClassesHolder {
+        private static final Collection<IOpenClass> SUPER_CLASSES = Collections.unmodifiableList(
+            Arrays.stream(SpreadsheetResult.class.getInterfaces()).map(JavaOpenClass::getOpenClass).collect(toList()));
+    }
 
     @Override
     public IAggregateInfo getAggregateInfo() {
@@ -162,16 +193,8 @@ public class CustomSpreadsheetResultOpenClass extends ADynamicClass implements M
     }
 
     @Override
-    public synchronized Collection<IOpenClass> superClasses() {
-        if (superClasses == null) {
-            Class<?>[] interfaces = SpreadsheetResult.class.getInterfaces();
-            List<IOpenClass> superClasses = new ArrayList<>(interfaces.length + 1);
-            for (Class<?> interf : interfaces) {
-                superClasses.add(JavaOpenClass.getOpenClass(interf));
-            }
-            this.superClasses = superClasses;
-        }
-        return superClasses;
+    public Collection<IOpenClass> superClasses() {
+        return SuperClassesHolder.SUPER_CLASSES;
     }
 
     public XlsModuleOpenClass getModule() {
@@ -361,7 +384,8 @@ public class CustomSpreadsheetResultOpenClass extends ADynamicClass implements M
             rowTitles,
             columnTitles,
             module,
-            detailedPlainModel);
+            detailedPlainModel,
+            fieldsCoordinates);
         for (IOpenField field : getFields()) {
             if (isCustomSpreadsheetResultField(field)) {
                 type.addField(field);
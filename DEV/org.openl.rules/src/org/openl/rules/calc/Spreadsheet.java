@@ -1,8 +1,11 @@
 package org.openl.rules.calc;
 
+import java.util.Arrays;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.openl.binding.BindingDependencies;
+import org.openl.engine.OpenLSystemProperties;
 import org.openl.rules.annotations.Executable;
 import org.openl.rules.binding.RulesBindingDependencies;
 import org.openl.rules.calc.element.SpreadsheetCell;
@@ -14,6 +17,7 @@ import org.openl.types.IOpenClass;
 import org.openl.types.IOpenMethodHeader;
 import org.openl.types.Invokable;
 import org.openl.vm.IRuntimeEnv;
+import org.openl.vm.Tracer;
 
 @Executable
 public class Spreadsheet extends ExecutableRulesMethod {
@@ -66,6 +70,14 @@ public class Spreadsheet extends ExecutableRulesMethod {
      */
     private boolean customSpreadsheet;
 
+    /**
+     * Dependencies between the cells and the arguments. They are built on the first recalculation if the recalculation
+     * is enabled for the module.
+     */
+    private volatile SpreadsheetCellsDependencies cellsDependencies;
+
+    private volatile Supplier<SpreadsheetCellsDependencies> cellsDependenciesSupplier;
+
     public Spreadsheet() {
         super(null, null);
     }
@@ -225,6 +237,56 @@ public class Spreadsheet extends ExecutableRulesMethod {
         this.invoker = invoker;
     }
 
+    public SpreadsheetCellsDependencies getCellsDependencies() {
+        if (cellsDependencies == null && cellsDependenciesSupplier != null) {
+            synchronized (this) {
+                Supplier<SpreadsheetCellsDependencies> supplier = cellsDependenciesSupplier;
+                if (cellsDependencies == null && supplier != null) {
+                    cellsDependencies = supplier.get();
+                    cellsDependenciesSupplier = null;
+                }
+            }
+        }
+        return cellsDependencies;
+    }
+
+    public void setCellsDependencies(Supplier<SpreadsheetCellsDependencies> cellsDependenciesSupplier) {
+        this.cellsDependencies = null;
+        this.cellsDependenciesSupplier = cellsDependenciesSupplier;
+    }
+
+    /**
+     * Recalculates the previous result of this spreadsheet after some of the arguments have been changed. Only the
+     * cells which depend on the changed arguments directly or transitively are calculated, the values of other cells
+     * are taken from the previous result. If the previous result cannot be reused, then the spreadsheet is calculated
+     * fully. The recalculation is enabled by {@link OpenLSystemProperties#SPREADSHEET_RECALCULATION}.
+     *
+     * @param target the module instance
+     * @param params new arguments of the spreadsheet
+     * @param env the runtime environment
+     * @param previous the result of the previous call of this spreadsheet
+     * @param changedPaths access paths of the changed arguments, e.g. {@code policy.driver.age}, or just names of the
+     *            arguments
+     * @return the result of the spreadsheet
+     */
+    public Object recalculate(Object target,
+            Object[] params,
+            IRuntimeEnv env,
+            SpreadsheetResult previous,
+            String... changedPaths) {
+        Invokable currentInvoker = getInvoker();
+        if (!(currentInvoker instanceof SpreadsheetInvoker) || !isRecalculable(previous) || Tracer.isEnabled()) {
+            return invoke(target, params, env);
+        }
+        return ((SpreadsheetInvoker) currentInvoker).recalculate(target, params, env, previous, changedPaths);
+    }
+
+    private boolean isRecalculable(SpreadsheetResult previous) {
+        return getCellsDependencies() != null && previous != null && previous.getHeight() == getHeight() && previous
+            .getWidth() == getWidth() && Arrays.equals(previous.getRowNames(), rowNames) && Arrays
+                .equals(previous.getColumnNames(), columnNames);
+    }
+
     volatile Map<String, Point> fieldsCoordinates = null;
 
     public Map<String, Point> getFieldsCoordinates() {
@@ -253,6 +253,10 @@ public class SpreadsheetBoundNode extends AMethodBasedNode implements IMemberBou
             validateRowsColumnsForResultModel(spreadsheet);
 
             spreadsheet.setCells(cells);
+            if (OpenLSystemProperties.isSpreadsheetRecalculation(bindingContext.getExternalParams())) {
+                spreadsheet
+                    .setCellsDependencies(SpreadsheetCellsDependencies.prepare(cells, spreadsheet.getSignature()));
+            }
 
             spreadsheet.setResultBuilder(componentsBuilder.buildResultBuilder(spreadsheet, bindingContext));
         }
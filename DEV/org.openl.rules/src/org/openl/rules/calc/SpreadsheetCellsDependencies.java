@@ -0,0 +1,332 @@
+package org.openl.rules.calc;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.openl.binding.BindingDependencies;
+import org.openl.binding.IBoundNode;
+import org.openl.binding.ILocalVar;
+import org.openl.binding.impl.FieldBoundNode;
+import org.openl.rules.calc.element.SpreadsheetCell;
+import org.openl.rules.calc.element.SpreadsheetCellField;
+import org.openl.rules.calc.element.SpreadsheetRangeField;
+import org.openl.types.IMethodSignature;
+import org.openl.types.IOpenField;
+import org.openl.types.IOpenMethod;
+import org.openl.types.impl.CompositeMethod;
+import org.openl.types.impl.OpenFieldDelegator;
+import org.openl.types.java.JavaOpenConstructor;
+import org.openl.types.java.JavaOpenMethod;
+
+/**
+ * Dependency graph between cells of the spreadsheet and between cells and the spreadsheet arguments. It is built from
+ * the {@link BindingDependencies} of the cell formulas and is used for recalculation of the cells which depend on
+ * changed arguments only.
+ * <p>
+ * Arguments are tracked by their access paths, e.g. {@code policy.driver.age}. If an argument is used as a whole (for
+ * example, it is passed to a method), then the path is truncated to the last resolved field.
+ * <p>
+ * A cell which calls rules or uses module fields may depend on data which is not passed in the arguments, so such a
+ * cell is considered unresolved and is always recalculated. Only Java methods are supposed to depend on their
+ * arguments only.
+ */
+public final class SpreadsheetCellsDependencies {
+
+    private static final String PATH_SEPARATOR = ".";
+
+    private final int width;
+
+    /**
+     * Row-major indexes of the cells which directly use the cell.
+     */
+    private final int[][] dependentCells;
+
+    /**
+     * Row-major access paths of the arguments which are directly used by the cell.
+     */
+    private final String[][] argumentPaths;
+
+    /**
+     * Row-major flags of the cells which dependencies cannot be determined. Such cells are always recalculated.
+     */
+    private final BitSet unresolvedCells;
+
+    private SpreadsheetCellsDependencies(int width,
+            int[][] dependentCells,
+            String[][] argumentPaths,
+            BitSet unresolvedCells) {
+        this.width = width;
+        this.dependentCells = dependentCells;
+        this.argumentPaths = argumentPaths;
+        this.unresolvedCells = unresolvedCells;
+    }
+
+    /**
+     * Captures the bound nodes of the cell formulas to build the dependencies on the first recalculation. The bound
+     * nodes are removed from the cells in execution mode, so they are kept by the returned supplier until the
+     * dependencies are built.
+     *
+     * @param cells the cells of the spreadsheet as they are built by {@link SpreadsheetStructureBuilder}
+     * @param signature the signature of the spreadsheet
+     * @return the supplier which builds the dependencies
+     */
+    public static Supplier<SpreadsheetCellsDependencies> prepare(SpreadsheetCell[][] cells,
+            IMethodSignature signature) {
+        int height = cells.length;
+        int width = height == 0 ? 0 : cells[0].length;
+        IBoundNode[] bodies = new IBoundNode[height * width];
+        BitSet methodCells = new BitSet(bodies.length);
+        for (int row = 0; row < height; row++) {
+            for (int column = 0; column < width; column++) {
+                SpreadsheetCell cell = cells[row][column];
+                if (cell != null && cell.isMethodCell()) {
+                    int index = row * width + column;
+                    methodCells.set(index);
+                    IOpenMethod method = cell.getMethod();
+                    if (method instanceof CompositeMethod) {
+                        bodies[index] = ((CompositeMethod) method).getMethodBodyBoundNode();
+                    }
+                }
+            }
+        }
+        Set<String> parameterNames = new HashSet<>();
+        for (int i = 0; i < signature.getNumberOfParameters(); i++) {
+            parameterNames.add(signature.getParameterName(i));
+        }
+        return () -> build(cells, width, bodies, methodCells, parameterNames);
+    }
+
+    private static SpreadsheetCellsDependencies build(SpreadsheetCell[][] cells,
+            int width,
+            IBoundNode[] bodies,
+            BitSet methodCells,
+            Set<String> parameterNames) {
+        int size = bodies.length;
+        List<Set<Integer>> dependents = new ArrayList<>(Collections.nCopies(size, null));
+        String[][] argumentPaths = new String[size][];
+        BitSet unresolvedCells = new BitSet(size);
+
+        for (int index = methodCells.nextSetBit(0); index >= 0; index = methodCells.nextSetBit(index + 1)) {
+            if (bodies[index] == null) {
+                unresolvedCells.set(index);
+                continue;
+            }
+            CellDependencies dependencies = new CellDependencies();
+            dependencies.visit(bodies[index]);
+            Set<Integer> usedCells = new HashSet<>();
+            Set<String> usedPaths = new HashSet<>();
+            if (dependencies.unresolved || !resolveFields(dependencies.getFieldsMap(),
+                cells,
+                parameterNames,
+                usedCells,
+                usedPaths)) {
+                unresolvedCells.set(index);
+                continue;
+            }
+            for (Integer usedCell : usedCells) {
+                Set<Integer> set = dependents.get(usedCell);
+                if (set == null) {
+                    set = new HashSet<>();
+                    dependents.set(usedCell, set);
+                }
+                set.add(index);
+            }
+            if (!usedPaths.isEmpty()) {
+                argumentPaths[index] = usedPaths.toArray(new String[0]);
+            }
+        }
+
+        int[][] dependentCells = new int[size][];
+        for (int i = 0; i < size; i++) {
+            Set<Integer> set = dependents.get(i);
+            if (set != null) {
+                dependentCells[i] = set.stream().mapToInt(Integer::intValue).toArray();
+            }
+        }
+        return new SpreadsheetCellsDependencies(width, dependentCells, argumentPaths, unresolvedCells);
+    }
+
+    /**
+     * Resolves the fields used by the cell formula to the cells of the spreadsheet and to the access paths of the
+     * arguments.
+     *
+     * @return {@code false} if some field cannot be resolved
+     */
+    private static boolean resolveFields(Map<IBoundNode, IOpenField> fields,
+            SpreadsheetCell[][] cells,
+            Set<String> parameterNames,
+            Set<Integer> usedCells,
+            Set<String> usedPaths) {
+        int width = cells.length == 0 ? 0 : cells[0].length;
+        Map<IBoundNode, String> paths = new IdentityHashMap<>();
+        for (Map.Entry<IBoundNode, IOpenField> entry : fields.entrySet()) {
+            IBoundNode node = entry.getKey();
+            if (node instanceof FieldBoundNode) {
+                String path = getArgumentPath((FieldBoundNode) node, parameterNames);
+                if (path != null) {
+                    paths.put(node, path);
+                    continue;
+                }
+            }
+            if (node.getTargetNode() != null) {
+                // The value of the field is defined by the value of the target which is resolved separately
+                continue;
+            }
+            IOpenField field = unwrap(entry.getValue());
+            if (field instanceof SpreadsheetCellField) {
+                SpreadsheetCell cell = ((SpreadsheetCellField) field).getCell();
+                if (!isOwnCell(cells, cell)) {
+                    return false;
+                }
+                usedCells.add(cell.getRowIndex() * width + cell.getColumnIndex());
+            } else if (field instanceof SpreadsheetRangeField) {
+                SpreadsheetRangeField range = (SpreadsheetRangeField) field;
+                SpreadsheetCell start = range.getStart().getCell();
+                SpreadsheetCell end = range.getEnd().getCell();
+                if (!isOwnCell(cells, start) || !isOwnCell(cells, end)) {
+                    return false;
+                }
+                for (int row = start.getRowIndex(); row <= end.getRowIndex(); row++) {
+                    for (int column = start.getColumnIndex(); column <= end.getColumnIndex(); column++) {
+                        usedCells.add(row * width + column);
+                    }
+                }
+            } else if (!(field instanceof ILocalVar)) {
+                // Module fields, e.g. data tables, are not tracked
+                return false;
+            }
+        }
+        // Only the longest paths are used, e.g. 'policy.driver.age' instead of 'policy.driver' and 'policy'
+        for (Map.Entry<IBoundNode, String> entry : paths.entrySet()) {
+            IBoundNode node = entry.getKey();
+            if (!isTargetOf(node, paths.keySet())) {
+                usedPaths.add(entry.getValue());
+            }
+        }
+        return true;
+    }
+
+    private static boolean isTargetOf(IBoundNode node, Set<IBoundNode> nodes) {
+        for (IBoundNode other : nodes) {
+            if (other.getTargetNode() == node) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isOwnCell(SpreadsheetCell[][] cells, SpreadsheetCell cell) {
+        int row = cell.getRowIndex();
+        int column = cell.getColumnIndex();
+        return row < cells.length && column < cells[row].length && cells[row][column] == cell;
+    }
+
+    /**
+     * Resolves a chain of field accesses like {@code policy.driver.age} to the path of the argument.
+     *
+     * @return the access path or {@code null} if the chain does not start from an argument of the spreadsheet
+     */
+    private static String getArgumentPath(FieldBoundNode node, Set<String> parameterNames) {
+        LinkedList<String> path = new LinkedList<>();
+        IBoundNode current = node;
+        while (current instanceof FieldBoundNode) {
+            FieldBoundNode fieldNode = (FieldBoundNode) current;
+            IOpenField field = unwrap(fieldNode.getBoundField());
+            if (fieldNode.getTargetNode() == null) {
+                if (field instanceof ILocalVar && parameterNames.contains(field.getName())) {
+                    path.addFirst(field.getName());
+                    return String.join(PATH_SEPARATOR, path);
+                }
+                return null;
+            }
+            path.addFirst(field.getName());
+            current = fieldNode.getTargetNode();
+        }
+        return null;
+    }
+
+    private static IOpenField unwrap(IOpenField field) {
+        while (field instanceof OpenFieldDelegator) {
+            field = ((OpenFieldDelegator) field).getField();
+        }
+        return field;
+    }
+
+    /**
+     * Dependencies of a single cell formula. Calls of any methods except Java ones make the cell unresolved.
+     */
+    private static final class CellDependencies extends BindingDependencies {
+
+        private boolean unresolved;
+
+        @Override
+        public void addMethodDependency(IOpenMethod method, IBoundNode node) {
+            super.addMethodDependency(method, node);
+            if (!(method instanceof JavaOpenMethod) && !(method instanceof JavaOpenConstructor)) {
+                unresolved = true;
+            }
+        }
+    }
+
+    /**
+     * Collects the cells which must be recalculated if the given arguments have been changed. The result includes the
+     * cells which use the changed arguments directly and all the cells which use them transitively.
+     *
+     * @param changedPaths access paths of the changed arguments, e.g. {@code policy.driver.age}, or just names of the
+     *            arguments
+     * @return row-major flags of the affected cells
+     */
+    public BitSet getAffectedCells(String... changedPaths) {
+        BitSet affected = new BitSet(argumentPaths.length);
+        LinkedList<Integer> queue = new LinkedList<>();
+        for (int i = 0; i < argumentPaths.length; i++) {
+            if (unresolvedCells.get(i) || isAffected(argumentPaths[i], changedPaths)) {
+                affected.set(i);
+                queue.add(i);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int[] dependents = dependentCells[queue.poll()];
+            if (dependents != null) {
+                for (int dependent : dependents) {
+                    if (!affected.get(dependent)) {
+                        affected.set(dependent);
+                        queue.add(dependent);
+                    }
+                }
+            }
+        }
+        return affected;
+    }
+
+    public boolean isAffected(BitSet affectedCells, int row, int column) {
+        return affectedCells.get(row * width + column);
+    }
+
+    private static boolean isAffected(String[] usedPaths, String[] changedPaths) {
+        if (usedPaths == null) {
+            return false;
+        }
+        for (String usedPath : usedPaths) {
+            for (String changedPath : changedPaths) {
+                if (isPrefix(usedPath, changedPath) || isPrefix(changedPath, usedPath)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isPrefix(String prefix, String path) {
+        return path.startsWith(prefix) && (path.length() == prefix.length() || path
+            .startsWith(PATH_SEPARATOR, prefix.length()));
+    }
+}
@@ -1,5 +1,7 @@
 package org.openl.rules.calc;
 
+import java.util.BitSet;
+
 import org.openl.rules.calc.element.SpreadsheetCell;
 import org.openl.rules.method.RulesMethodInvoker;
 import org.openl.types.IDynamicObject;
@@ -12,8 +14,8 @@ import org.openl.vm.IRuntimeEnv;
  */
 public class SpreadsheetInvoker extends RulesMethodInvoker<Spreadsheet> {
 
-    private static final Object[][] EMPTY_RESULT = new Object[0][0];
-    protected Object[][] preFetchedResult;
+    private static final Object[] EMPTY_RESULT = new Object[0];
+    protected Object[] preFetchedResult;
 
     public SpreadsheetInvoker(Spreadsheet spreadsheet) {
         super(spreadsheet);
@@ -36,29 +38,63 @@ public class SpreadsheetInvoker extends RulesMethodInvoker<Spreadsheet> {
     }
 
     /**
-     * Creates a result with constant values that are populated
+     * Calculates the spreadsheet reusing values of the cells from the previous result which do not depend on the
+     * changed arguments.
+     */
+    public Object recalculate(Object target,
+            Object[] params,
+            IRuntimeEnv env,
+            SpreadsheetResult previous,
+            String... changedPaths) {
+        Spreadsheet spreadsheet = getInvokableMethod();
+        SpreadsheetCellsDependencies dependencies = spreadsheet.getCellsDependencies();
+        if (!canInvoke() || dependencies == null) {
+            return invoke(target, params, env);
+        }
+        BitSet affectedCells = dependencies.getAffectedCells(changedPaths);
+        SpreadsheetResultCalculator res = new SpreadsheetResultCalculator(spreadsheet,
+            (IDynamicObject) target,
+            params,
+            env,
+            preFetchedResult);
+        SpreadsheetCell[][] cells = spreadsheet.getCells();
+        for (int i = 0; i < cells.length; i++) {
+            for (int j = 0; j < cells[i].length; j++) {
+                if (cells[i][j].isMethodCell() && !dependencies.isAffected(affectedCells, i, j)) {
+                    res.setValue(i, j, previous.getValue(i, j));
+                }
+            }
+        }
+        return spreadsheet.getResultBuilder().buildResult(res);
+    }
+
+    /**
+     * Creates a row-major flat result with constant values that are populated. The array is shared between all calls
+     * of the spreadsheet and must not be modified.
      */
-    protected Object[][] preFetchResult(Spreadsheet spreadsheet) {
+    protected Object[] preFetchResult(Spreadsheet spreadsheet) {
         SpreadsheetCell[][] cc = spreadsheet.getCells();
-        Object[][] res = cc.length == 0 ? EMPTY_RESULT : new Object[cc.length][cc[0].length];
+        int width = cc.length == 0 ? 0 : cc[0].length;
+        Object[] res = cc.length == 0 ? EMPTY_RESULT : new Object[cc.length * width];
 
         for (int i = 0; i < cc.length; i++) {
             SpreadsheetCell[] row = cc[i];
             for (int j = 0; j < row.length; j++) {
                 SpreadsheetCell cell = row[j];
+                int index = i * width + j;
                 switch (cell.getSpreadsheetCellType()) {
                     case EMPTY:
-                        res[i][j] = cell.isDefaultPrimitiveCell() ? cell.getValue()
+                        res[index] = cell.isDefaultPrimitiveCell() ? cell.getValue()
                                                                   : SpreadsheetResultCalculator.EMPTY_CELL;
                         break;
                     case VALUE:
-                        res[i][j] = cell.getValue();
+                        res[index] = cell.getValue();
                         break;
                     case CONSTANT:
-                        res[i][j] = cell.getValue();
+                        res[index] = cell.getValue();
                         break;
                     case METHOD:
-                        res[i][j] = SpreadsheetResultCalculator.METHOD_VALUE;
+                        res[index] = SpreadsheetResultCalculator.METHOD_VALUE;
                         break;
                 }
             }
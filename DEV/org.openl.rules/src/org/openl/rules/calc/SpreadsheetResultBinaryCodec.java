@@ -0,0 +1,721 @@
+package org.openl.rules.calc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.openl.meta.BigDecimalValue;
+import org.openl.meta.BigIntegerValue;
+import org.openl.meta.ByteValue;
+import org.openl.meta.DoubleValue;
+import org.openl.meta.FloatValue;
+import org.openl.meta.IntValue;
+import org.openl.meta.LongValue;
+import org.openl.meta.ShortValue;
+import org.openl.meta.StringValue;
+
+/**
+ * Compact binary representation of {@link SpreadsheetResult} and values containing it.
+ * <p>
+ * Unlike the JSON representation, row and column names of a spreadsheet type are written only once per message as a
+ * schema, and each next spreadsheet result of the same type refers to the schema by its index. Values of the cells are
+ * written column by column. If all non-null values of a column have the same simple type, then the type tag is written
+ * once for the column followed by a bitmap of nulls and raw values.
+ * <p>
+ * Values of the org.openl.meta types are written as their plain Java equivalents. Arrays keep their component types
+ * and lists are read as {@link ArrayList}. Values of other types (e.g. datatype beans) are written by the
+ * {@link FallbackCodec}. By default such values are rejected, because the format is read from untrusted sources.
+ * For the same reason the lengths of arrays, lists and strings are limited and the memory for them is allocated as
+ * their elements are read, so a wrong length cannot allocate more than the input contains.
+ * <p>
+ * Row and column names of the result model and the detailed plain model flag are kept. The logical table and the
+ * custom spreadsheet result type are not written, because they belong to the compiled module, the same way as they are
+ * not kept by Java serialization.
+ * <p>
+ * The codec is stateless and thread-safe. Schemas are shared only within one message.
+ */
+public final class SpreadsheetResultBinaryCodec {
+
+    public static final String MEDIA_TYPE = "application/x-openl-spreadsheet-result";
+
+    private static final int MAGIC = 0x4F53_5052; // OSPR
+    private static final byte VERSION = 2;
+
+    /**
+     * The default maximum length of an array, a list or a string.
+     */
+    public static final int DEFAULT_MAX_LENGTH = 16 * 1024 * 1024;
+
+    /**
+     * The maximum number of elements which are allocated before they are read.
+     */
+    private static final int CHUNK_LENGTH = 8 * 1024;
+
+    private static final byte NULL = 0;
+    private static final byte TRUE = 1;
+    private static final byte FALSE = 2;
+    private static final byte BYTE = 3;
+    private static final byte SHORT = 4;
+    private static final byte INT = 5;
+    private static final byte LONG = 6;
+    private static final byte FLOAT = 7;
+    private static final byte DOUBLE = 8;
+    private static final byte CHAR = 9;
+    private static final byte STRING = 10;
+    private static final byte BIG_INTEGER = 11;
+    private static final byte BIG_DECIMAL = 12;
+    private static final byte DATE = 13;
+    private static final byte ARRAY = 14;
+    private static final byte LIST = 15;
+    private static final byte SPREADSHEET_RESULT = 16;
+    private static final byte SPREADSHEET_RESULT_REF = 17;
+    private static final byte FALLBACK = 18;
+
+    /**
+     * The flag of a primitive component type of an array.
+     */
+    private static final byte PRIMITIVE = 0x40;
+
+    /**
+     * Column markers.
+     */
+    private static final byte MIXED_COLUMN = 0;
+    private static final byte TYPED_COLUMN = 1;
+
+    private final FallbackCodec fallbackCodec;
+    private final int maxLength;
+
+    public SpreadsheetResultBinaryCodec() {
+        this(UnsupportedValueCodec.INSTANCE);
+    }
+
+    public SpreadsheetResultBinaryCodec(FallbackCodec fallbackCodec) {
+        this(fallbackCodec, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * @param maxLength the maximum length of an array, a list or a string which can be read
+     */
+    public SpreadsheetResultBinaryCodec(FallbackCodec fallbackCodec, int maxLength) {
+        this.fallbackCodec = Objects.requireNonNull(fallbackCodec, "fallbackCodec cannot be null");
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("maxLength cannot be negative");
+        }
+        this.maxLength = maxLength;
+    }
+
+    public byte[] toBytes(Object value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(value, out);
+        return out.toByteArray();
+    }
+
+    public Object fromBytes(byte[] bytes) throws IOException {
+        return read(new ByteArrayInputStream(bytes));
+    }
+
+    public void write(Object value, OutputStream outputStream) throws IOException {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        new Writer(out).writeValue(value);
+        out.flush();
+    }
+
+    public Object read(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(inputStream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Unsupported format of the spreadsheet result.");
+        }
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException(String.format("Unsupported version '%s' of the spreadsheet result format.", version));
+        }
+        return new Reader(in).readValue();
+    }
+
+    /**
+     * Writes and reads values which are not supported by the codec natively. Implementations must throw an
+     * {@link IOException} for values which cannot be read back with the same type instead of changing them.
+     */
+    public interface FallbackCodec {
+
+        void write(Object value, DataOutput out) throws IOException;
+
+        Object read(DataInput in) throws IOException;
+    }
+
+    private static final class UnsupportedValueCodec implements FallbackCodec {
+
+        private static final UnsupportedValueCodec INSTANCE = new UnsupportedValueCodec();
+
+        @Override
+        public void write(Object value, DataOutput out) throws IOException {
+            throw new IOException(
+                String.format("Type '%s' is not supported by the spreadsheet result format.", value.getClass().getName()));
+        }
+
+        @Override
+        public Object read(DataInput in) throws IOException {
+            throw new IOException("Values of unsupported types cannot be read without a fallback codec.");
+        }
+    }
+
+    private static final class SchemaKey {
+        private final String[][] names;
+        private final int hashCode;
+
+        private SchemaKey(String[][] names) {
+            this.names = names;
+            this.hashCode = Arrays.deepHashCode(names);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SchemaKey)) {
+                return false;
+            }
+            SchemaKey that = (SchemaKey) o;
+            return Arrays.deepEquals(names, that.names);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private final class Writer {
+        private final DataOutput out;
+        private final Map<SchemaKey, Integer> schemas = new HashMap<>();
+
+        private Writer(DataOutput out) {
+            this.out = out;
+        }
+
+        private void writeValue(Object value) throws IOException {
+            value = unwrap(value);
+            byte tag = getSimpleTag(value);
+            if (tag >= 0) {
+                out.writeByte(tag);
+                writeSimpleValue(tag, value);
+            } else if (value instanceof SpreadsheetResult) {
+                writeSpreadsheetResult((SpreadsheetResult) value);
+            } else if (value.getClass().isArray() && isSupportedType(value.getClass())) {
+                int length = Array.getLength(value);
+                out.writeByte(ARRAY);
+                writeType(value.getClass().getComponentType());
+                out.writeInt(length);
+                for (int i = 0; i < length; i++) {
+                    writeValue(Array.get(value, i));
+                }
+            } else if (value instanceof List) {
+                List<?> list = (List<?>) value;
+                out.writeByte(LIST);
+                out.writeInt(list.size());
+                for (Object element : list) {
+                    writeValue(element);
+                }
+            } else {
+                out.writeByte(FALLBACK);
+                fallbackCodec.write(value, out);
+            }
+        }
+
+        private void writeSpreadsheetResult(SpreadsheetResult spr) throws IOException {
+            String[][] names = new String[][] { spr.rowNames,
+                    spr.columnNames,
+                    getResultModelNames(spr.rowNamesForResultModel, spr.rowNames.length),
+                    getResultModelNames(spr.columnNamesForResultModel, spr.columnNames.length) };
+            SchemaKey key = new SchemaKey(names);
+            Integer schema = schemas.get(key);
+            if (schema == null) {
+                schemas.put(key, schemas.size());
+                out.writeByte(SPREADSHEET_RESULT);
+                for (String[] schemaNames : names) {
+                    writeNames(schemaNames);
+                }
+            } else {
+                out.writeByte(SPREADSHEET_RESULT_REF);
+                out.writeInt(schema);
+            }
+            out.writeBoolean(spr.detailedPlainModel);
+            int height = spr.rowNames.length;
+            int width = spr.columnNames.length;
+            Object[][] results = spr.results;
+            for (int col = 0; col < width; col++) {
+                byte columnTag = getColumnTag(results, col, height);
+                if (columnTag < 0) {
+                    out.writeByte(MIXED_COLUMN);
+                    for (int row = 0; row < height; row++) {
+                        writeValue(getResult(results, row, col));
+                    }
+                } else {
+                    out.writeByte(TYPED_COLUMN);
+                    out.writeByte(columnTag);
+                    byte[] nulls = new byte[(height + 7) >> 3];
+                    for (int row = 0; row < height; row++) {
+                        if (getResult(results, row, col) == null) {
+                            nulls[row >> 3] |= 1 << (row & 7);
+                        }
+                    }
+                    out.write(nulls);
+                    for (int row = 0; row < height; row++) {
+                        Object value = unwrap(getResult(results, row, col));
+                        if (value != null) {
+                            writeSimpleValue(columnTag, value);
+                        }
+                    }
+                }
+            }
+        }
+
+        private String[] getResultModelNames(String[] names, int length) {
+            return names == null || names.length != length ? new String[length] : names;
+        }
+
+        /**
+         * @return the common tag of all not null values of the column or -1 if the column is empty or has mixed values
+         */
+        private byte getColumnTag(Object[][] results, int col, int height) {
+            byte columnTag = -1;
+            for (int row = 0; row < height; row++) {
+                Object value = unwrap(getResult(results, row, col));
+                if (value != null) {
+                    byte tag = getSimpleTag(value);
+                    if (tag < 0 || tag == TRUE || tag == FALSE || columnTag >= 0 && columnTag != tag) {
+                        return -1;
+                    }
+                    columnTag = tag;
+                }
+            }
+            return columnTag;
+        }
+
+        private void writeType(Class<?> type) throws IOException {
+            if (type.isArray()) {
+                out.writeByte(ARRAY);
+                writeType(type.getComponentType());
+            } else {
+                byte tag = getTypeTag(type);
+                out.writeByte(type.isPrimitive() ? tag | PRIMITIVE : tag);
+            }
+        }
+
+        private void writeNames(String[] names) throws IOException {
+            out.writeInt(names.length);
+            for (String name : names) {
+                writeNullableString(name);
+            }
+        }
+
+        private void writeNullableString(String value) throws IOException {
+            out.writeBoolean(value != null);
+            if (value != null) {
+                writeString(value);
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        private void writeSimpleValue(byte tag, Object value) throws IOException {
+            switch (tag) {
+                case BYTE:
+                    out.writeByte((Byte) value);
+                    break;
+                case SHORT:
+                    out.writeShort((Short) value);
+                    break;
+                case INT:
+                    out.writeInt((Integer) value);
+                    break;
+                case LONG:
+                    out.writeLong((Long) value);
+                    break;
+                case FLOAT:
+                    out.writeFloat((Float) value);
+                    break;
+                case DOUBLE:
+                    out.writeDouble((Double) value);
+                    break;
+                case CHAR:
+                    out.writeChar((Character) value);
+                    break;
+                case STRING:
+                    writeString((String) value);
+                    break;
+                case BIG_INTEGER:
+                    writeBytes(((BigInteger) value).toByteArray());
+                    break;
+                case BIG_DECIMAL:
+                    BigDecimal decimal = (BigDecimal) value;
+                    out.writeInt(decimal.scale());
+                    writeBytes(decimal.unscaledValue().toByteArray());
+                    break;
+                case DATE:
+                    out.writeLong(((Date) value).getTime());
+                    break;
+                default:
+                    // NULL, TRUE and FALSE have no payload
+                    break;
+            }
+        }
+
+        private void writeBytes(byte[] bytes) throws IOException {
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private final class Reader {
+        private final DataInput in;
+        private final List<String[][]> schemas = new ArrayList<>();
+
+        private Reader(DataInput in) {
+            this.in = in;
+        }
+
+        private Object readValue() throws IOException {
+            byte tag = in.readByte();
+            switch (tag) {
+                case SPREADSHEET_RESULT:
+                    String[][] schema = new String[][] { readNames(), readNames(), readNames(), readNames() };
+                    if (schema[0].length != schema[2].length || schema[1].length != schema[3].length) {
+                        throw new IOException("Wrong names of the result model of the spreadsheet result.");
+                    }
+                    schemas.add(schema);
+                    return readSpreadsheetResult(schema);
+                case SPREADSHEET_RESULT_REF:
+                    int index = in.readInt();
+                    if (index < 0 || index >= schemas.size()) {
+                        throw new IOException("Unknown schema of the spreadsheet result.");
+                    }
+                    return readSpreadsheetResult(schemas.get(index));
+                case ARRAY:
+                    return readArray(readType());
+                case LIST:
+                    return readValues(readLength());
+                case FALLBACK:
+                    return fallbackCodec.read(in);
+                default:
+                    return readSimpleValue(tag);
+            }
+        }
+
+        private List<Object> readValues(int length) throws IOException {
+            List<Object> values = new ArrayList<>(Math.min(length, CHUNK_LENGTH));
+            for (int i = 0; i < length; i++) {
+                values.add(readValue());
+            }
+            return values;
+        }
+
+        private Object readArray(Class<?> componentType) throws IOException {
+            // The values are read before the array is allocated to not allocate more than the input contains
+            List<Object> values = readValues(readLength());
+            Object array = Array.newInstance(componentType, values.size());
+            for (int i = 0; i < values.size(); i++) {
+                Object value = values.get(i);
+                try {
+                    Array.set(array, i, value);
+                } catch (IllegalArgumentException e) {
+                    throw new IOException(String.format("Value of type '%s' cannot be an element of '%s' array.",
+                        value == null ? null : value.getClass().getName(),
+                        componentType.getName()), e);
+                }
+            }
+            return array;
+        }
+
+        private Class<?> readType() throws IOException {
+            byte tag = in.readByte();
+            if (tag == ARRAY) {
+                return Array.newInstance(readType(), 0).getClass();
+            }
+            Class<?> type = getType((byte) (tag & ~PRIMITIVE), (tag & PRIMITIVE) != 0);
+            if (type == null) {
+                throw new IOException(String.format("Unknown array type '%s'.", tag));
+            }
+            return type;
+        }
+
+        private int readLength() throws IOException {
+            int length = in.readInt();
+            if (length < 0 || length > maxLength) {
+                throw new IOException(String.format("Wrong length '%s'.", length));
+            }
+            return length;
+        }
+
+        private SpreadsheetResult readSpreadsheetResult(String[][] schema) throws IOException {
+            boolean detailedPlainModel = in.readBoolean();
+            String[] rowNames = schema[0];
+            String[] columnNames = schema[1];
+            int height = rowNames.length;
+            int width = columnNames.length;
+            Object[][] results = new Object[height][width];
+            for (int col = 0; col < width; col++) {
+                byte columnType = in.readByte();
+                if (columnType == MIXED_COLUMN) {
+                    for (int row = 0; row < height; row++) {
+                        results[row][col] = readValue();
+                    }
+                } else if (columnType == TYPED_COLUMN) {
+                    byte tag = in.readByte();
+                    byte[] nulls = new byte[(height + 7) >> 3];
+                    in.readFully(nulls);
+                    for (int row = 0; row < height; row++) {
+                        if ((nulls[row >> 3] & (1 << (row & 7))) == 0) {
+                            results[row][col] = readSimpleValue(tag);
+                        }
+                    }
+                } else {
+                    throw new IOException(String.format("Unknown column type '%s'.", columnType));
+                }
+            }
+            SpreadsheetResult spr = new SpreadsheetResult(results,
+                rowNames.clone(),
+                columnNames.clone(),
+                schema[2].clone(),
+                schema[3].clone(),
+                SpreadsheetResult.buildFieldsCoordinates(columnNames, rowNames));
+            spr.setDetailedPlainModel(detailedPlainModel);
+            return spr;
+        }
+
+        private String[] readNames() throws IOException {
+            int length = readLength();
+            List<String> names = new ArrayList<>(Math.min(length, CHUNK_LENGTH));
+            for (int i = 0; i < length; i++) {
+                names.add(in.readBoolean() ? readString() : null);
+            }
+            return names.toArray(new String[0]);
+        }
+
+        private String readString() throws IOException {
+            return new String(readBytes(), StandardCharsets.UTF_8);
+        }
+
+        private byte[] readBytes() throws IOException {
+            int length = readLength();
+            if (length <= CHUNK_LENGTH) {
+                byte[] bytes = new byte[length];
+                in.readFully(bytes);
+                return bytes;
+            }
+            // Large arrays are read by chunks to not allocate more than the input contains
+            ByteArrayOutputStream out = new ByteArrayOutputStream(CHUNK_LENGTH);
+            byte[] chunk = new byte[CHUNK_LENGTH];
+            for (int remaining = length; remaining > 0; remaining -= CHUNK_LENGTH) {
+                int chunkLength = Math.min(remaining, CHUNK_LENGTH);
+                in.readFully(chunk, 0, chunkLength);
+                out.write(chunk, 0, chunkLength);
+            }
+            return out.toByteArray();
+        }
+
+        private Object readSimpleValue(byte tag) throws IOException {
+            switch (tag) {
+                case NULL:
+                    return null;
+                case TRUE:
+                    return Boolean.TRUE;
+                case FALSE:
+                    return Boolean.FALSE;
+                case BYTE:
+                    return in.readByte();
+                case SHORT:
+                    return in.readShort();
+                case INT:
+                    return in.readInt();
+                case LONG:
+                    return in.readLong();
+                case FLOAT:
+                    return in.readFloat();
+                case DOUBLE:
+                    return in.readDouble();
+                case CHAR:
+                    return in.readChar();
+                case STRING:
+                    return readString();
+                case BIG_INTEGER:
+                    return new BigInteger(readBytes());
+                case BIG_DECIMAL:
+                    int scale = in.readInt();
+                    return new BigDecimal(new BigInteger(readBytes()), scale);
+                case DATE:
+                    return new Date(in.readLong());
+                default:
+                    throw new IOException(String.format("Unknown value type '%s'.", tag));
+            }
+        }
+    }
+
+    private static Object getResult(Object[][] results, int row, int col) {
+        return results == null || results[row] == null ? null : results[row][col];
+    }
+
+    /**
+     * @return {@code true} if the array type or the type of elements can be restored by the codec
+     */
+    private static boolean isSupportedType(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        return getTypeTag(type) >= 0;
+    }
+
+    /**
+     * @return the tag of the component type of an array or -1 if the type is not supported. The org.openl.meta types
+     *         are mapped to their plain Java equivalents.
+     */
+    private static byte getTypeTag(Class<?> type) {
+        if (type == Object.class) {
+            return NULL;
+        } else if (type == boolean.class || type == Boolean.class) {
+            return TRUE;
+        } else if (type == byte.class || type == Byte.class || type == ByteValue.class) {
+            return BYTE;
+        } else if (type == short.class || type == Short.class || type == ShortValue.class) {
+            return SHORT;
+        } else if (type == int.class || type == Integer.class || type == IntValue.class) {
+            return INT;
+        } else if (type == long.class || type == Long.class || type == LongValue.class) {
+            return LONG;
+        } else if (type == float.class || type == Float.class || type == FloatValue.class) {
+            return FLOAT;
+        } else if (type == double.class || type == Double.class || type == DoubleValue.class) {
+            return DOUBLE;
+        } else if (type == char.class || type == Character.class) {
+            return CHAR;
+        } else if (type == String.class || type == StringValue.class) {
+            return STRING;
+        } else if (type == BigInteger.class || type == BigIntegerValue.class) {
+            return BIG_INTEGER;
+        } else if (type == BigDecimal.class || type == BigDecimalValue.class) {
+            return BIG_DECIMAL;
+        } else if (type == Date.class) {
+            return DATE;
+        } else if (type == SpreadsheetResult.class) {
+            return SPREADSHEET_RESULT;
+        }
+        return -1;
+    }
+
+    private static Class<?> getType(byte tag, boolean primitive) {
+        switch (tag) {
+            case NULL:
+                return primitive ? null : Object.class;
+            case TRUE:
+                return primitive ? boolean.class : Boolean.class;
+            case BYTE:
+                return primitive ? byte.class : Byte.class;
+            case SHORT:
+                return primitive ? short.class : Short.class;
+            case INT:
+                return primitive ? int.class : Integer.class;
+            case LONG:
+                return primitive ? long.class : Long.class;
+            case FLOAT:
+                return primitive ? float.class : Float.class;
+            case DOUBLE:
+                return primitive ? double.class : Double.class;
+            case CHAR:
+                return primitive ? char.class : Character.class;
+            case STRING:
+                return primitive ? null : String.class;
+            case BIG_INTEGER:
+                return primitive ? null : BigInteger.class;
+            case BIG_DECIMAL:
+                return primitive ? null : BigDecimal.class;
+            case DATE:
+                return primitive ? null : Date.class;
+            case SPREADSHEET_RESULT:
+                return primitive ? null : SpreadsheetResult.class;
+            default:
+                return null;
+        }
+    }
+
+    private static byte getSimpleTag(Object value) {
+        if (value == null) {
+            return NULL;
+        } else if (value instanceof Boolean) {
+            return (Boolean) value ? TRUE : FALSE;
+        } else if (value instanceof Integer) {
+            return INT;
+        } else if (value instanceof Double) {
+            return DOUBLE;
+        } else if (value instanceof String) {
+            return STRING;
+        } else if (value instanceof Long) {
+            return LONG;
+        } else if (value instanceof BigDecimal) {
+            return BIG_DECIMAL;
+        } else if (value.getClass() == Date.class) {
+            // subclasses of Date, e.g. java.sql.Timestamp, cannot be restored
+            return DATE;
+        } else if (value instanceof Float) {
+            return FLOAT;
+        } else if (value instanceof Short) {
+            return SHORT;
+        } else if (value instanceof Byte) {
+            return BYTE;
+        } else if (value instanceof Character) {
+            return CHAR;
+        } else if (value instanceof BigInteger) {
+            return BIG_INTEGER;
+        }
+        return -1;
+    }
+
+    /**
+     * Converts org.openl.meta values to their plain Java equivalents.
+     */
+    private static Object unwrap(Object value) {
+        if (value instanceof DoubleValue) {
+            return ((DoubleValue) value).getValue();
+        } else if (value instanceof BigDecimalValue) {
+            return ((BigDecimalValue) value).getValue();
+        } else if (value instanceof IntValue) {
+            return ((IntValue) value).getValue();
+        } else if (value instanceof LongValue) {
+            return ((LongValue) value).getValue();
+        } else if (value instanceof StringValue) {
+            return ((StringValue) value).getValue();
+        } else if (value instanceof FloatValue) {
+            return ((FloatValue) value).getValue();
+        } else if (value instanceof ShortValue) {
+            return ((ShortValue) value).getValue();
+        } else if (value instanceof ByteValue) {
+            return ((ByteValue) value).getValue();
+        } else if (value instanceof BigIntegerValue) {
+            return ((BigIntegerValue) value).getValue();
+        }
+        return value;
+    }
+}
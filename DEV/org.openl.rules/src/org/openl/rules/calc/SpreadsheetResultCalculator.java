@@ -5,6 +5,8 @@ import java.util.Map;
 import org.openl.rules.calc.element.SpreadsheetCell;
 import org.openl.rules.calc.element.SpreadsheetCellField;
 import org.openl.rules.calc.element.SpreadsheetCellType;
+import org.openl.rules.profiler.ProfilerCounter;
+import org.openl.rules.profiler.RulesProfiler;
 import org.openl.types.IDynamicObject;
 import org.openl.types.IOpenClass;
 import org.openl.types.IOpenField;
@@ -29,35 +31,49 @@ public class SpreadsheetResultCalculator implements IDynamicObject {
      */
     protected IRuntimeEnv env;
 
-    private Object[][] results;
+    /**
+     * Marks a cell in {@link #overlay} which has been calculated to {@code null}.
+     */
+    private static final Object NULL_VALUE = new Object();
+
+    private final int width;
+
+    /**
+     * Shared row-major template with constant cell values, {@link #EMPTY_CELL} and {@link #METHOD_VALUE} markers. It
+     * is never modified.
+     */
+    private final Object[] template;
 
+    /**
+     * Calculated and explicitly set cell values. It is allocated on the first write only, so spreadsheets with
+     * constant cells only do not allocate anything per call.
+     */
+    private Object[] overlay;
+
+    /**
+     * @param preCalculatedResult row-major flat array of pre-calculated cell values, see
+     *            {@link SpreadsheetInvoker#preFetchResult(Spreadsheet)}. It is shared between calls and is not
+     *            modified.
+     */
     public SpreadsheetResultCalculator(Spreadsheet spreadsheet,
             IDynamicObject targetModule,
             Object[] params,
             IRuntimeEnv env,
-            Object[][] preCalculatedResult) {
+            Object[] preCalculatedResult) {
         super();
 
         this.spreadsheet = spreadsheet;
         this.targetModule = targetModule;
         this.params = params;
         this.env = env;
+        this.width = spreadsheet.getWidth();
         if (preCalculatedResult == null) {
-            this.results = new Object[spreadsheet.getHeight()][spreadsheet.getWidth()];
+            this.template = new Object[spreadsheet.getHeight() * width];
         } else {
-            this.results = clonePrecalculatedResults(preCalculatedResult);
+            this.template = preCalculatedResult;
         }
     }
 
-    private Object[][] clonePrecalculatedResults(Object[][] preCalculatedResult) {
-        Object[][] res = preCalculatedResult.clone();
-        for (int i = 0; i < res.length; i++) {
-            res[i] = preCalculatedResult[i].clone();
-        }
-
-        return res;
-    }
-
     @Override
     public Object getFieldValue(String name) {
 
@@ -94,7 +110,13 @@ public class SpreadsheetResultCalculator implements IDynamicObject {
     }
 
     public Object getValue(int row, int column) {
-        Object result = results[row][column];
+        int index = row * width + column;
+        Object result = overlay == null ? null : overlay[index];
+        if (result == null) {
+            result = template[index];
+        } else if (result == NULL_VALUE) {
+            result = null;
+        }
         if (result == EMPTY_CELL) {
             return null;
         }
@@ -107,13 +129,26 @@ public class SpreadsheetResultCalculator implements IDynamicObject {
             }
             return result;
         }
-        result = Tracer.invoke(spreadsheetCell, this, params, env, this);
-        results[row][column] = result;
+        if (RulesProfiler.isEnabled()) {
+            ProfilerCounter counter = spreadsheetCell.getOrCreateProfilerCounter();
+            long start = RulesProfiler.start(counter);
+            try {
+                result = Tracer.invoke(spreadsheetCell, this, params, env, this);
+            } finally {
+                RulesProfiler.stop(counter, start);
+            }
+        } else {
+            result = Tracer.invoke(spreadsheetCell, this, params, env, this);
+        }
+        setValue(row, column, result);
         return result;
     }
 
     public void setValue(int row, int column, Object res) {
-        results[row][column] = res;
+        if (overlay == null) {
+            overlay = new Object[template.length];
+        }
+        overlay[row * width + column] = res == null ? NULL_VALUE : res;
     }
 
     private int height() {
@@ -131,7 +166,7 @@ public class SpreadsheetResultCalculator implements IDynamicObject {
     }
 
     private int width() {
-        return spreadsheet.getWidth();
+        return width;
     }
 
     public Object[][] getValues() {
@@ -1,5 +1,9 @@
 package org.openl.rules.calc.element;
 
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import org.openl.rules.profiler.ProfilerCounter;
+import org.openl.rules.profiler.RulesProfiler;
 import org.openl.rules.table.ICell;
 import org.openl.types.IOpenClass;
 import org.openl.types.IOpenMethod;
@@ -11,6 +15,9 @@ import org.openl.vm.IRuntimeEnv;
 
 public class SpreadsheetCell implements Invokable {
 
+    private static final AtomicReferenceFieldUpdater<SpreadsheetCell, ProfilerCounter> PROFILER_COUNTER = AtomicReferenceFieldUpdater
+        .newUpdater(SpreadsheetCell.class, ProfilerCounter.class, "profilerCounter");
+
     private int rowIndex;
     private int columnIndex;
     private ICell sourceCell;
@@ -23,6 +30,8 @@ public class SpreadsheetCell implements Invokable {
 
     private boolean typeUnknown = false;
 
+    private volatile ProfilerCounter profilerCounter;
+
     public SpreadsheetCell(int rowIndex, int columnIndex, ICell sourceCell, SpreadsheetCellType spreadsheetCellType) {
         this.rowIndex = rowIndex;
         this.columnIndex = columnIndex;
@@ -129,4 +138,15 @@ public class SpreadsheetCell implements Invokable {
     public boolean isTypeUnknown() {
         return typeUnknown;
     }
+
+    /**
+     * @return profiler statistics of the cell or {@code null} if the cell has not been profiled yet
+     */
+    public ProfilerCounter getProfilerCounter() {
+        return profilerCounter;
+    }
+
+    public ProfilerCounter getOrCreateProfilerCounter() {
+        return RulesProfiler.getOrCreateCounter(this, PROFILER_COUNTER);
+    }
 }
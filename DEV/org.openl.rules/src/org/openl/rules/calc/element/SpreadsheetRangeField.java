@@ -28,6 +28,14 @@ public class SpreadsheetRangeField extends ASpreadsheetField implements NodeDesc
         this.rangeType = rangeType.getInstanceClass();
     }
 
+    public SpreadsheetCellField getStart() {
+        return fstart;
+    }
+
+    public SpreadsheetCellField getEnd() {
+        return fend;
+    }
+
     @Override
     public Object get(Object target, IRuntimeEnv env) {
         if (target == null) {
@@ -1,11 +1,14 @@
 package org.openl.rules.context;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.PrintStream;
 import java.io.Serializable;
 import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.TreeMap;
 
@@ -31,19 +34,78 @@ public class DefaultRulesRuntimeContext implements IRulesRuntimeContext, IRulesR
         }
     }
 
-    private Map<String, Object> internalMap = new HashMap<>();
+    /**
+     * Values of the context properties indexed by the property ids. The array is shared between the clones of the
+     * context and is copied on the first modification.
+     */
+    private Object[] values = new Object[PROPERTIES_COUNT];
+
+    private transient boolean shared;
 
     @Override
     public Object getValue(String name) {
-        return internalMap.get(name);
+        Integer id = PROPERTY_IDS.get(name);
+        return id == null ? null : values[id];
+    }
+
+    @Override
+    public void setValue(String name, Object value) {
+        Integer id = PROPERTY_IDS.get(name);
+        if (id != null) {
+            setValue(id, CONTEXT_PROPERTIES.get(name).cast(value));
+        }
+    }
+
+    private void setValue(int id, Object value) {
+        if (shared) {
+            values = values.clone();
+            shared = false;
+        }
+        values[id] = value;
+        cache = null;
+    }
+
+    /**
+     * Reads the values from the array or, if the context was written before the values were stored in the array, from
+     * the fields of the properties. The values are never left {@code null}.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        Object[] streamValues = (Object[]) fields.get("values", null);
+        values = new Object[PROPERTIES_COUNT];
+        if (streamValues != null) {
+            System.arraycopy(streamValues, 0, values, 0, Math.min(streamValues.length, PROPERTIES_COUNT));
+        } else {
+            for (int i = 0; i < PROPERTIES_COUNT; i++) {
+                try {
+                    values[i] = fields.get(PROPERTY_NAMES[i], null);
+                } catch (IllegalArgumentException e) {
+                    // The property did not exist when the context was written
+                }
+            }
+        }
+    }
+
+    @Override
+    public IRulesRuntimeContext clone() throws CloneNotSupportedException {
+        shared = true;
+        DefaultRulesRuntimeContext defaultRulesRuntimeContext = (DefaultRulesRuntimeContext) super.clone();
+        defaultRulesRuntimeContext.cache = null;
+        return defaultRulesRuntimeContext;
     }
 
     @Override
     public String toString() {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                properties.put(PROPERTY_NAMES[i], values[i]);
+            }
+        }
 
         ByteArrayOutputStream out = new ByteArrayOutputStream();
         PrintStream printStream = new PrintStream(out);
-        verbosePrint(printStream, null, internalMap, new ArrayDeque<>());
+        verbosePrint(printStream, null, properties, new ArrayDeque<>());
 
         return out.toString();
     }
@@ -130,261 +192,185 @@ public class DefaultRulesRuntimeContext implements IRulesRuntimeContext, IRulesR
     }
 
     // <<< INSERT >>>
-    @Override
-    public IRulesRuntimeContext clone() throws CloneNotSupportedException {
-        DefaultRulesRuntimeContext defaultRulesRuntimeContext = (DefaultRulesRuntimeContext) super.clone();
-        defaultRulesRuntimeContext.setCurrentDate(this.currentDate);
-        defaultRulesRuntimeContext.setRequestDate(this.requestDate);
-        defaultRulesRuntimeContext.setLob(this.lob);
-        defaultRulesRuntimeContext.setNature(this.nature);
-        defaultRulesRuntimeContext.setUsState(this.usState);
-        defaultRulesRuntimeContext.setCountry(this.country);
-        defaultRulesRuntimeContext.setUsRegion(this.usRegion);
-        defaultRulesRuntimeContext.setCurrency(this.currency);
-        defaultRulesRuntimeContext.setLang(this.lang);
-        defaultRulesRuntimeContext.setRegion(this.region);
-        defaultRulesRuntimeContext.setCaProvince(this.caProvince);
-        defaultRulesRuntimeContext.setCaRegion(this.caRegion);
-        return defaultRulesRuntimeContext;
-    }
-
-    @Override
-    public void setValue(String name, Object value) {
-        if ("currentDate".equals(name)) {
-            setCurrentDate((java.util.Date) value);
-            return;
-        }
-        if ("requestDate".equals(name)) {
-            setRequestDate((java.util.Date) value);
-            return;
-        }
-        if ("lob".equals(name)) {
-            setLob((java.lang.String) value);
-            return;
-        }
-        if ("nature".equals(name)) {
-            setNature((java.lang.String) value);
-            return;
-        }
-        if ("usState".equals(name)) {
-            setUsState((org.openl.rules.enumeration.UsStatesEnum) value);
-            return;
-        }
-        if ("country".equals(name)) {
-            setCountry((org.openl.rules.enumeration.CountriesEnum) value);
-            return;
-        }
-        if ("usRegion".equals(name)) {
-            setUsRegion((org.openl.rules.enumeration.UsRegionsEnum) value);
-            return;
-        }
-        if ("currency".equals(name)) {
-            setCurrency((org.openl.rules.enumeration.CurrenciesEnum) value);
-            return;
-        }
-        if ("lang".equals(name)) {
-            setLang((org.openl.rules.enumeration.LanguagesEnum) value);
-            return;
-        }
-        if ("region".equals(name)) {
-            setRegion((org.openl.rules.enumeration.RegionsEnum) value);
-            return;
-        }
-        if ("caProvince".equals(name)) {
-            setCaProvince((org.openl.rules.enumeration.CaProvincesEnum) value);
-            return;
-        }
-        if ("caRegion".equals(name)) {
-            setCaRegion((org.openl.rules.enumeration.CaRegionsEnum) value);
-            return;
-        }
-    }
-
-    private java.util.Date currentDate = null;
+    private static final int CURRENT_DATE = 0;
+    private static final int REQUEST_DATE = 1;
+    private static final int LOB = 2;
+    private static final int NATURE = 3;
+    private static final int US_STATE = 4;
+    private static final int COUNTRY = 5;
+    private static final int US_REGION = 6;
+    private static final int CURRENCY = 7;
+    private static final int LANG = 8;
+    private static final int REGION = 9;
+    private static final int CA_PROVINCE = 10;
+    private static final int CA_REGION = 11;
+    private static final int PROPERTIES_COUNT = 12;
 
     @Override
     public java.util.Date getCurrentDate() {
-        return currentDate;
+        return (java.util.Date) values[CURRENT_DATE];
     }
 
     @Override
     public void setCurrentDate(java.util.Date currentDate) {
-        this.currentDate = currentDate;
-        internalMap.put("currentDate", currentDate);
-        cache = null;
+        setValue(CURRENT_DATE, currentDate);
     }
 
-    private java.util.Date requestDate = null;
-
     @Override
     public java.util.Date getRequestDate() {
-        return requestDate;
+        return (java.util.Date) values[REQUEST_DATE];
     }
 
     @Override
     public void setRequestDate(java.util.Date requestDate) {
-        this.requestDate = requestDate;
-        internalMap.put("requestDate", requestDate);
-        cache = null;
+        setValue(REQUEST_DATE, requestDate);
     }
 
-    private java.lang.String lob = null;
-
     @Override
     public java.lang.String getLob() {
-        return lob;
+        return (java.lang.String) values[LOB];
     }
 
     @Override
     public void setLob(java.lang.String lob) {
-        this.lob = lob;
-        internalMap.put("lob", lob);
-        cache = null;
+        setValue(LOB, lob);
     }
 
-    private java.lang.String nature = null;
-
     @Override
     public java.lang.String getNature() {
-        return nature;
+        return (java.lang.String) values[NATURE];
     }
 
     @Override
     public void setNature(java.lang.String nature) {
-        this.nature = nature;
-        internalMap.put("nature", nature);
-        cache = null;
+        setValue(NATURE, nature);
     }
 
-    private org.openl.rules.enumeration.UsStatesEnum usState = null;
-
     @Override
     public org.openl.rules.enumeration.UsStatesEnum getUsState() {
-        return usState;
+        return (org.openl.rules.enumeration.UsStatesEnum) values[US_STATE];
     }
 
     @Override
     public void setUsState(org.openl.rules.enumeration.UsStatesEnum usState) {
-        this.usState = usState;
-        internalMap.put("usState", usState);
-        cache = null;
+        setValue(US_STATE, usState);
     }
 
-    private org.openl.rules.enumeration.CountriesEnum country = null;
-
     @Override
     public org.openl.rules.enumeration.CountriesEnum getCountry() {
-        return country;
+        return (org.openl.rules.enumeration.CountriesEnum) values[COUNTRY];
     }
 
     @Override
     public void setCountry(org.openl.rules.enumeration.CountriesEnum country) {
-        this.country = country;
-        internalMap.put("country", country);
-        cache = null;
+        setValue(COUNTRY, country);
     }
 
-    private org.openl.rules.enumeration.UsRegionsEnum usRegion = null;
-
     @Override
     public org.openl.rules.enumeration.UsRegionsEnum getUsRegion() {
-        return usRegion;
+        return (org.openl.rules.enumeration.UsRegionsEnum) values[US_REGION];
     }
 
     @Override
     public void setUsRegion(org.openl.rules.enumeration.UsRegionsEnum usRegion) {
-        this.usRegion = usRegion;
-        internalMap.put("usRegion", usRegion);
-        cache = null;
+        setValue(US_REGION, usRegion);
     }
 
-    private org.openl.rules.enumeration.CurrenciesEnum currency = null;
-
     @Override
     public org.openl.rules.enumeration.CurrenciesEnum getCurrency() {
-        return currency;
+        return (org.openl.rules.enumeration.CurrenciesEnum) values[CURRENCY];
     }
 
     @Override
     public void setCurrency(org.openl.rules.enumeration.CurrenciesEnum currency) {
-        this.currency = currency;
-        internalMap.put("currency", currency);
-        cache = null;
+        setValue(CURRENCY, currency);
     }
 
-    private org.openl.rules.enumeration.LanguagesEnum lang = null;
-
     @Override
     public org.openl.rules.enumeration.LanguagesEnum getLang() {
-        return lang;
+        return (org.openl.rules.enumeration.LanguagesEnum) values[LANG];
     }
 
     @Override
     public void setLang(org.openl.rules.enumeration.LanguagesEnum lang) {
-        this.lang = lang;
-        internalMap.put("lang", lang);
-        cache = null;
+        setValue(LANG, lang);
     }
 
-    private org.openl.rules.enumeration.RegionsEnum region = null;
-
     @Override
     public org.openl.rules.enumeration.RegionsEnum getRegion() {
-        return region;
+        return (org.openl.rules.enumeration.RegionsEnum) values[REGION];
     }
 
     @Override
     public void setRegion(org.openl.rules.enumeration.RegionsEnum region) {
-        this.region = region;
-        internalMap.put("region", region);
-        cache = null;
+        setValue(REGION, region);
     }
 
-    private org.openl.rules.enumeration.CaProvincesEnum caProvince = null;
-
     @Override
     public org.openl.rules.enumeration.CaProvincesEnum getCaProvince() {
-        return caProvince;
+        return (org.openl.rules.enumeration.CaProvincesEnum) values[CA_PROVINCE];
     }
 
     @Override
     public void setCaProvince(org.openl.rules.enumeration.CaProvincesEnum caProvince) {
-        this.caProvince = caProvince;
-        internalMap.put("caProvince", caProvince);
-        cache = null;
+        setValue(CA_PROVINCE, caProvince);
     }
 
-    private org.openl.rules.enumeration.CaRegionsEnum caRegion = null;
-
     @Override
     public org.openl.rules.enumeration.CaRegionsEnum getCaRegion() {
-        return caRegion;
+        return (org.openl.rules.enumeration.CaRegionsEnum) values[CA_REGION];
     }
 
     @Override
     public void setCaRegion(org.openl.rules.enumeration.CaRegionsEnum caRegion) {
-        this.caRegion = caRegion;
-        internalMap.put("caRegion", caRegion);
-        cache = null;
+        setValue(CA_REGION, caRegion);
     }
 
     public static final Map<String, Class<?>> CONTEXT_PROPERTIES;
+    private static final String[] PROPERTY_NAMES = new String[PROPERTIES_COUNT];
+    private static final Map<String, Integer> PROPERTY_IDS;
 
     static {
         Map<String, Class<?>> contextFields = new TreeMap<>();
+        Map<String, Integer> propertyIds = new HashMap<>();
         contextFields.put("currentDate", java.util.Date.class);
+        propertyIds.put("currentDate", CURRENT_DATE);
+        PROPERTY_NAMES[CURRENT_DATE] = "currentDate";
         contextFields.put("requestDate", java.util.Date.class);
+        propertyIds.put("requestDate", REQUEST_DATE);
+        PROPERTY_NAMES[REQUEST_DATE] = "requestDate";
         contextFields.put("lob", java.lang.String.class);
+        propertyIds.put("lob", LOB);
+        PROPERTY_NAMES[LOB] = "lob";
         contextFields.put("nature", java.lang.String.class);
+        propertyIds.put("nature", NATURE);
+        PROPERTY_NAMES[NATURE] = "nature";
         contextFields.put("usState", org.openl.rules.enumeration.UsStatesEnum.class);
+        propertyIds.put("usState", US_STATE);
+        PROPERTY_NAMES[US_STATE] = "usState";
         contextFields.put("country", org.openl.rules.enumeration.CountriesEnum.class);
+        propertyIds.put("country", COUNTRY);
+        PROPERTY_NAMES[COUNTRY] = "country";
         contextFields.put("usRegion", org.openl.rules.enumeration.UsRegionsEnum.class);
+        propertyIds.put("usRegion", US_REGION);
+        PROPERTY_NAMES[US_REGION] = "usRegion";
         contextFields.put("currency", org.openl.rules.enumeration.CurrenciesEnum.class);
+        propertyIds.put("currency", CURRENCY);
+        PROPERTY_NAMES[CURRENCY] = "currency";
         contextFields.put("lang", org.openl.rules.enumeration.LanguagesEnum.class);
+        propertyIds.put("lang", LANG);
+        PROPERTY_NAMES[LANG] = "lang";
         contextFields.put("region", org.openl.rules.enumeration.RegionsEnum.class);
+        propertyIds.put("region", REGION);
+        PROPERTY_NAMES[REGION] = "region";
         contextFields.put("caProvince", org.openl.rules.enumeration.CaProvincesEnum.class);
+        propertyIds.put("caProvince", CA_PROVINCE);
+        PROPERTY_NAMES[CA_PROVINCE] = "caProvince";
         contextFields.put("caRegion", org.openl.rules.enumeration.CaRegionsEnum.class);
+        propertyIds.put("caRegion", CA_REGION);
+        PROPERTY_NAMES[CA_REGION] = "caRegion";
         CONTEXT_PROPERTIES = Collections.unmodifiableMap(contextFields);
+        PROPERTY_IDS = Collections.unmodifiableMap(propertyIds);
     }
     // <<< END INSERT >>>
 
@@ -107,8 +107,18 @@ public class String2DataConvertorFactory {
         return convertor.parse(data, null);
     }
 
+    @SuppressWarnings("unchecked")
+    public static <T> IString2DataConvertor<T> getConvertor(Class<T> clazz) {
+        // Common converters are not changed after the initialization, so they are found without locking
+        IString2DataConvertor<T> convertor = (IString2DataConvertor<T>) convertors.get(clazz);
+        if (convertor != null) {
+            return convertor;
+        }
+        return getCachedConvertor(clazz);
+    }
+
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    public static synchronized <T> IString2DataConvertor<T> getConvertor(Class<T> clazz) {
+    private static synchronized <T> IString2DataConvertor<T> getCachedConvertor(Class<T> clazz) {
 
         Lock readLock = convertorsLock.readLock();
         try {
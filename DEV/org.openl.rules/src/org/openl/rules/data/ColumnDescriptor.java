@@ -9,6 +9,7 @@ package org.openl.rules.data;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -48,7 +49,8 @@ public class ColumnDescriptor {
      */
     private final boolean constructor;
 
-    private Map<String, Integer> uniqueIndex = null;
+    private volatile RowIndex<String> uniqueIndex = null;
+    private volatile List<Object> uniqueValues = null;
     private final IdentifierNode[] fieldChainTokens;
     private ColumnGroupKey groupKey;
     private final int columnIdx;
@@ -170,11 +172,40 @@ public class ColumnDescriptor {
         return field == null ? null : field.getType();
     }
 
-    public synchronized Map<String, Integer> getUniqueIndex(ITable table, int idx) throws SyntaxNodeException {
-        if (uniqueIndex == null) {
-            uniqueIndex = table.makeUniqueIndex(idx);
+    /**
+     * @deprecated use {@link #getUniqueRowIndex(ITable, int)}
+     */
+    @Deprecated
+    public Map<String, Integer> getUniqueIndex(ITable table, int idx) throws SyntaxNodeException {
+        return getUniqueRowIndex(table, idx).toMap();
+    }
+
+    public RowIndex<String> getUniqueRowIndex(ITable table, int idx) throws SyntaxNodeException {
+        RowIndex<String> index = uniqueIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = uniqueIndex;
+                if (index == null) {
+                    index = table.makeUniqueRowIndex(idx);
+                    uniqueIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    public List<Object> getUniqueValues(ITable table, int idx) throws SyntaxNodeException {
+        List<Object> values = uniqueValues;
+        if (values == null) {
+            synchronized (this) {
+                values = uniqueValues;
+                if (values == null) {
+                    values = table.makeUniqueValues(idx);
+                    uniqueValues = values;
+                }
+            }
         }
-        return uniqueIndex;
+        return values;
     }
 
     public boolean isConstructor() {
@@ -63,6 +63,8 @@ public class DataTableBoundNode extends ATableBoundNode implements IMemberBoundN
 
     @Override
     public void removeDebugInformation(IBindingContext cxt) throws Exception {
+        // The table is still used by the modules which depend on this one
+        table.clearOddDataForExecutionMode();
         field.setTable(null);
     }
 
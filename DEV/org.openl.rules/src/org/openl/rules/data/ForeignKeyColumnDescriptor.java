@@ -47,7 +47,9 @@ public class ForeignKeyColumnDescriptor extends ColumnDescriptor {
     private final IdentifierNode foreignKeyTable;
     private final IdentifierNode[] foreignKeyTableAccessorChainTokens;
     private final IdentifierNode foreignKey;
-    private String[] foreignKeyColumnChainTokens = {};
+    private volatile String[] foreignKeyColumnChainTokens = {};
+    private volatile ChainField foreignKeyTableAccessorChainField;
+    private volatile ForeignDomain foreignDomain;
 
     private CellKey foreignKeyCellCoordinate;
 
@@ -172,15 +174,16 @@ public class ForeignKeyColumnDescriptor extends ColumnDescriptor {
 
         try {
             if (foreignKeyColumnChainTokens.length == 0) {
-                foreignKeyColumnChainTokens = ArrayUtils.add(foreignKeyColumnChainTokens,
-                    foreignTable.getColumnName(foreignKeyIndex));
+                // The rows can be populated in parallel, so the chain is published at once
+                String[] chainTokens = { foreignTable.getColumnName(foreignKeyIndex) };
                 ColumnDescriptor foreignColumnDescriptor = foreignTable.getDataModel().getDescriptor(foreignKeyIndex);
                 if (foreignColumnDescriptor
                     .isReference() && foreignColumnDescriptor instanceof ForeignKeyColumnDescriptor) {
                     // In the case when foreign key is like: ">policies.driver"
                     String[] endOfChain = ((ForeignKeyColumnDescriptor) foreignColumnDescriptor).foreignKeyColumnChainTokens;
-                    foreignKeyColumnChainTokens = ArrayUtils.addAll(foreignKeyColumnChainTokens, endOfChain);
+                    chainTokens = ArrayUtils.addAll(chainTokens, endOfChain);
                 }
+                foreignKeyColumnChainTokens = chainTokens;
             }
             result = foreignTable.findObject(foreignKeyIndex, key, bindingContext);
             resType = foreignTable.getDataModel().getType();
@@ -563,7 +566,13 @@ public class ForeignKeyColumnDescriptor extends ColumnDescriptor {
                 return null;
             }
 
-            return getDomainClass(foreignTable, foreignKeyIndex);
+            ForeignDomain cached = foreignDomain;
+            if (cached != null && cached.table == foreignTable && cached.columnIndex == foreignKeyIndex) {
+                return cached.domainClass;
+            }
+            DomainOpenClass domainClass = getDomainClass(foreignTable, foreignKeyIndex);
+            foreignDomain = new ForeignDomain(foreignTable, foreignKeyIndex, domainClass);
+            return domainClass;
         }
 
         return null;
@@ -605,10 +614,7 @@ public class ForeignKeyColumnDescriptor extends ColumnDescriptor {
             IdentifierNode[] fieldChainTokens) {
         Object resObj = parentObj;
         if (fieldChainTokens.length > 1) {
-            IOpenField openField = DataTableBindHelper.processFieldsChain(bindingContext,
-                null,
-                resType,
-                ArrayUtils.subarray(fieldChainTokens, 1, fieldChainTokens.length));
+            IOpenField openField = getChainField(bindingContext, resType, fieldChainTokens);
             if (openField == null) {
                 return null;
             }
@@ -618,6 +624,27 @@ public class ForeignKeyColumnDescriptor extends ColumnDescriptor {
         return new ResultChainObject(resObj, resType);
     }
 
+    /**
+     * Resolves the accessor chain of the foreign table once for all rows of the table. Unresolved chains are not cached
+     * to report the errors for each of the rows.
+     */
+    private IOpenField getChainField(IBindingContext bindingContext,
+            IOpenClass resType,
+            IdentifierNode[] fieldChainTokens) {
+        ChainField chainField = foreignKeyTableAccessorChainField;
+        if (chainField != null && chainField.type == resType) {
+            return chainField.field;
+        }
+        IOpenField openField = DataTableBindHelper.processFieldsChain(bindingContext,
+            null,
+            resType,
+            ArrayUtils.subarray(fieldChainTokens, 1, fieldChainTokens.length));
+        if (openField != null) {
+            foreignKeyTableAccessorChainField = new ChainField(resType, openField);
+        }
+        return openField;
+    }
+
     public IdentifierNode getForeignKeyTable() {
         return foreignKeyTable;
     }
@@ -640,6 +667,28 @@ public class ForeignKeyColumnDescriptor extends ColumnDescriptor {
         return null;
     }
 
+    private static final class ChainField {
+        private final IOpenClass type;
+        private final IOpenField field;
+
+        private ChainField(IOpenClass type, IOpenField field) {
+            this.type = type;
+            this.field = field;
+        }
+    }
+
+    private static final class ForeignDomain {
+        private final ITable table;
+        private final int columnIndex;
+        private final DomainOpenClass domainClass;
+
+        private ForeignDomain(ITable table, int columnIndex, DomainOpenClass domainClass) {
+            this.table = table;
+            this.columnIndex = columnIndex;
+            this.domainClass = domainClass;
+        }
+    }
+
     static class ResultChainObject {
         private Object value;
         private IOpenClass type;
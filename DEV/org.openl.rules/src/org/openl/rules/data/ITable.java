@@ -59,14 +59,43 @@ public interface ITable {
 
     TableSyntaxNode getTableSyntaxNode();
 
+    /**
+     * @deprecated use {@link #getUniqueRowIndex(int)}
+     */
+    @Deprecated
     Map<String, Integer> getUniqueIndex(int columnIndex) throws SyntaxNodeException;
 
+    /**
+     * Returns the index of the rows by the keys of the column. The index is built once per column.
+     */
+    default RowIndex<String> getUniqueRowIndex(int columnIndex) throws SyntaxNodeException {
+        return RowIndex.of(getUniqueIndex(columnIndex));
+    }
+
     Object getValue(int col, int row);
 
+    /**
+     * @deprecated use {@link #makeUniqueRowIndex(int)}
+     */
+    @Deprecated
     Map<String, Integer> makeUniqueIndex(int idx) throws SyntaxNodeException;
 
+    /**
+     * Builds the index of the rows by the keys of the column.
+     */
+    default RowIndex<String> makeUniqueRowIndex(int idx) throws SyntaxNodeException {
+        return RowIndex.of(makeUniqueIndex(idx));
+    }
+
     List<Object> getUniqueValues(int colIdx) throws SyntaxNodeException;
 
+    /**
+     * Builds the list of the unique values of the column.
+     */
+    default List<Object> makeUniqueValues(int colIdx) throws SyntaxNodeException {
+        return getUniqueValues(colIdx);
+    }
+
     void populate(IDataBase db, IBindingContext bindingContext) throws Exception;
 
     void preLoad(OpenlToolAdaptor ota) throws Exception;
@@ -79,4 +108,11 @@ public interface ITable {
 
     void setPrimaryIndexKey(int row, String value);
 
+    /**
+     * Releases the data which is used only while the tables are bound. The data array and the primary keys stay
+     * available.
+     */
+    default void clearOddDataForExecutionMode() {
+    }
+
 }
@@ -0,0 +1,162 @@
+package org.openl.rules.data;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Index of the rows of a data table by the objects assigned to them, for example by the loaded beans or by the primary
+ * keys. It keeps the objects in an array by the row numbers and an open-addressing hash table of the row numbers by
+ * the objects, so it does not create any entry objects and does not box the row numbers. It is also used as the
+ * unique index of the key columns which are referenced by foreign keys.
+ * <p>
+ * The index is filled by a single thread while the table is loaded and it is read without locking after that. If an
+ * object is assigned to several rows, the last row is returned for it. The indexes are created by the data tables only,
+ * other {@link ITable} implementations provide the maps of the rows which are converted to the indexes.
+ */
+public final class RowIndex<T> {
+
+    private static final int NOT_FOUND = -1;
+
+    private final boolean identity;
+    private Object[] byRow;
+    private Object[] slots;
+    private int[] slotRows;
+    private int size;
+
+    private RowIndex(boolean identity, int expectedRows) {
+        this.identity = identity;
+        this.byRow = new Object[Math.max(expectedRows, 1)];
+        int capacity = Integer.highestOneBit(Math.max(expectedRows, 1) * 2 - 1) << 1;
+        this.slots = new Object[capacity];
+        this.slotRows = new int[capacity];
+    }
+
+    /**
+     * Creates an index which compares the objects by identity. It is used for the loaded beans, which can have
+     * overridden {@code equals} methods.
+     */
+    static <T> RowIndex<T> byIdentity(int expectedRows) {
+        return new RowIndex<>(true, expectedRows);
+    }
+
+    /**
+     * Creates an index which compares the objects by {@code equals}.
+     */
+    static <T> RowIndex<T> byEquality(int expectedRows) {
+        return new RowIndex<>(false, expectedRows);
+    }
+
+    /**
+     * Creates an index which compares the keys by {@code equals} from the map of the rows by the keys.
+     */
+    static <T> RowIndex<T> of(Map<T, Integer> rows) {
+        RowIndex<T> index = byEquality(rows.size());
+        for (Map.Entry<T, Integer> entry : rows.entrySet()) {
+            index.put(entry.getValue(), entry.getKey());
+        }
+        return index;
+    }
+
+    /**
+     * @return the map of the rows by the objects
+     */
+    @SuppressWarnings("unchecked")
+    public Map<T, Integer> toMap() {
+        Map<T, Integer> rows = new HashMap<>();
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] != null) {
+                rows.put((T) slots[i], slotRows[i]);
+            }
+        }
+        return Collections.unmodifiableMap(rows);
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int row) {
+        Object[] byRow = this.byRow;
+        return row >= 0 && row < byRow.length ? (T) byRow[row] : null;
+    }
+
+    /**
+     * @return the row of the object or {@code null} if the object is not in the index
+     */
+    public Integer getRow(T value) {
+        if (value == null) {
+            return null;
+        }
+        Object[] slots = this.slots;
+        int mask = slots.length - 1;
+        for (int i = hash(value) & mask;; i = (i + 1) & mask) {
+            Object slot = slots[i];
+            if (slot == null) {
+                return null;
+            }
+            if (isSame(slot, value)) {
+                return slotRows[i];
+            }
+        }
+    }
+
+    /**
+     * Assigns the object to the row.
+     *
+     * @return the previous row of the object or {@code -1} if the object has not been in the index
+     */
+    int put(int row, T value) {
+        if (row >= byRow.length) {
+            byRow = Arrays.copyOf(byRow, Math.max(row + 1, byRow.length * 2));
+        }
+        byRow[row] = value;
+        if (value == null) {
+            return NOT_FOUND;
+        }
+        int mask = slots.length - 1;
+        int i = hash(value) & mask;
+        while (slots[i] != null) {
+            if (isSame(slots[i], value)) {
+                int previous = slotRows[i];
+                slotRows[i] = row;
+                return previous;
+            }
+            i = (i + 1) & mask;
+        }
+        slotRows[i] = row;
+        slots[i] = value;
+        if (++size * 2 > slots.length) {
+            rehash();
+        }
+        return NOT_FOUND;
+    }
+
+    private void rehash() {
+        Object[] oldSlots = slots;
+        int[] oldSlotRows = slotRows;
+        Object[] newSlots = new Object[oldSlots.length * 2];
+        int[] newSlotRows = new int[newSlots.length];
+        int mask = newSlots.length - 1;
+        for (int j = 0; j < oldSlots.length; j++) {
+            Object value = oldSlots[j];
+            if (value != null) {
+                int i = hash(value) & mask;
+                while (newSlots[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                newSlots[i] = value;
+                newSlotRows[i] = oldSlotRows[j];
+            }
+        }
+        slotRows = newSlotRows;
+        slots = newSlots;
+    }
+
+    private int hash(Object value) {
+        int h = identity ? System.identityHashCode(value) : value.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private boolean isSame(Object slot, Object value) {
+        return slot == value || !identity && slot.equals(value);
+    }
+}
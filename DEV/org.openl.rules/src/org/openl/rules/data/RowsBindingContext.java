@@ -0,0 +1,44 @@
+package org.openl.rules.data;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.openl.binding.IBindingContext;
+import org.openl.rules.binding.DeferredMessagesBindingContext;
+import org.openl.rules.lang.xls.syntax.TableSyntaxNode;
+import org.openl.syntax.exception.SyntaxNodeException;
+
+/**
+ * Binding context for a chunk of the rows of a data table which is loaded in a separate thread. The errors and the
+ * messages are kept in this context and they are added to the module binding context after all rows are loaded, so
+ * they are reported in the same order as if the rows are loaded sequentially.
+ */
+final class RowsBindingContext extends DeferredMessagesBindingContext {
+
+    private final Set<SyntaxNodeException> tableErrors = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    RowsBindingContext(IBindingContext delegate) {
+        super(delegate);
+    }
+
+    /**
+     * Adds the error which is reported for the table syntax node too.
+     */
+    void addTableError(SyntaxNodeException error) {
+        tableErrors.add(error);
+        addError(error);
+    }
+
+    /**
+     * Adds the errors and the messages to the binding context and the table errors to the table syntax node.
+     */
+    void reportTo(IBindingContext bindingContext, TableSyntaxNode tableSyntaxNode) {
+        for (SyntaxNodeException error : getDeferredErrors()) {
+            if (tableErrors.contains(error)) {
+                tableSyntaxNode.addError(error);
+            }
+        }
+        reportTo(bindingContext);
+    }
+}
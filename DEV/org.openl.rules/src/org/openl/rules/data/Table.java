@@ -3,13 +3,19 @@ package org.openl.rules.data;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
 
 import org.openl.binding.IBindingContext;
+import org.openl.engine.CompilationPool;
+import org.openl.engine.OpenLSystemProperties;
 import org.openl.exception.OpenLCompilationException;
 import org.openl.exception.OpenLRuntimeException;
 import org.openl.rules.OpenlToolAdaptor;
@@ -23,12 +29,14 @@ import org.openl.syntax.exception.CompositeSyntaxNodeException;
 import org.openl.syntax.exception.SyntaxNodeException;
 import org.openl.syntax.exception.SyntaxNodeExceptionUtils;
 import org.openl.types.IOpenClass;
-import org.openl.util.BiMap;
 import org.openl.util.MessageUtils;
 import org.openl.vm.IRuntimeEnv;
 
 public class Table implements ITable {
 
+    private static final int PARALLEL_POPULATION_MIN_ROWS = 1000;
+    private static final int PARALLEL_POPULATION_MIN_CHUNK = 250;
+
     private ILogicalTable logicalTable;
     private ITableModel dataModel;
 
@@ -38,9 +46,10 @@ public class Table implements ITable {
     private Object dataArray;
     private List<DatatypeArrayMultiRowElementContext> dataContextCache;
 
-    private BiMap<Integer, Object> rowIndexMap;
-    private BiMap<Integer, String> primaryIndexMap;
-    private Map<Integer, Integer> dataIdxToTableRowNum;
+    private RowIndex<Object> rowIndex;
+    private RowIndex<String> primaryIndex;
+    private int[] dataIdxToTableRowNum;
+    private int dataIdxCount;
 
     public Table(ITableModel dataModel, ILogicalTable data) {
         this.dataModel = dataModel;
@@ -141,16 +150,21 @@ public class Table implements ITable {
     }
 
     @Override
-    public synchronized String getPrimaryIndexKey(int row) {
-        if (primaryIndexMap == null) {
+    public String getPrimaryIndexKey(int row) {
+        RowIndex<String> primaryIndex = this.primaryIndex;
+        if (primaryIndex == null) {
             return null;
         }
-        return primaryIndexMap.get(row);
+        return primaryIndex.get(row);
     }
 
     @Override
     public Integer getRowIndex(Object target) {
-        return rowIndexMap.getKey(target);
+        RowIndex<Object> rowIndex = this.rowIndex;
+        if (rowIndex == null) {
+            return null;
+        }
+        return rowIndex.getRow(target);
     }
 
     @Override
@@ -168,32 +182,46 @@ public class Table implements ITable {
         return tableSyntaxNode;
     }
 
+    /**
+     * @deprecated use {@link #getUniqueRowIndex(int)}
+     */
     @Override
+    @Deprecated
     public Map<String, Integer> getUniqueIndex(int columnIndex) throws SyntaxNodeException {
+        return getUniqueRowIndex(columnIndex).toMap();
+    }
+
+    @Override
+    public RowIndex<String> getUniqueRowIndex(int columnIndex) throws SyntaxNodeException {
         ColumnDescriptor descriptor = dataModel.getDescriptor(columnIndex);
 
-        return descriptor.getUniqueIndex(this, columnIndex);
+        return descriptor.getUniqueRowIndex(this, columnIndex);
     }
 
     @Override
     public Object getValue(int col, int row) {
         int startRows = getStartRowForData();
         int idx = row - startRows;
-        Object rowObject = rowIndexMap == null ? Array.get(dataArray, idx) : rowIndexMap.get(idx);
+        Object rowObject = rowIndex == null ? Array.get(dataArray, idx) : rowIndex.get(idx);
 
         return dataModel.getDescriptor(col).getColumnValue(rowObject);
     }
 
+    /**
+     * @deprecated use {@link #makeUniqueRowIndex(int)}
+     */
     @Override
+    @Deprecated
     public Map<String, Integer> makeUniqueIndex(int colIdx) throws SyntaxNodeException {
-        Map<String, Integer> index = new HashMap<>();
+        return makeUniqueRowIndex(colIdx).toMap();
+    }
 
-        if (dataIdxToTableRowNum == null || dataIdxToTableRowNum.isEmpty()) {
-            return Collections.emptyMap();
-        }
+    @Override
+    public RowIndex<String> makeUniqueRowIndex(int colIdx) throws SyntaxNodeException {
+        RowIndex<String> index = RowIndex.byEquality(dataIdxCount);
 
-        for (Map.Entry<Integer, Integer> entry : dataIdxToTableRowNum.entrySet()) {
-            IGridTable gridTable = logicalTable.getSubtable(colIdx, entry.getValue(), 1, 1).getSource();
+        for (int dataIdx = 0; dataIdx < dataIdxCount; dataIdx++) {
+            IGridTable gridTable = logicalTable.getSubtable(colIdx, dataIdxToTableRowNum[dataIdx], 1, 1).getSource();
             String key = gridTable.getCell(0, 0).getStringValue();
 
             if (key == null) {
@@ -203,29 +231,35 @@ public class Table implements ITable {
 
             key = key.trim();
 
-            if (index.containsKey(key)) {
+            if (index.put(dataIdx, key) >= 0) {
                 throw SyntaxNodeExceptionUtils.createError(MessageUtils.getDuplicatedKeyIndexErrorMessage(key),
                     new GridCellSourceCodeModule(gridTable));
             }
-
-            index.put(key, entry.getKey());
         }
 
-        return Collections.unmodifiableMap(index);
+        return index;
     }
 
     @Override
     public List<Object> getUniqueValues(int colIdx) throws SyntaxNodeException {
+        ColumnDescriptor descriptor = dataModel.getDescriptor(colIdx);
 
-        List<Object> values = new ArrayList<>();
+        return descriptor.getUniqueValues(this, colIdx);
+    }
+
+    @Override
+    public List<Object> makeUniqueValues(int colIdx) throws SyntaxNodeException {
 
-        if (dataIdxToTableRowNum == null || dataIdxToTableRowNum.isEmpty()) {
+        if (dataIdxCount == 0) {
             return Collections.emptyList();
         }
 
-        for (Map.Entry<Integer, Integer> entry : dataIdxToTableRowNum.entrySet()) {
+        List<Object> values = new ArrayList<>(dataIdxCount);
+        Set<Object> uniqueValues = new HashSet<>();
+
+        for (int dataIdx = 0; dataIdx < dataIdxCount; dataIdx++) {
 
-            IGridTable gridTable = logicalTable.getSubtable(colIdx, entry.getValue(), 1, 1).getSource();
+            IGridTable gridTable = logicalTable.getSubtable(colIdx, dataIdxToTableRowNum[dataIdx], 1, 1).getSource();
             Object value = gridTable.getCell(0, 0).getObjectValue();
 
             if (value == null) {
@@ -233,7 +267,7 @@ public class Table implements ITable {
                     new GridCellSourceCodeModule(gridTable));
             }
 
-            if (values.contains(value)) {
+            if (!uniqueValues.add(value)) {
                 throw SyntaxNodeExceptionUtils.createError(
                     MessageUtils.getDuplicatedKeyIndexErrorMessage(String.valueOf(value)),
                     new GridCellSourceCodeModule(gridTable));
@@ -242,76 +276,40 @@ public class Table implements ITable {
             values.add(value);
         }
 
-        return values;
+        return Collections.unmodifiableList(values);
     }
 
     @Override
     public void populate(IDataBase dataBase, IBindingContext bindingContext) throws Exception {
 
-        int rows = logicalTable.getHeight();
-        int columns = logicalTable.getWidth();
-
         Collection<SyntaxNodeException> errorSyntaxNodeExceptions = new ArrayList<>(0);
 
         int dataArrayLength = Array.getLength(dataArray);
-        for (int i = 0; i < dataArrayLength; i++) {
-            IRuntimeEnv env = bindingContext.getOpenL().getVm().getRuntimeEnv();
-            Object target = Array.get(dataArray, i);
-            env.pushThis(target);
-
-            int rowNum = dataIdxToTableRowNum.get(i);
-            // calculate height
-            int height;
-            if (i + 1 < dataArrayLength) {
-                height = dataIdxToTableRowNum.get(i + 1) - rowNum;
-            } else {
-                height = rows - rowNum;
-            }
-
-            DatatypeArrayMultiRowElementContext context = getCachedContext(i);
-            if (context == null) {
-                context = new DatatypeArrayMultiRowElementContext();
-            }
-            env.pushLocalFrame(new Object[] { context });
-            for (int j = 0; j < columns; j++) {
-                ColumnDescriptor descriptor = dataModel.getDescriptor(j);
-
-                if (descriptor instanceof ForeignKeyColumnDescriptor) {
-                    ForeignKeyColumnDescriptor fkDescriptor = (ForeignKeyColumnDescriptor) descriptor;
-
-                    if (fkDescriptor.isReference()) {
-                        try {
-                            if (descriptor.isConstructor()) {
-                                target = fkDescriptor.getLiteralByForeignKey(dataModel.getType(),
-                                    logicalTable.getSubtable(j, rowNum, 1, height),
-                                    dataBase,
-                                    bindingContext);
-                            } else {
-                                fkDescriptor.populateLiteralByForeignKey(target,
-                                    logicalTable.getSubtable(j, rowNum, 1, height),
-                                    dataBase,
-                                    bindingContext,
-                                    env);
-                            }
-                        } catch (SyntaxNodeException e) {
-                            boolean found = false;
-                            for (SyntaxNodeException syntaxNodeException : errorSyntaxNodeExceptions) {
-                                if (syntaxNodeException.getMessage()
-                                    .equals(e.getMessage()) && syntaxNodeException
-                                        .getSourceUri() != null && syntaxNodeException.getSourceUri()
-                                            .equals(e.getSourceUri())) {
-                                    found = true;
-                                }
-                            }
-                            if (!found) {
-                                errorSyntaxNodeExceptions.add(e);
-                            }
-                        }
+        if (isParallelPopulation(bindingContext, dataArrayLength)) {
+            List<RowsChunk> chunks = CompilationPool.invokeAll(splitToChunks(0, dataArrayLength, (from, to) -> {
+                RowsChunk chunk = new RowsChunk(bindingContext);
+                try {
+                    for (int i = from; i < to; i++) {
+                        populateRow(i, dataBase, chunk.bindingContext, chunk.errors);
                     }
+                } catch (Exception e) {
+                    chunk.failure = e;
                 }
+                return chunk;
+            }));
+            for (RowsChunk chunk : chunks) {
+                chunk.bindingContext.reportTo(bindingContext, tableSyntaxNode);
+                if (chunk.failure != null) {
+                    throw chunk.failure;
+                }
+                for (SyntaxNodeException e : chunk.errors) {
+                    addPopulationError(errorSyntaxNodeExceptions, e);
+                }
+            }
+        } else {
+            for (int i = 0; i < dataArrayLength; i++) {
+                populateRow(i, dataBase, bindingContext, errorSyntaxNodeExceptions);
             }
-            env.popLocalFrame();
-            env.popThis();
         }
         // clear cache
         dataContextCache = null;
@@ -321,6 +319,76 @@ public class Table implements ITable {
         }
     }
 
+    private void populateRow(int i,
+            IDataBase dataBase,
+            IBindingContext bindingContext,
+            Collection<SyntaxNodeException> errorSyntaxNodeExceptions) throws Exception {
+        int rows = logicalTable.getHeight();
+        int columns = logicalTable.getWidth();
+        int dataArrayLength = Array.getLength(dataArray);
+
+        IRuntimeEnv env = bindingContext.getOpenL().getVm().getRuntimeEnv();
+        Object target = Array.get(dataArray, i);
+        env.pushThis(target);
+
+        int rowNum = dataIdxToTableRowNum[i];
+        // calculate height
+        int height;
+        if (i + 1 < dataArrayLength) {
+            height = dataIdxToTableRowNum[i + 1] - rowNum;
+        } else {
+            height = rows - rowNum;
+        }
+
+        DatatypeArrayMultiRowElementContext context = getCachedContext(i);
+        if (context == null) {
+            context = new DatatypeArrayMultiRowElementContext();
+        }
+        env.pushLocalFrame(new Object[] { context });
+        for (int j = 0; j < columns; j++) {
+            ColumnDescriptor descriptor = dataModel.getDescriptor(j);
+
+            if (descriptor instanceof ForeignKeyColumnDescriptor) {
+                ForeignKeyColumnDescriptor fkDescriptor = (ForeignKeyColumnDescriptor) descriptor;
+
+                if (fkDescriptor.isReference()) {
+                    try {
+                        if (descriptor.isConstructor()) {
+                            target = fkDescriptor.getLiteralByForeignKey(dataModel.getType(),
+                                logicalTable.getSubtable(j, rowNum, 1, height),
+                                dataBase,
+                                bindingContext);
+                        } else {
+                            fkDescriptor.populateLiteralByForeignKey(target,
+                                logicalTable.getSubtable(j, rowNum, 1, height),
+                                dataBase,
+                                bindingContext,
+                                env);
+                        }
+                    } catch (SyntaxNodeException e) {
+                        addPopulationError(errorSyntaxNodeExceptions, e);
+                    }
+                }
+            }
+        }
+        env.popLocalFrame();
+        env.popThis();
+    }
+
+    private static void addPopulationError(Collection<SyntaxNodeException> errorSyntaxNodeExceptions,
+            SyntaxNodeException e) {
+        boolean found = false;
+        for (SyntaxNodeException syntaxNodeException : errorSyntaxNodeExceptions) {
+            if (syntaxNodeException.getMessage().equals(e.getMessage()) && syntaxNodeException
+                .getSourceUri() != null && syntaxNodeException.getSourceUri().equals(e.getSourceUri())) {
+                found = true;
+            }
+        }
+        if (!found) {
+            errorSyntaxNodeExceptions.add(e);
+        }
+    }
+
     @Override
     public void preLoad(OpenlToolAdaptor openlAdapter) throws Exception {
         int rows = logicalTable.getHeight();
@@ -340,12 +408,117 @@ public class Table implements ITable {
             this.dataContextCache = Collections.unmodifiableList(dataContexts);
         } else {
             dataArray = Array.newInstance(dataModel.getInstanceClass(), rows - startRow);
-            for (int rowNum = startRow; rowNum < rows; rowNum++) {
-                processRow(openlAdapter, startRow, rowNum);
+            if (openlAdapter.getHeader() == null && !hasPrimaryKeyField() && isParallelPopulation(
+                openlAdapter.getBindingContext(),
+                rows - startRow)) {
+                processRowsInParallel(openlAdapter, startRow, rows);
+            } else {
+                for (int rowNum = startRow; rowNum < rows; rowNum++) {
+                    processRow(openlAdapter, startRow, rowNum);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if the rows can be loaded in parallel. The tables are loaded in parallel in execution mode only, because
+     * meta info is not collected in this mode. The cells with formulas are compiled for the tables with a header only,
+     * so data tables do not change the binding context.
+     */
+    private boolean isParallelPopulation(IBindingContext bindingContext, int size) {
+        return tableSyntaxNode.getNodeType() == XlsNodeTypes.XLS_DATA && bindingContext
+            .isExecutionMode() && OpenLSystemProperties.isParallelDataPopulation(
+                bindingContext.getExternalParams()) && size >= PARALLEL_POPULATION_MIN_ROWS && CompilationPool
+                    .getParallelism() > 1;
+    }
+
+    /**
+     * The keys of the primary key column are checked for duplicates in the order of the rows.
+     */
+    private boolean hasPrimaryKeyField() {
+        for (ColumnDescriptor descriptor : dataModel.getDescriptors()) {
+            if (descriptor != null && descriptor.getField() instanceof PrimaryKeyField) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Loads the rows in the compilation pool. The literals are created and indexed before, so the rows do not
+     * depend on each other. The errors are reported in the order of the rows after all rows are loaded.
+     */
+    private void processRowsInParallel(OpenlToolAdaptor openlAdapter,
+            int startRow,
+            int rows) throws Exception {
+        boolean constructor = isConstructor();
+        Object[] literals = new Object[rows - startRow];
+        for (int rowNum = startRow; rowNum < rows; rowNum++) {
+            int idx = rowNum - startRow;
+            if (!constructor) {
+                literals[idx] = createLiteral();
+                addToRowIndex(idx, literals[idx]);
+            }
+            bindDataIndexWithTableRowNum(idx, rowNum);
+        }
+
+        IBindingContext bindingContext = openlAdapter.getBindingContext();
+        List<RowsChunk> chunks = CompilationPool.invokeAll(splitToChunks(startRow, rows, (from, to) -> {
+            RowsChunk chunk = new RowsChunk(bindingContext);
+            OpenlToolAdaptor chunkAdapter = new OpenlToolAdaptor(openlAdapter.getOpenl(),
+                chunk.bindingContext,
+                tableSyntaxNode);
+            try {
+                for (int rowNum = from; rowNum < to; rowNum++) {
+                    processRow(chunkAdapter,
+                        rowNum,
+                        constructor,
+                        literals[rowNum - startRow],
+                        chunk.bindingContext::addTableError);
+                }
+            } catch (Exception e) {
+                chunk.failure = e;
+            }
+            return chunk;
+        }));
+        for (RowsChunk chunk : chunks) {
+            chunk.bindingContext.reportTo(bindingContext, tableSyntaxNode);
+            if (chunk.failure != null) {
+                throw chunk.failure;
             }
         }
     }
 
+    private static List<Callable<RowsChunk>> splitToChunks(int from, int to, RowsChunkLoader loader) {
+        int chunkSize = Math.max(PARALLEL_POPULATION_MIN_CHUNK,
+            (to - from) / (CompilationPool.getParallelism() * 4) + 1);
+        List<Callable<RowsChunk>> chunks = new ArrayList<>();
+        for (int chunkFrom = from; chunkFrom < to; chunkFrom += chunkSize) {
+            int chunkTo = Math.min(to, chunkFrom + chunkSize);
+            int start = chunkFrom;
+            chunks.add(() -> loader.load(start, chunkTo));
+        }
+        return chunks;
+    }
+
+    @FunctionalInterface
+    private interface RowsChunkLoader {
+        RowsChunk load(int from, int to) throws Exception;
+    }
+
+    /**
+     * The results of the loading of a chunk of the rows.
+     */
+    private static final class RowsChunk {
+        private final RowsBindingContext bindingContext;
+        private final List<SyntaxNodeException> errors = new ArrayList<>(0);
+        private Exception failure;
+
+        private RowsChunk(IBindingContext bindingContext) {
+            this.bindingContext = new RowsBindingContext(bindingContext);
+        }
+    }
+
     private boolean isSupportMultirow() {
         if (dataModel.getDescriptors().length > 0) {
             for (ColumnDescriptor descriptor : dataModel.getDescriptors()) {
@@ -572,26 +745,41 @@ public class Table implements ITable {
             addToRowIndex(rowIndex, literal);
         }
 
+        processRow(openlAdapter, rowNum, constructor, literal, ex -> {
+            tableSyntaxNode.addError(ex);
+            openlAdapter.getBindingContext().addError(ex);
+        });
+
+        bindDataIndexWithTableRowNum(rowIndex, rowNum);
+    }
+
+    private void processRow(OpenlToolAdaptor openlAdapter,
+            int rowNum,
+            boolean constructor,
+            Object literal,
+            Consumer<SyntaxNodeException> errorHandler) throws OpenLCompilationException {
+
         IRuntimeEnv env = openlAdapter.getOpenl().getVm().getRuntimeEnv();
         env.pushLocalFrame(new Object[] { new DatatypeArrayMultiRowElementContext() });
         for (ColumnDescriptor columnDescriptor : dataModel.getDescriptors()) {
-            literal = processColumn(columnDescriptor, openlAdapter, constructor, rowNum, literal, env);
+            literal = processColumn(columnDescriptor, openlAdapter, constructor, rowNum, literal, env, errorHandler);
         }
         env.popLocalFrame();
         if (literal == null) {
             literal = dataModel.getType().nullObject();
         }
 
-        int idx = rowNum - startRow;
-        bindDataIndexWithTableRowNum(idx, rowNum);
-        Array.set(dataArray, idx, literal);
+        Array.set(dataArray, rowNum - getStartRowForData(), literal);
     }
 
-    private void bindDataIndexWithTableRowNum(Integer idx, Integer rowNum) {
+    private void bindDataIndexWithTableRowNum(int idx, int rowNum) {
         if (dataIdxToTableRowNum == null) {
-            dataIdxToTableRowNum = new HashMap<>();
+            dataIdxToTableRowNum = new int[Math.max(logicalTable.getHeight() - getStartRowForData(), idx + 1)];
+        } else if (idx >= dataIdxToTableRowNum.length) {
+            dataIdxToTableRowNum = Arrays.copyOf(dataIdxToTableRowNum, idx + 1);
         }
-        dataIdxToTableRowNum.put(idx, rowNum);
+        dataIdxToTableRowNum[idx] = rowNum;
+        dataIdxCount = Math.max(dataIdxCount, idx + 1);
     }
 
     private Object processColumn(ColumnDescriptor columnDescriptor,
@@ -599,7 +787,8 @@ public class Table implements ITable {
             boolean constructor,
             int rowNum,
             Object literal,
-            IRuntimeEnv env) throws SyntaxNodeException {
+            IRuntimeEnv env,
+            Consumer<SyntaxNodeException> errorHandler) throws SyntaxNodeException {
 
         if (columnDescriptor != null && !columnDescriptor.isReference()) {
             if (constructor) {
@@ -615,8 +804,7 @@ public class Table implements ITable {
                         return columnDescriptor.populateLiteral(literal, lTable, openlAdapter, env);
                     }
                 } catch (SyntaxNodeException ex) {
-                    tableSyntaxNode.addError(ex);
-                    openlAdapter.getBindingContext().addError(ex);
+                    errorHandler.accept(ex);
                 }
             }
         }
@@ -626,21 +814,28 @@ public class Table implements ITable {
 
     @Override
     public synchronized void setPrimaryIndexKey(int row, String value) {
-        if (primaryIndexMap == null) {
-            primaryIndexMap = new BiMap<>();
+        if (primaryIndex == null) {
+            primaryIndex = RowIndex.byEquality(logicalTable.getHeight());
         }
-        Integer oldRow = primaryIndexMap.getKey(value);
+        Integer oldRow = primaryIndex.getRow(value);
         if (oldRow != null && row != oldRow) {
             throw new OpenLRuntimeException(String.format("Duplicated key: %s in rows %s and %s.", value, oldRow, row));
         }
-        primaryIndexMap.put(row, value);
+        primaryIndex.put(row, value);
     }
 
     @Override
-    public Object findObject(int columnIndex, String skey, IBindingContext cxt) throws SyntaxNodeException {
-        Map<String, Integer> index = getUniqueIndex(columnIndex);
+    public void clearOddDataForExecutionMode() {
+        dataContextCache = null;
+        if (primaryIndex == null) {
+            // The rows of the beans are required to find their primary keys only
+            rowIndex = null;
+        }
+    }
 
-        Integer found = index.get(skey);
+    @Override
+    public Object findObject(int columnIndex, String skey, IBindingContext cxt) throws SyntaxNodeException {
+        Integer found = getUniqueRowIndex(columnIndex).getRow(skey);
 
         if (found == null) {
             return null;
@@ -649,11 +844,11 @@ public class Table implements ITable {
         return Array.get(dataArray, found);
     }
 
-    private void addToRowIndex(int rowIndex, Object target) {
-        if (rowIndexMap == null) {
-            rowIndexMap = new BiMap<>();
+    private void addToRowIndex(int row, Object target) {
+        if (rowIndex == null) {
+            rowIndex = RowIndex.byIdentity(logicalTable.getHeight());
         }
-        rowIndexMap.put(rowIndex, target);
+        rowIndex.put(row, target);
     }
 
     /**
@@ -28,6 +28,7 @@ import org.openl.binding.impl.cast.IOpenCast;
 import org.openl.binding.impl.module.ModuleOpenClass;
 import org.openl.classloader.OpenLBundleClassLoader;
 import org.openl.engine.OpenLManager;
+import org.openl.engine.OpenLSystemProperties;
 import org.openl.exception.OpenLCompilationException;
 import org.openl.gen.ByteCodeGenerationException;
 import org.openl.gen.FieldDescription;
@@ -195,7 +196,7 @@ public class DatatypeTableBoundNode implements IMemberBoundNode {
                 log.debug("Loaded from classloader class '{}' is used.", datatypeClassName);
             } catch (ClassNotFoundException e) {
                 try {
-                    final byte[] byteCode = buildByteCodeForDatatype(fields);
+                    final byte[] byteCode = buildByteCodeForDatatype(fields, bindingContext);
                     classLoader.addGeneratedClass(datatypeClassName, byteCode);
                     dataType.setBytecode(byteCode);
                     byteCodeReadyToLoad = true;
@@ -243,12 +244,14 @@ public class DatatypeTableBoundNode implements IMemberBoundNode {
      * Generate a simple java bean for current datatype table.
      *
      * @param fields fields for bean class
+     * @param bindingContext binding context
      * @return Class descriptor of generated bean class.
      */
-    private byte[] buildByteCodeForDatatype(Map<String, FieldDescription> fields) {
+    private byte[] buildByteCodeForDatatype(Map<String, FieldDescription> fields, IBindingContext bindingContext) {
         String datatypeClassName = dataType.getJavaName();
         IOpenClass superOpenClass = dataType.getSuperClass();
-        JavaBeanClassBuilder beanBuilder = new JavaBeanClassBuilder(datatypeClassName);
+        JavaBeanClassBuilder beanBuilder = new JavaBeanClassBuilder(datatypeClassName)
+            .withHashCodeCaching(OpenLSystemProperties.isDatatypeHashCodeCaching(bindingContext.getExternalParams()));
         if (superOpenClass != null) {
             beanBuilder.setParentType(new TypeDescription(superOpenClass.getJavaName()));
             if (superOpenClass instanceof DatatypeOpenClass) {
@@ -0,0 +1,143 @@
+package org.openl.rules.datatype.gen;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.openl.rules.table.DatatypeCloner;
+
+import com.rits.cloning.IDeepCloner;
+
+/**
+ * Generates byte code of a {@link DatatypeCloner} for a datatype class. The generated class must be defined in the
+ * same package and in the same class loader as the datatype class to have an access to its fields.
+ */
+public class DatatypeClonerGenerator {
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(String.class,
+        Boolean.class,
+        Character.class,
+        Byte.class,
+        Short.class,
+        Integer.class,
+        Long.class,
+        Float.class,
+        Double.class));
+
+    private static final String DATATYPE_CLONER = Type.getInternalName(DatatypeCloner.class);
+    private static final String DEEP_CLONER = Type.getInternalName(IDeepCloner.class);
+    private static final String CLONE_FIELDS_DESCRIPTOR = Type.getMethodDescriptor(Type.VOID_TYPE,
+        Type.getType(Object.class),
+        Type.getType(Object.class),
+        Type.getType(IDeepCloner.class),
+        Type.getType(Map.class));
+    private static final String CLONE_ARRAY_DESCRIPTOR = Type
+        .getMethodDescriptor(Type.getType(Object.class), Type.getType(Object.class), Type.getType(Map.class));
+    private static final String DEEP_CLONE_DESCRIPTOR = Type
+        .getMethodDescriptor(Type.getType(Object.class), Type.getType(Object.class), Type.getType(Map.class));
+
+    private final String clonerName;
+    private final String beanName;
+    private final List<Field> fields;
+
+    /**
+     * @param clonerName name of the generated class, with namespace (e.g. <code>my.test.TestClass$Cloner</code>)
+     * @param beanClass the datatype class
+     * @param fields the instance fields of the datatype class and its parents
+     */
+    public DatatypeClonerGenerator(String clonerName, Class<?> beanClass, List<Field> fields) {
+        this.clonerName = clonerName.replace('.', '/');
+        this.beanName = Type.getInternalName(beanClass);
+        this.fields = fields;
+    }
+
+    /**
+     * The values of these types are not cloned, the same instance is copied to the clone. Only final classes are
+     * listed, because the cloners check immutability of the exact class of a value.
+     */
+    public static boolean isImmutable(Class<?> type) {
+        return type.isPrimitive() || type.isEnum() || IMMUTABLE_TYPES.contains(type);
+    }
+
+    public byte[] byteCode() {
+        ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        classWriter.visit(Opcodes.V1_8,
+            Opcodes.ACC_PUBLIC + Opcodes.ACC_FINAL + Opcodes.ACC_SUPER + Opcodes.ACC_SYNTHETIC,
+            clonerName,
+            null,
+            DATATYPE_CLONER,
+            null);
+        writeConstructor(classWriter);
+        writeCloneFields(classWriter);
+        classWriter.visitEnd();
+        return classWriter.toByteArray();
+    }
+
+    private void writeConstructor(ClassWriter classWriter) {
+        MethodVisitor mv = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, DATATYPE_CLONER, "<init>", "()V", false);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    /**
+     * Generates the method without branches: {@code target.field = source.field} for the immutable values,
+     * {@code target.field = cloneArray(source.field, clones)} for the arrays of them and
+     * {@code target.field = cloner.deepClone(source.field, clones)} for the others.
+     */
+    private void writeCloneFields(ClassWriter classWriter) {
+        MethodVisitor mv = classWriter
+            .visitMethod(Opcodes.ACC_PUBLIC, "cloneFields", CLONE_FIELDS_DESCRIPTOR, null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitTypeInsn(Opcodes.CHECKCAST, beanName);
+        mv.visitVarInsn(Opcodes.ASTORE, 5);
+        mv.visitVarInsn(Opcodes.ALOAD, 2);
+        mv.visitTypeInsn(Opcodes.CHECKCAST, beanName);
+        mv.visitVarInsn(Opcodes.ASTORE, 6);
+
+        for (Field field : fields) {
+            String owner = Type.getInternalName(field.getDeclaringClass());
+            Class<?> type = field.getType();
+            String descriptor = Type.getDescriptor(type);
+
+            mv.visitVarInsn(Opcodes.ALOAD, 6);
+            if (isImmutable(type)) {
+                mv.visitVarInsn(Opcodes.ALOAD, 5);
+                mv.visitFieldInsn(Opcodes.GETFIELD, owner, field.getName(), descriptor);
+            } else if (type.isArray() && isImmutable(type.getComponentType())) {
+                mv.visitVarInsn(Opcodes.ALOAD, 5);
+                mv.visitFieldInsn(Opcodes.GETFIELD, owner, field.getName(), descriptor);
+                mv.visitVarInsn(Opcodes.ALOAD, 4);
+                mv.visitMethodInsn(Opcodes.INVOKESTATIC,
+                    DATATYPE_CLONER,
+                    "cloneArray",
+                    CLONE_ARRAY_DESCRIPTOR,
+                    false);
+                mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(type));
+            } else {
+                mv.visitVarInsn(Opcodes.ALOAD, 3);
+                mv.visitVarInsn(Opcodes.ALOAD, 5);
+                mv.visitFieldInsn(Opcodes.GETFIELD, owner, field.getName(), descriptor);
+                mv.visitVarInsn(Opcodes.ALOAD, 4);
+                mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, DEEP_CLONER, "deepClone", DEEP_CLONE_DESCRIPTOR, true);
+                mv.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(type));
+            }
+            mv.visitFieldInsn(Opcodes.PUTFIELD, owner, field.getName(), descriptor);
+        }
+
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+}
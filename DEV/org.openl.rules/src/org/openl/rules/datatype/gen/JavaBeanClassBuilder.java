@@ -21,6 +21,7 @@ public class JavaBeanClassBuilder {
     protected boolean additionalConstructor = true;
     protected boolean publicFields = false;
     protected boolean equalsHashCodeToStringMethods = true;
+    protected boolean hashCodeCaching = false;
 
     public JavaBeanClassBuilder(String beanName) {
         this.beanName = beanName.replace('.', '/');
@@ -89,6 +90,15 @@ public class JavaBeanClassBuilder {
         return this;
     }
 
+    /**
+     * Caches the calculated hashcode in the bean. The cache is reset by the setters, so it is intended for the beans
+     * which are not changed in other ways after they are used as keys.
+     */
+    public JavaBeanClassBuilder withHashCodeCaching(boolean hashCodeCaching) {
+        this.hashCodeCaching = hashCodeCaching;
+        return this;
+    }
+
     /**
      * Creates JavaBean byte code for given fields.
      */
@@ -99,7 +109,8 @@ public class JavaBeanClassBuilder {
             parentFields,
             additionalConstructor,
             equalsHashCodeToStringMethods,
-            publicFields).byteCode();
+            publicFields,
+            hashCodeCaching).byteCode();
     }
 
 }
@@ -5,6 +5,7 @@
 package org.openl.rules.lang.xls;
 
 import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.ArrayUtils;
@@ -20,9 +21,11 @@ import org.openl.binding.impl.module.ModuleNode;
 import org.openl.conf.IUserContext;
 import org.openl.conf.OpenLConfigurationException;
 import org.openl.dependency.CompiledDependency;
+import org.openl.engine.CompilationPool;
 import org.openl.engine.OpenLManager;
 import org.openl.engine.OpenLSystemProperties;
 import org.openl.exception.OpenlNotCheckedException;
+import org.openl.rules.binding.DeferredMessagesBindingContext;
 import org.openl.rules.binding.RecursiveOpenMethodPreBinder;
 import org.openl.rules.binding.RulesModuleBindingContext;
 import org.openl.rules.calc.CustomSpreadsheetResultOpenClass;
@@ -51,6 +54,10 @@ import org.openl.rules.lang.xls.syntax.TableSyntaxNodeHelper;
 import org.openl.rules.lang.xls.syntax.XlsModuleSyntaxNode;
 import org.openl.rules.method.ExecutableRulesMethod;
 import org.openl.rules.method.table.MethodTableNodeBinder;
+import org.openl.rules.profiler.CompilationProfiler;
+import org.openl.rules.profiler.CompilationStatistics;
+import org.openl.rules.profiler.CompilationStatistics.Measurement;
+import org.openl.rules.profiler.CompilationStatistics.Phase;
 import org.openl.rules.property.PropertyTableBinder;
 import org.openl.rules.table.properties.PropertiesLoader;
 import org.openl.rules.tbasic.AlgorithmNodeBinder;
@@ -223,6 +230,14 @@ public class XlsBinder implements IOpenBinder {
             getModuleDatabase(),
             compiledDependencies,
             bindingContext);
+        CompilationStatistics statistics = moduleNode.getCompilationStatistics();
+        if (statistics != null) {
+            // The parsed code can be bound again
+            moduleNode.setCompilationStatistics(null);
+        } else {
+            statistics = CompilationProfiler.start(moduleOpenClass.getName());
+        }
+        moduleOpenClass.setCompilationStatistics(statistics);
         try {
             RulesModuleBindingContext rulesModuleBindingContext = moduleOpenClass.getRulesModuleBindingContext();
 
@@ -234,6 +249,9 @@ public class XlsBinder implements IOpenBinder {
                 .isExecutionMode() && !Boolean.TRUE.equals(bindingContext.getExternalParams().get(DISABLED_CLEAN_UP))) {
                 moduleOpenClass.clearOddDataForExecutionMode();
             }
+            if (statistics != null) {
+                CompilationProfiler.finish(statistics);
+            }
         }
     }
 
@@ -326,7 +344,9 @@ public class XlsBinder implements IOpenBinder {
             processErrors(moduleOpenClass.getErrors(), bindingContext);
 
             if (!Boolean.TRUE.equals(bindingContext.getExternalParams().get(DISABLED_CLEAN_UP))) {
+                Measurement measurement = start(moduleOpenClass, Phase.VALIDATE);
                 ValidationManager.validate(compileContext, topNode.getType(), bindingContext);
+                stop(measurement);
                 if (bindingContext.isExecutionMode()) {
                     XlsModuleOpenClass openClass = (XlsModuleOpenClass) topNode.getType();
                     for (IOpenMethod openMethod : openClass.getMethods()) {
@@ -391,7 +411,9 @@ public class XlsBinder implements IOpenBinder {
         TableSyntaxNode[] tableSyntaxNodes = selectNodes(moduleNode, notPropertiesAndNotOtherSelector);
 
         PropertiesLoader propLoader = new PropertiesLoader(openl, bindingContext, module);
+        Measurement phaseMeasurement = start(module, Phase.BIND_PROPERTIES);
         for (TableSyntaxNode tsn : tableSyntaxNodes) {
+            Measurement measurement = start(module, Phase.BIND_PROPERTIES, tsn);
             try {
                 propLoader.loadProperties(tsn);
             } catch (SyntaxNodeException error) {
@@ -403,8 +425,27 @@ public class XlsBinder implements IOpenBinder {
             } catch (Exception | LinkageError t) {
                 SyntaxNodeException error = SyntaxNodeExceptionUtils.createError(t, tsn);
                 processError(error, tsn, bindingContext);
+            } finally {
+                stop(measurement);
             }
         }
+        stop(phaseMeasurement);
+    }
+
+    private static Measurement start(XlsModuleOpenClass module, Phase phase) {
+        CompilationStatistics statistics = module.getCompilationStatistics();
+        return statistics != null ? statistics.start(phase) : null;
+    }
+
+    private static Measurement start(XlsModuleOpenClass module, Phase phase, TableSyntaxNode tableSyntaxNode) {
+        CompilationStatistics statistics = module.getCompilationStatistics();
+        return statistics != null ? statistics.start(phase, tableSyntaxNode) : null;
+    }
+
+    private static void stop(Measurement measurement) {
+        if (measurement != null) {
+            measurement.stop();
+        }
     }
 
     private void addImports(XlsModuleSyntaxNode moduleNode,
@@ -522,6 +563,17 @@ public class XlsBinder implements IOpenBinder {
                     .getNodeType()) || XlsNodeTypes.XLS_SPREADSHEET.equals(tableSyntaxNode.getNodeType());
     }
 
+    /**
+     * The bodies of these tables depend only on the headers of the methods and on the types, so they can be bound in
+     * parallel.
+     */
+    private boolean isParallelBindingTableSyntaxNode(TableSyntaxNode tableSyntaxNode) {
+        return XlsNodeTypes.XLS_DT.equals(tableSyntaxNode.getNodeType()) || XlsNodeTypes.XLS_TBASIC
+            .equals(tableSyntaxNode.getNodeType()) || XlsNodeTypes.XLS_METHOD
+                .equals(tableSyntaxNode.getNodeType()) || XlsNodeTypes.XLS_COLUMN_MATCH.equals(tableSyntaxNode
+                    .getNodeType());
+    }
+
     private boolean isCustomSpreadsheetResultTableSyntaxNode(TableSyntaxNode tableSyntaxNode) {
         if (XlsNodeTypes.XLS_SPREADSHEET.equals(tableSyntaxNode.getNodeType())) {
             String returnTypeToken = TableSyntaxNodeHelper.getTableReturnType(tableSyntaxNode);
@@ -566,6 +618,7 @@ public class XlsBinder implements IOpenBinder {
         registerNewCustomSpreadsheetResultTypes(tableSyntaxNodes, rulesModuleBindingContext);
 
         SyntaxNodeExceptionHolder syntaxNodeExceptionHolder = new SyntaxNodeExceptionHolder();
+        Measurement measurement = start(module, Phase.PREBIND);
         try {
             rulesModuleBindingContext.setIgnoreCustomSpreadsheetResultCompilation(true);
             for (int i = 0; i < tableSyntaxNodes.length; i++) { // Add methods that should be compiled recursively
@@ -597,20 +650,32 @@ public class XlsBinder implements IOpenBinder {
                 }
             }
         }
+        stop(measurement);
 
-        generateByteCode(childrens, tableSyntaxNodes, rulesModuleBindingContext);
+        measurement = start(module, Phase.GENERATE_BYTECODE);
+        generateByteCode(module, childrens, tableSyntaxNodes, rulesModuleBindingContext);
+        stop(measurement);
 
+        measurement = start(module, Phase.PREBIND);
         for (int i = 0; i < childrens.length; i++) {
             if (isExecutableTableSyntaxNode(tableSyntaxNodes[i])) {
                 rulesModuleBindingContext.preBindMethod(openMethodHeaders[i]);
             }
         }
+        stop(measurement);
 
-        for (int i = 0; i < childrens.length; i++) {
-            if (childrens[i] != null) {
-                finalizeBind(childrens[i], tableSyntaxNodes[i], rulesModuleBindingContext);
+        measurement = start(module, Phase.FINALIZE_BIND);
+        if (OpenLSystemProperties.isParallelBinding(
+            rulesModuleBindingContext.getExternalParams()) && CompilationPool.getParallelism() > 1) {
+            finalizeBindInParallel(module, childrens, tableSyntaxNodes, rulesModuleBindingContext);
+        } else {
+            for (int i = 0; i < childrens.length; i++) {
+                if (childrens[i] != null) {
+                    finalizeBind(module, childrens[i], tableSyntaxNodes[i], rulesModuleBindingContext);
+                }
             }
         }
+        stop(measurement);
 
         syntaxNodeExceptionHolder.processBindingContextErrors(rulesModuleBindingContext);
 
@@ -618,38 +683,106 @@ public class XlsBinder implements IOpenBinder {
         // and
         // meta info initialized.
         if (OpenLSystemProperties.isCustomSpreadsheetTypesSupported(rulesModuleBindingContext.getExternalParams())) {
-            Set<CustomSpreadsheetResultOpenClass> skip = new HashSet<>();
-            for (IMemberBoundNode child : childrens) {
-                if (child instanceof SpreadsheetBoundNode) {
-                    SpreadsheetBoundNode spreadsheetBoundNode = (SpreadsheetBoundNode) child;
-                    if (spreadsheetBoundNode.getSpreadsheet() != null) {
-                        spreadsheetBoundNode.getSpreadsheet()
-                            .getSpreadsheetType()
-                            .getFields()
-                            .forEach(IOpenField::getType);
-                    }
+            resolveSpreadsheetFieldTypes(childrens);
+            resolveCustomSpreadsheetResultFieldTypes(module);
+        }
+
+        if (rulesModuleBindingContext.isExecutionMode()) {
+            removeDebugInformation(childrens, tableSyntaxNodes, rulesModuleBindingContext);
+        }
+
+        return new ModuleNode(moduleSyntaxNode, rulesModuleBindingContext.getModule());
+    }
+
+    /**
+     * Binds the tables which depend only on the headers of the methods in parallel. All headers are bound by
+     * {@link RulesModuleBindingContext#preBindMethod(OpenMethodHeader)} before, so the other tables are bound
+     * sequentially first and then the independent tables are bound on {@link CompilationPool}. Each table is bound with
+     * its own binding context and the errors and the messages of all tables are reported after all of them are bound,
+     * in the order of the tables, so they are the same as if the tables are bound sequentially.
+     */
+    private void finalizeBindInParallel(XlsModuleOpenClass module,
+            IMemberBoundNode[] childrens,
+            TableSyntaxNode[] tableSyntaxNodes,
+            RulesModuleBindingContext rulesModuleBindingContext) {
+        DeferredMessagesBindingContext[] bindingContexts = new DeferredMessagesBindingContext[childrens.length];
+        List<Integer> independentTables = new ArrayList<>();
+        for (int i = 0; i < childrens.length; i++) {
+            if (childrens[i] != null) {
+                if (isParallelBindingTableSyntaxNode(tableSyntaxNodes[i])) {
+                    independentTables.add(i);
+                } else {
+                    bindingContexts[i] = new DeferredMessagesBindingContext(rulesModuleBindingContext);
+                    finalizeBind(module, childrens[i], tableSyntaxNodes[i], bindingContexts[i]);
                 }
             }
-            for (IOpenClass openClass : module.getTypes()) {
-                if (openClass instanceof CustomSpreadsheetResultOpenClass) {
-                    CustomSpreadsheetResultOpenClass customSpreadsheetResultOpenClass = (CustomSpreadsheetResultOpenClass) openClass;
-                    if (!skip.contains(customSpreadsheetResultOpenClass)) {
-                        customSpreadsheetResultOpenClass.getFields().forEach(IOpenField::getType);
-                        skip.add(customSpreadsheetResultOpenClass);
+        }
+
+        if (!independentTables.isEmpty()) {
+            // The types of the spreadsheet cells are resolved lazily, so they are resolved before the parallel binding
+            resolveSpreadsheetFieldTypes(childrens);
+            if (OpenLSystemProperties
+                .isCustomSpreadsheetTypesSupported(rulesModuleBindingContext.getExternalParams())) {
+                resolveCustomSpreadsheetResultFieldTypes(module);
+            }
+
+            List<Callable<DeferredMessagesBindingContext>> tasks = new ArrayList<>(independentTables.size());
+            for (int i : independentTables) {
+                tasks.add(() -> {
+                    DeferredMessagesBindingContext bindingContext = new DeferredMessagesBindingContext(
+                        rulesModuleBindingContext);
+                    try {
+                        finalizeBind(module, childrens[i], tableSyntaxNodes[i], bindingContext);
+                    } finally {
+                        OpenLFuzzyUtils.clearCaches();
                     }
-                }
+                    return bindingContext;
+                });
+            }
+            List<DeferredMessagesBindingContext> independentBindingContexts;
+            try {
+                independentBindingContexts = CompilationPool.invokeAll(tasks);
+            } catch (Exception e) {
+                throw RuntimeExceptionWrapper.wrap(e);
+            }
+            for (int i = 0; i < independentTables.size(); i++) {
+                bindingContexts[independentTables.get(i)] = independentBindingContexts.get(i);
             }
-            module.getSpreadsheetResultOpenClassWithResolvedFieldTypes()
-                .toCustomSpreadsheetResultOpenClass()
-                .getFields()
-                .forEach(IOpenField::getType);
         }
 
-        if (rulesModuleBindingContext.isExecutionMode()) {
-            removeDebugInformation(childrens, tableSyntaxNodes, rulesModuleBindingContext);
+        for (DeferredMessagesBindingContext bindingContext : bindingContexts) {
+            if (bindingContext != null) {
+                bindingContext.reportTo(rulesModuleBindingContext);
+            }
         }
+    }
 
-        return new ModuleNode(moduleSyntaxNode, rulesModuleBindingContext.getModule());
+    private static void resolveSpreadsheetFieldTypes(IMemberBoundNode[] childrens) {
+        for (IMemberBoundNode child : childrens) {
+            if (child instanceof SpreadsheetBoundNode) {
+                SpreadsheetBoundNode spreadsheetBoundNode = (SpreadsheetBoundNode) child;
+                if (spreadsheetBoundNode.getSpreadsheet() != null) {
+                    spreadsheetBoundNode.getSpreadsheet().getSpreadsheetType().getFields().forEach(IOpenField::getType);
+                }
+            }
+        }
+    }
+
+    private static void resolveCustomSpreadsheetResultFieldTypes(XlsModuleOpenClass module) {
+        Set<CustomSpreadsheetResultOpenClass> skip = new HashSet<>();
+        for (IOpenClass openClass : module.getTypes()) {
+            if (openClass instanceof CustomSpreadsheetResultOpenClass) {
+                CustomSpreadsheetResultOpenClass customSpreadsheetResultOpenClass = (CustomSpreadsheetResultOpenClass) openClass;
+                if (!skip.contains(customSpreadsheetResultOpenClass)) {
+                    customSpreadsheetResultOpenClass.getFields().forEach(IOpenField::getType);
+                    skip.add(customSpreadsheetResultOpenClass);
+                }
+            }
+        }
+        module.getSpreadsheetResultOpenClassWithResolvedFieldTypes()
+            .toCustomSpreadsheetResultOpenClass()
+            .getFields()
+            .forEach(IOpenField::getType);
     }
 
     private String getParentClassName(DatatypeTableBoundNode datatypeTableBoundNode,
@@ -664,7 +797,8 @@ public class XlsBinder implements IOpenBinder {
         return null;
     }
 
-    private void generateByteCode(IMemberBoundNode[] childrens,
+    private void generateByteCode(XlsModuleOpenClass module,
+            IMemberBoundNode[] childrens,
             TableSyntaxNode[] tableSyntaxNodes,
             RulesModuleBindingContext rulesModuleBindingContext) {
         Collection<DatatypeTableBoundNode> datatypeTableBoundNodes = null;
@@ -688,6 +822,7 @@ public class XlsBinder implements IOpenBinder {
         for (int i = 0; i < childrens.length; i++) {
             if (childrens[i] instanceof DatatypeTableBoundNode) {
                 DatatypeTableBoundNode datatypeTableBoundNode = (DatatypeTableBoundNode) childrens[i];
+                Measurement measurement = start(module, Phase.GENERATE_BYTECODE, tableSyntaxNodes[i]);
                 try {
                     datatypeTableBoundNode.generateByteCode(rulesModuleBindingContext);
                 } catch (SyntaxNodeException error) {
@@ -701,6 +836,8 @@ public class XlsBinder implements IOpenBinder {
                 } catch (Exception | LinkageError t) {
                     SyntaxNodeException error = SyntaxNodeExceptionUtils.createError(t, tableSyntaxNodes[i]);
                     processError(error, tableSyntaxNodes[i], rulesModuleBindingContext);
+                } finally {
+                    stop(measurement);
                 }
             }
         }
@@ -738,22 +875,34 @@ public class XlsBinder implements IOpenBinder {
         return null;
     }
 
+    private void finalizeBind(XlsModuleOpenClass module,
+            IMemberBoundNode memberBoundNode,
+            TableSyntaxNode tableSyntaxNode,
+            IBindingContext bindingContext) {
+        Measurement measurement = start(module, Phase.FINALIZE_BIND, tableSyntaxNode);
+        try {
+            finalizeBind(memberBoundNode, tableSyntaxNode, bindingContext);
+        } finally {
+            stop(measurement);
+        }
+    }
+
     protected void finalizeBind(IMemberBoundNode memberBoundNode,
             TableSyntaxNode tableSyntaxNode,
-            RulesModuleBindingContext rulesModuleBindingContext) {
+            IBindingContext bindingContext) {
         try {
-            memberBoundNode.finalizeBind(rulesModuleBindingContext);
+            memberBoundNode.finalizeBind(bindingContext);
         } catch (SyntaxNodeException error) {
-            processError(error, tableSyntaxNode, rulesModuleBindingContext);
+            processError(error, tableSyntaxNode, bindingContext);
         } catch (CompositeSyntaxNodeException ex) {
             if (ex.getErrors() != null) {
                 for (SyntaxNodeException error : ex.getErrors()) {
-                    processError(error, tableSyntaxNode, rulesModuleBindingContext);
+                    processError(error, tableSyntaxNode, bindingContext);
                 }
             }
         } catch (Exception | LinkageError t) {
             SyntaxNodeException error = SyntaxNodeExceptionUtils.createError(t, tableSyntaxNode);
-            processError(error, tableSyntaxNode, rulesModuleBindingContext);
+            processError(error, tableSyntaxNode, bindingContext);
         }
     }
 
@@ -786,6 +935,7 @@ public class XlsBinder implements IOpenBinder {
             XlsModuleOpenClass module,
             OpenL openl,
             RulesModuleBindingContext rulesModuleBindingContext) {
+        Measurement measurement = start(module, Phase.PREBIND, tableSyntaxNode);
         try {
             return preBindXlsNode(tableSyntaxNode, openl, rulesModuleBindingContext, module);
         } catch (SyntaxNodeException error) {
@@ -797,15 +947,17 @@ public class XlsBinder implements IOpenBinder {
         } catch (Exception | LinkageError t) {
             SyntaxNodeException error = SyntaxNodeExceptionUtils.createError(t, tableSyntaxNode);
             processError(error, tableSyntaxNode, rulesModuleBindingContext);
+        } finally {
+            stop(measurement);
         }
         return null;
     }
 
     protected void processError(SyntaxNodeException error,
             TableSyntaxNode tableSyntaxNode,
-            RulesModuleBindingContext rulesModuleBindingContext) {
+            IBindingContext bindingContext) {
         tableSyntaxNode.addError(error);
-        rulesModuleBindingContext.addError(error);
+        bindingContext.addError(error);
     }
 
     protected void processErrors(List<Exception> errors, IBindingContext bindingContext) {
@@ -9,6 +9,10 @@ import org.openl.exception.OpenLCompilationException;
 import org.openl.message.OpenLMessage;
 import org.openl.message.OpenLMessagesUtils;
 import org.openl.rules.lang.xls.syntax.*;
+import org.openl.rules.profiler.CompilationProfiler;
+import org.openl.rules.profiler.CompilationStatistics;
+import org.openl.rules.profiler.CompilationStatistics.Measurement;
+import org.openl.rules.profiler.CompilationStatistics.Phase;
 import org.openl.rules.table.IGridTable;
 import org.openl.rules.table.ILogicalTable;
 import org.openl.rules.table.openl.GridCellSourceCodeModule;
@@ -65,6 +69,9 @@ public class XlsLoader {
 
     public IParsedCode parse(IOpenSourceCodeModule source) {
 
+        CompilationStatistics statistics = CompilationProfiler.start(source.getUri());
+        Measurement measurement = statistics != null ? statistics.start(Phase.PARSE) : null;
+
         preprocessWorkbook(source);
 
         addInnerImports();
@@ -75,6 +82,12 @@ public class XlsLoader {
             openl,
             Collections.unmodifiableCollection(imports));
 
+        if (statistics != null) {
+            measurement.stop();
+            statistics.addCount(Phase.PARSE, syntaxNode.getXlsTableSyntaxNodes().length);
+            syntaxNode.setCompilationStatistics(statistics);
+        }
+
         SyntaxNodeException[] parsingErrors = errors.toArray(new SyntaxNodeException[errors.size()]);
 
         return new ParsedCode(syntaxNode,
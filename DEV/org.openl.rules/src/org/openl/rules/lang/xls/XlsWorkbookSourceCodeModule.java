@@ -81,7 +81,7 @@ public class XlsWorkbookSourceCodeModule implements IOpenSourceCodeModule {
         }
     }
 
-    public void addListener(XlsWorkbookListener listener) {
+    public synchronized void addListener(XlsWorkbookListener listener) {
         listeners.add(listener);
     }
 
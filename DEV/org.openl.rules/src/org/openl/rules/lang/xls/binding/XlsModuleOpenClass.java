@@ -36,6 +36,7 @@ import org.openl.rules.lang.xls.binding.wrapper.IRulesMethodWrapper;
 import org.openl.rules.lang.xls.binding.wrapper.WrapperLogic;
 import org.openl.rules.lang.xls.syntax.TableSyntaxNode;
 import org.openl.rules.lang.xls.syntax.XlsModuleSyntaxNode;
+import org.openl.rules.profiler.CompilationStatistics;
 import org.openl.rules.table.OpenLArgumentsCloner;
 import org.openl.rules.table.properties.ITableProperties;
 import org.openl.rules.table.properties.PropertiesHelper;
@@ -44,6 +45,7 @@ import org.openl.rules.table.properties.def.TablePropertyDefinitionUtils;
 import org.openl.rules.testmethod.TestSuiteMethod;
 import org.openl.rules.types.OpenMethodDispatcher;
 import org.openl.rules.types.UriMemberHelper;
+import org.openl.rules.types.impl.IndexedMatchingOpenMethodDispatcher;
 import org.openl.rules.types.impl.MatchingOpenMethodDispatcher;
 import org.openl.rules.types.impl.OverloadedMethodsDispatcherTable;
 import org.openl.source.IOpenSourceCodeModule;
@@ -73,6 +75,7 @@ public class XlsModuleOpenClass extends ModuleOpenClass implements ExtendableMod
      * dispatching logic will be performed in Java code.
      */
     private final boolean useDecisionTableDispatcher;
+    private final boolean useIndexedDispatcher;
 
     private final boolean dispatchingValidationEnabled;
 
@@ -90,6 +93,8 @@ public class XlsModuleOpenClass extends ModuleOpenClass implements ExtendableMod
 
     private ITableProperties globalTableProperties;
 
+    private CompilationStatistics compilationStatistics;
+
     public RulesModuleBindingContext getRulesModuleBindingContext() {
         return rulesModuleBindingContext;
     }
@@ -110,6 +115,7 @@ public class XlsModuleOpenClass extends ModuleOpenClass implements ExtendableMod
         this.dataBase = dbase;
         this.metaInfo = metaInfo;
         this.useDecisionTableDispatcher = OpenLSystemProperties.isDTDispatchingMode(bindingContext.getExternalParams());
+        this.useIndexedDispatcher = OpenLSystemProperties.isIndexDispatchingMode(bindingContext.getExternalParams());
         this.dispatchingValidationEnabled = OpenLSystemProperties
             .isDispatchingValidationEnabled(bindingContext.getExternalParams());
         this.classLoader = classLoader;
@@ -129,6 +135,17 @@ public class XlsModuleOpenClass extends ModuleOpenClass implements ExtendableMod
         initImports(metaInfo.getXlsModuleNode());
     }
 
+    /**
+     * @return the statistics of the compilation of the module or {@code null} if it is not collected
+     */
+    public CompilationStatistics getCompilationStatistics() {
+        return compilationStatistics;
+    }
+
+    public void setCompilationStatistics(CompilationStatistics compilationStatistics) {
+        this.compilationStatistics = compilationStatistics;
+    }
+
     public ITableProperties getGlobalTableProperties() {
         return globalTableProperties;
     }
@@ -471,6 +488,8 @@ public class XlsModuleOpenClass extends ModuleOpenClass implements ExtendableMod
         IOpenMethod decorated = unwrapOpenMethod(method);
         if (useDecisionTableDispatcher) {
             decorator = new OverloadedMethodsDispatcherTable(decorated, this);
+        } else if (useIndexedDispatcher) {
+            decorator = new IndexedMatchingOpenMethodDispatcher(decorated, this);
         } else {
             decorator = new MatchingOpenMethodDispatcher(decorated, this);
         }
@@ -2,14 +2,17 @@ package org.openl.rules.lang.xls.binding.wrapper.base;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import org.openl.binding.BindingDependencies;
 import org.openl.binding.IBindingContext;
 import org.openl.rules.calc.CustomSpreadsheetResultOpenClass;
 import org.openl.rules.calc.Spreadsheet;
 import org.openl.rules.calc.SpreadsheetBoundNode;
+import org.openl.rules.calc.SpreadsheetCellsDependencies;
 import org.openl.rules.calc.SpreadsheetInvoker;
 import org.openl.rules.calc.SpreadsheetOpenClass;
+import org.openl.rules.calc.SpreadsheetResult;
 import org.openl.rules.calc.element.SpreadsheetCell;
 import org.openl.rules.calc.result.IResultBuilder;
 import org.openl.rules.lang.xls.binding.ATableBoundNode;
@@ -180,6 +183,25 @@ public class AbstractSpreadsheetWrapper extends Spreadsheet {
         delegate.setInvoker(invoker);
     }
 
+    @Override
+    public SpreadsheetCellsDependencies getCellsDependencies() {
+        return delegate.getCellsDependencies();
+    }
+
+    @Override
+    public void setCellsDependencies(Supplier<SpreadsheetCellsDependencies> cellsDependenciesSupplier) {
+        delegate.setCellsDependencies(cellsDependenciesSupplier);
+    }
+
+    @Override
+    public Object recalculate(Object target,
+            Object[] params,
+            IRuntimeEnv env,
+            SpreadsheetResult previous,
+            String... changedPaths) {
+        return delegate.recalculate(target, params, env, previous, changedPaths);
+    }
+
     @Override
     public Map<String, Point> getFieldsCoordinates() {
         return delegate.getFieldsCoordinates();
@@ -19,6 +19,13 @@ public final class WorkbookLoaders {
         workbookLoaderFactoryHolder.remove();
     }
 
+    /**
+     * @return the factory of the current thread, it is used to load the workbooks with the same factory in other threads
+     */
+    public static WorkbookLoaderFactory getCurrentFactory() {
+        return workbookLoaderFactoryHolder.get();
+    }
+
     public static WorkbookLoader getWorkbookLoader(IOpenSourceCodeModule fileSource) {
         return workbookLoaderFactoryHolder.get().createWorkbookLoader(fileSource);
     }
@@ -4,4 +4,12 @@ import org.openl.types.IOpenMethod;
 
 public interface ILazyMethod {
     IOpenMethod getMember();
+
+    /**
+     * @return the member if it has been already initialized or {@code null} otherwise. Unlike {@link #getMember()}, it
+     *         never triggers initialization of the member.
+     */
+    default IOpenMethod getInitializedMember() {
+        return getMember();
+    }
 }
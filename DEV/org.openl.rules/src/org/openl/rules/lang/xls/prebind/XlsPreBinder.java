@@ -7,7 +7,6 @@ import org.openl.binding.IBindingContext;
 import org.openl.binding.IMemberBoundNode;
 import org.openl.conf.IUserContext;
 import org.openl.dependency.CompiledDependency;
-import org.openl.rules.binding.RulesModuleBindingContext;
 import org.openl.rules.calc.SpreadsheetBoundNode;
 import org.openl.rules.constants.ConstantsTableBoundNode;
 import org.openl.rules.data.IDataBase;
@@ -42,19 +41,19 @@ public class XlsPreBinder extends XlsBinder {
     @Override
     protected void finalizeBind(IMemberBoundNode memberBoundNode,
             TableSyntaxNode tableSyntaxNode,
-            RulesModuleBindingContext rulesModuleBindingContext) {
+            IBindingContext bindingContext) {
         if (memberBoundNode instanceof DatatypeTableBoundNode || memberBoundNode instanceof AliasDatatypeBoundNode || memberBoundNode instanceof PropertyTableBoundNode || memberBoundNode instanceof ConstantsTableBoundNode || memberBoundNode instanceof ADtColumnsDefinitionTableBoundNode || memberBoundNode instanceof SpreadsheetBoundNode) {
             try {
-                memberBoundNode.finalizeBind(rulesModuleBindingContext);
+                memberBoundNode.finalizeBind(bindingContext);
             } catch (SyntaxNodeException error) {
-                processError(error, tableSyntaxNode, rulesModuleBindingContext);
+                processError(error, tableSyntaxNode, bindingContext);
             } catch (CompositeSyntaxNodeException ex) {
                 for (SyntaxNodeException error : ex.getErrors()) {
-                    processError(error, tableSyntaxNode, rulesModuleBindingContext);
+                    processError(error, tableSyntaxNode, bindingContext);
                 }
             } catch (Exception | LinkageError t) {
                 SyntaxNodeException error = SyntaxNodeExceptionUtils.createError(t, tableSyntaxNode);
-                processError(error, tableSyntaxNode, rulesModuleBindingContext);
+                processError(error, tableSyntaxNode, bindingContext);
             }
         }
     }
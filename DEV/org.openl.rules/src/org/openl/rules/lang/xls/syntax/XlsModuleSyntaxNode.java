@@ -9,6 +9,7 @@ package org.openl.rules.lang.xls.syntax;
 import java.util.*;
 
 import org.openl.rules.lang.xls.XlsNodeTypes;
+import org.openl.rules.profiler.CompilationStatistics;
 import org.openl.source.IOpenSourceCodeModule;
 import org.openl.syntax.impl.NaryNode;
 
@@ -23,6 +24,8 @@ public class XlsModuleSyntaxNode extends NaryNode {
     private Set<String> imports = new HashSet<>();
     private Set<String> libraries = new HashSet<>();
 
+    private CompilationStatistics compilationStatistics;
+
     public XlsModuleSyntaxNode(WorkbookSyntaxNode[] nodes,
             IOpenSourceCodeModule module,
             OpenlSyntaxNode openlNode,
@@ -42,6 +45,17 @@ public class XlsModuleSyntaxNode extends NaryNode {
         imports.add(value);
     }
 
+    /**
+     * @return the statistics of the compilation of the module or {@code null} if it is not collected
+     */
+    public CompilationStatistics getCompilationStatistics() {
+        return compilationStatistics;
+    }
+
+    public void setCompilationStatistics(CompilationStatistics compilationStatistics) {
+        this.compilationStatistics = compilationStatistics;
+    }
+
     public OpenlSyntaxNode getOpenlNode() {
         return openlNode;
     }
@@ -1,6 +1,7 @@
 package org.openl.rules.method;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import org.openl.binding.IBindingContext;
 import org.openl.binding.ICastFactory;
@@ -9,6 +10,8 @@ import org.openl.binding.impl.cast.IOpenCast;
 import org.openl.rules.enumeration.RecalculateEnum;
 import org.openl.rules.lang.xls.binding.ATableBoundNode;
 import org.openl.rules.lang.xls.syntax.TableSyntaxNode;
+import org.openl.rules.profiler.ProfilerCounter;
+import org.openl.rules.profiler.RulesProfiler;
 import org.openl.rules.table.properties.ITableProperties;
 import org.openl.rules.types.IUriMember;
 import org.openl.rules.vm.CacheMode;
@@ -26,6 +29,9 @@ import org.openl.vm.Tracer;
 
 public abstract class ExecutableRulesMethod extends ExecutableMethod implements ITablePropertiesMethod, IUriMember {
 
+    private static final AtomicReferenceFieldUpdater<ExecutableRulesMethod, ProfilerCounter> PROFILER_COUNTER = AtomicReferenceFieldUpdater
+        .newUpdater(ExecutableRulesMethod.class, ProfilerCounter.class, "profilerCounter");
+
     private ITableProperties properties;
     // FIXME: it should be AMethodBasedNode but currently it will be
     // ATableBoundNode due to TestSuiteMethod instance of
@@ -37,6 +43,8 @@ public abstract class ExecutableRulesMethod extends ExecutableMethod implements
     private boolean hasAliasTypeParams;
     private IOpenCast[] aliasDatatypesCasts;
 
+    private volatile ProfilerCounter profilerCounter;
+
     @Override
     public String getUri() {
         if (this.uri == null) {
@@ -94,9 +102,29 @@ public abstract class ExecutableRulesMethod extends ExecutableMethod implements
 
     @Override
     public Object invoke(Object target, Object[] params, IRuntimeEnv env) {
+        if (RulesProfiler.isEnabled()) {
+            ProfilerCounter counter = getOrCreateProfilerCounter();
+            long start = RulesProfiler.start(counter);
+            try {
+                return Tracer.invoke(invoke2, target, params, env, this);
+            } finally {
+                RulesProfiler.stop(counter, start);
+            }
+        }
         return Tracer.invoke(invoke2, target, params, env, this);
     }
 
+    /**
+     * @return profiler statistics of the method or {@code null} if the method has not been profiled yet
+     */
+    public ProfilerCounter getProfilerCounter() {
+        return profilerCounter;
+    }
+
+    private ProfilerCounter getOrCreateProfilerCounter() {
+        return RulesProfiler.getOrCreateCounter(this, PROFILER_COUNTER);
+    }
+
     private Invokable invoke2 = new Invokable() {
         @Override
         public Object invoke(Object target, Object[] params, IRuntimeEnv env) {
@@ -0,0 +1,58 @@
+package org.openl.rules.profiler;
+
+/**
+ * A row of the compilation statistics: a compilation phase, a table type or a table. Time values are in nanoseconds.
+ */
+public class CompilationEntry {
+
+    private final String name;
+    private final String uri;
+    private final long count;
+    private final long time;
+    private final long allocatedBytes;
+
+    CompilationEntry(String name, String uri, long count, long time, long allocatedBytes) {
+        this.name = name;
+        this.uri = uri;
+        this.count = count;
+        this.time = time;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * @return the name of the phase, the type of the tables or the header of the table
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the uri of the table or {@code null} for the phases and the table types
+     */
+    public String getUri() {
+        return uri;
+    }
+
+    /**
+     * @return the number of the processed tables
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public long getTime() {
+        return time;
+    }
+
+    /**
+     * @return the allocated bytes or {@code 0} if the JVM does not support the measurement of the allocated memory
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d ms, %d KiB, %d table(s)", name, time / 1000000, allocatedBytes / 1024, count);
+    }
+}
@@ -0,0 +1,193 @@
+package org.openl.rules.profiler;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.openl.dependency.CompiledDependency;
+import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
+import org.openl.types.IOpenClass;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Profiler of the compilation of the modules. It collects {@link CompilationStatistics} of each compiled module, writes
+ * a summary to the log and accumulates the totals of all compilations which are available via JMX as
+ * {@value #OBJECT_NAME}. If this name is already registered by another web application, the name gets the {@code id}
+ * key with the identity of the class loader.
+ * <p>
+ * The profiler is disabled by default. It can be enabled by the {@code openl.compilation.profiler.enabled} system
+ * property, via {@link #setEnabled(boolean)} or via JMX. The web applications register the JMX bean by
+ * {@link #register()} when they are started, so the profiler can be enabled via JMX before anything is compiled.
+ * Otherwise the JMX bean is registered when the profiler is enabled the first time. The JMX bean must be unregistered
+ * by {@link #unregister()} when the application is stopped.
+ */
+public final class CompilationProfiler {
+
+    public static final String OBJECT_NAME = "org.openl.rules:type=CompilationProfiler";
+
+    private static final Logger LOG = LoggerFactory.getLogger(CompilationProfiler.class);
+    private static final int LOGGED_TABLES = 10;
+
+    private static volatile boolean enabled = Boolean.getBoolean("openl.compilation.profiler.enabled");
+    private static final CompilationTotals TOTALS = new CompilationTotals();
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+
+    private static volatile boolean registered;
+    private static ObjectName objectName;
+
+    private CompilationProfiler() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        CompilationProfiler.enabled = enabled;
+        if (enabled) {
+            register();
+        }
+    }
+
+    /**
+     * Unregisters the JMX bean of the profiler, so it does not keep the classes of the application.
+     */
+    public static synchronized void unregister() {
+        if (objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            } catch (Exception e) {
+                LOG.debug("Compilation profiler is not unregistered from JMX.", e);
+            }
+            objectName = null;
+        }
+        registered = false;
+    }
+
+    /**
+     * Registers the JMX bean of the profiler if it is not registered yet.
+     */
+    public static void register() {
+        if (!registered) {
+            synchronized (CompilationProfiler.class) {
+                if (!registered) {
+                    registered = true;
+                    try {
+                        objectName = registerMBean();
+                    } catch (Exception e) {
+                        LOG.debug("Compilation profiler is not registered in JMX.", e);
+                    }
+                }
+            }
+        }
+    }
+
+    private static ObjectName registerMBean() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        try {
+            server.registerMBean(TOTALS, name);
+        } catch (InstanceAlreadyExistsException e) {
+            // It is registered by another web application
+            String id = Integer.toHexString(System.identityHashCode(CompilationProfiler.class.getClassLoader()));
+            name = new ObjectName(OBJECT_NAME + ",id=" + id);
+            server.registerMBean(TOTALS, name);
+        }
+        return name;
+    }
+
+    /**
+     * Starts collecting the statistics of the compilation of the module.
+     *
+     * @return the statistics or {@code null} if the profiler is disabled
+     */
+    public static CompilationStatistics start(String moduleName) {
+        if (!enabled) {
+            return null;
+        }
+        // The profiler can be enabled by the system property
+        register();
+        return new CompilationStatistics(moduleName);
+    }
+
+    /**
+     * Completes the statistics of the compiled module, writes it to the log and adds it to the totals.
+     */
+    public static void finish(CompilationStatistics statistics) {
+        statistics.finish();
+        TOTALS.add(statistics);
+        if (LOG.isInfoEnabled()) {
+            StringBuilder phases = new StringBuilder();
+            for (CompilationEntry phase : statistics.getPhases()) {
+                phases.append(System.lineSeparator()).append("    ").append(phase);
+            }
+            LOG.info("Module '{}' has been compiled in {} ms, {} KiB have been allocated.{}",
+                statistics.getModuleName(),
+                statistics.getTime() / 1000000,
+                statistics.getAllocatedBytes() / 1024,
+                phases);
+        }
+        if (LOG.isDebugEnabled()) {
+            StringBuilder tables = new StringBuilder();
+            for (CompilationEntry table : statistics.getTables()
+                .subList(0, Math.min(LOGGED_TABLES, statistics.getTables().size()))) {
+                tables.append(System.lineSeparator()).append("    ").append(table).append(" - ").append(table.getUri());
+            }
+            LOG.debug("The slowest tables of module '{}':{}", statistics.getModuleName(), tables);
+        }
+    }
+
+    /**
+     * Returns the statistics of the module and of the modules it depends on. The statistics exists only for the modules
+     * compiled when the profiler was enabled.
+     */
+    public static List<CompilationStatistics> getStatistics(IOpenClass openClass) {
+        List<CompilationStatistics> result = new ArrayList<>();
+        collect(openClass, result, Collections.newSetFromMap(new IdentityHashMap<>()));
+        return result;
+    }
+
+    private static void collect(IOpenClass openClass, List<CompilationStatistics> result, Set<IOpenClass> visited) {
+        if (!(openClass instanceof XlsModuleOpenClass) || !visited.add(openClass)) {
+            return;
+        }
+        XlsModuleOpenClass module = (XlsModuleOpenClass) openClass;
+        for (CompiledDependency dependency : module.getDependencies()) {
+            collect(dependency.getCompiledOpenClass().getOpenClassWithErrors(), result, visited);
+        }
+        if (module.getCompilationStatistics() != null) {
+            result.add(module.getCompilationStatistics());
+        }
+    }
+
+    /**
+     * @return the memory allocated by the current thread or {@code 0} if it is not supported by the JVM
+     */
+    static long getAllocatedBytes() {
+        return THREAD_MX_BEAN == null ? 0 : THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        try {
+            ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+            if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threadMXBean;
+                if (bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+                    return bean;
+                }
+            }
+        } catch (Exception | LinkageError e) {
+            LOG.debug("Measurement of the allocated memory is not supported.", e);
+        }
+        return null;
+    }
+}
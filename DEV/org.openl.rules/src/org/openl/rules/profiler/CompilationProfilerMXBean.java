@@ -0,0 +1,43 @@
+package org.openl.rules.profiler;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JMX view of {@link CompilationProfiler}. The values are accumulated for all modules compiled since the start or the
+ * last reset. Time values are in milliseconds.
+ */
+public interface CompilationProfilerMXBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    long getCompiledModules();
+
+    long getTotalTime();
+
+    long getTotalAllocatedBytes();
+
+    /**
+     * @return the time of the compilation phases
+     */
+    Map<String, Long> getPhaseTimes();
+
+    /**
+     * @return the allocated memory of the compilation phases
+     */
+    Map<String, Long> getPhaseAllocatedBytes();
+
+    /**
+     * @return the time of the binding of the tables by their types
+     */
+    Map<String, Long> getTableTypeTimes();
+
+    /**
+     * @return the slowest tables of all compiled modules, the slowest table goes first
+     */
+    List<String> getSlowestTables();
+
+    void reset();
+}
@@ -0,0 +1,239 @@
+package org.openl.rules.profiler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openl.rules.lang.xls.syntax.TableSyntaxNode;
+
+/**
+ * Statistics of the compilation of a module. It contains the wall time and the allocated memory of the compilation
+ * phases, of the types of the tables and of the tables. The time of a table does not include the time of the tables
+ * which are bound recursively while the table is bound. The time of a phase includes the time of all tables processed
+ * in the phase.
+ * <p>
+ * The statistics is collected if {@link CompilationProfiler} is enabled and it is stored in the compiled module.
+ */
+public final class CompilationStatistics {
+
+    /**
+     * The phases of the compilation of a module.
+     */
+    public enum Phase {
+        /** Loading of the workbooks and splitting them into the tables. */
+        PARSE,
+        /** Binding of the properties of the tables. */
+        BIND_PROPERTIES,
+        /** Binding of the headers and the structure of the tables. */
+        PREBIND,
+        /** Generation of the classes of the datatypes. */
+        GENERATE_BYTECODE,
+        /** Binding of the bodies of the tables. */
+        FINALIZE_BIND,
+        /** Validation of the module. */
+        VALIDATE
+    }
+
+    private final String moduleName;
+    private final long start;
+    private final long startAllocated;
+    private long time;
+    private long allocatedBytes;
+    private long otherThreadsAllocatedBytes;
+    private final Map<Phase, Counter> phases = new EnumMap<>(Phase.class);
+    private final Map<String, Counter> tableTypes = new HashMap<>();
+    private final Map<String, Counter> tables = new HashMap<>();
+    private final ThreadLocal<Deque<Measurement>> tableMeasurements = ThreadLocal.withInitial(ArrayDeque::new);
+    private volatile Thread compilationThread;
+
+    CompilationStatistics(String moduleName) {
+        this.moduleName = moduleName;
+        this.start = System.nanoTime();
+        this.startAllocated = CompilationProfiler.getAllocatedBytes();
+        this.compilationThread = Thread.currentThread();
+    }
+
+    public String getModuleName() {
+        return moduleName;
+    }
+
+    /**
+     * @return the time of the compilation of the module in nanoseconds
+     */
+    public long getTime() {
+        return time;
+    }
+
+    /**
+     * @return the memory allocated by the compilation of the module
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Starts the measurement of the phase. The measurement must be stopped by {@link Measurement#stop()} in the same
+     * thread.
+     */
+    public Measurement start(Phase phase) {
+        compilationThread = Thread.currentThread();
+        return new Measurement(this, phase, null);
+    }
+
+    /**
+     * Starts the measurement of the table in the phase. The measurement must be stopped by {@link Measurement#stop()}
+     * in the same thread.
+     */
+    public Measurement start(Phase phase, TableSyntaxNode tableSyntaxNode) {
+        Measurement measurement = new Measurement(this, phase, tableSyntaxNode);
+        tableMeasurements.get().push(measurement);
+        return measurement;
+    }
+
+    private void stop(Measurement measurement) {
+        long elapsed = System.nanoTime() - measurement.start;
+        long allocated = CompilationProfiler.getAllocatedBytes() - measurement.startAllocated;
+        if (measurement.tableSyntaxNode == null) {
+            synchronized (this) {
+                phases.computeIfAbsent(measurement.phase, e -> new Counter()).add(0, elapsed, allocated);
+            }
+            return;
+        }
+        Deque<Measurement> measurements = tableMeasurements.get();
+        measurements.pop();
+        Measurement parent = measurements.peek();
+        if (parent != null) {
+            parent.nestedTime += elapsed;
+            parent.nestedAllocated += allocated;
+        } else {
+            tableMeasurements.remove();
+        }
+        long selfTime = elapsed - measurement.nestedTime;
+        long selfAllocated = allocated - measurement.nestedAllocated;
+        TableSyntaxNode tableSyntaxNode = measurement.tableSyntaxNode;
+        String uri = tableSyntaxNode.getUri();
+        synchronized (this) {
+            Counter phaseCounter = phases.computeIfAbsent(measurement.phase, e -> new Counter());
+            phaseCounter.count++;
+            if (parent == null && Thread.currentThread() != compilationThread) {
+                // The tables bound in parallel allocate the memory in other threads
+                phaseCounter.allocatedBytes += allocated;
+                otherThreadsAllocatedBytes += allocated;
+            }
+            Counter tableCounter = tables.get(uri);
+            long newTable = 0;
+            if (tableCounter == null) {
+                tableCounter = new Counter();
+                tableCounter.name = getTableName(tableSyntaxNode);
+                tables.put(uri, tableCounter);
+                newTable = 1;
+            }
+            tableCounter.add(newTable, selfTime, selfAllocated);
+            tableTypes.computeIfAbsent(tableSyntaxNode.getType(), e -> new Counter())
+                .add(newTable, selfTime, selfAllocated);
+        }
+    }
+
+    /**
+     * Adds the number of the tables processed in the phase without measuring each of them.
+     */
+    public synchronized void addCount(Phase phase, int count) {
+        phases.computeIfAbsent(phase, e -> new Counter()).count += count;
+    }
+
+    synchronized void finish() {
+        time = System.nanoTime() - start;
+        allocatedBytes = CompilationProfiler.getAllocatedBytes() - startAllocated + otherThreadsAllocatedBytes;
+    }
+
+    /**
+     * @return the statistics of the phases in the order of the phases
+     */
+    public synchronized List<CompilationEntry> getPhases() {
+        List<CompilationEntry> entries = new ArrayList<>();
+        for (Map.Entry<Phase, Counter> entry : phases.entrySet()) {
+            entries.add(entry.getValue().toEntry(entry.getKey().name(), null));
+        }
+        return entries;
+    }
+
+    /**
+     * @return the statistics of the types of the tables, the most expensive types go first
+     */
+    public synchronized List<CompilationEntry> getTableTypes() {
+        List<CompilationEntry> entries = new ArrayList<>();
+        for (Map.Entry<String, Counter> entry : tableTypes.entrySet()) {
+            entries.add(entry.getValue().toEntry(entry.getKey(), null));
+        }
+        entries.sort(Comparator.comparingLong(CompilationEntry::getTime).reversed());
+        return entries;
+    }
+
+    /**
+     * @return the statistics of the tables, the most expensive tables go first
+     */
+    public synchronized List<CompilationEntry> getTables() {
+        List<CompilationEntry> entries = new ArrayList<>();
+        for (Map.Entry<String, Counter> entry : tables.entrySet()) {
+            entries.add(entry.getValue().toEntry(entry.getValue().name, entry.getKey()));
+        }
+        entries.sort(Comparator.comparingLong(CompilationEntry::getTime).reversed());
+        return entries;
+    }
+
+    private static String getTableName(TableSyntaxNode tableSyntaxNode) {
+        try {
+            String name = tableSyntaxNode.getDisplayName();
+            return name == null ? tableSyntaxNode.getType() : name.trim();
+        } catch (RuntimeException e) {
+            return tableSyntaxNode.getType();
+        }
+    }
+
+    /**
+     * A started measurement.
+     */
+    public static final class Measurement {
+        private final CompilationStatistics statistics;
+        private final Phase phase;
+        private final TableSyntaxNode tableSyntaxNode;
+        private final long start;
+        private final long startAllocated;
+        private long nestedTime;
+        private long nestedAllocated;
+
+        private Measurement(CompilationStatistics statistics, Phase phase, TableSyntaxNode tableSyntaxNode) {
+            this.statistics = statistics;
+            this.phase = phase;
+            this.tableSyntaxNode = tableSyntaxNode;
+            this.startAllocated = CompilationProfiler.getAllocatedBytes();
+            this.start = System.nanoTime();
+        }
+
+        public void stop() {
+            statistics.stop(this);
+        }
+    }
+
+    private static final class Counter {
+        private String name;
+        private long count;
+        private long time;
+        private long allocatedBytes;
+
+        private void add(long count, long time, long allocatedBytes) {
+            this.count += count;
+            this.time += time;
+            this.allocatedBytes += allocatedBytes;
+        }
+
+        private CompilationEntry toEntry(String name, String uri) {
+            return new CompilationEntry(name, uri, count, time, allocatedBytes);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.openl.rules.profiler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Totals of all compilations collected by {@link CompilationProfiler}.
+ */
+final class CompilationTotals implements CompilationProfilerMXBean {
+
+    private static final int SLOWEST_TABLES = 20;
+
+    private long compiledModules;
+    private long totalTime;
+    private long totalAllocatedBytes;
+    private final Map<String, Long> phaseTimes = new LinkedHashMap<>();
+    private final Map<String, Long> phaseAllocatedBytes = new LinkedHashMap<>();
+    private final Map<String, Long> tableTypeTimes = new HashMap<>();
+    private final PriorityQueue<CompilationEntry> slowestTables = new PriorityQueue<>(
+        Comparator.comparingLong(CompilationEntry::getTime));
+
+    synchronized void add(CompilationStatistics statistics) {
+        compiledModules++;
+        totalTime += statistics.getTime();
+        totalAllocatedBytes += statistics.getAllocatedBytes();
+        for (CompilationEntry phase : statistics.getPhases()) {
+            phaseTimes.merge(phase.getName(), phase.getTime(), Long::sum);
+            phaseAllocatedBytes.merge(phase.getName(), phase.getAllocatedBytes(), Long::sum);
+        }
+        for (CompilationEntry tableType : statistics.getTableTypes()) {
+            tableTypeTimes.merge(tableType.getName(), tableType.getTime(), Long::sum);
+        }
+        for (CompilationEntry table : statistics.getTables()) {
+            if (slowestTables.size() < SLOWEST_TABLES) {
+                slowestTables.add(table);
+            } else if (slowestTables.peek().getTime() < table.getTime()) {
+                slowestTables.poll();
+                slowestTables.add(table);
+            } else {
+                // The tables are sorted by the time
+                break;
+            }
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return CompilationProfiler.isEnabled();
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        CompilationProfiler.setEnabled(enabled);
+    }
+
+    @Override
+    public synchronized long getCompiledModules() {
+        return compiledModules;
+    }
+
+    @Override
+    public synchronized long getTotalTime() {
+        return totalTime / 1000000;
+    }
+
+    @Override
+    public synchronized long getTotalAllocatedBytes() {
+        return totalAllocatedBytes;
+    }
+
+    @Override
+    public synchronized Map<String, Long> getPhaseTimes() {
+        return toMillis(phaseTimes);
+    }
+
+    @Override
+    public synchronized Map<String, Long> getPhaseAllocatedBytes() {
+        return new LinkedHashMap<>(phaseAllocatedBytes);
+    }
+
+    @Override
+    public synchronized Map<String, Long> getTableTypeTimes() {
+        return toMillis(tableTypeTimes);
+    }
+
+    @Override
+    public synchronized List<String> getSlowestTables() {
+        List<CompilationEntry> tables = new ArrayList<>(slowestTables);
+        tables.sort(Comparator.comparingLong(CompilationEntry::getTime).reversed());
+        return tables.stream().map(e -> e + " - " + e.getUri()).collect(Collectors.toList());
+    }
+
+    @Override
+    public synchronized void reset() {
+        compiledModules = 0;
+        totalTime = 0;
+        totalAllocatedBytes = 0;
+        phaseTimes.clear();
+        phaseAllocatedBytes.clear();
+        tableTypeTimes.clear();
+        slowestTables.clear();
+    }
+
+    private static Map<String, Long> toMillis(Map<String, Long> times) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        times.forEach((name, time) -> result.put(name, time / 1000000));
+        return result;
+    }
+}
@@ -0,0 +1,55 @@
+package org.openl.rules.profiler;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free statistics of the calls of a profiled element. The number of calls is exact, the time is measured for
+ * sampled calls only.
+ */
+public final class ProfilerCounter {
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder sampledCalls = new LongAdder();
+    private final LongAdder sampledTime = new LongAdder();
+
+    void call() {
+        calls.increment();
+    }
+
+    void sample(long nanos) {
+        sampledCalls.increment();
+        sampledTime.add(nanos);
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public long getSampledCalls() {
+        return sampledCalls.sum();
+    }
+
+    /**
+     * @return cumulative time of the sampled calls in nanoseconds
+     */
+    public long getSampledTime() {
+        return sampledTime.sum();
+    }
+
+    /**
+     * @return cumulative time of all calls in nanoseconds extrapolated from the sampled calls
+     */
+    public long getTotalTime() {
+        long sampled = getSampledCalls();
+        if (sampled == 0) {
+            return 0;
+        }
+        return (long) ((double) getSampledTime() * getCalls() / sampled);
+    }
+
+    public void reset() {
+        calls.reset();
+        sampledCalls.reset();
+        sampledTime.reset();
+    }
+}
@@ -0,0 +1,71 @@
+package org.openl.rules.profiler;
+
+/**
+ * A row of the profiler report. Time values are in nanoseconds and include the time of nested calls.
+ */
+public class ProfilerEntry {
+
+    public enum Type {
+        METHOD,
+        CELL
+    }
+
+    private final Type type;
+    private final String table;
+    private final String cell;
+    private final String uri;
+    private final long calls;
+    private final long sampledCalls;
+    private final long totalTime;
+
+    ProfilerEntry(Type type, String table, String cell, String uri, ProfilerCounter counter) {
+        this.type = type;
+        this.table = table;
+        this.cell = cell;
+        this.uri = uri;
+        this.calls = counter.getCalls();
+        this.sampledCalls = counter.getSampledCalls();
+        this.totalTime = counter.getTotalTime();
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return the name of the table
+     */
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * @return the name of the spreadsheet cell, e.g. {@code $Value$Step1}, or {@code null} for methods
+     */
+    public String getCell() {
+        return cell;
+    }
+
+    /**
+     * @return the uri of the table
+     */
+    public String getUri() {
+        return uri;
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    public long getSampledCalls() {
+        return sampledCalls;
+    }
+
+    public long getTotalTime() {
+        return totalTime;
+    }
+
+    public long getAverageTime() {
+        return calls == 0 ? 0 : totalTime / calls;
+    }
+}
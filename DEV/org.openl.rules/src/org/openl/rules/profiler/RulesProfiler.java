@@ -0,0 +1,204 @@
+package org.openl.rules.profiler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import org.openl.rules.calc.Spreadsheet;
+import org.openl.rules.calc.element.SpreadsheetCell;
+import org.openl.rules.lang.xls.binding.wrapper.IOpenMethodWrapper;
+import org.openl.rules.lang.xls.prebind.ILazyMethod;
+import org.openl.rules.method.ExecutableRulesMethod;
+import org.openl.rules.types.OpenMethodDispatcher;
+import org.openl.types.IOpenClass;
+import org.openl.types.IOpenMethod;
+import org.openl.types.impl.MethodDelegator;
+
+/**
+ * Low-overhead sampling profiler of rules execution. It accumulates the number of calls and the cumulative time of
+ * rules methods and spreadsheet cells. All calls are counted, but the time is measured for one of
+ * {@link #getSamplingRate()} calls only and is extrapolated to the rest of the calls.
+ * <p>
+ * The profiler is disabled by default. It can be enabled by the {@code openl.profiler.enabled} system property or via
+ * {@link #setEnabled(boolean)}. The switch is global for the JVM, so applications must restrict who can change it.
+ * The statistics is stored in the compiled rules, so a report is built per a module.
+ */
+public final class RulesProfiler {
+
+    private static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private static volatile boolean enabled = Boolean.getBoolean("openl.profiler.enabled");
+    private static volatile int samplingRate = Integer.getInteger("openl.profiler.samplingRate", 10);
+
+    private RulesProfiler() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        RulesProfiler.enabled = enabled;
+    }
+
+    public static int getSamplingRate() {
+        return samplingRate;
+    }
+
+    /**
+     * @param samplingRate the time is measured for one of {@code samplingRate} calls. 1 means that all calls are
+     *            measured.
+     */
+    public static void setSamplingRate(int samplingRate) {
+        if (samplingRate < 1) {
+            throw new IllegalArgumentException("Sampling rate must be positive.");
+        }
+        RulesProfiler.samplingRate = samplingRate;
+    }
+
+    /**
+     * Returns the counter stored in the field of the profiled element. The counter is created on the first call, so
+     * the elements do not keep the counters until the profiler is enabled.
+     *
+     * @param owner the profiled element
+     * @param counterField the updater of a volatile counter field of the profiled element
+     */
+    public static <T> ProfilerCounter getOrCreateCounter(T owner,
+            AtomicReferenceFieldUpdater<T, ProfilerCounter> counterField) {
+        ProfilerCounter counter = counterField.get(owner);
+        if (counter == null) {
+            counterField.compareAndSet(owner, null, new ProfilerCounter());
+            counter = counterField.get(owner);
+        }
+        return counter;
+    }
+
+    /**
+     * Registers a call.
+     *
+     * @return a start time of the call if the call is sampled
+     */
+    public static long start(ProfilerCounter counter) {
+        counter.call();
+        int rate = samplingRate;
+        if (rate == 1 || ThreadLocalRandom.current().nextInt(rate) == 0) {
+            return System.nanoTime();
+        }
+        return NOT_SAMPLED;
+    }
+
+    /**
+     * @param start a value returned by {@link #start(ProfilerCounter)}
+     */
+    public static void stop(ProfilerCounter counter, long start) {
+        if (start != NOT_SAMPLED) {
+            counter.sample(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Builds a report for the rules of the module. Elements which have not been called are skipped. The most expensive
+     * elements go first.
+     */
+    public static List<ProfilerEntry> getReport(IOpenClass openClass) {
+        List<ProfilerEntry> entries = new ArrayList<>();
+        for (ExecutableRulesMethod method : getMethods(openClass)) {
+            ProfilerCounter counter = method.getProfilerCounter();
+            if (counter != null && counter.getCalls() > 0) {
+                entries.add(new ProfilerEntry(ProfilerEntry.Type.METHOD, method.getName(), null, getUri(method), counter));
+            }
+            if (method instanceof Spreadsheet) {
+                addCells((Spreadsheet) method, entries);
+            }
+        }
+        entries.sort(Comparator.comparingLong(ProfilerEntry::getTotalTime)
+            .thenComparingLong(ProfilerEntry::getCalls)
+            .reversed());
+        return entries;
+    }
+
+    /**
+     * Clears the statistics of the rules of the module.
+     */
+    public static void reset(IOpenClass openClass) {
+        for (ExecutableRulesMethod method : getMethods(openClass)) {
+            ProfilerCounter counter = method.getProfilerCounter();
+            if (counter != null) {
+                counter.reset();
+            }
+            if (method instanceof Spreadsheet) {
+                for (SpreadsheetCell[] row : ((Spreadsheet) method).getCells()) {
+                    for (SpreadsheetCell cell : row) {
+                        if (cell != null && cell.getProfilerCounter() != null) {
+                            cell.getProfilerCounter().reset();
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void addCells(Spreadsheet spreadsheet, List<ProfilerEntry> entries) {
+        SpreadsheetCell[][] cells = spreadsheet.getCells();
+        String[] rowNames = spreadsheet.getRowNames();
+        String[] columnNames = spreadsheet.getColumnNames();
+        for (SpreadsheetCell[] row : cells) {
+            for (SpreadsheetCell cell : row) {
+                ProfilerCounter counter = cell == null ? null : cell.getProfilerCounter();
+                if (counter != null && counter.getCalls() > 0) {
+                    String rowName = rowNames[cell.getRowIndex()];
+                    String columnName = columnNames[cell.getColumnIndex()];
+                    String name = rowName == null || columnName == null ? cell.toString()
+                                                                        : "$" + columnName + "$" + rowName;
+                    entries.add(new ProfilerEntry(ProfilerEntry.Type.CELL,
+                        spreadsheet.getName(),
+                        name,
+                        getUri(spreadsheet),
+                        counter));
+                }
+            }
+        }
+    }
+
+    private static String getUri(ExecutableRulesMethod method) {
+        try {
+            return method.getUri();
+        } catch (IllegalStateException e) {
+            // Generated methods have no source table
+            return null;
+        }
+    }
+
+    private static Set<ExecutableRulesMethod> getMethods(IOpenClass openClass) {
+        Set<ExecutableRulesMethod> methods = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (IOpenMethod method : openClass.getMethods()) {
+            collect(method, methods);
+        }
+        return methods;
+    }
+
+    private static void collect(IOpenMethod method, Set<ExecutableRulesMethod> methods) {
+        while (method instanceof IOpenMethodWrapper || method instanceof MethodDelegator || method instanceof ILazyMethod) {
+            if (method instanceof ILazyMethod) {
+                // Not compiled methods have not been called yet
+                method = ((ILazyMethod) method).getInitializedMember();
+            } else if (method instanceof IOpenMethodWrapper) {
+                method = ((IOpenMethodWrapper) method).getDelegate();
+            } else {
+                method = ((MethodDelegator) method).getMethod();
+            }
+        }
+        if (method instanceof OpenMethodDispatcher) {
+            for (IOpenMethod candidate : ((OpenMethodDispatcher) method).getCandidates()) {
+                collect(candidate, methods);
+            }
+        } else if (method instanceof ExecutableRulesMethod) {
+            methods.add((ExecutableRulesMethod) method);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.lang.reflect.Method;
 import java.util.Map;
 
 import org.openl.conf.IUserContext;
+import org.openl.engine.OpenLSystemProperties;
 import org.openl.rules.context.IRulesRuntimeContextProvider;
 import org.openl.rules.vm.SimpleRulesVM;
 import org.openl.runtime.AOpenLEngineFactory;
@@ -40,10 +41,19 @@ public abstract class AOpenLRulesEngineFactory extends AOpenLEngineFactory {
         return new Class<?>[] { IEngineWrapper.class, IRulesRuntimeContextProvider.class };
     }
 
+    /**
+     * @return the external parameters of the compiled modules or {@code null} if there are no parameters
+     */
+    protected Map<String, Object> getExternalParameters() {
+        return null;
+    }
+
     @Override
     protected final IOpenLMethodHandler prepareMethodHandler(Object openClassInstance,
             Map<Method, IOpenMember> methodMap,
             IRuntimeEnv runtimeEnv) {
-        return new OpenLRulesMethodHandler(openClassInstance, runtimeEnv, methodMap);
+        OpenLRulesMethodHandler methodHandler = new OpenLRulesMethodHandler(openClassInstance, runtimeEnv, methodMap);
+        methodHandler.setExplanationEnabled(OpenLSystemProperties.isExplanationEnabled(getExternalParameters()));
+        return methodHandler;
     }
 }
@@ -3,6 +3,8 @@ package org.openl.rules.runtime;
 import java.lang.reflect.Method;
 import java.util.Map;
 
+import org.openl.engine.OpenLSystemProperties;
+import org.openl.meta.explanation.ExplanationNumberValue;
 import org.openl.rules.context.IRulesRuntimeContext;
 import org.openl.rules.context.IRulesRuntimeContextProvider;
 import org.openl.rules.vm.SimpleRulesVM;
@@ -15,6 +17,7 @@ import org.openl.vm.IRuntimeEnv;
 public class OpenLRulesMethodHandler extends OpenLMethodHandler implements IRulesRuntimeContextProvider {
 
     private final ValidationHandler validationHandler = new ValidationHandler();
+    private boolean explanationEnabled = OpenLSystemProperties.isExplanationEnabled(null);
 
     public OpenLRulesMethodHandler(Object openlInstance, IRuntimeEnv openlEnv, Map<Method, IOpenMember> methodMap) {
         super(openlInstance, openlEnv, methodMap);
@@ -29,6 +32,19 @@ public class OpenLRulesMethodHandler extends OpenLMethodHandler implements IRule
         super(openlInstance, methodMap);
     }
 
+    public boolean isExplanationEnabled() {
+        return explanationEnabled;
+    }
+
+    /**
+     * If it is disabled, the rules are invoked without capturing explanations of the numeric values.
+     *
+     * @see ExplanationNumberValue#setExplanationEnabled(boolean)
+     */
+    public void setExplanationEnabled(boolean explanationEnabled) {
+        this.explanationEnabled = explanationEnabled;
+    }
+
     @Override
     public IRuntimeEnv makeRuntimeEnv() {
         return new SimpleRulesVM().getRuntimeEnv();
@@ -46,6 +62,14 @@ public class OpenLRulesMethodHandler extends OpenLMethodHandler implements IRule
                     .validateProxyArguments(((IOpenMethod) targetMethod).getSignature(), getRuntimeEnv(), args);
             }
         }
-        return super.invoke(method, args);
+        if (explanationEnabled) {
+            return super.invoke(method, args);
+        }
+        boolean previous = ExplanationNumberValue.setExplanationEnabled(false);
+        try {
+            return super.invoke(method, args);
+        } finally {
+            ExplanationNumberValue.setExplanationEnabled(previous);
+        }
     }
 }
@@ -6,6 +6,7 @@ import java.util.Map;
 import java.util.Objects;
 
 import org.openl.OpenL;
+import org.openl.engine.OpenLSystemProperties;
 import org.openl.exception.OpenlNotCheckedException;
 import org.openl.rules.context.IRulesRuntimeContextProvider;
 import org.openl.rules.vm.SimpleRulesVM;
@@ -186,6 +187,9 @@ public class RulesEngineFactory<T> extends EngineFactory<T> {
     protected IOpenLMethodHandler prepareMethodHandler(Object openClassInstance,
             Map<Method, IOpenMember> methodMap,
             IRuntimeEnv runtimeEnv) {
-        return new OpenLRulesMethodHandler(openClassInstance, runtimeEnv, methodMap);
+        OpenLRulesMethodHandler methodHandler = new OpenLRulesMethodHandler(openClassInstance, runtimeEnv, methodMap);
+        methodHandler
+            .setExplanationEnabled(OpenLSystemProperties.isExplanationEnabled(getSourceCode().getParams()));
+        return methodHandler;
     }
 }
@@ -0,0 +1,182 @@
+package org.openl.rules.table;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.openl.classloader.OpenLClassLoader;
+import org.openl.rules.datatype.gen.DatatypeClonerGenerator;
+import org.openl.util.ClassUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.rits.cloning.CloningException;
+import com.rits.cloning.IDeepCloner;
+
+/**
+ * Copies the fields of a datatype bean to its clone. The implementations are generated at runtime once per datatype
+ * class, so the beans are cloned without reflection: the primitives and the immutable values are shared, the arrays of
+ * them are copied and the other values are cloned by the cloner.
+ * <p>
+ * The cloners are generated for the classes loaded by OpenL class loaders only, which have all instance fields
+ * accessible from the package of the class and not final. It covers the datatypes of the modules and the classes of
+ * the jars from the class path of the projects. The classes of the application class path, e.g. the jars of the web
+ * application, are cloned by the reflection, because the cloners cannot be defined in their class loaders.
+ */
+public abstract class DatatypeCloner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DatatypeCloner.class);
+
+    private static final String CLONER_SUFFIX = "$OpenLCloner";
+
+    private static final ClassValue<DatatypeCloner> CLONERS = new ClassValue<DatatypeCloner>() {
+        @Override
+        protected DatatypeCloner computeValue(Class<?> type) {
+            return generateCloner(type);
+        }
+    };
+
+    /**
+     * Copies the fields of the source bean to the target bean.
+     */
+    public abstract void cloneFields(Object source, Object target, IDeepCloner cloner, Map<Object, Object> clones);
+
+    /**
+     * Clones the bean with the generated cloner. The clone is registered before its fields are cloned, so the cycles in
+     * the object graph are kept.
+     *
+     * @return the clone or {@code null} if the bean cannot be cloned with a generated cloner
+     */
+    public static Object clone(Object source,
+            Map<Object, Object> clones,
+            Function<Class<?>, Object> instantiation,
+            IDeepCloner cloner) {
+        if (clones == null) {
+            return null;
+        }
+        DatatypeCloner datatypeCloner = CLONERS.get(source.getClass());
+        if (datatypeCloner == null) {
+            return null;
+        }
+        Object target = instantiation.apply(source.getClass());
+        clones.put(source, target);
+        datatypeCloner.cloneFields(source, target, cloner, clones);
+        return target;
+    }
+
+    /**
+     * Is used by the generated cloners to copy the arrays of the primitives and the immutable values.
+     */
+    public static Object cloneArray(Object array, Map<Object, Object> clones) {
+        if (array == null) {
+            return null;
+        }
+        Object clone = clones.get(array);
+        if (clone != null) {
+            return clone;
+        }
+        if (array instanceof Object[]) {
+            clone = ((Object[]) array).clone();
+        } else if (array instanceof int[]) {
+            clone = ((int[]) array).clone();
+        } else if (array instanceof double[]) {
+            clone = ((double[]) array).clone();
+        } else if (array instanceof long[]) {
+            clone = ((long[]) array).clone();
+        } else if (array instanceof boolean[]) {
+            clone = ((boolean[]) array).clone();
+        } else if (array instanceof char[]) {
+            clone = ((char[]) array).clone();
+        } else if (array instanceof byte[]) {
+            clone = ((byte[]) array).clone();
+        } else if (array instanceof short[]) {
+            clone = ((short[]) array).clone();
+        } else {
+            clone = ((float[]) array).clone();
+        }
+        clones.put(array, clone);
+        return clone;
+    }
+
+    /**
+     * Creates {@link IDeepCloner} which delegates to the cloner for the values which are not copied by the generated
+     * cloners.
+     */
+    public static IDeepCloner deepCloner(InternalCloner cloner) {
+        Objects.requireNonNull(cloner, "cloner cannot be null");
+        return new IDeepCloner() {
+            @Override
+            public <T> T deepClone(T o, Map<Object, Object> clones) {
+                try {
+                    return cloner.cloneInternal(o, clones);
+                } catch (IllegalAccessException e) {
+                    throw new CloningException("error during cloning of " + o, e);
+                }
+            }
+        };
+    }
+
+    /**
+     * Access to {@code Cloner.cloneInternal(Object, Map)}.
+     */
+    @FunctionalInterface
+    public interface InternalCloner {
+        <T> T cloneInternal(T o, Map<Object, Object> clones) throws IllegalAccessException;
+    }
+
+    private static DatatypeCloner generateCloner(Class<?> type) {
+        List<Field> fields = getClonedFields(type);
+        if (fields == null) {
+            return null;
+        }
+        ClassLoader classLoader = type.getClassLoader();
+        String clonerName = type.getName() + CLONER_SUFFIX;
+        try {
+            Class<?> clonerClass;
+            synchronized (DatatypeCloner.class) {
+                try {
+                    clonerClass = Class.forName(clonerName, true, classLoader);
+                } catch (ClassNotFoundException e) {
+                    byte[] byteCode = new DatatypeClonerGenerator(clonerName, type, fields).byteCode();
+                    clonerClass = ClassUtils.defineClass(clonerName, byteCode, classLoader);
+                }
+            }
+            return (DatatypeCloner) clonerClass.getDeclaredConstructor().newInstance();
+        } catch (Exception | LinkageError e) {
+            LOG.debug("Failed to generate a cloner for the class '{}'. The reflection is used.", type.getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * @return the instance fields of the class and its parents or {@code null} if a cloner cannot be generated
+     */
+    private static List<Field> getClonedFields(Class<?> type) {
+        if (type.isArray() || type.isInterface() || type.isEnum() || type.isPrimitive() || Modifier
+            .isAbstract(type.getModifiers()) || !(type.getClassLoader() instanceof OpenLClassLoader)) {
+            return null;
+        }
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+            if (c.getClassLoader() != type.getClassLoader() || !ClassUtils.getPackageName(c)
+                .equals(ClassUtils.getPackageName(type))) {
+                return null;
+            }
+            for (Field field : c.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers)) {
+                    continue;
+                }
+                if (Modifier.isPrivate(modifiers) || Modifier.isFinal(modifiers)) {
+                    return null;
+                }
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+}
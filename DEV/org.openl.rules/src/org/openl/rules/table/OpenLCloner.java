@@ -1,6 +1,7 @@
 package org.openl.rules.table;
 
 import java.lang.reflect.InvocationHandler;
+import java.util.Map;
 
 import org.objenesis.Objenesis;
 import org.objenesis.ObjenesisStd;
@@ -18,6 +19,7 @@ import org.openl.types.IOpenMember;
 import org.slf4j.Logger;
 
 import com.rits.cloning.Cloner;
+import com.rits.cloning.IDeepCloner;
 import com.rits.cloning.IInstantiationStrategy;
 
 /**
@@ -31,11 +33,25 @@ import com.rits.cloning.IInstantiationStrategy;
  */
 public class OpenLCloner extends Cloner {
 
+    private final IDeepCloner datatypeFieldsCloner = DatatypeCloner.deepCloner(this::cloneInternal);
+
     protected OpenLCloner() {
         super(new ObjenesisInstantiationStrategy());
         dontCloneClasses();
     }
 
+    /**
+     * Clones the datatype beans with the generated cloners, see {@link DatatypeCloner}.
+     */
+    @Override
+    protected Object fastClone(Object o, Map<Object, Object> clones) {
+        Object clone = super.fastClone(o, clones);
+        if (clone == null) {
+            clone = DatatypeCloner.clone(o, clones, this::newInstance, datatypeFieldsCloner);
+        }
+        return clone;
+    }
+
     private void dontCloneClasses() {
         /*
          * Always cloning them degrades the performance very much. It becomes impossible to open the trace.
@@ -0,0 +1,191 @@
+package org.openl.rules.types.impl;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openl.rules.context.IRulesRuntimeContext;
+import org.openl.rules.table.properties.ITableProperties;
+import org.openl.rules.table.properties.PropertiesHelper;
+import org.openl.types.IOpenMethod;
+
+/**
+ * Index of the candidates of {@link MatchingOpenMethodDispatcher} by dimension properties. For each property used by
+ * the candidates it keeps the sets of the candidates which are not rejected by the property for a context value:
+ * <ul>
+ * <li>date properties are indexed by the intervals between the dates defined in the candidates, so a lookup is a binary
+ * search;</li>
+ * <li>other properties are indexed by the values defined in the candidates, so a lookup is a hash lookup. Such
+ * properties are matched by equality, so the candidates which do not define the property are the only candidates for
+ * the values which are not defined in the candidates.</li>
+ * </ul>
+ * The matching candidates are an intersection of the sets found for all not null properties of the context.
+ */
+final class DimensionPropertiesIndex {
+
+    private static final PropertyIndex NOT_USED = contextValue -> null;
+
+    private final List<IOpenMethod> candidates;
+    private final ITableProperties[] properties;
+    private final IPropertiesContextMatcher matcher;
+    private final Map<String, PropertyIndex> indexes = new ConcurrentHashMap<>();
+
+    DimensionPropertiesIndex(List<IOpenMethod> candidates, IPropertiesContextMatcher matcher) {
+        this.candidates = new ArrayList<>(candidates);
+        this.matcher = matcher;
+        this.properties = new ITableProperties[this.candidates.size()];
+        for (int i = 0; i < properties.length; i++) {
+            properties[i] = PropertiesHelper.getTableProperties(this.candidates.get(i));
+        }
+    }
+
+    Set<IOpenMethod> select(IRulesRuntimeContext context, List<String> notNullPropertyNames) {
+        BitSet selected = new BitSet(candidates.size());
+        selected.set(0, candidates.size());
+        for (String propName : notNullPropertyNames) {
+            PropertyIndex index = indexes.computeIfAbsent(propName, this::createIndex);
+            if (index != NOT_USED) {
+                MatchingConstraint<?, ?> constraint = matcher.getConstraint(propName);
+                selected.and(index.getCandidates(constraint.getContextValue(context)));
+                if (selected.isEmpty()) {
+                    break;
+                }
+            }
+        }
+        Set<IOpenMethod> result = new LinkedHashSet<>();
+        for (int i = selected.nextSetBit(0); i >= 0; i = selected.nextSetBit(i + 1)) {
+            result.add(candidates.get(i));
+        }
+        return result;
+    }
+
+    private PropertyIndex createIndex(String propName) {
+        MatchingConstraint<?, ?> constraint = matcher.getConstraint(propName);
+        if (constraint == null) {
+            throw new IllegalStateException("Unexpectedly could not find a constraint for the property: " + propName);
+        }
+        Object[] values = new Object[properties.length];
+        boolean used = false;
+        boolean onlyDates = true;
+        for (int i = 0; i < properties.length; i++) {
+            Object value = properties[i] == null ? null : constraint.getPropertyValue(properties[i]);
+            if (value == null || value.getClass().isArray() && Array.getLength(value) == 0) {
+                continue;
+            }
+            values[i] = value;
+            used = true;
+            onlyDates &= value instanceof Date;
+        }
+        if (!used) {
+            return NOT_USED;
+        }
+        if (onlyDates) {
+            return new DateIndex(constraint, values);
+        }
+        return new ValueIndex(constraint, values);
+    }
+
+    /**
+     * Matches the property value of each candidate with the context value.
+     */
+    @SuppressWarnings("unchecked")
+    private static BitSet match(MatchingConstraint<?, ?> constraint, Object[] values, Object contextValue) {
+        MatchingConstraint<Object, Object> c = (MatchingConstraint<Object, Object>) constraint;
+        BitSet matched = new BitSet(values.length);
+        for (int i = 0; i < values.length; i++) {
+            if (c.matchValues(values[i], contextValue) != MatchingResult.NO_MATCH) {
+                matched.set(i);
+            }
+        }
+        return matched;
+    }
+
+    @FunctionalInterface
+    private interface PropertyIndex {
+        BitSet getCandidates(Object contextValue);
+    }
+
+    /**
+     * Candidates indexed by the intervals between the dates defined in the candidates. Even positions are the intervals
+     * between the dates, odd positions are the dates.
+     */
+    private static final class DateIndex implements PropertyIndex {
+        private final MatchingConstraint<?, ?> constraint;
+        private final Object[] values;
+        private final long[] boundaries;
+        private final BitSet[] intervals;
+
+        DateIndex(MatchingConstraint<?, ?> constraint, Object[] values) {
+            this.constraint = constraint;
+            this.values = values;
+            TreeSet<Long> dates = new TreeSet<>();
+            for (Object value : values) {
+                if (value != null) {
+                    dates.add(((Date) value).getTime());
+                }
+            }
+            this.boundaries = dates.stream().mapToLong(Long::longValue).toArray();
+            this.intervals = new BitSet[2 * boundaries.length + 1];
+            for (int i = 0; i < intervals.length; i++) {
+                intervals[i] = match(constraint, values, new Date(getIntervalDate(i)));
+            }
+        }
+
+        private long getIntervalDate(int position) {
+            int idx = position / 2;
+            if (position % 2 == 1) {
+                return boundaries[idx];
+            }
+            return idx < boundaries.length ? boundaries[idx] - 1 : boundaries[idx - 1] + 1;
+        }
+
+        @Override
+        public BitSet getCandidates(Object contextValue) {
+            if (contextValue instanceof Date) {
+                int idx = Arrays.binarySearch(boundaries, ((Date) contextValue).getTime());
+                return intervals[idx >= 0 ? 2 * idx + 1 : -2 * (idx + 1)];
+            }
+            return match(constraint, values, contextValue);
+        }
+    }
+
+    /**
+     * Candidates indexed by the values defined in the candidates. An array property is indexed by each of its
+     * elements.
+     */
+    private static final class ValueIndex implements PropertyIndex {
+        private final Map<Object, BitSet> index = new HashMap<>();
+        private final BitSet byDefault;
+
+        ValueIndex(MatchingConstraint<?, ?> constraint, Object[] values) {
+            BitSet notDefined = new BitSet(values.length);
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                if (value == null) {
+                    notDefined.set(i);
+                } else if (value.getClass().isArray()) {
+                    for (int j = 0; j < Array.getLength(value); j++) {
+                        index.computeIfAbsent(Array.get(value, j), e -> match(constraint, values, e));
+                    }
+                } else {
+                    index.computeIfAbsent(value, e -> match(constraint, values, e));
+                }
+            }
+            this.byDefault = notDefined;
+        }
+
+        @Override
+        public BitSet getCandidates(Object contextValue) {
+            return index.getOrDefault(contextValue, byDefault);
+        }
+    }
+}
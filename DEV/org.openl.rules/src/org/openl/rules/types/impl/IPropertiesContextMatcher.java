@@ -25,4 +25,12 @@ public interface IPropertiesContextMatcher {
      */
     void addConstraint(String propertyName, MatchingConstraint<?, ?> ctr);
 
+    /**
+     * Returns a constraint for the property or {@code null} if there is no constraint
+     *
+     * @param propertyName the name of the table property
+     * @return the constraint used to match the property with the context or {@code null}
+     */
+    MatchingConstraint<?, ?> getConstraint(String propertyName);
+
 }
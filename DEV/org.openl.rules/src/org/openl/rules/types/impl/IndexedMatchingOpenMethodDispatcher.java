@@ -0,0 +1,44 @@
+package org.openl.rules.types.impl;
+
+import java.util.List;
+import java.util.Set;
+
+import org.openl.rules.context.IRulesRuntimeContext;
+import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
+import org.openl.types.IOpenMethod;
+
+/**
+ * OpenMethodDispatcher which selects the candidates using an index by dimension properties instead of matching each
+ * candidate with the context.
+ *
+ * @see DimensionPropertiesIndex
+ */
+public class IndexedMatchingOpenMethodDispatcher extends MatchingOpenMethodDispatcher {
+
+    private volatile DimensionPropertiesIndex index;
+
+    protected IndexedMatchingOpenMethodDispatcher() {
+    }
+
+    public IndexedMatchingOpenMethodDispatcher(IOpenMethod method, XlsModuleOpenClass moduleOpenClass) {
+        super(method, moduleOpenClass);
+    }
+
+    @Override
+    public void addMethod(IOpenMethod candidate) {
+        super.addMethod(candidate);
+        index = null;
+    }
+
+    @Override
+    protected Set<IOpenMethod> selectCandidates(List<IOpenMethod> candidates,
+            IRulesRuntimeContext context,
+            List<String> notNullPropertyNames) {
+        DimensionPropertiesIndex index = this.index;
+        if (index == null) {
+            index = new DimensionPropertiesIndex(candidates, matcher);
+            this.index = index;
+        }
+        return index.select(context, notNullPropertyNames);
+    }
+}
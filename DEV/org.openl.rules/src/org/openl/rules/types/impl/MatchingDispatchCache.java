@@ -0,0 +1,111 @@
+package org.openl.rules.types.impl;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openl.rules.context.IRulesRuntimeContext;
+import org.openl.rules.table.properties.ITableProperties;
+import org.openl.rules.table.properties.PropertiesHelper;
+import org.openl.types.IOpenMethod;
+
+/**
+ * Cache of the methods selected by {@link MatchingOpenMethodDispatcher}. The cache is shared between all invocations
+ * of the dispatcher, so the method selection is done once for all requests with equivalent runtime contexts.
+ * <p>
+ * A key of the cache is a fingerprint of the runtime context. It contains the names of the not null context
+ * properties and the values of the properties which are used by the candidates. A date is replaced with its position
+ * between the dates defined in the candidates properties, so all the dates between two versions of a rule have the
+ * same fingerprint.
+ * <p>
+ * The cache is bounded by the {@code openl.dispatcher.cache.maxSize} system property, 1000 entries by default. The
+ * cache is cleared when the limit is reached. Zero value disables the cache.
+ */
+final class MatchingDispatchCache {
+
+    private static final int MAX_SIZE = Integer.getInteger("openl.dispatcher.cache.maxSize", 1000);
+
+    private final List<IOpenMethod> candidates;
+    private final IPropertiesContextMatcher matcher;
+    private final Map<String, PropertyFingerprint> fingerprints = new ConcurrentHashMap<>();
+    private final Map<List<Object>, IOpenMethod> cache = new ConcurrentHashMap<>();
+
+    MatchingDispatchCache(List<IOpenMethod> candidates, IPropertiesContextMatcher matcher) {
+        this.candidates = new ArrayList<>(candidates);
+        this.matcher = matcher;
+    }
+
+    static boolean isEnabled() {
+        return MAX_SIZE > 0;
+    }
+
+    List<Object> getKey(List<String> notNullPropertyNames, IRulesRuntimeContext context) {
+        List<Object> key = new ArrayList<>(notNullPropertyNames.size() * 2);
+        for (String propName : notNullPropertyNames) {
+            key.add(propName);
+            key.add(fingerprints.computeIfAbsent(propName, this::createFingerprint).getValue(context));
+        }
+        return key;
+    }
+
+    IOpenMethod get(List<Object> key) {
+        return cache.get(key);
+    }
+
+    void put(List<Object> key, IOpenMethod method) {
+        if (cache.size() >= MAX_SIZE) {
+            cache.clear();
+        }
+        cache.put(key, method);
+    }
+
+    private PropertyFingerprint createFingerprint(String propName) {
+        MatchingConstraint<?, ?> constraint = matcher.getConstraint(propName);
+        if (constraint == null) {
+            throw new IllegalStateException("Unexpectedly could not find a constraint for the property: " + propName);
+        }
+        TreeSet<Long> dates = new TreeSet<>();
+        boolean used = false;
+        boolean onlyDates = true;
+        for (IOpenMethod candidate : candidates) {
+            ITableProperties props = PropertiesHelper.getTableProperties(candidate);
+            Object value = props == null ? null : constraint.getPropertyValue(props);
+            if (value == null || value.getClass().isArray() && Array.getLength(value) == 0) {
+                continue;
+            }
+            used = true;
+            if (value instanceof Date) {
+                dates.add(((Date) value).getTime());
+            } else {
+                onlyDates = false;
+            }
+        }
+        if (!used) {
+            // All candidates are matched by default, so the value of the context property does not matter
+            return context -> null;
+        }
+        if (onlyDates) {
+            long[] boundaries = dates.stream().mapToLong(Long::longValue).toArray();
+            return context -> {
+                Object value = constraint.getContextValue(context);
+                if (value instanceof Date) {
+                    int idx = Arrays.binarySearch(boundaries, ((Date) value).getTime());
+                    // Even positions are between the boundaries, odd positions are on the boundaries
+                    return idx >= 0 ? 2 * idx + 1 : -2 * (idx + 1);
+                }
+                return value;
+            };
+        }
+        return constraint::getContextValue;
+    }
+
+    @FunctionalInterface
+    private interface PropertyFingerprint {
+        Object getValue(IRulesRuntimeContext context);
+    }
+}
@@ -0,0 +1,169 @@
+package org.openl.rules.types.impl;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.openl.rules.context.IRulesRuntimeContext;
+import org.openl.rules.table.properties.ITableProperties;
+import org.openl.rules.table.properties.PropertiesHelper;
+import org.openl.types.IOpenMethod;
+
+/**
+ * Fast paths of {@link MatchingOpenMethodDispatcher} for the common shapes of the overloaded methods:
+ * <ul>
+ * <li>a single candidate, for example, when the dispatcher is created for dispatching validation or when the other
+ * versions are replaced by the active one;</li>
+ * <li>versions along one time axis, when the candidates define {@code effectiveDate} and {@code expirationDate} only
+ * and their periods do not intersect. The candidates are sorted by the periods and the candidate is found by a binary
+ * search on the current date.</li>
+ * </ul>
+ * A fast path returns {@code null} if it cannot resolve the method, so the dispatcher falls back to the common
+ * matching. It is used for reporting of the not matched and ambiguous cases too.
+ */
+abstract class MatchingFastPath {
+
+    private static final String EFFECTIVE_DATE = "effectiveDate";
+    private static final String EXPIRATION_DATE = "expirationDate";
+
+    static final MatchingFastPath NONE = new MatchingFastPath() {
+        @Override
+        IOpenMethod findMatchingMethod(IRulesRuntimeContext context) {
+            return null;
+        }
+    };
+
+    abstract IOpenMethod findMatchingMethod(IRulesRuntimeContext context);
+
+    static MatchingFastPath create(List<IOpenMethod> candidates, IPropertiesContextMatcher matcher) {
+        if (candidates.size() == 1) {
+            IOpenMethod candidate = candidates.get(0);
+            ITableProperties props = PropertiesHelper.getTableProperties(candidate);
+            List<String> propNames = getUsedPropertyNames(props, matcher);
+            return new SingleCandidate(candidate, props, propNames.toArray(new String[0]), matcher);
+        }
+        Version[] versions = new Version[candidates.size()];
+        for (int i = 0; i < versions.length; i++) {
+            IOpenMethod candidate = candidates.get(i);
+            ITableProperties props = PropertiesHelper.getTableProperties(candidate);
+            for (String propName : getUsedPropertyNames(props, matcher)) {
+                if (!EFFECTIVE_DATE.equals(propName) && !EXPIRATION_DATE.equals(propName)) {
+                    return NONE;
+                }
+            }
+            Date effectiveDate = props.getEffectiveDate();
+            Date expirationDate = props.getExpirationDate();
+            versions[i] = new Version(candidate,
+                props,
+                effectiveDate == null ? Long.MIN_VALUE : effectiveDate.getTime(),
+                expirationDate == null ? Long.MAX_VALUE : expirationDate.getTime());
+        }
+        Arrays.sort(versions, Comparator.comparingLong(v -> v.from));
+        for (int i = 1; i < versions.length; i++) {
+            if (versions[i - 1].to >= versions[i].from) {
+                // Periods intersect, so the priority rules are required to select the version
+                return NONE;
+            }
+        }
+        return new DateVersions(versions, matcher);
+    }
+
+    private static List<String> getUsedPropertyNames(ITableProperties props, IPropertiesContextMatcher matcher) {
+        List<String> propNames = new ArrayList<>();
+        if (props == null) {
+            return propNames;
+        }
+        for (Map.Entry<String, Object> property : props.getAllDimensionalProperties().entrySet()) {
+            Object value = property.getValue();
+            if (value == null || value.getClass().isArray() && Array.getLength(value) == 0) {
+                continue;
+            }
+            if (matcher.getConstraint(property.getKey()) != null) {
+                propNames.add(property.getKey());
+            }
+        }
+        return propNames;
+    }
+
+    private static final class SingleCandidate extends MatchingFastPath {
+        private final IOpenMethod candidate;
+        private final ITableProperties props;
+        private final String[] propNames;
+        private final IPropertiesContextMatcher matcher;
+
+        SingleCandidate(IOpenMethod candidate,
+                ITableProperties props,
+                String[] propNames,
+                IPropertiesContextMatcher matcher) {
+            this.candidate = candidate;
+            this.props = props;
+            this.propNames = propNames;
+            this.matcher = matcher;
+        }
+
+        @Override
+        IOpenMethod findMatchingMethod(IRulesRuntimeContext context) {
+            for (String propName : propNames) {
+                if (matcher.match(propName, props, context) == MatchingResult.NO_MATCH) {
+                    return null;
+                }
+            }
+            return candidate;
+        }
+    }
+
+    private static final class Version {
+        private final IOpenMethod method;
+        private final ITableProperties props;
+        private final long from;
+        private final long to;
+
+        Version(IOpenMethod method, ITableProperties props, long from, long to) {
+            this.method = method;
+            this.props = props;
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    private static final class DateVersions extends MatchingFastPath {
+        private final Version[] versions;
+        private final long[] from;
+        private final IPropertiesContextMatcher matcher;
+
+        DateVersions(Version[] versions, IPropertiesContextMatcher matcher) {
+            this.versions = versions;
+            this.from = new long[versions.length];
+            for (int i = 0; i < versions.length; i++) {
+                from[i] = versions[i].from;
+            }
+            this.matcher = matcher;
+        }
+
+        @Override
+        IOpenMethod findMatchingMethod(IRulesRuntimeContext context) {
+            Date currentDate = context.getCurrentDate();
+            if (currentDate == null) {
+                return null;
+            }
+            int idx = Arrays.binarySearch(from, currentDate.getTime());
+            if (idx < 0) {
+                // The last version started before the current date
+                idx = -idx - 2;
+                if (idx < 0) {
+                    return null;
+                }
+            }
+            Version version = versions[idx];
+            if (matcher.match(EFFECTIVE_DATE, version.props, context) == MatchingResult.NO_MATCH || matcher
+                .match(EXPIRATION_DATE, version.props, context) == MatchingResult.NO_MATCH) {
+                return null;
+            }
+            return version.method;
+        }
+    }
+}
@@ -33,7 +33,7 @@ public class MatchingOpenMethodDispatcher extends OpenMethodDispatcher {
     // to hold a new instance of that objects for every of thousands of
     // MatchingOpenMethodDispatchers. That's why
     // they were made static.
-    private static final IPropertiesContextMatcher matcher = new DefaultPropertiesContextMatcher();
+    static final IPropertiesContextMatcher matcher = new DefaultPropertiesContextMatcher();
     private static final DefaultTablePropertiesSorter prioritySorter = new DefaultTablePropertiesSorter();
     private static final DefaultPropertiesIntersectionFinder intersectionMatcher = new DefaultPropertiesIntersectionFinder();
 
@@ -41,6 +41,10 @@ public class MatchingOpenMethodDispatcher extends OpenMethodDispatcher {
 
     private List<IOpenMethod> candidatesSorted;
 
+    private volatile MatchingDispatchCache dispatchCache;
+
+    private volatile MatchingFastPath fastPath;
+
     private IOpenMethod decisionTableOpenMethod;
 
     public IOpenMethod getDecisionTableOpenMethod() {
@@ -68,14 +72,46 @@ public class MatchingOpenMethodDispatcher extends OpenMethodDispatcher {
     public void addMethod(IOpenMethod candidate) {
         super.addMethod(candidate);
         candidatesSorted = null;
+        dispatchCache = null;
+        fastPath = null;
     }
 
     @Override
     protected IOpenMethod findMatchingMethod(List<IOpenMethod> candidates, IRuntimeContext context) {
-        Set<IOpenMethod> selected = new HashSet<>(candidates);
+        IRulesRuntimeContext rulesContext = (IRulesRuntimeContext) context;
+        MatchingFastPath fastPath = this.fastPath;
+        if (fastPath == null) {
+            fastPath = MatchingFastPath.create(candidates, matcher);
+            this.fastPath = fastPath;
+        }
+        IOpenMethod matchingMethod = fastPath.findMatchingMethod(rulesContext);
+        if (matchingMethod != null) {
+            return matchingMethod;
+        }
+        List<String> notNullPropertyNames = getNotNullPropertyNames(rulesContext);
+        if (!MatchingDispatchCache.isEnabled()) {
+            return selectMatchingMethod(candidates, rulesContext, notNullPropertyNames);
+        }
+        MatchingDispatchCache cache = dispatchCache;
+        if (cache == null) {
+            cache = new MatchingDispatchCache(candidates, matcher);
+            dispatchCache = cache;
+        }
+        List<Object> key = cache.getKey(notNullPropertyNames, rulesContext);
+        IOpenMethod method = cache.get(key);
+        if (method == null) {
+            method = selectMatchingMethod(candidates, rulesContext, notNullPropertyNames);
+            cache.put(key, method);
+        }
+        return method;
+    }
 
-        selectCandidates(selected, (IRulesRuntimeContext) context);
-        maxMinSelectCandidates(selected, (IRulesRuntimeContext) context);
+    private IOpenMethod selectMatchingMethod(List<IOpenMethod> candidates,
+            IRulesRuntimeContext context,
+            List<String> notNullPropertyNames) {
+        Set<IOpenMethod> selected = selectCandidates(candidates, context, notNullPropertyNames);
+
+        maxMinSelectCandidates(selected, notNullPropertyNames);
 
         switch (selected.size()) {
             case 0:
@@ -119,12 +155,11 @@ public class MatchingOpenMethodDispatcher extends OpenMethodDispatcher {
         return getDispatcherTable().getMember().getInfo();
     }
 
-    private void maxMinSelectCandidates(Set<IOpenMethod> selected, IRulesRuntimeContext context) {
+    private void maxMinSelectCandidates(Set<IOpenMethod> selected, List<String> notNullPropertyNames) {
         // If more that one method
         if (selected.size() > 1) {
             List<IOpenMethod> notPriorMethods = new ArrayList<>();
 
-            List<String> notNullPropertyNames = getNotNullPropertyNames(context);
             // Find the most high priority method
             List<IOpenMethod> mostPriority = new ArrayList<>();
             ITableProperties mostPriorityProperties = null;
@@ -245,11 +280,20 @@ public class MatchingOpenMethodDispatcher extends OpenMethodDispatcher {
         return 0;
     }
 
-    private void selectCandidates(Set<IOpenMethod> selected, IRulesRuntimeContext context) {
+    /**
+     * Selects the candidates which properties match the context.
+     *
+     * @param candidates all candidates of the dispatcher
+     * @param context runtime context
+     * @param notNullPropertyNames names of the properties which have not null values in the context
+     * @return modifiable set of the matching candidates
+     */
+    protected Set<IOpenMethod> selectCandidates(List<IOpenMethod> candidates,
+            IRulesRuntimeContext context,
+            List<String> notNullPropertyNames) {
+        Set<IOpenMethod> selected = new HashSet<>(candidates);
         List<IOpenMethod> nomatched = new ArrayList<>();
 
-        List<String> notNullPropertyNames = getNotNullPropertyNames(context);
-
         for (IOpenMethod method : selected) {
             ITableProperties props = PropertiesHelper.getTableProperties(method);
 
@@ -264,6 +308,7 @@ public class MatchingOpenMethodDispatcher extends OpenMethodDispatcher {
         }
 
         selected.removeAll(nomatched);
+        return selected;
     }
 
     private String toString(Collection<IOpenMethod> methods) {
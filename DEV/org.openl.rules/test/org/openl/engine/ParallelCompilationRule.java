@@ -0,0 +1,46 @@
+package org.openl.engine;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.rules.ExternalResource;
+
+/**
+ * Prepares the parallel parts of the compilation for the tests of a class. All parallel parts are disabled, so a test
+ * enables only the part it checks. The compilation pool has several threads even on a single processor, otherwise the
+ * tests would pass without the parallel compilation. The size of the pool and the system properties are restored after
+ * the tests.
+ */
+public class ParallelCompilationRule extends ExternalResource {
+
+    private static final int PARALLELISM = 4;
+    private static final String[] PARALLEL_PROPERTIES = { OpenLSystemProperties.SHEET_PARSING_PARALLEL,
+            OpenLSystemProperties.BINDING_PARALLEL,
+            OpenLSystemProperties.DATA_POPULATION_PARALLEL,
+            OpenLSystemProperties.DEPENDENCY_COMPILATION_PARALLEL };
+
+    private final Map<String, String> properties = new HashMap<>();
+    private int parallelism;
+
+    @Override
+    protected void before() {
+        parallelism = CompilationPool.getParallelism();
+        CompilationPool.setParallelism(PARALLELISM);
+        for (String property : PARALLEL_PROPERTIES) {
+            properties.put(property, System.getProperty(property));
+            System.setProperty(property, "false");
+        }
+    }
+
+    @Override
+    protected void after() {
+        CompilationPool.setParallelism(parallelism);
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+            if (property.getValue() == null) {
+                System.clearProperty(property.getKey());
+            } else {
+                System.setProperty(property.getKey(), property.getValue());
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.openl.excel.grid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.openl.CompiledOpenClass;
+import org.openl.engine.OpenLSystemProperties;
+import org.openl.excel.parser.AlignedValue;
+import org.openl.excel.parser.MergedCell;
+import org.openl.message.OpenLMessage;
+import org.openl.rules.lang.xls.binding.XlsMetaInfo;
+import org.openl.rules.lang.xls.syntax.TableSyntaxNode;
+import org.openl.rules.runtime.RulesEngineFactory;
+import org.openl.rules.table.IGridTable;
+
+public class MappedCellsTest {
+
+    private static final String SRC = "test/rules/helpers/RulesUtilsTest.xlsx";
+
+    private static String mappedSheetCells;
+
+    @BeforeClass
+    public static void before() {
+        mappedSheetCells = System.getProperty(OpenLSystemProperties.SHEET_CELLS_MAPPED);
+    }
+
+    @AfterClass
+    public static void after() {
+        if (mappedSheetCells == null) {
+            System.clearProperty(OpenLSystemProperties.SHEET_CELLS_MAPPED);
+        } else {
+            System.setProperty(OpenLSystemProperties.SHEET_CELLS_MAPPED, mappedSheetCells);
+        }
+    }
+
+    @Test
+    public void testValuesAreReadFromMappedCells() throws Exception {
+        Object[][] cells = { { "Rules void hello(String name)", null, 10, -2.5 },
+                {},
+                { null, Boolean.TRUE, Boolean.FALSE, new Date(1546300800000L), "", "\u00c9t\u00e9 \u65e5\u672c" },
+                { new AlignedValue("indented", (short) 2), new AlignedValue(5, (short) 1), MergedCell.MERGE_WITH_LEFT },
+                { MergedCell.MERGE_WITH_UP, null, null } };
+
+        MappedCells mappedCells = MappedCells.map(cells);
+
+        assertEquals(cells.length, mappedCells.getRowsCount());
+        for (int row = 0; row < cells.length; row++) {
+            assertEquals(cells[row].length, mappedCells.getRowLength(row));
+            for (int col = 0; col < cells[row].length; col++) {
+                assertEquals(cells[row][col], mappedCells.getValue(row, col));
+            }
+        }
+    }
+
+    @Test
+    public void testDecodedRowIsReused() throws Exception {
+        Object[][] cells = { { "Rules void hello(String name)", new AlignedValue("indented", (short) 2) } };
+
+        MappedCells mappedCells = MappedCells.map(cells);
+
+        Object value = mappedCells.getValue(0, 0);
+        assertEquals(cells[0][0], value);
+        assertSame(value, mappedCells.getValue(0, 0));
+        assertSame(mappedCells.getValue(0, 1), mappedCells.getValue(0, 1));
+    }
+
+    @Test
+    public void testTablesAreSameWithMappedCells() {
+        System.setProperty(OpenLSystemProperties.SHEET_CELLS_MAPPED, "false");
+        List<String> expected = getTables(SRC, false);
+        assertTrue(expected.size() > 22);
+
+        System.setProperty(OpenLSystemProperties.SHEET_CELLS_MAPPED, "true");
+        assertEquals(expected, getTables(SRC, true));
+    }
+
+    /**
+     * @param mapped if the cells of the sheets are expected to be read from the mapped files
+     */
+    private static List<String> getTables(String src, boolean mapped) {
+        RulesEngineFactory<?> engineFactory = new RulesEngineFactory<>(src);
+        engineFactory.setExecutionMode(false);
+        CompiledOpenClass compiledOpenClass = engineFactory.getCompiledOpenClass();
+        List<String> tables = new ArrayList<>();
+        XlsMetaInfo xlsMetaInfo = (XlsMetaInfo) compiledOpenClass.getOpenClassWithErrors().getMetaInfo();
+        for (TableSyntaxNode tsn : xlsMetaInfo.getXlsModuleNode().getXlsTableSyntaxNodes()) {
+            IGridTable table = tsn.getGridTable();
+            assertEquals(mapped, ((ParsedGrid) table.getGrid()).isMapped());
+            StringBuilder values = new StringBuilder(tsn.getUri()).append(' ').append(tsn.getType());
+            for (int row = 0; row < table.getHeight(); row++) {
+                for (int col = 0; col < table.getWidth(); col++) {
+                    values.append(" | ").append(table.getCell(col, row).getObjectValue());
+                }
+            }
+            tables.add(values.toString());
+        }
+        for (OpenLMessage message : compiledOpenClass.getMessages()) {
+            tables.add(message.getSeverity() + ": " + message.getSummary());
+        }
+        return tables;
+    }
+}
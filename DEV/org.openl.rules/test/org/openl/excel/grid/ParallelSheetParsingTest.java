@@ -0,0 +1,54 @@
+package org.openl.excel.grid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.openl.CompiledOpenClass;
+import org.openl.engine.CompilationPool;
+import org.openl.engine.OpenLSystemProperties;
+import org.openl.engine.ParallelCompilationRule;
+import org.openl.message.OpenLMessage;
+import org.openl.rules.lang.xls.binding.XlsMetaInfo;
+import org.openl.rules.lang.xls.syntax.TableSyntaxNode;
+import org.openl.rules.runtime.RulesEngineFactory;
+
+public class ParallelSheetParsingTest {
+
+    private static final String SRC = "test/rules/helpers/RulesUtilsTest.xlsx";
+
+    @ClassRule
+    public static final ParallelCompilationRule PARALLEL_COMPILATION = new ParallelCompilationRule();
+
+    @Test
+    public void testTablesAreParsedInOrderOfSheets() {
+        List<String> expected = getTables(SRC);
+        assertTrue(expected.size() > 22);
+
+        System.setProperty(OpenLSystemProperties.SHEET_PARSING_PARALLEL, "true");
+        long executedTasks = CompilationPool.getExecutedTaskCount();
+        assertEquals(expected, getTables(SRC));
+        // Each sheet is a separate task of the pool with several threads
+        assertTrue("The sheets are not parsed in parallel.",
+            CompilationPool.getExecutedTaskCount() - executedTasks > 1);
+    }
+
+    private static List<String> getTables(String src) {
+        RulesEngineFactory<?> engineFactory = new RulesEngineFactory<>(src);
+        engineFactory.setExecutionMode(false);
+        CompiledOpenClass compiledOpenClass = engineFactory.getCompiledOpenClass();
+        List<String> tables = new ArrayList<>();
+        XlsMetaInfo xlsMetaInfo = (XlsMetaInfo) compiledOpenClass.getOpenClassWithErrors().getMetaInfo();
+        for (TableSyntaxNode tsn : xlsMetaInfo.getXlsModuleNode().getXlsTableSyntaxNodes()) {
+            tables.add(tsn.getUri() + " " + tsn.getType() + " " + tsn.getHeaderLineValue().getValue());
+        }
+        for (OpenLMessage message : compiledOpenClass.getMessages()) {
+            tables.add(message.getSeverity() + ": " + message.getSummary());
+        }
+        return tables;
+    }
+}
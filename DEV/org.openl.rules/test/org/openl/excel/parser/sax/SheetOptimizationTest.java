@@ -11,6 +11,7 @@ import org.openl.excel.parser.ExcelReaderFactory;
 import org.openl.excel.parser.FolderUtils;
 import org.openl.excel.parser.MergedCell;
 import org.openl.excel.parser.SheetDescriptor;
+import org.openl.rules.runtime.RulesEngineFactory;
 
 public class SheetOptimizationTest {
     @Test
@@ -50,4 +51,29 @@ public class SheetOptimizationTest {
         assertEquals(MergedCell.MERGE_WITH_LEFT, sheet3[5][19]);
         assertNull(sheet3[9][19]);
     }
+
+    @Test
+    public void sparseSheet() throws Exception {
+        String fileName = FolderUtils.getResourcesFolder() + "sparse-sheet.xlsx";
+        try (ExcelReader reader = ExcelReaderFactory.sequentialFactory().create(fileName)) {
+            Object[][] cells = reader.getCells(reader.getSheets().get(0));
+            assertEquals(2001, cells.length);
+            assertEquals(1, cells[0].length);
+            assertEquals("Method Integer first()", cells[0][0]);
+            assertEquals(0, cells[5].length);
+            assertEquals(103, cells[1000].length);
+            assertEquals("Method Integer second()", cells[1000][100]);
+            assertEquals(MergedCell.MERGE_WITH_LEFT, cells[1000][102]);
+            assertEquals(MergedCell.MERGE_WITH_LEFT, cells[1001][102]);
+            assertEquals(300, cells[2000].length);
+            assertEquals("return 3;", cells[2000][299]);
+        }
+
+        RulesEngineFactory<?> engineFactory = new RulesEngineFactory<>(fileName);
+        Object instance = engineFactory.newInstance();
+        Class<?> interfaceClass = engineFactory.getInterfaceClass();
+        assertEquals(1, interfaceClass.getMethod("first").invoke(instance));
+        assertEquals(2, interfaceClass.getMethod("second").invoke(instance));
+        assertEquals(3, interfaceClass.getMethod("third").invoke(instance));
+    }
 }
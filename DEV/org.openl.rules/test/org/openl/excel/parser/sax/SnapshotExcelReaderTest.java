@@ -0,0 +1,163 @@
+package org.openl.excel.parser.sax;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openl.excel.parser.BaseReaderTest;
+import org.openl.excel.parser.ExcelReader;
+import org.openl.excel.parser.FolderUtils;
+
+public class SnapshotExcelReaderTest extends BaseReaderTest {
+
+    private static final String FILE_NAME = FolderUtils.getResourcesFolder() + "small.xlsx";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * The workbook is parsed and the snapshot is written by the first reader, so the tested reader reads the workbook
+     * from the snapshot.
+     */
+    @Override
+    protected ExcelReader createReader() throws IOException {
+        String snapshotDirectory = folder.newFolder("snapshots").getPath();
+        try (ExcelReader snapshotWriter = new SnapshotExcelReader(FILE_NAME, snapshotDirectory)) {
+            for (SAXSheetDescriptor sheet : ((SnapshotExcelReader) snapshotWriter).getSheets()) {
+                snapshotWriter.getCells(sheet);
+            }
+        }
+        return new SnapshotExcelReader(FILE_NAME, snapshotDirectory);
+    }
+
+    @Test
+    public void snapshotIsWritten() {
+        File snapshotDirectory = new File(folder.getRoot(), "snapshots");
+        File[] snapshots = snapshotDirectory.listFiles(withExtension(".snapshot"));
+        assertEquals(1, snapshots.length);
+        assertEquals(1, snapshotDirectory.listFiles(withExtension(".key")).length);
+        assertTrue(new File(snapshots[0], "workbook").isFile());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(new File(snapshots[0], "sheet" + i).isFile());
+        }
+
+        try (SAXReader saxReader = new SAXReader(FILE_NAME)) {
+            List<SAXSheetDescriptor> expectedSheets = saxReader.getSheets();
+            List<? extends SAXSheetDescriptor> sheets = ((SnapshotExcelReader) reader).getSheets();
+            assertEquals(expectedSheets.size(), sheets.size());
+            for (int i = 0; i < sheets.size(); i++) {
+                assertEquals(expectedSheets.get(i).getName(), sheets.get(i).getName());
+                assertEquals(expectedSheets.get(i).getRelationId(), sheets.get(i).getRelationId());
+                assertArrayEquals(saxReader.getCells(expectedSheets.get(i)), reader.getCells(sheets.get(i)));
+                assertEquals(expectedSheets.get(i).getFirstRowNum(), sheets.get(i).getFirstRowNum());
+                assertEquals(expectedSheets.get(i).getFirstColNum(), sheets.get(i).getFirstColNum());
+            }
+        }
+    }
+
+    @Test
+    public void sheetsAreWrittenWhenTheyAreParsed() throws IOException {
+        File snapshotDirectory = folder.newFolder("other");
+        try (SnapshotExcelReader snapshotReader = new SnapshotExcelReader(FILE_NAME, snapshotDirectory.getPath())) {
+            List<SAXSheetDescriptor> sheets = snapshotReader.getSheets();
+            assertEquals(4, sheets.size());
+            assertEquals("Value", snapshotReader.getCells(sheets.get(0))[0][0]);
+        }
+        File snapshot = snapshotDirectory.listFiles(withExtension(".snapshot"))[0];
+        assertTrue(new File(snapshot, "sheet0").isFile());
+        assertFalse(new File(snapshot, "sheet1").exists());
+
+        // The written sheet is read from the snapshot, the other sheets are parsed and written
+        try (SnapshotExcelReader snapshotReader = new SnapshotExcelReader(FILE_NAME, snapshotDirectory.getPath());
+                SAXReader saxReader = new SAXReader(FILE_NAME)) {
+            List<SAXSheetDescriptor> expectedSheets = saxReader.getSheets();
+            List<SAXSheetDescriptor> sheets = snapshotReader.getSheets();
+            for (int i = 0; i < 2; i++) {
+                assertArrayEquals(saxReader.getCells(expectedSheets.get(i)), snapshotReader.getCells(sheets.get(i)));
+            }
+        }
+        assertTrue(new File(snapshot, "sheet1").isFile());
+        assertFalse(new File(snapshot, "sheet2").exists());
+    }
+
+    @Test
+    public void previousSnapshotIsDeletedWhenWorkbookIsChanged() throws IOException {
+        File workbook = folder.newFile("workbook.xlsx");
+        Files.copy(new File(FILE_NAME).toPath(), workbook.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        long lastModified = workbook.lastModified();
+        File snapshotDirectory = folder.newFolder("changed");
+        readFirstSheet(workbook, snapshotDirectory, "Value");
+        File previousSnapshot = snapshotDirectory.listFiles(withExtension(".snapshot"))[0];
+
+        // The changed workbook is found by the content even if the modification time is the same
+        Files.copy(new File(FolderUtils.getResourcesFolder() + "sparse-sheet.xlsx").toPath(),
+            workbook.toPath(),
+            StandardCopyOption.REPLACE_EXISTING);
+        assertTrue(workbook.setLastModified(lastModified));
+        try (SAXReader saxReader = new SAXReader(workbook.getPath())) {
+            readFirstSheet(workbook, snapshotDirectory, saxReader.getCells(saxReader.getSheets().get(0))[0][0]);
+        }
+        assertFalse(previousSnapshot.exists());
+        assertEquals(1, snapshotDirectory.listFiles(withExtension(".snapshot")).length);
+        assertEquals(1, snapshotDirectory.listFiles(withExtension(".key")).length);
+    }
+
+    @Test
+    public void unusedSnapshotsAreDeleted() throws IOException {
+        File snapshotDirectory = folder.newFolder("unused");
+        File unusedSnapshot = new File(snapshotDirectory, DigestUtils.sha256Hex("unused") + ".snapshot");
+        assertTrue(unusedSnapshot.mkdir());
+        assertTrue(unusedSnapshot.setLastModified(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(31)));
+        File recentSnapshot = new File(snapshotDirectory, DigestUtils.sha256Hex("recent") + ".snapshot");
+        assertTrue(recentSnapshot.mkdir());
+
+        readFirstSheet(new File(FILE_NAME), snapshotDirectory, "Value");
+        assertFalse(unusedSnapshot.exists());
+        assertTrue(recentSnapshot.exists());
+    }
+
+    @Test
+    public void corruptedSnapshotIsNotRead() throws IOException {
+        File snapshotDirectory = folder.newFolder("corrupted");
+        readFirstSheet(new File(FILE_NAME), snapshotDirectory, "Value");
+        File snapshot = snapshotDirectory.listFiles(withExtension(".snapshot"))[0];
+
+        // The count of the rows follows the format version, the OpenL version and the first row and column numbers
+        Path sheetFile = new File(snapshot, "sheet0").toPath();
+        byte[] bytes = Files.readAllBytes(sheetFile);
+        int rowsCountOffset = 4 + 4 + ByteBuffer.wrap(bytes).getInt(4) + 4 + 4;
+        int rowsCount = ByteBuffer.wrap(bytes).getInt(rowsCountOffset);
+        ByteBuffer.wrap(bytes).putInt(rowsCountOffset, Integer.MAX_VALUE);
+        Files.write(sheetFile, bytes);
+
+        // The sheet is parsed and written again
+        readFirstSheet(new File(FILE_NAME), snapshotDirectory, "Value");
+        assertEquals(rowsCount, ByteBuffer.wrap(Files.readAllBytes(sheetFile)).getInt(rowsCountOffset));
+    }
+
+    private static void readFirstSheet(File workbook, File snapshotDirectory, Object expectedValue) {
+        try (SnapshotExcelReader snapshotReader = new SnapshotExcelReader(workbook.getPath(),
+            snapshotDirectory.getPath())) {
+            assertEquals(expectedValue, snapshotReader.getCells(snapshotReader.getSheets().get(0))[0][0]);
+        }
+    }
+
+    private static FileFilter withExtension(String extension) {
+        return file -> file.getName().endsWith(extension);
+    }
+}
@@ -0,0 +1,156 @@
+package org.openl.j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.openl.grammar.bexgrammar.BExGrammar;
+import org.openl.source.IOpenSourceCodeModule;
+import org.openl.source.impl.StringSourceCodeModule;
+import org.openl.syntax.ISyntaxNode;
+import org.openl.syntax.code.IParsedCode;
+import org.openl.syntax.grammar.IGrammar;
+import org.openl.syntax.impl.ASyntaxNode;
+import org.openl.syntax.impl.Parser;
+
+public class BExGrammarWithParsingHelpTest {
+
+    private static final String[] CODES = { "x",
+            "  driver  ",
+            "_name1",
+            "this",
+            "is",
+            "select",
+            "string",
+            "not",
+            "or",
+            "and",
+            "where",
+            "while",
+            "new",
+            "return",
+            "true",
+            " false",
+            "null",
+            "0",
+            "00",
+            "07",
+            "10",
+            " 12345678901234567890 ",
+            "10L",
+            "10.5",
+            "10%",
+            "$10",
+            "2019-01-01",
+            "\"abc\"",
+            "\"a b\"",
+            "\"a\\\"b\"",
+            "\"a\tb\"",
+            "\"\"",
+            "'a'",
+            "\tx",
+            "x\n",
+            "$a:$b",
+            "a.b",
+            "-1",
+            "x;",
+            "a + b * 2",
+            "",
+            "   ",
+            "été" };
+
+    @Test
+    public void testSimpleMethodBodyIsParsedAsByGenerator() {
+        for (String code : CODES) {
+            assertEquals(code, parse(new BExGrammar(), code), parse(new BExGrammarWithParsingHelp(), code));
+        }
+    }
+
+    @Test
+    public void testSimpleNodeTypes() {
+        assertEquals("identifier", BExGrammarWithParsingHelp.getSimpleNodeType("driver"));
+        assertEquals("literal.integer", BExGrammarWithParsingHelp.getSimpleNodeType("100"));
+        assertEquals("literal.string", BExGrammarWithParsingHelp.getSimpleNodeType("\"text\""));
+        assertEquals("literal.bool", BExGrammarWithParsingHelp.getSimpleNodeType("true"));
+        assertEquals("literal.null", BExGrammarWithParsingHelp.getSimpleNodeType("null"));
+        assertNull(BExGrammarWithParsingHelp.getSimpleNodeType("while"));
+        assertNull(BExGrammarWithParsingHelp.getSimpleNodeType("or"));
+        assertNull(BExGrammarWithParsingHelp.getSimpleNodeType("010"));
+        assertNull(BExGrammarWithParsingHelp.getSimpleNodeType("a.b"));
+    }
+
+    @Test
+    public void testParsedTreesAreCached() {
+        Parser parser = new Parser(BExGrammarWithParsingHelp::new);
+        for (String code : CODES) {
+            IOpenSourceCodeModule source1 = new StringSourceCodeModule(code, "uri1");
+            IOpenSourceCodeModule source2 = new StringSourceCodeModule(code, "uri2");
+            IParsedCode parsedCode1 = parser.parseAsMethodBody(source1);
+            IParsedCode parsedCode2 = parser.parseAsMethodBody(source2);
+
+            assertEquals(code, parsedCode1.getErrors().length, parsedCode2.getErrors().length);
+            assertEquals(code, dump(parsedCode1.getTopNode()), dump(parsedCode2.getTopNode()));
+            if (parsedCode1.getTopNode() != null) {
+                assertNotSame(code, parsedCode1.getTopNode(), parsedCode2.getTopNode());
+            }
+            assertModule(source1, parsedCode1.getTopNode());
+            assertModule(source2, parsedCode2.getTopNode());
+        }
+    }
+
+    @Test
+    public void testParseTypesAreCachedSeparately() {
+        Parser parser = new Parser(BExGrammarWithParsingHelp::new);
+        String code = "String";
+        IParsedCode type = parser.parseAsType(new StringSourceCodeModule(code, null));
+        IParsedCode body = parser.parseAsMethodBody(new StringSourceCodeModule(code, null));
+        assertEquals("type.declaration", type.getTopNode().getType());
+        assertEquals("block.top", body.getTopNode().getType());
+        assertEquals(dump(type.getTopNode()),
+            dump(parser.parseAsType(new StringSourceCodeModule(code, null)).getTopNode()));
+    }
+
+    private static void assertModule(IOpenSourceCodeModule module, ISyntaxNode node) {
+        if (node == null) {
+            return;
+        }
+        assertSame(module, node.getModule());
+        for (int i = 0; i < node.getNumberOfChildren(); i++) {
+            assertModule(module, node.getChild(i));
+        }
+    }
+
+    private static String parse(IGrammar grammar, String code) {
+        IOpenSourceCodeModule source = new StringSourceCodeModule(code, null);
+        grammar.setModule(source);
+        grammar.parseAsMethod(source.getCharacterStream());
+        return grammar.getErrors().length + " error(s): " + dump(grammar.getTopNode());
+    }
+
+    private static String dump(ISyntaxNode node) {
+        StringBuilder sb = new StringBuilder();
+        dump(node, sb);
+        return sb.toString();
+    }
+
+    private static void dump(ISyntaxNode node, StringBuilder sb) {
+        if (node == null) {
+            sb.append("null;");
+            return;
+        }
+        sb.append(node.getClass().getSimpleName())
+            .append(' ')
+            .append(node.getType())
+            .append(' ')
+            .append(node.getNumberOfChildren() == 0 ? node.getText() : "")
+            .append(' ')
+            .append(((ASyntaxNode) node).getLocation())
+            .append('(');
+        for (int i = 0; i < node.getNumberOfChildren(); i++) {
+            dump(node.getChild(i), sb);
+        }
+        sb.append(");");
+    }
+}
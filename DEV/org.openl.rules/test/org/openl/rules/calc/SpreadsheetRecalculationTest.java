@@ -0,0 +1,168 @@
+package org.openl.rules.calc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openl.CompiledOpenClass;
+import org.openl.engine.OpenLSystemProperties;
+import org.openl.rules.calc.element.SpreadsheetCell;
+import org.openl.rules.profiler.ProfilerCounter;
+import org.openl.rules.profiler.RulesProfiler;
+import org.openl.rules.runtime.RulesEngineFactory;
+import org.openl.rules.vm.SimpleRulesVM;
+import org.openl.source.IOpenSourceCodeModule;
+import org.openl.source.impl.URLSourceCodeModule;
+import org.openl.types.IOpenClass;
+import org.openl.types.java.JavaOpenClass;
+import org.openl.vm.IRuntimeEnv;
+
+public class SpreadsheetRecalculationTest {
+
+    private static final String SRC = "test/rules/calc1/SpreadsheetRecalculation.xlsx";
+
+    private Spreadsheet spreadsheet;
+    private Object target;
+    private IRuntimeEnv env;
+
+    @Before
+    public void setUp() {
+        compile(false, true);
+    }
+
+    private void compile(boolean executionMode, boolean recalculation) {
+        IOpenSourceCodeModule source = new URLSourceCodeModule(SRC);
+        source.setParams(Collections.singletonMap(OpenLSystemProperties.SPREADSHEET_RECALCULATION, recalculation));
+        RulesEngineFactory<?> engineFactory = new RulesEngineFactory<>(source);
+        engineFactory.setExecutionMode(executionMode);
+        CompiledOpenClass compiledOpenClass = engineFactory.getCompiledOpenClass();
+        assertFalse(compiledOpenClass.hasErrors());
+
+        IOpenClass openClass = compiledOpenClass.getOpenClass();
+        env = new SimpleRulesVM().getRuntimeEnv();
+        target = openClass.newInstance(env);
+        spreadsheet = (Spreadsheet) openClass.getMethod("calc",
+            new IOpenClass[] { JavaOpenClass.getOpenClass(Integer.class), JavaOpenClass.getOpenClass(Integer.class) });
+    }
+
+    @Test
+    public void testAffectedCells() {
+        SpreadsheetCellsDependencies dependencies = spreadsheet.getCellsDependencies();
+
+        BitSet affected = dependencies.getAffectedCells("a");
+        assertTrue(dependencies.isAffected(affected, 0, 0));
+        assertFalse(dependencies.isAffected(affected, 1, 0));
+        assertTrue(dependencies.isAffected(affected, 2, 0));
+        assertTrue(dependencies.isAffected(affected, 3, 0));
+        assertFalse(dependencies.isAffected(affected, 4, 0));
+        // Cell F calls a rule, so it is always recalculated
+        assertTrue(dependencies.isAffected(affected, 5, 0));
+
+        affected = dependencies.getAffectedCells("b");
+        assertFalse(dependencies.isAffected(affected, 0, 0));
+        assertTrue(dependencies.isAffected(affected, 1, 0));
+        assertFalse(dependencies.isAffected(affected, 2, 0));
+        assertTrue(dependencies.isAffected(affected, 3, 0));
+
+        affected = dependencies.getAffectedCells("c");
+        assertEquals(1, affected.cardinality());
+        assertTrue(dependencies.isAffected(affected, 5, 0));
+    }
+
+    @Test
+    public void testDependenciesAreNotBuiltIfRecalculationIsDisabled() {
+        compile(false, false);
+        assertNull(spreadsheet.getCellsDependencies());
+
+        SpreadsheetResult previous = (SpreadsheetResult) spreadsheet.invoke(target, new Object[] { 1, 2 }, env);
+        previous.setFieldValue("$Value$B", 100);
+        SpreadsheetResult result = (SpreadsheetResult) spreadsheet
+            .recalculate(target, new Object[] { 5, 2 }, env, previous, "a");
+        assertEquals(3, result.getValue(1, 0));
+        assertEquals(60, result.getValue(3, 0));
+    }
+
+    @Test
+    public void testRecalculate() {
+        SpreadsheetResult previous = (SpreadsheetResult) spreadsheet.invoke(target, new Object[] { 1, 2 }, env);
+        assertEquals(2, previous.getValue(0, 0));
+        assertEquals(3, previous.getValue(1, 0));
+        assertEquals(12, previous.getValue(2, 0));
+        assertEquals(36, previous.getValue(3, 0));
+        assertEquals(3, previous.getValue(5, 0));
+
+        SpreadsheetResult result = (SpreadsheetResult) spreadsheet
+            .recalculate(target, new Object[] { 5, 2 }, env, previous, "a");
+        assertEquals(10, result.getValue(0, 0));
+        assertEquals(3, result.getValue(1, 0));
+        assertEquals(20, result.getValue(2, 0));
+        assertEquals(60, result.getValue(3, 0));
+        assertEquals(3, result.getValue(5, 0));
+    }
+
+    @Test
+    public void testRecalculateReusesNotAffectedCells() {
+        SpreadsheetResult previous = (SpreadsheetResult) spreadsheet.invoke(target, new Object[] { 1, 2 }, env);
+        // Cell B does not depend on 'a', so its previous value must be taken as is.
+        previous.setFieldValue("$Value$B", 100);
+        // Cell F calls a rule, so its previous value must be ignored.
+        previous.setFieldValue("$Value$F", 100);
+
+        SpreadsheetResult result = (SpreadsheetResult) spreadsheet
+            .recalculate(target, new Object[] { 5, 2 }, env, previous, "a");
+        assertEquals(10, result.getValue(0, 0));
+        assertEquals(100, result.getValue(1, 0));
+        assertEquals(2000, result.getValue(3, 0));
+        assertEquals(3, result.getValue(5, 0));
+    }
+
+    @Test
+    public void testRecalculateInExecutionMode() {
+        compile(true, true);
+        assertNotNull(spreadsheet.getCellsDependencies());
+
+        boolean profilerEnabled = RulesProfiler.isEnabled();
+        RulesProfiler.setEnabled(true);
+        try {
+            SpreadsheetResult previous = (SpreadsheetResult) spreadsheet.invoke(target, new Object[] { 1, 2 }, env);
+            long fullCalls = getCellCalls();
+
+            SpreadsheetResult result = (SpreadsheetResult) spreadsheet
+                .recalculate(target, new Object[] { 5, 2 }, env, previous, "a");
+            long recalculatedCalls = getCellCalls() - fullCalls;
+
+            assertEquals(60, result.getValue(3, 0));
+            assertTrue(recalculatedCalls > 0);
+            assertTrue(recalculatedCalls < fullCalls);
+        } finally {
+            RulesProfiler.setEnabled(profilerEnabled);
+        }
+    }
+
+    private long getCellCalls() {
+        long calls = 0;
+        for (SpreadsheetCell[] row : spreadsheet.getCells()) {
+            for (SpreadsheetCell cell : row) {
+                ProfilerCounter counter = cell.getProfilerCounter();
+                if (counter != null) {
+                    calls += counter.getCalls();
+                }
+            }
+        }
+        return calls;
+    }
+
+    @Test
+    public void testRecalculateWithoutPreviousResult() {
+        SpreadsheetResult result = (SpreadsheetResult) spreadsheet
+            .recalculate(target, new Object[] { 5, 2 }, env, null, "a");
+        assertEquals(60, result.getValue(3, 0));
+    }
+}
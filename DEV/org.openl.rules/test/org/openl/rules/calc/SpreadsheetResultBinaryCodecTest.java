@@ -0,0 +1,177 @@
+package org.openl.rules.calc;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Test;
+import org.openl.meta.DoubleValue;
+import org.openl.rules.calc.SpreadsheetResultBinaryCodec.FallbackCodec;
+
+public class SpreadsheetResultBinaryCodecTest {
+
+    private static final FallbackCodec STRING_BUILDER_CODEC = new FallbackCodec() {
+        @Override
+        public void write(Object value, DataOutput out) throws IOException {
+            out.writeUTF(value.toString());
+        }
+
+        @Override
+        public Object read(DataInput in) throws IOException {
+            return new StringBuilder(in.readUTF());
+        }
+    };
+
+    private final SpreadsheetResultBinaryCodec codec = new SpreadsheetResultBinaryCodec();
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        Date date = new Date(1_000_000L);
+        SpreadsheetResult nested = new SpreadsheetResult(new Object[][] { { 1 }, { 2 } },
+            new String[] { "X", "Y" },
+            new String[] { "Value" });
+        SpreadsheetResult sr = new SpreadsheetResult(new Object[][] {
+                { new DoubleValue(1.5), "Text", nested },
+                { null, null, null },
+                { 2.5, true, new int[] { 2, 4 } },
+                { 3.5, date, new BigDecimal("10.01") } },
+            new String[] { "A", "B", "C", "D" },
+            new String[] { "Step1", "Step2", "Step3" });
+
+        SpreadsheetResult result = (SpreadsheetResult) codec.fromBytes(codec.toBytes(sr));
+
+        assertArrayEquals(sr.getRowNames(), result.getRowNames());
+        assertArrayEquals(sr.getColumnNames(), result.getColumnNames());
+        assertEquals(1.5, result.getValue(0, 0));
+        assertNull(result.getValue(1, 0));
+        assertEquals(2.5, result.getValue(2, 0));
+        assertEquals(3.5, result.getValue(3, 0));
+        assertEquals("Text", result.getValue(0, 1));
+        assertEquals(Boolean.TRUE, result.getValue(2, 1));
+        assertEquals(date, result.getValue(3, 1));
+        assertArrayEquals(new int[] { 2, 4 }, (int[]) result.getValue(2, 2));
+        assertEquals(new BigDecimal("10.01"), result.getValue(3, 2));
+
+        SpreadsheetResult nestedResult = (SpreadsheetResult) result.getValue(0, 2);
+        assertArrayEquals(nested.getRowNames(), nestedResult.getRowNames());
+        assertEquals(2, nestedResult.getValue(1, 0));
+    }
+
+    @Test
+    public void testSchemaIsWrittenOnce() throws IOException {
+        String[] rowNames = { "VeryLongRowNameForTheSchemaTest1", "VeryLongRowNameForTheSchemaTest2" };
+        String[] columnNames = { "VeryLongColumnNameForTheSchemaTest" };
+        SpreadsheetResult first = new SpreadsheetResult(new Object[][] { { 1 }, { 2 } }, rowNames, columnNames);
+        SpreadsheetResult second = new SpreadsheetResult(new Object[][] { { 3 }, { 4 } }, rowNames, columnNames);
+
+        int single = codec.toBytes(first).length;
+        byte[] bytes = codec.toBytes(Arrays.asList(first, second));
+        assertTrue(bytes.length < 2 * single);
+
+        List<?> result = (List<?>) codec.fromBytes(bytes);
+        assertEquals(2, result.size());
+        assertArrayEquals(rowNames, ((SpreadsheetResult) result.get(1)).getRowNames());
+        assertEquals(4, ((SpreadsheetResult) result.get(1)).getValue(1, 0));
+    }
+
+    @Test
+    public void testResultModelIsKept() throws IOException {
+        String[] rowNames = { "A", "B" };
+        String[] columnNames = { "Value", "Internal" };
+        SpreadsheetResult sr = new SpreadsheetResult(new Object[][] { { 1, 2 }, { 3, 4 } },
+            rowNames,
+            columnNames,
+            new String[] { "a", null },
+            new String[] { "value", null },
+            SpreadsheetResult.buildFieldsCoordinates(columnNames, rowNames));
+        sr.setDetailedPlainModel(true);
+        SpreadsheetResult plain = new SpreadsheetResult(new Object[][] { { 5, 6 }, { 7, 8 } }, rowNames, columnNames);
+
+        List<?> result = (List<?>) codec.fromBytes(codec.toBytes(Arrays.asList(sr, plain)));
+
+        SpreadsheetResult first = (SpreadsheetResult) result.get(0);
+        assertArrayEquals(new String[] { "a", null }, first.rowNamesForResultModel);
+        assertArrayEquals(new String[] { "value", null }, first.columnNamesForResultModel);
+        assertTrue(first.isDetailedPlainModel());
+        assertTrue(first.isFieldUsedInModel("$Value$A"));
+        assertFalse(first.isFieldUsedInModel("$Internal$A"));
+        assertEquals(4, first.getFieldValue("$Internal$B"));
+
+        SpreadsheetResult second = (SpreadsheetResult) result.get(1);
+        assertArrayEquals(new String[] { null, null }, second.rowNamesForResultModel);
+        assertFalse(second.isDetailedPlainModel());
+        assertEquals(8, second.getFieldValue("$Internal$B"));
+    }
+
+    @Test(expected = IOException.class)
+    public void testMaxLength() throws IOException {
+        byte[] bytes = codec.toBytes(Collections.nCopies(11, "A"));
+        assertEquals(11, ((List<?>) codec.fromBytes(bytes)).size());
+
+        new SpreadsheetResultBinaryCodec(STRING_BUILDER_CODEC, 10).fromBytes(bytes);
+    }
+
+    @Test(expected = IOException.class)
+    public void testWrongLengthDoesNotAllocateMemory() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(codec.toBytes(new long[0]), 0, 7);
+        // The length of the long array is much more than the input
+        out.writeInt(Integer.MAX_VALUE);
+        out.writeByte(6);
+        out.writeLong(1);
+
+        new SpreadsheetResultBinaryCodec(STRING_BUILDER_CODEC, Integer.MAX_VALUE).fromBytes(bytes.toByteArray());
+    }
+
+    @Test
+    public void testArrayTypes() throws IOException {
+        Object[] values = { new double[][] { { 1.5 }, { 2.5, 3.5 } },
+                new String[] { "A", null },
+                new DoubleValue[] { new DoubleValue(4.5) },
+                new Object[] { 1, "B", null } };
+
+        Object[] result = (Object[]) codec.fromBytes(codec.toBytes(values));
+
+        assertEquals(Object[].class, result.getClass());
+        assertArrayEquals(new double[] { 2.5, 3.5 }, ((double[][]) result[0])[1], 0);
+        assertArrayEquals(new String[] { "A", null }, (String[]) result[1]);
+        assertArrayEquals(new Double[] { 4.5 }, (Double[]) result[2]);
+        assertArrayEquals(new Object[] { 1, "B", null }, (Object[]) result[3]);
+    }
+
+    @Test(expected = IOException.class)
+    public void testUnsupportedTypeIsRejected() throws IOException {
+        SpreadsheetResult sr = new SpreadsheetResult(new Object[][] { { new StringBuilder("fallback") } },
+            new String[] { "A" },
+            new String[] { "B" });
+
+        codec.toBytes(sr);
+    }
+
+    @Test(expected = IOException.class)
+    public void testFallbackIsNotReadByDefault() throws IOException {
+        byte[] bytes = new SpreadsheetResultBinaryCodec(STRING_BUILDER_CODEC).toBytes(new StringBuilder("fallback"));
+        assertEquals("fallback", new SpreadsheetResultBinaryCodec(STRING_BUILDER_CODEC).fromBytes(bytes).toString());
+
+        codec.fromBytes(bytes);
+    }
+
+    @Test(expected = IOException.class)
+    public void testWrongFormat() throws IOException {
+        codec.fromBytes(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+    }
+}
@@ -0,0 +1,154 @@
+package org.openl.rules.context;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.openl.rules.enumeration.UsStatesEnum;
+
+public class DefaultRulesRuntimeContextTest {
+
+    @Test
+    public void testValues() {
+        DefaultRulesRuntimeContext context = new DefaultRulesRuntimeContext();
+        Date date = new Date();
+        context.setCurrentDate(date);
+        context.setValue("usState", UsStatesEnum.CA);
+
+        assertEquals(date, context.getValue("currentDate"));
+        assertEquals(UsStatesEnum.CA, context.getUsState());
+        assertNull(context.getLob());
+        assertNull(context.getValue("lob"));
+        assertNull(context.getValue("unknown"));
+        context.setValue("unknown", "value");
+    }
+
+    @Test(expected = ClassCastException.class)
+    public void testSetValueOfWrongType() {
+        new DefaultRulesRuntimeContext().setValue("usState", "CA");
+    }
+
+    @Test
+    public void testCloneIsIndependent() throws CloneNotSupportedException {
+        DefaultRulesRuntimeContext context = new DefaultRulesRuntimeContext();
+        context.setUsState(UsStatesEnum.CA);
+        context.setLob("auto");
+
+        IRulesRuntimeContext clone = context.clone();
+        assertEquals(UsStatesEnum.CA, clone.getUsState());
+        assertEquals("auto", clone.getLob());
+
+        clone.setUsState(UsStatesEnum.NY);
+        assertEquals(UsStatesEnum.CA, context.getUsState());
+        assertEquals(UsStatesEnum.NY, clone.getUsState());
+
+        context.setLob("home");
+        assertEquals("home", context.getLob());
+        assertEquals("auto", clone.getLob());
+    }
+
+    @Test
+    public void testToString() {
+        DefaultRulesRuntimeContext context = new DefaultRulesRuntimeContext();
+        context.setLob("auto");
+        assertTrue(context.toString().contains("lob = auto"));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        DefaultRulesRuntimeContext context = new DefaultRulesRuntimeContext();
+        context.setLob("auto");
+        context.clone();
+
+        DefaultRulesRuntimeContext result = (DefaultRulesRuntimeContext) deserialize(serialize(context));
+        assertEquals("auto", result.getLob());
+        assertNull(result.getUsState());
+
+        result.setUsState(UsStatesEnum.CA);
+        assertEquals(UsStatesEnum.CA, result.getUsState());
+    }
+
+    @Test
+    public void testDeserializationOfFieldPerPropertyForm() throws Exception {
+        PreviousRulesRuntimeContext previous = new PreviousRulesRuntimeContext();
+        previous.currentDate = new Date(1_000_000L);
+        previous.lob = "auto";
+        previous.usState = UsStatesEnum.CA;
+        previous.internalMap.put("lob", "auto");
+
+        // The same stream as the context had before the properties were stored in the array
+        byte[] bytes = replace(serialize(previous),
+            utf(PreviousRulesRuntimeContext.class.getName()),
+            utf(DefaultRulesRuntimeContext.class.getName()));
+        DefaultRulesRuntimeContext result = (DefaultRulesRuntimeContext) deserialize(bytes);
+
+        assertEquals(new Date(1_000_000L), result.getCurrentDate());
+        assertEquals("auto", result.getValue("lob"));
+        assertEquals(UsStatesEnum.CA, result.getUsState());
+        assertNull(result.getRequestDate());
+        assertNull(result.getCaRegion());
+    }
+
+    private static byte[] serialize(Object value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+            oos.writeObject(value);
+        }
+        return out.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return ois.readObject();
+        }
+    }
+
+    private static byte[] utf(String value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new DataOutputStream(out).writeUTF(value);
+        return out.toByteArray();
+    }
+
+    private static byte[] replace(byte[] bytes, byte[] target, byte[] replacement) {
+        for (int i = 0; i <= bytes.length - target.length; i++) {
+            boolean found = true;
+            for (int j = 0; j < target.length && found; j++) {
+                found = bytes[i + j] == target[j];
+            }
+            if (found) {
+                byte[] result = new byte[bytes.length - target.length + replacement.length];
+                System.arraycopy(bytes, 0, result, 0, i);
+                System.arraycopy(replacement, 0, result, i, replacement.length);
+                System.arraycopy(bytes,
+                    i + target.length,
+                    result,
+                    i + replacement.length,
+                    bytes.length - i - target.length);
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Target is not found.");
+    }
+
+    private static class PreviousRulesRuntimeContext implements Serializable {
+        private static final long serialVersionUID = 670283457423670894L;
+
+        private Map<String, Object> internalMap = new HashMap<>();
+        private Date currentDate;
+        private Date requestDate;
+        private String lob;
+        private UsStatesEnum usState;
+    }
+}
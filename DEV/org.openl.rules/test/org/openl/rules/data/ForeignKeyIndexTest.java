@@ -0,0 +1,53 @@
+package org.openl.rules.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.Array;
+
+import org.junit.Test;
+import org.openl.CompiledOpenClass;
+import org.openl.message.OpenLMessage;
+import org.openl.rules.runtime.RulesEngineFactory;
+import org.openl.rules.vm.SimpleRulesVM;
+import org.openl.types.IOpenClass;
+import org.openl.util.MessageUtils;
+import org.openl.vm.IRuntimeEnv;
+
+public class ForeignKeyIndexTest {
+
+    private static final String SRC = "test/rules/data/ForeignKeyIndexTest.xlsx";
+
+    @Test
+    public void testForeignKeys() {
+        RulesEngineFactory<?> engineFactory = new RulesEngineFactory<>(SRC);
+        CompiledOpenClass compiledOpenClass = engineFactory.getCompiledOpenClass();
+
+        // The referenced column of 'duplicatedItems' cannot be indexed
+        int errors = 0;
+        for (OpenLMessage message : compiledOpenClass.getMessages()) {
+            if (message.getSummary().contains(MessageUtils.getDuplicatedKeyIndexErrorMessage("A"))) {
+                errors++;
+            }
+        }
+        assertEquals(1, errors);
+
+        // The rows of 'items' are found by the keys
+        IOpenClass openClass = compiledOpenClass.getOpenClassWithErrors();
+        IRuntimeEnv env = new SimpleRulesVM().getRuntimeEnv();
+        Object target = openClass.newInstance(env);
+        Object refs = openClass.getField("refs").get(target, env);
+        assertEquals(2, Array.getLength(refs));
+        assertEquals("Second", getItemName(openClass, Array.get(refs, 0), env));
+        assertEquals("First", getItemName(openClass, Array.get(refs, 1), env));
+
+        Object items = openClass.getField("items").get(target, env);
+        IOpenClass refType = openClass.findType("Ref");
+        assertSame(Array.get(items, 1), refType.getField("item").get(Array.get(refs, 0), env));
+    }
+
+    private static Object getItemName(IOpenClass openClass, Object ref, IRuntimeEnv env) {
+        Object item = openClass.findType("Ref").getField("item").get(ref, env);
+        return openClass.findType("Item").getField("name").get(item, env);
+    }
+}
@@ -0,0 +1,64 @@
+package org.openl.rules.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.openl.CompiledOpenClass;
+import org.openl.engine.CompilationPool;
+import org.openl.engine.OpenLSystemProperties;
+import org.openl.engine.ParallelCompilationRule;
+import org.openl.message.OpenLMessage;
+import org.openl.rules.runtime.RulesEngineFactory;
+
+public class ParallelDataPopulationTest {
+
+    private static final String SRC = "test/rules/data/ParallelDataPopulation.xlsx";
+    private static final String SRC_WITH_ERRORS = "test/rules/data/ParallelDataPopulationErrors.xlsx";
+
+    @ClassRule
+    public static final ParallelCompilationRule PARALLEL_COMPILATION = new ParallelCompilationRule();
+
+    @Test
+    public void testDataIsLoaded() throws Exception {
+        System.setProperty(OpenLSystemProperties.DATA_POPULATION_PARALLEL, "true");
+        long executedTasks = CompilationPool.getExecutedTaskCount();
+        RulesEngineFactory<?> engineFactory = new RulesEngineFactory<>(SRC);
+        engineFactory.setExecutionMode(true);
+        Class<?> interfaceClass = engineFactory.getInterfaceClass();
+        Object instance = engineFactory.newInstance();
+        assertTrue("The rows are not loaded in parallel.", CompilationPool.getExecutedTaskCount() > executedTasks);
+
+        Method total = interfaceClass.getMethod("total");
+        assertEquals(4999.0, (Double) total.invoke(instance), 1e-9);
+        Method names = interfaceClass.getMethod("names");
+        assertEquals("n0n1999", names.invoke(instance));
+    }
+
+    @Test
+    public void testErrorsAreReportedInOrderOfRows() {
+        System.setProperty(OpenLSystemProperties.DATA_POPULATION_PARALLEL, "false");
+        List<String> expected = getMessages(SRC_WITH_ERRORS);
+        assertFalse(expected.isEmpty());
+
+        System.setProperty(OpenLSystemProperties.DATA_POPULATION_PARALLEL, "true");
+        assertEquals(expected, getMessages(SRC_WITH_ERRORS));
+    }
+
+    private static List<String> getMessages(String src) {
+        RulesEngineFactory<?> engineFactory = new RulesEngineFactory<>(src);
+        engineFactory.setExecutionMode(true);
+        CompiledOpenClass compiledOpenClass = engineFactory.getCompiledOpenClass();
+        List<String> messages = new ArrayList<>();
+        for (OpenLMessage message : compiledOpenClass.getMessages()) {
+            messages.add(message.getSeverity() + ": " + message.getSummary());
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,85 @@
+package org.openl.rules.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class RowIndexTest {
+
+    @Test
+    public void testByEquality() {
+        RowIndex<String> index = RowIndex.byEquality(2);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(-1, index.put(i, "key" + i));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("key" + i, index.get(i));
+            assertEquals(Integer.valueOf(i), index.getRow(new String("key" + i)));
+        }
+        assertNull(index.getRow("key1000"));
+        assertNull(index.get(1000));
+        assertNull(index.get(-1));
+        assertNull(index.getRow(null));
+    }
+
+    @Test
+    public void testByIdentity() {
+        RowIndex<Object> index = RowIndex.byIdentity(10);
+        String first = new String("value");
+        String second = new String("value");
+        index.put(0, first);
+        index.put(1, second);
+        assertEquals(Integer.valueOf(0), index.getRow(first));
+        assertEquals(Integer.valueOf(1), index.getRow(second));
+        assertNull(index.getRow("value"));
+    }
+
+    @Test
+    public void testEqualityVsIdentity() {
+        String first = new String("key");
+        String second = new String("key");
+        RowIndex<String> byEquality = RowIndex.byEquality(10);
+        RowIndex<String> byIdentity = RowIndex.byIdentity(10);
+
+        // The equal keys are duplicates for the index by equality only
+        assertEquals(-1, byEquality.put(0, first));
+        assertEquals(0, byEquality.put(1, second));
+        assertEquals(-1, byIdentity.put(0, first));
+        assertEquals(-1, byIdentity.put(1, second));
+
+        assertEquals(Integer.valueOf(1), byEquality.getRow(first));
+        assertEquals(Integer.valueOf(1), byEquality.getRow("key"));
+        assertEquals(Integer.valueOf(0), byIdentity.getRow(first));
+        assertEquals(Integer.valueOf(1), byIdentity.getRow(second));
+        assertNull(byIdentity.getRow(new String("key")));
+    }
+
+    @Test
+    public void testMapConversion() {
+        Map<String, Integer> rows = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            rows.put("key" + i, i * 2);
+        }
+        RowIndex<String> index = RowIndex.of(rows);
+        assertEquals(Integer.valueOf(10), index.getRow("key5"));
+        assertEquals("key5", index.get(10));
+        assertNull(index.get(11));
+        assertEquals(rows, index.toMap());
+    }
+
+    @Test
+    public void testLastRowIsReturned() {
+        RowIndex<Object> index = RowIndex.byIdentity(10);
+        Object bean = new Object();
+        assertEquals(-1, index.put(3, bean));
+        assertEquals(3, index.put(4, bean));
+        assertEquals(Integer.valueOf(4), index.getRow(bean));
+        assertEquals(bean, index.get(3));
+        assertEquals(bean, index.get(4));
+        assertNull(index.get(2));
+    }
+}
@@ -7,11 +7,13 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.junit.Test;
 import org.openl.classloader.OpenLBundleClassLoader;
 import org.openl.gen.FieldDescription;
+import org.openl.gen.TypeDescription;
 import org.openl.meta.DoubleValue;
 import org.openl.rules.datatype.gen.JavaBeanClassBuilder;
 import org.openl.rules.helpers.DoubleRange;
@@ -158,6 +160,46 @@ public class SimpleBeanByteCodeGeneratorTest {
         assertFalse(isEqual);
     }
 
+    @Test
+    public void testCachedHashCode() throws Exception {
+        ClassLoader classLoader = new OpenLBundleClassLoader(Thread.currentThread().getContextClassLoader());
+        String parentName = "my.test.CachedHashParent";
+        String childName = "my.test.CachedHashChild";
+        Map<String, FieldDescription> parentFields = new LinkedHashMap<>();
+        parentFields.put("id", new FieldDescription(int.class.getName()));
+        ClassUtils.defineClass(parentName,
+            new JavaBeanClassBuilder(parentName).addFields(parentFields).withHashCodeCaching(true).byteCode(),
+            classLoader);
+        Class<?> child = ClassUtils.defineClass(childName,
+            new JavaBeanClassBuilder(childName).setParentType(new TypeDescription(parentName))
+                .addParentFields(parentFields)
+                .addField("name", String.class.getName())
+                .withHashCodeCaching(true)
+                .byteCode(),
+            classLoader);
+
+        Object first = child.newInstance();
+        Object second = child.newInstance();
+        Method setId = child.getMethod("setId", int.class);
+        Method setName = child.getMethod("setName", String.class);
+        setId.invoke(first, 1);
+        setName.invoke(first, "a");
+        setId.invoke(second, 1);
+        setName.invoke(second, "a");
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+
+        int hashCode = first.hashCode();
+        assertEquals(hashCode, first.hashCode());
+        setName.invoke(first, "b");
+        assertNotEquals(hashCode, first.hashCode());
+        setName.invoke(first, "a");
+        assertEquals(hashCode, first.hashCode());
+        setId.invoke(first, 2);
+        assertNotEquals(hashCode, first.hashCode());
+        assertNotEquals(first, second);
+    }
+
     private Class<?> getBeanClass(String className, Map<String, FieldDescription> fields) {
         ClassLoader simpleBundleClassLoader = new OpenLBundleClassLoader(
             Thread.currentThread().getContextClassLoader());
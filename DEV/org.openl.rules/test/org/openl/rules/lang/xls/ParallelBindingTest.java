@@ -0,0 +1,81 @@
+package org.openl.rules.lang.xls;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.openl.CompiledOpenClass;
+import org.openl.engine.CompilationPool;
+import org.openl.engine.OpenLSystemProperties;
+import org.openl.engine.ParallelCompilationRule;
+import org.openl.message.OpenLMessage;
+import org.openl.meta.DoubleValue;
+import org.openl.rules.lang.xls.binding.XlsMetaInfo;
+import org.openl.rules.lang.xls.syntax.TableSyntaxNode;
+import org.openl.rules.runtime.RulesEngineFactory;
+import org.openl.syntax.exception.SyntaxNodeException;
+
+public class ParallelBindingTest {
+
+    private static final String SRC = "test/rules/Tutorial_4_Test.xls";
+    private static final String SRC_WITH_ERRORS = "test/rules/ParallelBindingErrors.xlsx";
+
+    @ClassRule
+    public static final ParallelCompilationRule PARALLEL_COMPILATION = new ParallelCompilationRule();
+
+    @Test
+    public void testRulesAreExecuted() throws Exception {
+        System.setProperty(OpenLSystemProperties.BINDING_PARALLEL, "true");
+        long executedTasks = CompilationPool.getExecutedTaskCount();
+        RulesEngineFactory<?> engineFactory = new RulesEngineFactory<>(SRC);
+        engineFactory.setExecutionMode(true);
+        Class<?> interfaceClass = engineFactory.getInterfaceClass();
+        Object instance = engineFactory.newInstance();
+        assertTrue("The tables are not bound in parallel.",
+            CompilationPool.getExecutedTaskCount() - executedTasks > 1);
+
+        Method method = interfaceClass.getMethod("ageSurcharge", int.class);
+        assertEquals(new DoubleValue(300), method.invoke(instance, 2));
+    }
+
+    @Test
+    public void testTablesAreBoundAsSequentially() {
+        System.setProperty(OpenLSystemProperties.BINDING_PARALLEL, "false");
+        List<String> expected = getErrors(SRC_WITH_ERRORS);
+        assertFalse(expected.isEmpty());
+
+        System.setProperty(OpenLSystemProperties.BINDING_PARALLEL, "true");
+        long executedTasks = CompilationPool.getExecutedTaskCount();
+        assertEquals(expected, getErrors(SRC_WITH_ERRORS));
+        assertTrue("The tables are not bound in parallel.",
+            CompilationPool.getExecutedTaskCount() - executedTasks > 1);
+    }
+
+    /**
+     * The errors of the tables and the messages of the module are kept in the order they are reported.
+     */
+    private static List<String> getErrors(String src) {
+        RulesEngineFactory<?> engineFactory = new RulesEngineFactory<>(src);
+        engineFactory.setExecutionMode(false);
+        CompiledOpenClass compiledOpenClass = engineFactory.getCompiledOpenClass();
+        List<String> errors = new ArrayList<>();
+        XlsMetaInfo xlsMetaInfo = (XlsMetaInfo) compiledOpenClass.getOpenClassWithErrors().getMetaInfo();
+        for (TableSyntaxNode tsn : xlsMetaInfo.getXlsModuleNode().getXlsTableSyntaxNodes()) {
+            for (SyntaxNodeException error : tsn.getErrors()) {
+                errors.add(tsn.getUri() + ": " + error.getMessage());
+            }
+        }
+        List<String> messages = new ArrayList<>();
+        for (OpenLMessage message : compiledOpenClass.getMessages()) {
+            messages.add(message.getSeverity() + ": " + message.getSummary());
+        }
+        errors.addAll(messages);
+        return errors;
+    }
+}
@@ -0,0 +1,121 @@
+package org.openl.rules.profiler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Test;
+import org.openl.CompiledOpenClass;
+import org.openl.rules.lang.xls.XlsNodeTypes;
+import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
+import org.openl.rules.runtime.RulesEngineFactory;
+
+public class CompilationProfilerTest {
+
+    private static final String SRC = "test/rules/Tutorial_4_Test.xls";
+
+    @After
+    public void tearDown() {
+        CompilationProfiler.setEnabled(false);
+    }
+
+    @Test
+    public void testDisabled() throws Exception {
+        CompilationProfiler.unregister();
+        XlsModuleOpenClass module = compile();
+        assertNull(module.getCompilationStatistics());
+        assertTrue(CompilationProfiler.getStatistics(module).isEmpty());
+        // The JMX bean is registered only when the profiler is enabled or when it is registered explicitly
+        assertFalse(ManagementFactory.getPlatformMBeanServer()
+            .isRegistered(new ObjectName(CompilationProfiler.OBJECT_NAME)));
+    }
+
+    @Test
+    public void testStatistics() {
+        CompilationProfiler.setEnabled(true);
+        XlsModuleOpenClass module = compile();
+
+        CompilationStatistics statistics = module.getCompilationStatistics();
+        assertNotNull(statistics);
+        assertEquals(1, CompilationProfiler.getStatistics(module).size());
+        assertTrue(statistics.getTime() > 0);
+
+        List<String> phases = statistics.getPhases()
+            .stream()
+            .map(CompilationEntry::getName)
+            .collect(Collectors.toList());
+        assertTrue(phases.contains(CompilationStatistics.Phase.PARSE.name()));
+        assertTrue(phases.contains(CompilationStatistics.Phase.PREBIND.name()));
+        assertTrue(phases.contains(CompilationStatistics.Phase.GENERATE_BYTECODE.name()));
+        assertTrue(phases.contains(CompilationStatistics.Phase.FINALIZE_BIND.name()));
+
+        List<CompilationEntry> tables = statistics.getTables();
+        assertFalse(tables.isEmpty());
+        for (int i = 1; i < tables.size(); i++) {
+            assertTrue(tables.get(i - 1).getTime() >= tables.get(i).getTime());
+        }
+        for (CompilationEntry table : tables) {
+            assertEquals(1, table.getCount());
+            assertNotNull(table.getUri());
+        }
+
+        long tableCount = statistics.getTableTypes().stream().mapToLong(CompilationEntry::getCount).sum();
+        assertEquals(tables.size(), tableCount);
+        assertTrue(statistics.getTableTypes()
+            .stream()
+            .anyMatch(e -> XlsNodeTypes.XLS_DATATYPE.toString().equals(e.getName())));
+    }
+
+    @Test
+    public void testJmx() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(CompilationProfiler.OBJECT_NAME);
+        CompilationProfiler.setEnabled(true);
+        compile();
+
+        assertTrue((Boolean) server.getAttribute(name, "Enabled"));
+        assertTrue((Long) server.getAttribute(name, "CompiledModules") > 0);
+        assertFalse(((String[]) server.getAttribute(name, "SlowestTables")).length == 0);
+
+        server.invoke(name, "reset", null, null);
+        assertEquals(0L, server.getAttribute(name, "CompiledModules"));
+
+        CompilationProfiler.unregister();
+        assertFalse(server.isRegistered(name));
+    }
+
+    @Test
+    public void testEnabledViaJmx() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(CompilationProfiler.OBJECT_NAME);
+        CompilationProfiler.register();
+        assertTrue(server.isRegistered(name));
+        assertFalse((Boolean) server.getAttribute(name, "Enabled"));
+
+        server.setAttribute(name, new Attribute("Enabled", true));
+        assertTrue(CompilationProfiler.isEnabled());
+        assertNotNull(compile().getCompilationStatistics());
+
+        CompilationProfiler.unregister();
+        assertFalse(server.isRegistered(name));
+    }
+
+    private static XlsModuleOpenClass compile() {
+        RulesEngineFactory<?> engineFactory = new RulesEngineFactory<>(SRC);
+        engineFactory.setExecutionMode(true);
+        CompiledOpenClass compiledOpenClass = engineFactory.getCompiledOpenClass();
+        assertFalse(compiledOpenClass.hasErrors());
+        return (XlsModuleOpenClass) compiledOpenClass.getOpenClass();
+    }
+}
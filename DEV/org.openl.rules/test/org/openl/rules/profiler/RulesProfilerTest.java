@@ -0,0 +1,90 @@
+package org.openl.rules.profiler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openl.CompiledOpenClass;
+import org.openl.rules.runtime.RulesEngineFactory;
+import org.openl.rules.vm.SimpleRulesVM;
+import org.openl.types.IOpenClass;
+import org.openl.types.IOpenMethod;
+import org.openl.types.java.JavaOpenClass;
+import org.openl.vm.IRuntimeEnv;
+
+public class RulesProfilerTest {
+
+    private static final String SRC = "test/rules/calc1/SpreadsheetRecalculation.xlsx";
+
+    private IOpenClass openClass;
+    private IOpenMethod method;
+    private Object target;
+    private IRuntimeEnv env;
+
+    @Before
+    public void setUp() {
+        RulesEngineFactory<?> engineFactory = new RulesEngineFactory<>(SRC);
+        CompiledOpenClass compiledOpenClass = engineFactory.getCompiledOpenClass();
+        assertFalse(compiledOpenClass.hasErrors());
+
+        openClass = compiledOpenClass.getOpenClass();
+        env = new SimpleRulesVM().getRuntimeEnv();
+        target = openClass.newInstance(env);
+        method = openClass.getMethod("calc",
+            new IOpenClass[] { JavaOpenClass.getOpenClass(Integer.class), JavaOpenClass.getOpenClass(Integer.class) });
+    }
+
+    @After
+    public void tearDown() {
+        RulesProfiler.setEnabled(false);
+        RulesProfiler.setSamplingRate(10);
+    }
+
+    @Test
+    public void testDisabled() {
+        method.invoke(target, new Object[] { 1, 2 }, env);
+        assertTrue(RulesProfiler.getReport(openClass).isEmpty());
+    }
+
+    @Test
+    public void testReport() {
+        RulesProfiler.setEnabled(true);
+        RulesProfiler.setSamplingRate(1);
+        for (int i = 0; i < 3; i++) {
+            method.invoke(target, new Object[] { i, 2 }, env);
+        }
+
+        List<ProfilerEntry> report = RulesProfiler.getReport(openClass);
+
+        ProfilerEntry calc = find(report, null).orElseThrow(AssertionError::new);
+        assertEquals(ProfilerEntry.Type.METHOD, calc.getType());
+        assertEquals("calc", calc.getTable());
+        assertEquals(3, calc.getCalls());
+        assertEquals(3, calc.getSampledCalls());
+
+        ProfilerEntry cell = find(report, "$Value$D").orElseThrow(AssertionError::new);
+        assertEquals(ProfilerEntry.Type.CELL, cell.getType());
+        assertEquals("calc", cell.getTable());
+        assertEquals(calc.getUri(), cell.getUri());
+        assertEquals(3, cell.getCalls());
+        assertTrue(cell.getTotalTime() <= calc.getTotalTime());
+        // Constant cells are not calculated
+        assertFalse(find(report, "$Value$E").isPresent());
+        // The whole spreadsheet is the most expensive one
+        assertNull(report.get(0).getCell());
+
+        RulesProfiler.reset(openClass);
+        assertTrue(RulesProfiler.getReport(openClass).isEmpty());
+    }
+
+    private static Optional<ProfilerEntry> find(List<ProfilerEntry> report, String cell) {
+        return report.stream().filter(e -> cell == null ? e.getCell() == null : cell.equals(e.getCell())).findFirst();
+    }
+}
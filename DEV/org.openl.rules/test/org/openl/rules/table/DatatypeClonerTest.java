@@ -0,0 +1,141 @@
+package org.openl.rules.table;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.Date;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openl.classloader.OpenLBundleClassLoader;
+import org.openl.gen.FieldDescription;
+import org.openl.gen.TypeDescription;
+import org.openl.rules.datatype.gen.JavaBeanClassBuilder;
+import org.openl.util.ClassUtils;
+
+public class DatatypeClonerTest {
+
+    private static final String PARENT_NAME = "org.openl.generated.cloner.Parent";
+    private static final String CHILD_NAME = "org.openl.generated.cloner.Child";
+    private static final String JAR_BEAN_NAME = "org.openl.generated.cloner.JarBean";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testDatatypeIsClonedWithGeneratedCloner() throws Exception {
+        OpenLBundleClassLoader classLoader = new OpenLBundleClassLoader(
+            Thread.currentThread().getContextClassLoader());
+        Class<?> child = defineBeans(classLoader);
+
+        Object bean = child.newInstance();
+        Object other = child.newInstance();
+        int[] numbers = { 1, 2, 3 };
+        Date date = new Date(0);
+        set(bean, "name", String.class, "bean");
+        set(bean, "count", int.class, 5);
+        set(bean, "numbers", int[].class, numbers);
+        set(bean, "sameNumbers", int[].class, numbers);
+        set(bean, "names", String[].class, new String[] { "a", "b" });
+        set(bean, "date", Date.class, date);
+        set(bean, "link", Object.class, other);
+        set(other, "link", Object.class, bean);
+
+        Object clone = new OpenLArgumentsCloner().deepClone(bean);
+
+        assertNotNull(classLoader.loadClass(CHILD_NAME + "$OpenLCloner"));
+        assertNotSame(bean, clone);
+        assertSame(child, clone.getClass());
+        assertSame(get(bean, "name"), get(clone, "name"));
+        assertEquals(5, get(clone, "count"));
+
+        int[] clonedNumbers = (int[]) get(clone, "numbers");
+        assertNotSame(numbers, clonedNumbers);
+        assertArrayEquals(numbers, clonedNumbers);
+        assertSame(clonedNumbers, get(clone, "sameNumbers"));
+        assertArrayEquals(new String[] { "a", "b" }, (String[]) get(clone, "names"));
+
+        assertNotSame(date, get(clone, "date"));
+        assertEquals(date, get(clone, "date"));
+
+        Object clonedOther = get(clone, "link");
+        assertNotSame(other, clonedOther);
+        assertSame(clone, get(clonedOther, "link"));
+    }
+
+    @Test
+    public void testBeanFromProjectClassPathIsClonedWithGeneratedCloner() throws Exception {
+        byte[] byteCode = new JavaBeanClassBuilder(JAR_BEAN_NAME).addField("name", String.class.getName()).byteCode();
+        File classFile = new File(folder.getRoot(), JAR_BEAN_NAME.replace('.', '/') + ".class");
+        assertTrue(classFile.getParentFile().mkdirs());
+        Files.write(classFile.toPath(), byteCode);
+        OpenLBundleClassLoader classLoader = new OpenLBundleClassLoader(new URL[] { folder.getRoot().toURI().toURL() },
+            Thread.currentThread().getContextClassLoader());
+        Class<?> type = classLoader.loadClass(JAR_BEAN_NAME);
+
+        Object bean = type.newInstance();
+        set(bean, "name", String.class, "bean");
+        Object clone = new OpenLArgumentsCloner().deepClone(bean);
+
+        assertNotNull(classLoader.loadClass(JAR_BEAN_NAME + "$OpenLCloner"));
+        assertNotSame(bean, clone);
+        assertEquals("bean", get(clone, "name"));
+    }
+
+    @Test(expected = ClassNotFoundException.class)
+    public void testApplicationClassIsClonedByReflection() throws Exception {
+        ApplicationBean bean = new ApplicationBean();
+        bean.name = "bean";
+        ApplicationBean clone = new OpenLArgumentsCloner().deepClone(bean);
+
+        assertNotSame(bean, clone);
+        assertEquals("bean", clone.name);
+        Class.forName(ApplicationBean.class.getName() + "$OpenLCloner");
+    }
+
+    public static class ApplicationBean {
+        String name;
+    }
+
+    private static Class<?> defineBeans(ClassLoader classLoader) throws Exception {
+        ClassLoader oldClassLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            Thread.currentThread().setContextClassLoader(classLoader);
+            byte[] parent = new JavaBeanClassBuilder(PARENT_NAME).addField("name", String.class.getName())
+                .addField("count", int.class.getName())
+                .addField("link", Object.class.getName())
+                .byteCode();
+            ClassUtils.defineClass(PARENT_NAME, parent, classLoader);
+            byte[] child = new JavaBeanClassBuilder(CHILD_NAME).setParentType(new TypeDescription(PARENT_NAME))
+                .addParentField("name", String.class.getName())
+                .addParentField("count", int.class.getName())
+                .addParentField("link", Object.class.getName())
+                .addField("numbers", new FieldDescription(int[].class.getName()))
+                .addField("sameNumbers", new FieldDescription(int[].class.getName()))
+                .addField("names", new FieldDescription(String[].class.getName()))
+                .addField("date", Date.class.getName())
+                .byteCode();
+            return ClassUtils.defineClass(CHILD_NAME, child, classLoader);
+        } finally {
+            Thread.currentThread().setContextClassLoader(oldClassLoader);
+        }
+    }
+
+    private static void set(Object bean, String field, Class<?> type, Object value) throws Exception {
+        String name = Character.toUpperCase(field.charAt(0)) + field.substring(1);
+        bean.getClass().getMethod("set" + name, type).invoke(bean, value);
+    }
+
+    private static Object get(Object bean, String field) throws Exception {
+        String name = Character.toUpperCase(field.charAt(0)) + field.substring(1);
+        return bean.getClass().getMethod("get" + name).invoke(bean);
+    }
+}
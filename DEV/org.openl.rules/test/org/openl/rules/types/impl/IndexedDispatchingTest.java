@@ -0,0 +1,42 @@
+package org.openl.rules.types.impl;
+
+import static org.junit.Assert.assertTrue;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.openl.engine.OpenLSystemProperties;
+import org.openl.rules.lang.xls.binding.XlsModuleOpenClass;
+import org.openl.rules.lang.xls.binding.wrapper.IOpenMethodWrapper;
+import org.openl.rules.runtime.RulesEngineFactory;
+import org.openl.types.IOpenClass;
+import org.openl.types.IOpenMethod;
+
+/**
+ * Runs the dispatching tests with the index based dispatcher.
+ */
+public class IndexedDispatchingTest extends DispatchingTest {
+
+    private static String dispatchingMode;
+
+    @BeforeClass
+    public static void before() {
+        dispatchingMode = System.getProperty(OpenLSystemProperties.DISPATCHING_MODE_PROPERTY, "");
+        System.setProperty(OpenLSystemProperties.DISPATCHING_MODE_PROPERTY,
+            OpenLSystemProperties.DISPATCHING_MODE_INDEX);
+    }
+
+    @AfterClass
+    public static void after() {
+        System.setProperty(OpenLSystemProperties.DISPATCHING_MODE_PROPERTY, dispatchingMode);
+    }
+
+    @Test
+    public void testIndexedDispatcherIsUsed() {
+        RulesEngineFactory<?> engineFactory = new RulesEngineFactory<>("test/rules/dispatching/Dispatching.xls");
+        XlsModuleOpenClass moduleOpenClass = (XlsModuleOpenClass) engineFactory.getCompiledOpenClass()
+            .getOpenClassWithErrors();
+        IOpenMethod method = moduleOpenClass.getMethod("getPriority", IOpenClass.EMPTY);
+        assertTrue(((IOpenMethodWrapper) method).getDelegate() instanceof IndexedMatchingOpenMethodDispatcher);
+    }
+}
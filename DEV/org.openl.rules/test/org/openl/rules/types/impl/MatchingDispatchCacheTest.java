@@ -0,0 +1,76 @@
+package org.openl.rules.types.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.openl.exception.OpenLRuntimeException;
+import org.openl.rules.TestUtils;
+import org.openl.rules.context.IRulesRuntimeContext;
+import org.openl.rules.context.RulesRuntimeContextFactory;
+import org.openl.rules.enumeration.UsStatesEnum;
+import org.openl.runtime.IEngineWrapper;
+
+public class MatchingDispatchCacheTest {
+    private static final String RULES_SOURCE_FILE = "test/rules/dispatching/DispatchCache.xlsx";
+
+    private Rules instance;
+
+    @Before
+    public void setUp() {
+        instance = TestUtils.create(RULES_SOURCE_FILE, Rules.class);
+    }
+
+    @Test
+    public void testDatesBetweenVersions() throws ParseException {
+        assertEquals(1, version("2018-06-01", UsStatesEnum.NY));
+        assertEquals(1, version("2018-07-15", UsStatesEnum.NY));
+        assertEquals(2, version("2019-06-01", UsStatesEnum.NY));
+        assertEquals(1, version("2018-02-01", UsStatesEnum.NY));
+        assertEquals(2, version("2019-03-01", UsStatesEnum.NY));
+    }
+
+    @Test
+    public void testDatesOnBoundaries() throws ParseException {
+        assertEquals(1, version("2018-12-31", UsStatesEnum.NY));
+        assertEquals(2, version("2019-01-01", UsStatesEnum.NY));
+        assertEquals(2, version("2019-12-31", UsStatesEnum.NY));
+        assertEquals(1, version("2018-01-01", UsStatesEnum.NY));
+    }
+
+    @Test
+    public void testNotMatchedDates() throws ParseException {
+        assertEquals(1, version("2018-06-01", UsStatesEnum.NY));
+        try {
+            version("2017-06-01", UsStatesEnum.NY);
+            fail("Exception is expected");
+        } catch (OpenLRuntimeException e) {
+            assertEquals(2, version("2019-06-01", UsStatesEnum.NY));
+        }
+    }
+
+    @Test
+    public void testDatesAndState() throws ParseException {
+        assertEquals(2, version("2019-06-01", UsStatesEnum.NY));
+        assertEquals(3, version("2019-06-01", UsStatesEnum.CA));
+        assertEquals(3, version("2019-08-01", UsStatesEnum.CA));
+        assertEquals(2, version("2019-08-01", UsStatesEnum.NY));
+        assertEquals(1, version("2018-08-01", UsStatesEnum.CA));
+    }
+
+    private int version(String currentDate, UsStatesEnum state) throws ParseException {
+        IRulesRuntimeContext context = RulesRuntimeContextFactory.buildRulesRuntimeContext();
+        context.setCurrentDate(new SimpleDateFormat("yyyy-MM-dd").parse(currentDate));
+        context.setUsState(state);
+        ((IEngineWrapper) instance).getRuntimeEnv().setContext(context);
+        return instance.version();
+    }
+
+    public interface Rules {
+        int version();
+    }
+}
@@ -0,0 +1,103 @@
+package org.openl.rules.types.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.openl.engine.OpenLSystemProperties;
+import org.openl.exception.OpenLRuntimeException;
+import org.openl.rules.TestUtils;
+import org.openl.rules.context.IRulesRuntimeContext;
+import org.openl.rules.context.RulesRuntimeContextFactory;
+import org.openl.rules.enumeration.UsStatesEnum;
+import org.openl.runtime.IEngineWrapper;
+
+public class MatchingFastPathTest {
+    private static final String RULES_SOURCE_FILE = "test/rules/dispatching/DispatchFastPath.xlsx";
+
+    private static String dispatchingValidation;
+
+    private Rules instance;
+
+    @BeforeClass
+    public static void before() {
+        dispatchingValidation = System.getProperty(OpenLSystemProperties.DISPATCHING_VALIDATION, "");
+        System.setProperty(OpenLSystemProperties.DISPATCHING_VALIDATION, "true");
+    }
+
+    @AfterClass
+    public static void after() {
+        System.setProperty(OpenLSystemProperties.DISPATCHING_VALIDATION, dispatchingValidation);
+    }
+
+    @Before
+    public void setUp() {
+        instance = TestUtils.create(RULES_SOURCE_FILE, Rules.class);
+    }
+
+    @Test
+    public void testDateVersions() throws ParseException {
+        assertEquals(1, version("2018-01-01"));
+        assertEquals(1, version("2018-06-01"));
+        assertEquals(1, version("2018-12-31"));
+        assertEquals(2, version("2019-01-01"));
+        assertEquals(2, version("2019-12-31"));
+        assertEquals(3, version("2021-01-01"));
+        assertEquals(3, version("2030-06-01"));
+    }
+
+    @Test
+    public void testDateVersionsNotMatched() throws ParseException {
+        assertNotMatched("2017-12-31");
+        assertNotMatched("2020-06-01");
+    }
+
+    @Test
+    public void testSingleCandidate() {
+        initContext().setUsState(UsStatesEnum.CA);
+        assertEquals(10, instance.single());
+
+        initContext();
+        assertEquals(10, instance.single());
+
+        initContext().setUsState(UsStatesEnum.NY);
+        try {
+            instance.single();
+            fail("Exception is expected");
+        } catch (OpenLRuntimeException e) {
+            assertEquals(true, e.getMessage().contains("No matching methods"));
+        }
+    }
+
+    private void assertNotMatched(String currentDate) throws ParseException {
+        try {
+            version(currentDate);
+            fail("Exception is expected");
+        } catch (OpenLRuntimeException e) {
+            assertEquals(true, e.getMessage().contains("No matching methods"));
+        }
+    }
+
+    private int version(String currentDate) throws ParseException {
+        initContext().setCurrentDate(new SimpleDateFormat("yyyy-MM-dd").parse(currentDate));
+        return instance.version();
+    }
+
+    private IRulesRuntimeContext initContext() {
+        IRulesRuntimeContext context = RulesRuntimeContextFactory.buildRulesRuntimeContext();
+        ((IEngineWrapper) instance).getRuntimeEnv().setContext(context);
+        return context;
+    }
+
+    public interface Rules {
+        int version();
+
+        int single();
+    }
+}
@@ -2,17 +2,30 @@ package org.openl.rules.project;
 
 import java.util.Map;
 
+import org.openl.rules.table.DatatypeCloner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.rits.cloning.Cloner;
+import com.rits.cloning.IDeepCloner;
 import com.rits.cloning.ObjenesisInstantiationStrategy;
 
 public class SafeCloner extends Cloner {
+    private final IDeepCloner datatypeFieldsCloner = DatatypeCloner.deepCloner(this::cloneInternal);
+
     public SafeCloner() {
         super(new ObjenesisInstantiationStrategy());
     }
 
+    @Override
+    protected Object fastClone(Object o, Map<Object, Object> clones) {
+        Object clone = super.fastClone(o, clones);
+        if (clone == null) {
+            clone = DatatypeCloner.clone(o, clones, this::newInstance, datatypeFieldsCloner);
+        }
+        return clone;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> T cloneInternal(T o, Map<Object, Object> clones) throws IllegalAccessException {
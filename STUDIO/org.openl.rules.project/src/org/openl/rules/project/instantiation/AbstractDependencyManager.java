@@ -8,11 +8,15 @@ import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 import org.openl.OpenClassUtil;
@@ -20,8 +24,12 @@ import org.openl.binding.impl.component.ComponentOpenClass;
 import org.openl.classloader.OpenLBundleClassLoader;
 import org.openl.dependency.CompiledDependency;
 import org.openl.dependency.IDependencyManager;
+import org.openl.engine.CompilationPool;
+import org.openl.engine.OpenLSystemProperties;
 import org.openl.exception.OpenLCompilationException;
 import org.openl.rules.lang.xls.XlsBinder;
+import org.openl.rules.lang.xls.load.WorkbookLoaderFactory;
+import org.openl.rules.lang.xls.load.WorkbookLoaders;
 import org.openl.rules.lang.xls.syntax.TableSyntaxNode;
 import org.openl.rules.project.dependencies.ProjectExternalDependenciesHelper;
 import org.openl.rules.project.model.Module;
@@ -47,6 +55,10 @@ public abstract class AbstractDependencyManager implements IDependencyManager {
     private final ClassLoader rootClassLoader;
     protected boolean executionMode;
     private Map<String, Object> externalParameters;
+    private final boolean parallelCompilation;
+    private final Map<IDependencyLoader, Thread> compilingLoaders = new HashMap<>();
+    private final Map<Thread, IDependencyLoader> awaitedLoaders = new HashMap<>();
+    private final Map<IDependencyLoader, OpenLCompilationException> preloadFailures = new ConcurrentHashMap<>();
 
     public static class DependencyReference {
         String reference;
@@ -118,6 +130,7 @@ public abstract class AbstractDependencyManager implements IDependencyManager {
             this.externalParameters.putAll(externalParameters);
         }
         this.externalParameters = Collections.unmodifiableMap(this.externalParameters);
+        this.parallelCompilation = OpenLSystemProperties.isParallelDependencyCompilation(this.externalParameters);
     }
 
     public final Map<String, Collection<IDependencyLoader>> getDependencyLoaders() {
@@ -187,7 +200,16 @@ public abstract class AbstractDependencyManager implements IDependencyManager {
                     extractCircularDependencyDetails(dependencyName, compilationStack)));
             }
 
+            OpenLCompilationException preloadFailure = preloadFailures.get(dependencyLoader);
+            if (preloadFailure != null) {
+                log.debug("Dependency '{}' is failed to compile in advance.", dependencyName);
+                throw preloadFailure;
+            }
+
             CompiledDependency compiledDependency;
+            boolean acquiredLoader = parallelCompilation && acquireLoader(dependencyLoader,
+                dependencyName,
+                compilationStack);
             try {
                 compilationStack.push(dependencyName);
                 log.debug("Dependency '{}' is added to compilation stack.", dependencyName);
@@ -195,6 +217,9 @@ public abstract class AbstractDependencyManager implements IDependencyManager {
             } finally {
                 compilationStack.poll();
                 log.debug("Dependency '{}' is removed from compilation stack.", dependencyName);
+                if (acquiredLoader) {
+                    releaseLoader(dependencyLoader);
+                }
             }
 
             if (compiledDependency == null) {
@@ -212,6 +237,191 @@ public abstract class AbstractDependencyManager implements IDependencyManager {
         }
     }
 
+    /**
+     * Compiles the dependencies and the projects they depend on in parallel if the parallel compilation of the
+     * dependencies is enabled. The projects are compiled in waves: each wave contains the dependencies whose projects
+     * depend only on the projects compiled in the previous waves. Nothing is compiled in advance if the projects have
+     * circular dependencies, they are reported when the dependencies are loaded.
+     */
+    @Override
+    public void preloadDependencies(Collection<IDependency> dependencies) {
+        if (!parallelCompilation || CompilationPool.getParallelism() < 2 || !getCompilationStack().isEmpty()) {
+            return;
+        }
+        Map<IDependencyLoader, String> dependencyNames = new LinkedHashMap<>();
+        Map<IDependencyLoader, Set<IDependencyLoader>> dependenciesGraph = new HashMap<>();
+        Deque<String> names = new ArrayDeque<>();
+        for (IDependency dependency : dependencies) {
+            names.add(dependency.getNode().getIdentifier());
+        }
+        while (!names.isEmpty()) {
+            String name = names.poll();
+            IDependencyLoader dependencyLoader = findDependencyLoader(name);
+            if (dependencyLoader == null || dependencyNames.containsKey(dependencyLoader)) {
+                continue;
+            }
+            Set<IDependencyLoader> loaderDependencies = new HashSet<>();
+            ProjectDescriptor project = dependencyLoader.getProject();
+            if (project != null && project.getDependencies() != null) {
+                for (ProjectDependencyDescriptor projectDependency : project.getDependencies()) {
+                    String projectDependencyName = ProjectExternalDependenciesHelper
+                        .buildDependencyNameForProject(projectDependency.getName());
+                    IDependencyLoader projectLoader = findDependencyLoader(projectDependencyName);
+                    if (projectLoader != null) {
+                        loaderDependencies.add(projectLoader);
+                        names.add(projectDependencyName);
+                    }
+                }
+            }
+            dependencyNames.put(dependencyLoader, name);
+            dependenciesGraph.put(dependencyLoader, loaderDependencies);
+        }
+
+        List<List<IDependencyLoader>> waves = new ArrayList<>();
+        Set<IDependencyLoader> scheduled = new HashSet<>();
+        while (scheduled.size() < dependencyNames.size()) {
+            List<IDependencyLoader> wave = new ArrayList<>();
+            for (IDependencyLoader dependencyLoader : dependencyNames.keySet()) {
+                if (!scheduled.contains(dependencyLoader) && scheduled
+                    .containsAll(dependenciesGraph.get(dependencyLoader))) {
+                    wave.add(dependencyLoader);
+                }
+            }
+            if (wave.isEmpty()) {
+                return;
+            }
+            scheduled.addAll(wave);
+            waves.add(wave);
+        }
+
+        for (List<IDependencyLoader> wave : waves) {
+            List<IDependency> waveDependencies = new ArrayList<>();
+            for (IDependencyLoader dependencyLoader : wave) {
+                if (!dependencyLoader.isCompiled()) {
+                    waveDependencies.add(new Dependency(DependencyType.MODULE,
+                        new IdentifierNode(null, null, dependencyNames.get(dependencyLoader), null)));
+                }
+            }
+            if (!waveDependencies.isEmpty()) {
+                compileDependencies(waveDependencies);
+            }
+        }
+    }
+
+    /**
+     * Compiles the dependencies concurrently. The compilation errors are kept until the dependencies are reset and they
+     * are reported when the dependencies are loaded, so the failed dependencies are not compiled again. The workbooks
+     * are loaded by the workbook loader factory of the current thread.
+     */
+    protected void compileDependencies(List<IDependency> dependencies) {
+        WorkbookLoaderFactory workbookLoaderFactory = WorkbookLoaders.getCurrentFactory();
+        List<Callable<Void>> tasks = new ArrayList<>(dependencies.size());
+        for (IDependency dependency : dependencies) {
+            tasks.add(() -> {
+                String dependencyName = dependency.getNode().getIdentifier();
+                // The task can be executed by the current thread while it waits for the other tasks
+                WorkbookLoaderFactory previousFactory = WorkbookLoaders.getCurrentFactory();
+                WorkbookLoaders.setCurrentFactory(workbookLoaderFactory);
+                try {
+                    loadDependency(dependency);
+                } catch (OpenLCompilationException e) {
+                    IDependencyLoader dependencyLoader = findDependencyLoader(dependencyName);
+                    if (dependencyLoader != null && !dependencyLoader.isCompiled()) {
+                        preloadFailures.putIfAbsent(dependencyLoader, e);
+                    }
+                    log.debug("Dependency '{}' is not compiled in advance.", dependencyName, e);
+                } finally {
+                    WorkbookLoaders.setCurrentFactory(previousFactory);
+                }
+                return null;
+            });
+        }
+        try {
+            CompilationPool.invokeAll(tasks);
+        } catch (Exception e) {
+            log.debug("Dependencies are not compiled in advance.", e);
+        }
+    }
+
+    private IDependencyLoader findDependencyLoader(String dependencyName) {
+        Collection<IDependencyLoader> dependencyLoaders = getDependencyLoaders().get(dependencyName);
+        if (dependencyLoaders == null || dependencyLoaders.size() != 1) {
+            return null;
+        }
+        return dependencyLoaders.iterator().next();
+    }
+
+    /**
+     * Makes the current thread the only one that compiles the dependency loader. If the loader is compiled by another
+     * thread, the current thread waits until the compilation is completed. The circular dependency is reported instead
+     * of the deadlock if the other thread waits for the current one.
+     *
+     * @return {@code false} if the loader is already compiled by the current thread
+     */
+    private boolean acquireLoader(IDependencyLoader dependencyLoader,
+            String dependencyName,
+            Deque<String> compilationStack) throws OpenLCompilationException {
+        Thread currentThread = Thread.currentThread();
+        synchronized (compilingLoaders) {
+            Thread owner = compilingLoaders.get(dependencyLoader);
+            while (owner != null) {
+                if (owner == currentThread) {
+                    return false;
+                }
+                if (isWaitingFor(owner, currentThread)) {
+                    throw new OpenLCompilationException(String.format("Circular dependency is detected: %s.",
+                        extractCircularDependencyDetails(dependencyName, compilationStack)));
+                }
+                awaitedLoaders.put(currentThread, dependencyLoader);
+                try {
+                    // The pool compensates the blocked worker, so the other dependencies are still compiled
+                    ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+                        @Override
+                        public boolean block() throws InterruptedException {
+                            compilingLoaders.wait();
+                            return true;
+                        }
+
+                        @Override
+                        public boolean isReleasable() {
+                            return false;
+                        }
+                    });
+                } catch (InterruptedException e) {
+                    currentThread.interrupt();
+                    throw new OpenLCompilationException(
+                        String.format("Compilation of dependency '%s' is interrupted.", dependencyName),
+                        e);
+                } finally {
+                    awaitedLoaders.remove(currentThread);
+                }
+                owner = compilingLoaders.get(dependencyLoader);
+            }
+            compilingLoaders.put(dependencyLoader, currentThread);
+            return true;
+        }
+    }
+
+    private void releaseLoader(IDependencyLoader dependencyLoader) {
+        synchronized (compilingLoaders) {
+            compilingLoaders.remove(dependencyLoader);
+            compilingLoaders.notifyAll();
+        }
+    }
+
+    private boolean isWaitingFor(Thread thread, Thread awaitedThread) {
+        Set<Thread> visited = new HashSet<>();
+        Thread current = thread;
+        while (current != null && visited.add(current)) {
+            IDependencyLoader awaitedLoader = awaitedLoaders.get(current);
+            current = awaitedLoader == null ? null : compilingLoaders.get(awaitedLoader);
+            if (current == awaitedThread) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void clearOddDataForExecutionMode() {
         if (isExecutionMode() && getCompilationStack().isEmpty()) {
@@ -340,6 +550,7 @@ public abstract class AbstractDependencyManager implements IDependencyManager {
         Collection<IDependencyLoader> dependencyLoaders = getDependencyLoaders().get(dependencyName);
         if (dependencyLoaders != null) {
             dependencyLoaders.forEach(IDependencyLoader::reset);
+            dependencyLoaders.forEach(preloadFailures::remove);
             for (DependencyReference dependencyReference : dependenciesReferenciesToClear) {
                 dependencyReferences.remove(dependencyReference);
             }
@@ -364,6 +575,7 @@ public abstract class AbstractDependencyManager implements IDependencyManager {
         for (Collection<IDependencyLoader> dependencyLoaders : getDependencyLoaders().values()) {
             dependencyLoaders.forEach(IDependencyLoader::reset);
         }
+        preloadFailures.clear();
     }
 
     protected synchronized void addDependencyReference(DependencyReference dr) {
@@ -144,11 +144,18 @@ public class SimpleDependencyLoader implements IDependencyLoader {
     @Override
     public void reset() {
         if (compiledDependency != null) {
-            OpenClassUtil.release(compiledDependency.getCompiledOpenClass());
+            release(compiledDependency);
         }
         compiledDependency = null;
     }
 
+    /**
+     * Releases the class loader of the compiled dependency when the loader is reset.
+     */
+    protected void release(CompiledDependency compiledDependency) {
+        OpenClassUtil.release(compiledDependency.getCompiledOpenClass());
+    }
+
     public interface EmptyInterface {
     }
 }
\ No newline at end of file
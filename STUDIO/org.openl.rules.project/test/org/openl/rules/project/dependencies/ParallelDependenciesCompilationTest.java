@@ -0,0 +1,154 @@
+package org.openl.rules.project.dependencies;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.openl.CompiledOpenClass;
+import org.openl.engine.CompilationPool;
+import org.openl.engine.OpenLSystemProperties;
+import org.openl.message.OpenLMessage;
+import org.openl.meta.DoubleValue;
+import org.openl.rules.context.IRulesRuntimeContext;
+import org.openl.rules.context.RulesRuntimeContextFactory;
+import org.openl.rules.lang.xls.load.LazyWorkbookLoaderFactory;
+import org.openl.rules.lang.xls.load.WorkbookLoaderFactory;
+import org.openl.rules.lang.xls.load.WorkbookLoaders;
+import org.openl.rules.project.instantiation.ProjectEngineFactory;
+import org.openl.rules.project.instantiation.SimpleProjectEngineFactory.SimpleProjectEngineFactoryBuilder;
+
+public class ParallelDependenciesCompilationTest {
+
+    private static final String PROJECT = "test-resources/dependencies/test4/module/main";
+    private static final String WORKSPACE = "test-resources/dependencies/test4/module";
+    private static final String THREADS_PROPERTY = "openl.compilation.threads";
+    private static final String[] PARALLEL_PROPERTIES = { OpenLSystemProperties.SHEET_PARSING_PARALLEL,
+            OpenLSystemProperties.BINDING_PARALLEL,
+            OpenLSystemProperties.DATA_POPULATION_PARALLEL,
+            OpenLSystemProperties.DEPENDENCY_COMPILATION_PARALLEL };
+
+    private static final Map<String, String> properties = new HashMap<>();
+
+    @BeforeClass
+    public static void before() {
+        properties.put(THREADS_PROPERTY, System.getProperty(THREADS_PROPERTY));
+        if (System.getProperty(THREADS_PROPERTY) == null) {
+            // The dependencies are compiled in parallel even on a single processor
+            System.setProperty(THREADS_PROPERTY, "4");
+        }
+        // Only the compilation of the dependencies is parallel, it is enabled by the external parameters
+        for (String property : PARALLEL_PROPERTIES) {
+            properties.put(property, System.getProperty(property));
+            System.setProperty(property, "false");
+        }
+        assertTrue("The compilation pool must have more than one thread.", CompilationPool.getParallelism() > 1);
+    }
+
+    @AfterClass
+    public static void after() {
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+            if (property.getValue() == null) {
+                System.clearProperty(property.getKey());
+            } else {
+                System.setProperty(property.getKey(), property.getValue());
+            }
+        }
+        properties.clear();
+    }
+
+    @Test
+    public void testRulesAreExecuted() throws Exception {
+        long executedTasks = CompilationPool.getExecutedTaskCount();
+        ProjectEngineFactory<?> factory = new SimpleProjectEngineFactoryBuilder().setProject(PROJECT)
+            .setWorkspace(WORKSPACE)
+            .setExternalParameters(getExternalParameters(true))
+            .setExecutionMode(false)
+            .setProvideRuntimeContext(true)
+            .build();
+        assertFalse(factory.getCompiledOpenClass().hasErrors());
+        assertTrue("The dependencies are not compiled in parallel.",
+            CompilationPool.getExecutedTaskCount() - executedTasks > 1);
+        Class<?> interfaceClass = factory.getInterfaceClass();
+        Object instance = factory.newInstance();
+
+        IRulesRuntimeContext context = RulesRuntimeContextFactory.buildRulesRuntimeContext();
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(2009, 5, 15);
+        context.setCurrentDate(calendar.getTime());
+
+        Method method = interfaceClass.getMethod("getTestCars", IRulesRuntimeContext.class);
+        Object car = ((Object[]) method.invoke(instance, context))[1];
+        method = interfaceClass.getMethod("getTestAddresses", IRulesRuntimeContext.class);
+        Object address = ((Object[]) method.invoke(instance, context))[4];
+
+        method = interfaceClass.getMethod("getPriceForOrder",
+            IRulesRuntimeContext.class,
+            car.getClass(),
+            int.class,
+            address.getClass());
+        Object res = method.invoke(instance, context, car, 4, address);
+
+        assertEquals(Double.valueOf(189050), Double.valueOf(((DoubleValue) res).getValue()));
+    }
+
+    @Test
+    public void testMessagesAreTheSameAsSequentially() throws Exception {
+        List<String> expected = getMessages(false);
+        long executedTasks = CompilationPool.getExecutedTaskCount();
+        assertEquals(expected, getMessages(true));
+        assertTrue("The dependencies are not compiled in parallel.",
+            CompilationPool.getExecutedTaskCount() - executedTasks > 1);
+    }
+
+    @Test
+    public void testWorkbooksAreLoadedByFactoryOfCurrentThread() throws Exception {
+        Set<String> loadedWorkbooks = ConcurrentHashMap.newKeySet();
+        WorkbookLoaderFactory defaultFactory = new LazyWorkbookLoaderFactory(true);
+        WorkbookLoaders.setCurrentFactory(source -> {
+            loadedWorkbooks.add(source.getUri());
+            return defaultFactory.createWorkbookLoader(source);
+        });
+        try {
+            long executedTasks = CompilationPool.getExecutedTaskCount();
+            assertFalse(getMessages(true).isEmpty());
+            assertTrue("The dependencies are not compiled in parallel.",
+                CompilationPool.getExecutedTaskCount() - executedTasks > 1);
+        } finally {
+            WorkbookLoaders.resetCurrentFactory();
+        }
+        assertTrue(loadedWorkbooks.stream().anyMatch(uri -> uri.contains("dependency-module1")));
+        assertTrue(loadedWorkbooks.stream().anyMatch(uri -> uri.contains("dependency-module2")));
+    }
+
+    private static List<String> getMessages(boolean parallel) throws Exception {
+        ProjectEngineFactory<?> factory = new SimpleProjectEngineFactoryBuilder().setProject(PROJECT)
+            .setWorkspace(WORKSPACE)
+            .setExternalParameters(getExternalParameters(parallel))
+            .setExecutionMode(false)
+            .build();
+        CompiledOpenClass compiledOpenClass = factory.getCompiledOpenClass();
+        List<String> messages = new ArrayList<>();
+        for (OpenLMessage message : compiledOpenClass.getMessages()) {
+            messages.add(message.getSeverity() + ": " + message.getSummary());
+        }
+        return messages;
+    }
+
+    private static Map<String, Object> getExternalParameters(boolean parallel) {
+        return Collections.singletonMap(OpenLSystemProperties.DEPENDENCY_COMPILATION_PARALLEL,
+            String.valueOf(parallel));
+    }
+}
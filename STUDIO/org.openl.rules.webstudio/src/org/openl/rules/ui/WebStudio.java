@@ -168,6 +168,7 @@ public class WebStudio implements DesignTimeRepositoryListener {
         copyExternalProperty(OpenLSystemProperties.CUSTOM_SPREADSHEET_TYPE_PROPERTY);
         copyExternalProperty(OpenLSystemProperties.DISPATCHING_MODE_PROPERTY);
         copyExternalProperty(OpenLSystemProperties.DISPATCHING_VALIDATION);
+        copyExternalProperty(OpenLSystemProperties.SHEET_CELLS_MAPPED);
     }
 
     private void copyExternalProperty(String key) {
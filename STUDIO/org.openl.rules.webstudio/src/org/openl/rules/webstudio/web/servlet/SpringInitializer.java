@@ -5,6 +5,7 @@ import javax.servlet.ServletContextEvent;
 import javax.servlet.ServletContextListener;
 import javax.servlet.annotation.WebListener;
 
+import org.openl.rules.profiler.CompilationProfiler;
 import org.openl.spring.env.PropertySourcesLoader;
 import org.springframework.context.ApplicationContext;
 import org.springframework.web.context.WebApplicationContext;
@@ -23,6 +24,7 @@ public final class SpringInitializer implements ServletContextListener {
     @Override
     public void contextInitialized(ServletContextEvent sce) {
         ServletContext servletContext = sce.getServletContext();
+        CompilationProfiler.register();
         servletContext.log("Initializing Spring root ApplicationContext");
         applicationContext = new XmlWebApplicationContext();
         applicationContext.setServletContext(servletContext);
@@ -41,5 +43,6 @@ public final class SpringInitializer implements ServletContextListener {
         ServletContext servletContext = sce.getServletContext();
         servletContext.removeAttribute(THIS);
         applicationContext.close();
+        CompilationProfiler.unregister();
     }
 }
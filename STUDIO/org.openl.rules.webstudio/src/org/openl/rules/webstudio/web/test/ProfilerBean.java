@@ -0,0 +1,88 @@
+package org.openl.rules.webstudio.web.test;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.openl.CompiledOpenClass;
+import org.openl.rules.lang.xls.syntax.TableUtils;
+import org.openl.rules.profiler.ProfilerEntry;
+import org.openl.rules.profiler.RulesProfiler;
+import org.openl.rules.security.AccessManager;
+import org.openl.rules.security.Privileges;
+import org.openl.rules.ui.ProjectModel;
+import org.openl.rules.webstudio.web.util.WebStudioUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * Shows profiler statistics of the rules of the current module. The profiler settings are global for the whole
+ * application, so only administrators can change them.
+ */
+@Service
+@RequestScope
+public class ProfilerBean {
+
+    private List<ProfilerEntry> entries;
+
+    public boolean isEnabled() {
+        return RulesProfiler.isEnabled();
+    }
+
+    public void setEnabled(boolean enabled) {
+        checkAdmin();
+        RulesProfiler.setEnabled(enabled);
+    }
+
+    public int getSamplingRate() {
+        return RulesProfiler.getSamplingRate();
+    }
+
+    public void setSamplingRate(int samplingRate) {
+        checkAdmin();
+        RulesProfiler.setSamplingRate(samplingRate);
+    }
+
+    public boolean isAdmin() {
+        return AccessManager.isGranted(Privileges.ADMIN);
+    }
+
+    public List<ProfilerEntry> getEntries() {
+        if (entries == null) {
+            CompiledOpenClass compiledOpenClass = getCompiledOpenClass();
+            entries = compiledOpenClass == null ? Collections.emptyList()
+                                                : RulesProfiler.getReport(compiledOpenClass.getOpenClassWithErrors());
+        }
+        return entries;
+    }
+
+    public String reset() {
+        CompiledOpenClass compiledOpenClass = getCompiledOpenClass();
+        if (compiledOpenClass != null) {
+            RulesProfiler.reset(compiledOpenClass.getOpenClassWithErrors());
+        }
+        entries = null;
+        return null;
+    }
+
+    public String getTableId(ProfilerEntry entry) {
+        return entry.getUri() == null ? null : TableUtils.makeTableId(entry.getUri());
+    }
+
+    /**
+     * @return time in milliseconds
+     */
+    public String formatTime(long nanos) {
+        return BenchmarkInfoView.printDouble(nanos / 1_000_000.0, 3);
+    }
+
+    private void checkAdmin() {
+        if (!isAdmin()) {
+            throw new IllegalStateException("Only administrators can change the profiler settings.");
+        }
+    }
+
+    private CompiledOpenClass getCompiledOpenClass() {
+        ProjectModel model = WebStudioUtils.getProjectModel();
+        return model == null ? null : model.getCompiledOpenClass();
+    }
+}
@@ -15,6 +15,9 @@ import org.openl.OpenClassUtil;
 import org.openl.message.OpenLMessage;
 import org.openl.message.OpenLMessagesUtils;
 import org.openl.message.Severity;
+import org.openl.rules.profiler.CompilationEntry;
+import org.openl.rules.profiler.CompilationProfiler;
+import org.openl.rules.profiler.CompilationStatistics;
 import org.openl.rules.project.instantiation.SimpleProjectEngineFactory;
 import org.openl.types.IOpenClass;
 
@@ -26,6 +29,8 @@ import org.openl.types.IOpenClass;
 @Mojo(name = "compile", defaultPhase = LifecyclePhase.COMPILE, requiresDependencyResolution = ResolutionScope.COMPILE)
 public final class CompileMojo extends BaseOpenLMojo {
 
+    private static final int SLOWEST_TABLES = 10;
+
     /**
      * Additional options for compilation defined externally, such as external dependencies and overridden system properties.
      */
@@ -35,11 +40,21 @@ public final class CompileMojo extends BaseOpenLMojo {
     @Parameter(defaultValue = "${project.compileClasspathElements}", readonly = true, required = true)
     private List<String> classpath;
 
+    /**
+     * Prints the time and the memory spent on each compilation phase and the slowest tables of each module.
+     */
+    @Parameter(property = "openl.compilationStatistics", defaultValue = "false")
+    private boolean compilationStatistics;
+
     @Override
     public void execute(String sourcePath, boolean hasDependencies) throws Exception {
         URL[] urls = toURLs(classpath);
         ClassLoader classLoader = null;
+        boolean profilerEnabled = CompilationProfiler.isEnabled();
         try {
+            if (compilationStatistics) {
+                CompilationProfiler.setEnabled(true);
+            }
             classLoader = new URLClassLoader(urls, SimpleProjectEngineFactory.class.getClassLoader());
 
             long memStart = memUsed();
@@ -69,11 +84,29 @@ public final class CompileMojo extends BaseOpenLMojo {
             info("Warnings     : ", warnMessages.size());
             info("Memory used  : ", (memEnd - memStart) / 262144 / 4.0, " MiB");
             info("Time elapsed : ", (end - start) / 10000000 / 100.0, " s");
+            if (compilationStatistics) {
+                printCompilationStatistics(openLRules.getOpenClassWithErrors());
+            }
         } finally {
+            CompilationProfiler.setEnabled(profilerEnabled);
             OpenClassUtil.releaseClassLoader(classLoader);
         }
     }
 
+    private void printCompilationStatistics(IOpenClass openClass) {
+        for (CompilationStatistics statistics : CompilationProfiler.getStatistics(openClass)) {
+            info("Module       : ", statistics.getModuleName());
+            for (CompilationEntry phase : statistics.getPhases()) {
+                info("    ", phase);
+            }
+            List<CompilationEntry> tables = statistics.getTables();
+            info("    The slowest tables:");
+            for (CompilationEntry table : tables.subList(0, Math.min(SLOWEST_TABLES, tables.size()))) {
+                info("    ", table);
+            }
+        }
+    }
+
     @Override
     String getHeader() {
         return "OPENL COMPILATION";
@@ -26,6 +26,7 @@ import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.openl.base.INamedThing;
 import org.openl.binding.MethodUtil;
+import org.openl.rules.calc.SpreadsheetResultBinaryCodec;
 import org.openl.rules.datatype.gen.ASMUtils;
 import org.openl.rules.ruleservice.publish.common.ExceptionResponseDto;
 import org.openl.rules.ruleservice.publish.common.MethodUtils;
@@ -86,6 +87,7 @@ public class JAXRSOpenLServiceEnhancerHelper {
         private final boolean resolveMethodParameterNames;
         private final boolean provideRuntimeContext;
         private final boolean provideVariations;
+        private final boolean binarySpreadsheetResult;
 
         JAXRSInterfaceAnnotationEnhancerClassVisitor(ClassVisitor arg0,
                 Class<?> originalClass,
@@ -95,7 +97,8 @@ public class JAXRSOpenLServiceEnhancerHelper {
                 String serviceExposedUrl,
                 boolean resolveMethodParameterNames,
                 boolean provideRuntimeContext,
-                boolean provideVariations) {
+                boolean provideVariations,
+                boolean binarySpreadsheetResult) {
             super(Opcodes.ASM5, arg0);
             this.serviceName = serviceName;
             this.originalClass = originalClass;
@@ -105,6 +108,7 @@ public class JAXRSOpenLServiceEnhancerHelper {
             this.resolveMethodParameterNames = resolveMethodParameterNames;
             this.provideRuntimeContext = provideRuntimeContext;
             this.provideVariations = provideVariations;
+            this.binarySpreadsheetResult = binarySpreadsheetResult;
         }
 
         @Override
@@ -636,6 +640,9 @@ public class JAXRSOpenLServiceEnhancerHelper {
             AnnotationVisitor av = cv.visitAnnotation(Type.getDescriptor(Produces.class), true);
             AnnotationVisitor av1 = av.visitArray("value");
             av1.visit(null, MediaType.APPLICATION_JSON);
+            if (binarySpreadsheetResult) {
+                av1.visit(null, SpreadsheetResultBinaryCodec.MEDIA_TYPE);
+            }
             av1.visitEnd();
             av.visitEnd();
         }
@@ -774,6 +781,30 @@ public class JAXRSOpenLServiceEnhancerHelper {
             boolean resolveMethodParameterNames,
             boolean provideRuntimeContext,
             boolean provideVariations) throws Exception {
+        return enhanceInterface(originalClass,
+            openClass,
+            classLoader,
+            serviceName,
+            serviceExposedUrl,
+            resolveMethodParameterNames,
+            provideRuntimeContext,
+            provideVariations,
+            false);
+    }
+
+    /**
+     * @param binarySpreadsheetResult if {@code true}, then the services produce
+     *            {@link SpreadsheetResultBinaryCodec#MEDIA_TYPE} in addition to JSON
+     */
+    public static Class<?> enhanceInterface(Class<?> originalClass,
+            IOpenClass openClass,
+            ClassLoader classLoader,
+            String serviceName,
+            String serviceExposedUrl,
+            boolean resolveMethodParameterNames,
+            boolean provideRuntimeContext,
+            boolean provideVariations,
+            boolean binarySpreadsheetResult) throws Exception {
         if (!originalClass.isInterface()) {
             throw new IllegalArgumentException("Only interfaces are supported");
         }
@@ -792,7 +823,8 @@ public class JAXRSOpenLServiceEnhancerHelper {
                 serviceExposedUrl,
                 resolveMethodParameterNames,
                 provideRuntimeContext,
-                provideVariations);
+                provideVariations,
+                binarySpreadsheetResult);
             InterfaceTransformer transformer = new InterfaceTransformer(originalClass, enhancedClassName, false);
             transformer.accept(enhancerClassVisitor);
             cw.visitEnd();
@@ -0,0 +1,72 @@
+package org.openl.rules.ruleservice.databinding;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Objects;
+
+import org.openl.classloader.OpenLClassLoader;
+import org.openl.rules.calc.SpreadsheetResultBinaryCodec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes values which are not supported by {@link SpreadsheetResultBinaryCodec} natively as JSON of the service object
+ * mapper together with the name of their type. Only the types of the rules projects, e.g. datatypes, are allowed,
+ * because they are read back by the type name. Other values are rejected instead of being read as maps.
+ */
+public class JacksonFallbackCodec implements SpreadsheetResultBinaryCodec.FallbackCodec {
+
+    private final ObjectMapper objectMapper;
+    private final ClassLoader classLoader;
+
+    public JacksonFallbackCodec(ObjectMapper objectMapper) {
+        this(objectMapper, null);
+    }
+
+    /**
+     * @param classLoader the class loader of the types which are read. If {@code null}, then the context class loader
+     *            is used.
+     */
+    public JacksonFallbackCodec(ObjectMapper objectMapper, ClassLoader classLoader) {
+        this.objectMapper = Objects.requireNonNull(objectMapper, "objectMapper cannot be null");
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public void write(Object value, DataOutput out) throws IOException {
+        Class<?> type = value.getClass();
+        checkType(type);
+        byte[] bytes = objectMapper.writeValueAsBytes(value);
+        out.writeUTF(type.getName());
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @Override
+    public Object read(DataInput in) throws IOException {
+        String typeName = in.readUTF();
+        Class<?> type;
+        try {
+            ClassLoader cl = classLoader == null ? Thread.currentThread().getContextClassLoader() : classLoader;
+            type = Class.forName(typeName, false, cl);
+        } catch (ClassNotFoundException e) {
+            throw new IOException(String.format("Type '%s' is not found.", typeName), e);
+        }
+        checkType(type);
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException(String.format("Wrong length '%s'.", length));
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return objectMapper.readValue(bytes, type);
+    }
+
+    private void checkType(Class<?> type) throws IOException {
+        if (!(type.getClassLoader() instanceof OpenLClassLoader) || !objectMapper
+            .canDeserialize(objectMapper.constructType(type))) {
+            throw new IOException(String.format("Type '%s' cannot be restored from JSON.", type.getName()));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.openl.rules.ruleservice.databinding;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import org.openl.rules.calc.SpreadsheetResultBinaryCodec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes results in the compact binary format of {@link SpreadsheetResultBinaryCodec}. It is used only if a client
+ * explicitly accepts {@link SpreadsheetResultBinaryCodec#MEDIA_TYPE}.
+ */
+public class SpreadsheetResultBinaryMessageBodyWriter implements MessageBodyWriter<Object> {
+
+    private static final MediaType MEDIA_TYPE = MediaType.valueOf(SpreadsheetResultBinaryCodec.MEDIA_TYPE);
+
+    private final SpreadsheetResultBinaryCodec codec;
+
+    public SpreadsheetResultBinaryMessageBodyWriter(ObjectMapper objectMapper) {
+        this.codec = new SpreadsheetResultBinaryCodec(new JacksonFallbackCodec(objectMapper));
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> aClass, Type type, Annotation[] annotations, MediaType mediaType) {
+        return MEDIA_TYPE.isCompatible(mediaType) && !mediaType.isWildcardType() && !mediaType.isWildcardSubtype();
+    }
+
+    @Override
+    public void writeTo(Object o,
+            Class<?> aClass,
+            Type type,
+            Annotation[] annotations,
+            MediaType mediaType,
+            MultivaluedMap<String, Object> multivaluedMap,
+            OutputStream outputStream) throws IOException {
+        codec.write(o, outputStream);
+    }
+}
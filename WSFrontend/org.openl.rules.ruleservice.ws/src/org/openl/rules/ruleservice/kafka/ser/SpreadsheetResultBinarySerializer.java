@@ -0,0 +1,40 @@
+package org.openl.rules.ruleservice.kafka.ser;
+
+import java.util.Map;
+
+import org.apache.kafka.common.serialization.Serializer;
+import org.openl.rules.calc.SpreadsheetResultBinaryCodec;
+import org.openl.rules.ruleservice.core.OpenLService;
+import org.openl.rules.ruleservice.databinding.JacksonFallbackCodec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes results in the compact binary format of {@link SpreadsheetResultBinaryCodec}. Can be used instead of
+ * {@link ResultSerializer} via {@code value.serializer} property of a producer.
+ */
+public class SpreadsheetResultBinarySerializer implements Serializer<Object> {
+    private final SpreadsheetResultBinaryCodec codec;
+
+    // Do not remove first argument. It is used by reflection.
+    public SpreadsheetResultBinarySerializer(OpenLService service, ObjectMapper objectMapper) {
+        this.codec = new SpreadsheetResultBinaryCodec(new JacksonFallbackCodec(objectMapper));
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        try {
+            return codec.toBytes(data);
+        } catch (Exception e) {
+            throw new SerializationException("Failed to write a result.", e);
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+}
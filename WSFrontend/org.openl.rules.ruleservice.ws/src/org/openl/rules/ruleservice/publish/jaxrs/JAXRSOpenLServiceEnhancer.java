@@ -16,6 +16,7 @@ import org.openl.runtime.ASMProxyFactory;
 public final class JAXRSOpenLServiceEnhancer {
 
     private boolean resolveMethodParameterNames = true;
+    private boolean binarySpreadsheetResult = false;
 
     public boolean isResolveMethodParameterNames() {
         return resolveMethodParameterNames;
@@ -25,6 +26,14 @@ public final class JAXRSOpenLServiceEnhancer {
         this.resolveMethodParameterNames = resolveMethodParameterNames;
     }
 
+    public boolean isBinarySpreadsheetResult() {
+        return binarySpreadsheetResult;
+    }
+
+    public void setBinarySpreadsheetResult(boolean binarySpreadsheetResult) {
+        this.binarySpreadsheetResult = binarySpreadsheetResult;
+    }
+
     public Object decorateServiceBean(OpenLService service, String serviceExposedUrl) throws Exception {
         Class<?> serviceClass = service.getServiceClass();
         Objects.requireNonNull(serviceClass, "Service class cannot be null");
@@ -36,7 +45,8 @@ public final class JAXRSOpenLServiceEnhancer {
             serviceExposedUrl,
             isResolveMethodParameterNames(),
             service.isProvideRuntimeContext(),
-            service.isProvideVariations());
+            service.isProvideVariations(),
+            isBinarySpreadsheetResult());
         if (enhancedServiceClass.getPackage() == null) {
             throw new IllegalStateException("Package cannot be null");
         }
@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import javax.annotation.Resource;
+import javax.ws.rs.DELETE;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
@@ -82,6 +83,25 @@ public class AdminRestController {
         return okOrNotFound(ruleServiceManager.getManifest(serviceName));
     }
 
+    /**
+     * @return profiler statistics of the rules of the given OpenL service. The most expensive rules go first.
+     */
+    @GET
+    @Path("/services/{serviceName}/profile")
+    public Response getServiceProfile(@PathParam("serviceName") final String serviceName) {
+        return okOrNotFound(ruleServiceManager.getServiceProfile(serviceName));
+    }
+
+    /**
+     * Clears profiler statistics of the rules of the given OpenL service.
+     */
+    @DELETE
+    @Path("/services/{serviceName}/profile")
+    public Response resetServiceProfile(@PathParam("serviceName") final String serviceName) {
+        boolean found = ruleServiceManager.resetServiceProfile(serviceName);
+        return Response.status(found ? Response.Status.NO_CONTENT : Response.Status.NOT_FOUND).build();
+    }
+
     private Response okOrNotFound(Object entity) {
         return Response.status(entity == null ? Response.Status.NOT_FOUND : Response.Status.OK).entity(entity).build();
     }
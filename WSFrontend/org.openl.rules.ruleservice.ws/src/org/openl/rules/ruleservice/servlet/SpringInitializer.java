@@ -5,6 +5,7 @@ import javax.servlet.ServletContextEvent;
 import javax.servlet.ServletContextListener;
 import javax.servlet.annotation.WebListener;
 
+import org.openl.rules.profiler.CompilationProfiler;
 import org.openl.spring.env.PropertySourcesLoader;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
@@ -22,6 +23,7 @@ public final class SpringInitializer implements ServletContextListener {
     @Override
     public void contextInitialized(ServletContextEvent sce) {
         ServletContext servletContext = sce.getServletContext();
+        CompilationProfiler.register();
         servletContext.log("Initializing Spring root ApplicationContext");
         applicationContext = new ClassPathXmlApplicationContext();
         applicationContext.setId("OpenL_RuleService");
@@ -42,6 +44,7 @@ public final class SpringInitializer implements ServletContextListener {
         ServletContext servletContext = sce.getServletContext();
         servletContext.removeAttribute(THIS);
         applicationContext.close();
+        CompilationProfiler.unregister();
     }
 
 }
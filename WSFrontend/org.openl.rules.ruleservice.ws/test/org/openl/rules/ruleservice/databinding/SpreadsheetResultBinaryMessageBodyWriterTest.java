@@ -0,0 +1,73 @@
+package org.openl.rules.ruleservice.databinding;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import javax.ws.rs.core.MediaType;
+
+import org.junit.Test;
+import org.openl.rules.calc.SpreadsheetResult;
+import org.openl.rules.calc.SpreadsheetResultBinaryCodec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class SpreadsheetResultBinaryMessageBodyWriterTest {
+
+    private final SpreadsheetResultBinaryMessageBodyWriter writer = new SpreadsheetResultBinaryMessageBodyWriter(
+        new ObjectMapper());
+
+    @Test
+    public void testIsWriteableForBinaryMediaTypeOnly() {
+        assertTrue(writer.isWriteable(SpreadsheetResult.class,
+            SpreadsheetResult.class,
+            null,
+            MediaType.valueOf(SpreadsheetResultBinaryCodec.MEDIA_TYPE)));
+        assertFalse(writer
+            .isWriteable(SpreadsheetResult.class, SpreadsheetResult.class, null, MediaType.APPLICATION_JSON_TYPE));
+        assertFalse(writer
+            .isWriteable(SpreadsheetResult.class, SpreadsheetResult.class, null, MediaType.WILDCARD_TYPE));
+        assertFalse(writer.isWriteable(SpreadsheetResult.class,
+            SpreadsheetResult.class,
+            null,
+            MediaType.valueOf("application/*")));
+    }
+
+    @Test
+    public void testWriteTo() throws IOException {
+        SpreadsheetResult sr = new SpreadsheetResult(new Object[][] { { 1, "A" }, { 2.5, null } },
+            new String[] { "Row1", "Row2" },
+            new String[] { "Col1", "Col2" });
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.writeTo(sr,
+            SpreadsheetResult.class,
+            SpreadsheetResult.class,
+            null,
+            MediaType.valueOf(SpreadsheetResultBinaryCodec.MEDIA_TYPE),
+            null,
+            out);
+
+        SpreadsheetResult result = (SpreadsheetResult) new SpreadsheetResultBinaryCodec().fromBytes(out.toByteArray());
+        assertArrayEquals(sr.getRowNames(), result.getRowNames());
+        assertArrayEquals(sr.getColumnNames(), result.getColumnNames());
+        assertEquals(1, result.getValue(0, 0));
+        assertEquals("A", result.getValue(0, 1));
+        assertEquals(2.5, result.getValue(1, 0));
+    }
+
+    @Test(expected = IOException.class)
+    public void testNotProjectTypeIsRejected() throws IOException {
+        writer.writeTo(new StringBuilder(),
+            StringBuilder.class,
+            StringBuilder.class,
+            null,
+            MediaType.valueOf(SpreadsheetResultBinaryCodec.MEDIA_TYPE),
+            null,
+            new ByteArrayOutputStream());
+    }
+}
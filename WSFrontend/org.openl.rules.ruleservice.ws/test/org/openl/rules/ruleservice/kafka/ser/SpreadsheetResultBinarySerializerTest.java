@@ -0,0 +1,41 @@
+package org.openl.rules.ruleservice.kafka.ser;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.openl.rules.calc.SpreadsheetResult;
+import org.openl.rules.calc.SpreadsheetResultBinaryCodec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class SpreadsheetResultBinarySerializerTest {
+
+    private final SpreadsheetResultBinarySerializer serializer = new SpreadsheetResultBinarySerializer(null,
+        new ObjectMapper());
+
+    @Test
+    public void testSerialize() throws IOException {
+        String[] rowNames = { "Row1", "Row2" };
+        String[] columnNames = { "Value" };
+        SpreadsheetResult first = new SpreadsheetResult(new Object[][] { { 1 }, { 2 } }, rowNames, columnNames);
+        SpreadsheetResult second = new SpreadsheetResult(new Object[][] { { "A" }, { null } }, rowNames, columnNames);
+
+        byte[] bytes = serializer.serialize("topic", Arrays.asList(first, second));
+
+        List<?> result = (List<?>) new SpreadsheetResultBinaryCodec().fromBytes(bytes);
+        assertEquals(2, result.size());
+        assertArrayEquals(rowNames, ((SpreadsheetResult) result.get(0)).getRowNames());
+        assertEquals(2, ((SpreadsheetResult) result.get(0)).getValue(1, 0));
+        assertEquals("A", ((SpreadsheetResult) result.get(1)).getValue(0, 0));
+    }
+
+    @Test(expected = SerializationException.class)
+    public void testNotProjectTypeIsRejected() {
+        serializer.serialize("topic", new StringBuilder());
+    }
+}
@@ -1,5 +1,6 @@
 package org.openl.rules.ruleservice.core;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Semaphore;
 
 public final class MaxThreadsForCompileSemaphore {
@@ -31,7 +32,7 @@ public final class MaxThreadsForCompileSemaphore {
         try {
             if (requiredSemaphore) {
                 MaxThreadsForCompileSemaphore.getInstance().getThreadsMarker().set(Thread.currentThread());
-                MaxThreadsForCompileSemaphore.getInstance().getLimitCompilationThreadsSemaphore().acquire();
+                acquire(MaxThreadsForCompileSemaphore.getInstance().getLimitCompilationThreadsSemaphore());
             }
             return callable.call();
         } finally {
@@ -42,6 +43,69 @@ public final class MaxThreadsForCompileSemaphore {
         }
     }
 
+    /**
+     * Runs the callable without the permit of the current thread, so the threads the current thread waits for can
+     * compile. The permit is acquired again when the callable is completed.
+     */
+    public <T> T runWithoutPermit(Callable<T> callable) throws Exception {
+        boolean releasedSemaphore = MaxThreadsForCompileSemaphore.getInstance().getThreadsMarker().get() != null;
+        try {
+            if (releasedSemaphore) {
+                MaxThreadsForCompileSemaphore.getInstance().getThreadsMarker().remove();
+                MaxThreadsForCompileSemaphore.getInstance().getLimitCompilationThreadsSemaphore().release();
+            }
+            return callable.call();
+        } finally {
+            if (releasedSemaphore) {
+                acquireUninterruptibly(
+                    MaxThreadsForCompileSemaphore.getInstance().getLimitCompilationThreadsSemaphore());
+                MaxThreadsForCompileSemaphore.getInstance().getThreadsMarker().set(Thread.currentThread());
+            }
+        }
+    }
+
+    /**
+     * Acquires the permit as a managed blocker, so the compilation pool starts another worker while a worker of the
+     * pool waits for the permit.
+     */
+    private static void acquire(Semaphore semaphore) throws InterruptedException {
+        ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+            private boolean acquired;
+
+            @Override
+            public boolean block() throws InterruptedException {
+                if (!acquired) {
+                    semaphore.acquire();
+                    acquired = true;
+                }
+                return true;
+            }
+
+            @Override
+            public boolean isReleasable() {
+                if (!acquired) {
+                    acquired = semaphore.tryAcquire();
+                }
+                return acquired;
+            }
+        });
+    }
+
+    private static void acquireUninterruptibly(Semaphore semaphore) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                acquire(semaphore);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     public interface Callable<T> {
         T call() throws Exception;
     }
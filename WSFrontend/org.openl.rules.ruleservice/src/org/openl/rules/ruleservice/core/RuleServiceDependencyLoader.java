@@ -10,6 +10,8 @@ import org.openl.rules.ruleservice.core.RuleServiceDependencyManager.DependencyC
 
 final class RuleServiceDependencyLoader extends SimpleDependencyLoader {
 
+    private CompiledDependency sharedDependency;
+
     public RuleServiceDependencyLoader(ProjectDescriptor project,
             Module module,
             RuleServiceDependencyManager dependencyManager) {
@@ -21,6 +23,14 @@ final class RuleServiceDependencyLoader extends SimpleDependencyLoader {
             AbstractDependencyManager dependencyManager) throws OpenLCompilationException {
         if (dependencyManager instanceof RuleServiceDependencyManager) {
             RuleServiceDependencyManager ruleServiceDeploymentRelatedDependencyManager = (RuleServiceDependencyManager) dependencyManager;
+            if (sharedDependency == null) {
+                sharedDependency = ruleServiceDeploymentRelatedDependencyManager.getSharedDependency(getProject(),
+                    dependencyName);
+            }
+            if (sharedDependency != null) {
+                // The shared module is not marked as compiled, so the deployment does not clean it up
+                return sharedDependency;
+            }
             ruleServiceDeploymentRelatedDependencyManager.compilationBegin(this);
             CompiledDependency compiledDependency = null;
             try {
@@ -8,10 +8,15 @@ import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.openl.OpenClassUtil;
+import org.openl.classloader.OpenLBundleClassLoader;
 import org.openl.dependency.CompiledDependency;
 import org.openl.exception.OpenLCompilationException;
 import org.openl.rules.common.CommonVersion;
@@ -29,6 +34,7 @@ import org.openl.rules.project.model.ProjectDescriptor;
 import org.openl.rules.project.model.RulesDeploy;
 import org.openl.rules.project.xml.XmlRulesDeploySerializer;
 import org.openl.rules.ruleservice.conf.LastVersionProjectsServiceConfigurer;
+import org.openl.rules.ruleservice.core.SharedDependencies.SharedProject;
 import org.openl.rules.ruleservice.loader.RuleServiceLoader;
 import org.openl.rules.ruleservice.publish.lazy.LazyRuleServiceDependencyLoader;
 import org.openl.syntax.code.IDependency;
@@ -48,6 +54,9 @@ public class RuleServiceDependencyManager extends AbstractDependencyManager {
     private final PathMatcher wildcardPatternMatcher = new AntPathMatcher();
     private final ThreadLocal<Deque<CompilationInfo>> compilationInfoThreadLocal = ThreadLocal
         .withInitial(ArrayDeque::new);
+    private final SharedDependencies sharedDependencies;
+    private final Map<String, Optional<SharedProject>> sharedProjects = new ConcurrentHashMap<>();
+    private final Map<String, ClassLoader> sharedProjectClassLoaders = new HashMap<>();
 
     public boolean isLazyCompilation() {
         return lazyCompilation;
@@ -117,15 +126,103 @@ public class RuleServiceDependencyManager extends AbstractDependencyManager {
         }
     }
 
+    /**
+     * The permit of the current thread is released while it waits for the dependencies, because they are compiled by
+     * other threads which acquire their own permits.
+     */
+    @Override
+    protected void compileDependencies(List<IDependency> dependencies) {
+        try {
+            MaxThreadsForCompileSemaphore.getInstance().runWithoutPermit(() -> {
+                RuleServiceDependencyManager.super.compileDependencies(dependencies);
+                return null;
+            });
+        } catch (Exception e) {
+            log.debug("Dependencies are not compiled in advance.", e);
+        }
+    }
+
     public RuleServiceDependencyManager(DeploymentDescription deploymentDescription,
             RuleServiceLoader ruleServiceLoader,
             ClassLoader rootClassLoader,
             boolean lazyCompilation,
             Map<String, Object> externalParameters) {
+        this(deploymentDescription, ruleServiceLoader, rootClassLoader, lazyCompilation, externalParameters, null);
+    }
+
+    /**
+     * @param sharedDependencies the projects shared with other deployments or {@code null} if the projects are not
+     *            shared. The projects are not shared in the lazy compilation mode.
+     */
+    public RuleServiceDependencyManager(DeploymentDescription deploymentDescription,
+            RuleServiceLoader ruleServiceLoader,
+            ClassLoader rootClassLoader,
+            boolean lazyCompilation,
+            Map<String, Object> externalParameters,
+            SharedDependencies sharedDependencies) {
         super(rootClassLoader, true, externalParameters);
         this.deployment = Objects.requireNonNull(deploymentDescription, "deploymentDescription cannot be null");
         this.ruleServiceLoader = Objects.requireNonNull(ruleServiceLoader, "ruleService cannot be null");
         this.lazyCompilation = lazyCompilation;
+        this.sharedDependencies = lazyCompilation ? null : sharedDependencies;
+    }
+
+    private SharedProject getSharedProject(ProjectDescriptor project) {
+        if (sharedDependencies == null) {
+            return null;
+        }
+        return sharedProjects
+            .computeIfAbsent(project.getName(),
+                e -> Optional.ofNullable(sharedDependencies.acquire(project, getExternalParameters())))
+            .orElse(null);
+    }
+
+    /**
+     * Returns the module compiled once for all deployments.
+     *
+     * @return the shared compiled module or {@code null} if the module is not shared
+     */
+    CompiledDependency getSharedDependency(ProjectDescriptor project, String dependencyName) {
+        SharedProject sharedProject = getSharedProject(project);
+        return sharedProject != null ? sharedProject.getCompiledDependency(dependencyName) : null;
+    }
+
+    /**
+     * The class loader of a shared project delegates to the shared class loader, so the deployment uses the classes
+     * of the shared modules, and the classes generated by the deployment do not get to other deployments.
+     */
+    @Override
+    public ClassLoader getClassLoader(ProjectDescriptor project) {
+        SharedProject sharedProject = getSharedProject(project);
+        if (sharedProject == null) {
+            return super.getClassLoader(project);
+        }
+        synchronized (this) {
+            return sharedProjectClassLoaders.computeIfAbsent(project.getName(), e -> {
+                OpenLBundleClassLoader classLoader = new OpenLBundleClassLoader(null);
+                classLoader.addClassLoader(sharedProject.getClassLoader());
+                return classLoader;
+            });
+        }
+    }
+
+    /**
+     * Releases the projects shared with other deployments and the class loaders of the deployment which delegate to
+     * them. It is invoked when the deployment is undeployed.
+     */
+    public void releaseSharedProjects() {
+        if (sharedDependencies != null) {
+            synchronized (this) {
+                for (ClassLoader classLoader : sharedProjectClassLoaders.values()) {
+                    OpenClassUtil.releaseClassLoader(classLoader);
+                }
+                sharedProjectClassLoaders.clear();
+            }
+            for (Optional<SharedProject> sharedProject : sharedProjects.values()) {
+                sharedProject.ifPresent(sharedDependencies::release);
+            }
+            sharedProjects.clear();
+        }
     }
 
     @Override
@@ -49,6 +49,11 @@ public class RuleServiceOpenLServiceInstantiationFactoryImpl implements RuleServ
 
     private final Map<DeploymentDescription, RuleServiceDependencyManager> dependencyManagerMap = new HashMap<>();
 
+    private final SharedDependencies sharedDependencies = new SharedDependencies(
+        RuleServiceOpenLServiceInstantiationFactoryImpl.class.getClassLoader());
+
+    private boolean shareDependencies;
+
     private ObjectProvider<Collection<ServiceInvocationAdviceListener>> serviceInvocationAdviceListeners;
 
     @Autowired(required = false)
@@ -307,6 +312,21 @@ public class RuleServiceOpenLServiceInstantiationFactoryImpl implements RuleServ
         this.externalParameters = externalParameters;
     }
 
+    public boolean isShareDependencies() {
+        return shareDependencies;
+    }
+
+    /**
+     * Enables sharing of the same projects between the deployments. See {@link SharedDependencies}.
+     */
+    public void setShareDependencies(boolean shareDependencies) {
+        this.shareDependencies = shareDependencies;
+    }
+
+    SharedDependencies getSharedDependencies() {
+        return sharedDependencies;
+    }
+
     public List<ProjectValidator> getProjectValidators() {
         return projectValidators;
     }
@@ -317,7 +337,11 @@ public class RuleServiceOpenLServiceInstantiationFactoryImpl implements RuleServ
 
     @Override
     public void clean(ServiceDescription serviceDescription) {
-        dependencyManagerMap.remove(serviceDescription.getDeployment());
+        RuleServiceDependencyManager dependencyManager = dependencyManagerMap
+            .remove(serviceDescription.getDeployment());
+        if (dependencyManager != null) {
+            dependencyManager.releaseSharedProjects();
+        }
         CompiledOpenClassCache.getInstance().removeAll(serviceDescription.getDeployment());
     }
 
@@ -337,7 +361,8 @@ public class RuleServiceOpenLServiceInstantiationFactoryImpl implements RuleServ
                 ruleServiceLoader,
                 rootClassLoader,
                 isLazyCompilation,
-                externalParameters);
+                externalParameters,
+                shareDependencies ? sharedDependencies : null);
             dependencyManagerMap.put(deployment, dependencyManager);
         }
         return dependencyManager;
@@ -0,0 +1,301 @@
+package org.openl.rules.ruleservice.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openl.OpenClassUtil;
+import org.openl.classloader.OpenLBundleClassLoader;
+import org.openl.dependency.CompiledDependency;
+import org.openl.dependency.IDependencyManager;
+import org.openl.exception.OpenLCompilationException;
+import org.openl.rules.project.instantiation.AbstractDependencyManager;
+import org.openl.rules.project.instantiation.IDependencyLoader;
+import org.openl.rules.project.instantiation.SimpleDependencyLoader;
+import org.openl.rules.project.model.Module;
+import org.openl.rules.project.model.ProjectDescriptor;
+import org.openl.syntax.code.Dependency;
+import org.openl.syntax.code.DependencyType;
+import org.openl.syntax.code.IDependency;
+import org.openl.syntax.impl.IdentifierNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Projects compiled once and shared between the deployments. A project is identified by the hash of its files, its
+ * classpath and the external parameters, so the same project deployed in several deployments is compiled once, and the
+ * deployments use the same compiled modules and the same classes of the datatypes. Only the projects which do not
+ * depend on other projects are shared, because the compiled modules of a project depend on the projects it depends
+ * on. A module is shared only if it is compiled without errors, otherwise it is compiled by each deployment.
+ * <p>
+ * The deployments acquire the shared projects and release them when they are undeployed. A project is removed from the
+ * cache and its class loader is released when it is released by all deployments.
+ */
+public final class SharedDependencies {
+
+    private final Logger log = LoggerFactory.getLogger(SharedDependencies.class);
+
+    private final ClassLoader rootClassLoader;
+    private final Map<String, SharedProject> projects = new HashMap<>();
+
+    public SharedDependencies(ClassLoader rootClassLoader) {
+        this.rootClassLoader = rootClassLoader;
+    }
+
+    /**
+     * Acquires the shared project. The acquired project must be released by {@link #release(SharedProject)}.
+     *
+     * @return the shared project or {@code null} if the project cannot be shared
+     */
+    SharedProject acquire(ProjectDescriptor project, Map<String, Object> externalParameters) {
+        if (project.getDependencies() != null && !project.getDependencies().isEmpty()) {
+            return null;
+        }
+        String key;
+        try {
+            key = buildKey(project, externalParameters);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.debug("Project '{}' cannot be shared.", project.getName(), e);
+            return null;
+        }
+        synchronized (projects) {
+            SharedProject sharedProject = projects.computeIfAbsent(key,
+                e -> new SharedProject(key, project, rootClassLoader, externalParameters));
+            sharedProject.references++;
+            return sharedProject;
+        }
+    }
+
+    void release(SharedProject sharedProject) {
+        synchronized (projects) {
+            if (--sharedProject.references > 0) {
+                return;
+            }
+            projects.remove(sharedProject.key);
+        }
+        OpenClassUtil.releaseClassLoader(sharedProject.classLoader);
+        log.debug("Shared project '{}' is removed.", sharedProject.project.getName());
+    }
+
+    int size() {
+        synchronized (projects) {
+            return projects.size();
+        }
+    }
+
+    private static String buildKey(ProjectDescriptor project,
+            Map<String, Object> externalParameters) throws IOException, NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        update(digest, project.getName());
+        Path projectFolder = project.getProjectFolder().toPath().toAbsolutePath().normalize();
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(projectFolder)) {
+            files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        byte[] buffer = new byte[8192];
+        for (Path file : files) {
+            update(digest, projectFolder.relativize(file).toString().replace(File.separatorChar, '/'));
+            try (InputStream in = Files.newInputStream(file)) {
+                int n;
+                while ((n = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, n);
+                }
+            }
+        }
+        URL[] classPathUrls = project.getClassPathUrls();
+        if (classPathUrls != null) {
+            for (URL url : classPathUrls) {
+                Path path = toPath(url);
+                if (path != null && path.startsWith(projectFolder)) {
+                    // The content is already in the hash
+                    update(digest, projectFolder.relativize(path).toString().replace(File.separatorChar, '/'));
+                } else {
+                    update(digest, url.toString());
+                }
+            }
+        }
+        if (externalParameters != null) {
+            for (Map.Entry<String, Object> entry : new TreeMap<>(externalParameters).entrySet()) {
+                update(digest, entry.getKey() + "=" + entry.getValue());
+            }
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    private static Path toPath(URL url) {
+        try {
+            return new File(url.toURI()).toPath().toAbsolutePath().normalize();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    /**
+     * The project compiled in isolation from the deployments. The modules are compiled on demand.
+     */
+    static final class SharedProject {
+
+        private final Logger log = LoggerFactory.getLogger(SharedProject.class);
+
+        private final String key;
+        private final ProjectDescriptor project;
+        private final OpenLBundleClassLoader classLoader;
+        private final ProjectDependencyManager dependencyManager;
+        private final Map<String, Optional<CompiledDependency>> compiledDependencies = new HashMap<>();
+        private int references;
+
+        private SharedProject(String key,
+                ProjectDescriptor project,
+                ClassLoader rootClassLoader,
+                Map<String, Object> externalParameters) {
+            this.key = key;
+            this.project = project;
+            this.classLoader = new OpenLBundleClassLoader(project.getClassPathUrls(), rootClassLoader);
+            this.dependencyManager = new ProjectDependencyManager(this, project, classLoader, externalParameters);
+        }
+
+        /**
+         * For tests only
+         */
+        IDependencyManager getDependencyManager() {
+            return dependencyManager;
+        }
+
+        /**
+         * The class loader of the shared project. It contains the classes of the project classpath and the generated
+         * classes of the shared modules.
+         */
+        ClassLoader getClassLoader() {
+            return classLoader;
+        }
+
+        /**
+         * Compiles the dependency of the project if it is not compiled yet.
+         *
+         * @return the compiled dependency or {@code null} if it cannot be shared
+         */
+        synchronized CompiledDependency getCompiledDependency(String dependencyName) {
+            Optional<CompiledDependency> compiledDependency = compiledDependencies.get(dependencyName);
+            if (compiledDependency == null) {
+                compiledDependency = Optional.ofNullable(compile(dependencyName));
+                compiledDependencies.put(dependencyName, compiledDependency);
+            }
+            return compiledDependency.orElse(null);
+        }
+
+        private CompiledDependency compile(String dependencyName) {
+            try {
+                CompiledDependency compiledDependency = dependencyManager
+                    .loadDependency(new Dependency(DependencyType.MODULE,
+                        new IdentifierNode(null, null, dependencyName, null)));
+                if (compiledDependency.getCompiledOpenClass().hasErrors()) {
+                    log.debug("Module '{}' of project '{}' is not shared because it has errors.",
+                        dependencyName,
+                        project.getName());
+                    return null;
+                }
+                log.debug("Module '{}' of project '{}' is shared.", dependencyName, project.getName());
+                return compiledDependency;
+            } catch (OpenLCompilationException | RuntimeException e) {
+                log.debug("Module '{}' of project '{}' is not shared.", dependencyName, project.getName(), e);
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Compiles the modules of a single project with the shared class loader. The reset modules are compiled again when
+     * they are requested. The class loader is not released by the reset, because the previously compiled modules can be
+     * used by the deployments, it is released with the shared project.
+     */
+    private static final class ProjectDependencyManager extends AbstractDependencyManager {
+
+        private final SharedProject sharedProject;
+        private final ProjectDescriptor project;
+        private final ClassLoader classLoader;
+
+        private ProjectDependencyManager(SharedProject sharedProject,
+                ProjectDescriptor project,
+                ClassLoader classLoader,
+                Map<String, Object> externalParameters) {
+            super(classLoader, true, externalParameters);
+            this.sharedProject = sharedProject;
+            this.project = Objects.requireNonNull(project, "project cannot be null");
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Map<String, Collection<IDependencyLoader>> initDependencyLoaders() {
+            Map<String, Collection<IDependencyLoader>> dependencyLoaders = new HashMap<>();
+            for (Module module : project.getModules()) {
+                IDependencyLoader moduleLoader = new SharedDependencyLoader(project, module, this);
+                dependencyLoaders.computeIfAbsent(moduleLoader.getDependencyName(), e -> new ArrayList<>())
+                    .add(moduleLoader);
+            }
+            IDependencyLoader projectLoader = new SharedDependencyLoader(project, null, this);
+            dependencyLoaders.computeIfAbsent(projectLoader.getDependencyName(), e -> new ArrayList<>())
+                .add(projectLoader);
+            return dependencyLoaders;
+        }
+
+        @Override
+        public ClassLoader getClassLoader(ProjectDescriptor project) {
+            return classLoader;
+        }
+
+        /**
+         * The shared project is locked first as it is locked when the modules are compiled.
+         */
+        @Override
+        public void reset(IDependency dependency) {
+            synchronized (sharedProject) {
+                super.reset(dependency);
+                sharedProject.compiledDependencies.clear();
+            }
+        }
+
+        @Override
+        public void resetAll() {
+            synchronized (sharedProject) {
+                super.resetAll();
+                sharedProject.compiledDependencies.clear();
+            }
+        }
+    }
+
+    private static final class SharedDependencyLoader extends SimpleDependencyLoader {
+
+        private SharedDependencyLoader(ProjectDescriptor project,
+                Module module,
+                ProjectDependencyManager dependencyManager) {
+            super(project, module, false, true, dependencyManager);
+        }
+
+        @Override
+        protected void release(CompiledDependency compiledDependency) {
+            // The compiled module uses the class loader of the shared project
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.jar.Manifest;
 
+import org.openl.rules.profiler.ProfilerEntry;
 import org.openl.rules.ruleservice.core.OpenLService;
 import org.openl.rules.ruleservice.core.RuleServiceDeployException;
 import org.openl.rules.ruleservice.core.RuleServiceUndeployException;
@@ -51,4 +52,17 @@ public interface RuleServiceManager {
     List<String> getServiceErrors(String serviceName);
 
     Manifest getManifest(String serviceName);
+
+    /**
+     * @return profiler statistics of the rules of the given service or null if service with specified name wasn't
+     *         deployed.
+     */
+    List<ProfilerEntry> getServiceProfile(String serviceName);
+
+    /**
+     * Clears profiler statistics of the rules of the given service.
+     *
+     * @return false if service with specified name wasn't deployed.
+     */
+    boolean resetServiceProfile(String serviceName);
 }
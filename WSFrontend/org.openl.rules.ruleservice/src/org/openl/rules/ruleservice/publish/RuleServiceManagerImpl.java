@@ -9,6 +9,8 @@ import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.openl.message.OpenLMessage;
 import org.openl.message.OpenLMessagesUtils;
 import org.openl.message.Severity;
+import org.openl.rules.profiler.ProfilerEntry;
+import org.openl.rules.profiler.RulesProfiler;
 import org.openl.rules.ruleservice.core.OpenLService;
 import org.openl.rules.ruleservice.core.RuleServiceDeployException;
 import org.openl.rules.ruleservice.core.RuleServiceInstantiationException;
@@ -112,6 +114,30 @@ public class RuleServiceManagerImpl implements RuleServiceManager, InitializingB
         return service.getManifest();
     }
 
+    @Override
+    public List<ProfilerEntry> getServiceProfile(String serviceName) {
+        OpenLService service = services.get(serviceName);
+        if (service == null) {
+            return null;
+        }
+        if (service.getCompiledOpenClass() == null) {
+            return Collections.emptyList();
+        }
+        return RulesProfiler.getReport(service.getCompiledOpenClass().getOpenClassWithErrors());
+    }
+
+    @Override
+    public boolean resetServiceProfile(String serviceName) {
+        OpenLService service = services.get(serviceName);
+        if (service == null) {
+            return false;
+        }
+        if (service.getCompiledOpenClass() != null) {
+            RulesProfiler.reset(service.getCompiledOpenClass().getOpenClassWithErrors());
+        }
+        return true;
+    }
+
     private MethodDescriptor toDescriptor(Method method) {
         String name = method.getName();
         String returnType = method.getReturnType().getSimpleName();
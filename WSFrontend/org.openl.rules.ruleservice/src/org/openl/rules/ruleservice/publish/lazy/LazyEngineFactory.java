@@ -88,6 +88,11 @@ class LazyEngineFactory<T> extends AOpenLRulesEngineFactory {
         this.externalParameters = externalParameters;
     }
 
+    @Override
+    protected Map<String, Object> getExternalParameters() {
+        return externalParameters;
+    }
+
     @Override
     public CompiledOpenClass getCompiledOpenClass() {
         if (compiledOpenClass == null) {
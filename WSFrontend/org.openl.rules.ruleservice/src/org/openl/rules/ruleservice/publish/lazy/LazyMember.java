@@ -22,6 +22,13 @@ public abstract class LazyMember<T extends IOpenMember> {
         return cachedMember;
     }
 
+    /**
+     * @return the member if it has been already compiled or {@code null} otherwise
+     */
+    public T getCachedMember() {
+        return cachedMember;
+    }
+
     void clearCachedMember() {
         cachedMember = null;
     }
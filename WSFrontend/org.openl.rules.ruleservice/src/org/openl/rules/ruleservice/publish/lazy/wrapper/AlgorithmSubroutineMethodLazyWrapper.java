@@ -22,6 +22,11 @@ public final class AlgorithmSubroutineMethodLazyWrapper extends AbstractAlgorith
         return lazyMethod.getMember();
     }
 
+    @Override
+    public IOpenMethod getInitializedMember() {
+        return lazyMethod.getCachedMember();
+    }
+
     @Override
     public Object invoke(Object target, Object[] params, IRuntimeEnv env) {
         return lazyMethod.getMember().invoke(target, params, env);
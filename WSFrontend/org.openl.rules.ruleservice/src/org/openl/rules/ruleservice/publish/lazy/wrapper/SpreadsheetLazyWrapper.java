@@ -23,6 +23,11 @@ public final class SpreadsheetLazyWrapper extends AbstractSpreadsheetWrapper imp
         return lazyMethod.getMember();
     }
 
+    @Override
+    public IOpenMethod getInitializedMember() {
+        return lazyMethod.getCachedMember();
+    }
+
     @Override
     public Object invoke(Object target, Object[] params, IRuntimeEnv env) {
         return lazyMethod.getMember().invoke(target, params, env);
@@ -0,0 +1,23 @@
+package org.openl.example;
+
+public class JavaBean {
+
+    private String stringField;
+    private int intField;
+
+    public String getStringField() {
+        return stringField;
+    }
+
+    public void setStringField(String stringField) {
+        this.stringField = stringField;
+    }
+
+    public int getIntField() {
+        return intField;
+    }
+
+    public void setIntField(int intField) {
+        this.intField = intField;
+    }
+}
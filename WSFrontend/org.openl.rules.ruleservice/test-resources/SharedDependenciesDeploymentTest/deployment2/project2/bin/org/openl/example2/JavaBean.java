@@ -0,0 +1,23 @@
+package org.openl.example2;
+
+public class JavaBean {
+
+    private String stringField;
+    private double doubleField;
+
+    public String getStringField() {
+        return stringField;
+    }
+
+    public void setStringField(String s) {
+        stringField = s;
+    }
+
+    public double getDoubleField() {
+        return doubleField;
+    }
+
+    public void setDoubleField(double d) {
+        doubleField = d;
+    }
+}
@@ -0,0 +1,82 @@
+package org.openl.rules.ruleservice.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.openl.CompiledOpenClass;
+import org.openl.binding.impl.module.ModuleOpenClass;
+import org.openl.dependency.CompiledDependency;
+import org.openl.rules.project.dependencies.ProjectExternalDependenciesHelper;
+import org.openl.rules.ruleservice.publish.RuleServiceManager;
+import org.openl.rules.ruleservice.simple.RulesFrontend;
+import org.springframework.beans.BeansException;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@TestPropertySource(properties = { "ruleservice.datasource.dir=test-resources/SharedDependenciesDeploymentTest",
+        "ruleservice.datasource.deploy.clean.datasource=false",
+        "ruleservice.datasource.filesystem.supportDeployments=true",
+        "ruleservice.isProvideRuntimeContext=false",
+        "ruleservice.instantiation.strategy.lazy=false",
+        "ruleservice.instantiation.strategy.shareDependencies=true" })
+@ContextConfiguration({ "classpath:openl-ruleservice-beans.xml" })
+public class SharedDependenciesDeploymentTest implements ApplicationContextAware {
+
+    private ApplicationContext applicationContext;
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+        this.applicationContext = applicationContext;
+    }
+
+    /**
+     * project0 is compiled once and shared by both deployments, project1 and project2 use it as a dependency. The
+     * shared project is released when both deployments are undeployed.
+     */
+    @Test
+    public void testSharedDependenciesAreUsed() throws Exception {
+        RulesFrontend frontend = applicationContext.getBean("frontend", RulesFrontend.class);
+        assertEquals("project1javabean1", frontend.execute("deployment1_project1", "printJavaBean"));
+        assertEquals("project1datatypefalse", frontend.execute("deployment1_project1", "printDatatype"));
+        assertEquals("project1javabean1", frontend.execute("deployment2_project1", "printJavaBean"));
+        assertEquals("project1datatypefalse", frontend.execute("deployment2_project1", "printDatatype"));
+        assertEquals("project2javabean1.0", frontend.execute("deployment2_project2", "printJavaBean"));
+        assertEquals("project2datatypefalse", frontend.execute("deployment2_project2", "printDatatype"));
+
+        RuleServiceManager ruleServiceManager = applicationContext.getBean(RuleServiceManager.class);
+        String dependencyName = ProjectExternalDependenciesHelper.buildDependencyNameForProject("project0");
+        CompiledOpenClass dependency = getDependency(ruleServiceManager.getServiceByName("deployment1_project1"),
+            dependencyName);
+        assertNotNull(dependency);
+        assertSame(dependency,
+            getDependency(ruleServiceManager.getServiceByName("deployment2_project1"), dependencyName));
+
+        SharedDependencies sharedDependencies = applicationContext
+            .getBean(RuleServiceOpenLServiceInstantiationFactoryImpl.class)
+            .getSharedDependencies();
+        assertEquals(1, sharedDependencies.size());
+        RuleService ruleService = applicationContext.getBean(RuleService.class);
+        for (OpenLService service : new ArrayList<>(ruleServiceManager.getServices())) {
+            ruleService.undeploy(service);
+        }
+        assertEquals(0, sharedDependencies.size());
+    }
+
+    private static CompiledOpenClass getDependency(OpenLService service, String dependencyName) throws Exception {
+        for (CompiledDependency dependency : ((ModuleOpenClass) service.getOpenClass()).getDependencies()) {
+            if (dependency.getDependencyName().equals(dependencyName)) {
+                return dependency.getCompiledOpenClass();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,140 @@
+package org.openl.rules.ruleservice.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.openl.dependency.CompiledDependency;
+import org.openl.rules.project.model.ProjectDescriptor;
+import org.openl.rules.project.resolving.ProjectResolver;
+import org.openl.rules.ruleservice.core.SharedDependencies.SharedProject;
+import org.openl.syntax.code.Dependency;
+import org.openl.syntax.code.DependencyType;
+import org.openl.syntax.impl.IdentifierNode;
+
+public class SharedDependenciesTest {
+
+    private static final String PROJECT = "test-resources/RuleServiceDeploymentRelatedDependencyManagerTest/project0";
+    private static final String PROJECT_WITH_DEPENDENCIES = "test-resources/RuleServiceDeploymentRelatedDependencyManagerTest/project1";
+    private static final String MODULE = "domain";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private SharedDependencies sharedDependencies;
+
+    @Before
+    public void init() {
+        sharedDependencies = new SharedDependencies(SharedDependenciesTest.class.getClassLoader());
+    }
+
+    @Test
+    public void testSameProjectIsShared() throws Exception {
+        SharedProject first = sharedDependencies.acquire(copyProject("deployment1"), getExternalParameters());
+        SharedProject second = sharedDependencies.acquire(copyProject("deployment2"), getExternalParameters());
+        assertNotNull(first);
+        assertSame(first, second);
+        assertEquals(1, sharedDependencies.size());
+
+        CompiledDependency compiledDependency = first.getCompiledDependency(MODULE);
+        assertNotNull(compiledDependency);
+        assertFalse(compiledDependency.getCompiledOpenClass().hasErrors());
+        assertSame(compiledDependency, second.getCompiledDependency(MODULE));
+    }
+
+    @Test
+    public void testChangedProjectIsNotShared() throws Exception {
+        SharedProject first = sharedDependencies.acquire(copyProject("deployment1"), getExternalParameters());
+        ProjectDescriptor changedProject = copyProject("deployment2");
+        Files.write(changedProject.getProjectFolder().toPath().resolve("readme.txt"), new byte[] { 1 });
+        SharedProject second = sharedDependencies.acquire(resolve(changedProject.getProjectFolder()),
+            getExternalParameters());
+        assertNotSame(first, second);
+
+        SharedProject third = sharedDependencies.acquire(copyProject("deployment3"),
+            Collections.singletonMap("dispatching.validation", "true"));
+        assertNotSame(first, third);
+        assertEquals(3, sharedDependencies.size());
+    }
+
+    @Test
+    public void testProjectIsRemovedWhenReleasedByAllDeployments() throws Exception {
+        SharedProject first = sharedDependencies.acquire(copyProject("deployment1"), getExternalParameters());
+        SharedProject second = sharedDependencies.acquire(copyProject("deployment2"), getExternalParameters());
+        sharedDependencies.release(first);
+        assertEquals(1, sharedDependencies.size());
+        sharedDependencies.release(second);
+        assertEquals(0, sharedDependencies.size());
+
+        SharedProject third = sharedDependencies.acquire(copyProject("deployment3"), getExternalParameters());
+        assertNotSame(first, third);
+    }
+
+    @Test
+    public void testResetModuleIsCompiledAgain() throws Exception {
+        SharedProject sharedProject = sharedDependencies.acquire(copyProject("deployment1"), getExternalParameters());
+        CompiledDependency compiledDependency = sharedProject.getCompiledDependency(MODULE);
+        assertNotNull(compiledDependency);
+
+        sharedProject.getDependencyManager()
+            .reset(new Dependency(DependencyType.MODULE, new IdentifierNode(null, null, MODULE, null)));
+        CompiledDependency resetDependency = sharedProject.getCompiledDependency(MODULE);
+        assertNotNull(resetDependency);
+        assertNotSame(compiledDependency, resetDependency);
+        assertFalse(resetDependency.getCompiledOpenClass().hasErrors());
+
+        sharedProject.getDependencyManager().resetAll();
+        assertNotSame(resetDependency, sharedProject.getCompiledDependency(MODULE));
+        // The class loader is not released, because the previously compiled module can be used by the deployments
+        assertSame(compiledDependency.getCompiledOpenClass().getOpenClass().getInstanceClass(),
+            Class.forName(compiledDependency.getCompiledOpenClass().getOpenClass().getInstanceClass().getName(),
+                false,
+                sharedProject.getClassLoader()));
+    }
+
+    @Test
+    public void testProjectWithDependenciesIsNotShared() throws Exception {
+        ProjectDescriptor project = resolve(new File(PROJECT_WITH_DEPENDENCIES));
+        assertNull(sharedDependencies.acquire(project, getExternalParameters()));
+        assertEquals(0, sharedDependencies.size());
+    }
+
+    private ProjectDescriptor copyProject(String deployment) throws Exception {
+        Path source = Paths.get(PROJECT);
+        Path target = folder.newFolder(deployment).toPath().resolve(source.getFileName());
+        try (Stream<Path> files = Files.walk(source)) {
+            files.forEach(file -> {
+                try {
+                    Files.copy(file, target.resolve(source.relativize(file).toString()));
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+        return resolve(target.toFile());
+    }
+
+    private static ProjectDescriptor resolve(File projectFolder) throws Exception {
+        return ProjectResolver.getInstance().resolve(projectFolder);
+    }
+
+    private static Map<String, Object> getExternalParameters() {
+        return Collections.emptyMap();
+    }
+}
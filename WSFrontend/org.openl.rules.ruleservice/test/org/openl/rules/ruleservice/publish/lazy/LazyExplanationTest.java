@@ -0,0 +1,37 @@
+package org.openl.rules.ruleservice.publish.lazy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.openl.meta.DoubleValue;
+import org.openl.rules.ruleservice.simple.RulesFrontend;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@TestPropertySource(properties = { "ruleservice.datasource.dir=test-resources/LazyExplanationTest",
+        "ruleservice.datasource.deploy.clean.datasource=false",
+        "ruleservice.isProvideRuntimeContext=false",
+        "ruleservice.instantiation.strategy.lazy=true",
+        "explanation.enabled=false" })
+@ContextConfiguration({ "classpath:openl-ruleservice-beans.xml" })
+public class LazyExplanationTest {
+
+    private static final String SERVICE_NAME = "LazyExplanationTest_project";
+
+    @Autowired
+    private RulesFrontend frontend;
+
+    @Test
+    public void testExplanationIsDisabled() throws Exception {
+        DoubleValue result = (DoubleValue) frontend
+            .execute(SERVICE_NAME, "sum", new DoubleValue(2.5), new DoubleValue(1.5));
+
+        assertEquals(4.0, result.doubleValue(), 1e-9);
+        assertFalse(result.isFormula());
+    }
+}